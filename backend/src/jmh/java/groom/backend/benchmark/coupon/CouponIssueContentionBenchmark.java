@@ -0,0 +1,128 @@
+package groom.backend.benchmark.coupon;
+
+import groom.backend.application.coupon.CouponIssueReservation;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 발급 경합 벤치마크
+ *
+ * 운영 코드(CouponIssueRedisRepository의 tryIssue / tryIssueStriped)를 실제 Redis에 대해 호출합니다.
+ * 반복(iteration)마다 새 재고로 발급 폭주 1회를 재현하고, 모든 스레드가 batchSize 만큼 요청을 보낸 시간을 측정합니다.
+ * 재고(STOCK)보다 요청이 많으므로 품절 경로가 함께 측정되며, 요청의 10%는 직전 사용자의 재요청(중복 발급)입니다.
+ *
+ * 실행 전 Redis가 필요합니다. (기본 localhost:6379, -Dbenchmark.redis.host / -Dbenchmark.redis.port 로 변경)
+ * 측정 대상 쿠폰의 키와 발급 대기열(coupon:issue:pending)을 지우므로 운영 Redis에 실행하지 마세요.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+@Warmup(iterations = 5, batchSize = 50_000)
+@Measurement(iterations = 10, batchSize = 50_000)
+public class CouponIssueContentionBenchmark {
+
+    private static final Long COUPON_ID = 21L;
+    private static final long STOCK = 100_000L;
+    private static final long MAX_PENDING = Long.MAX_VALUE;
+    private static final String PENDING_QUEUE_KEY = "coupon:issue:pending";
+
+    // 재고 키 분할 수 (1 = 단일 재고 키)
+    @Param({"1", "8"})
+    private int stripes;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private CouponIssueRedisRepository repository;
+
+    @Setup(Level.Trial)
+    public void connect() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.getInteger("benchmark.redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        repository = new CouponIssueRedisRepository(redisTemplate);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        repository.clear(COUPON_ID, stripes);
+        redisTemplate.delete(PENDING_QUEUE_KEY);
+        if (stripes > 1) {
+            repository.initializeStriped(COUPON_ID, stripes, STOCK, List.of());
+        } else {
+            repository.initialize(COUPON_ID, STOCK, List.of());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        repository.clear(COUPON_ID, stripes);
+        redisTemplate.delete(PENDING_QUEUE_KEY);
+        connectionFactory.destroy();
+    }
+
+    /**
+     * 스레드별 사용자 ID 발급기 (스레드 간 ID가 겹치지 않도록 구간 분리)
+     */
+    @State(Scope.Thread)
+    public static class Users {
+
+        private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+        private static final long USERS_PER_THREAD = 1_000_000_000L;
+
+        private long base;
+        private long next;
+
+        @Setup(Level.Trial)
+        public void assignRange() {
+            base = THREAD_SEQUENCE.getAndIncrement() * USERS_PER_THREAD;
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            next = 0;
+        }
+
+        long nextUserId() {
+            long sequence = next++;
+            // 10번째 요청마다 직전 사용자가 다시 요청
+            return base + (sequence % 10 == 9 ? sequence - 1 : sequence);
+        }
+    }
+
+    /**
+     * CouponRedisIssueService.tryIssue 와 같은 분기로 운영 발급 경로를 호출합니다.
+     */
+    @Benchmark
+    public long issue(Users users) {
+        Long userId = users.nextUserId();
+        String reservation = CouponIssueReservation.of(COUPON_ID, userId).serialize();
+        if (stripes > 1) {
+            return repository.tryIssueStriped(COUPON_ID, userId, reservation, stripes, MAX_PENDING);
+        }
+        return repository.tryIssue(COUPON_ID, userId, reservation, MAX_PENDING);
+    }
+}
@@ -0,0 +1,65 @@
+package groom.backend.benchmark.coupon;
+
+import groom.backend.domain.coupon.mapper.CouponContextMapper;
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.domain.coupon.model.vo.DiscountContext;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 변환 벤치마크 (엔티티 → 응답 DTO → 할인 컨텍스트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponMappingBenchmark {
+
+    private static final int COST = 187_300;
+
+    private CouponIssue couponIssue;
+    private CouponIssueResponse couponIssueResponse;
+
+    @Setup
+    public void setUp() {
+        Coupon coupon = Coupon.builder()
+                .id(21L)
+                .name("벤치마크 쿠폰")
+                .quantity(1_000L)
+                .amount(15)
+                .maximumDiscount(10_000)
+                .minimumCost(30_000)
+                .type(CouponType.MAX_DISCOUNT_PERCENT)
+                .expireDate(LocalDate.now().plusDays(30))
+                .build();
+        couponIssue = CouponIssue.builder()
+                .id(1245L)
+                .userId(12345L)
+                .createdAt(LocalDateTime.now())
+                .deletedAt(LocalDateTime.now().plusDays(30))
+                .coupon(coupon)
+                .build();
+        couponIssueResponse = CouponIssueResponse.from(couponIssue);
+    }
+
+    @Benchmark
+    public CouponIssueResponse couponIssueResponseFrom() {
+        return CouponIssueResponse.from(couponIssue);
+    }
+
+    @Benchmark
+    public DiscountContext couponContextMapperFrom() {
+        return CouponContextMapper.from(couponIssueResponse, COST);
+    }
+}
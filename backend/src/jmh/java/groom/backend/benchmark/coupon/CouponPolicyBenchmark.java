@@ -0,0 +1,138 @@
+package groom.backend.benchmark.coupon;
+
+import groom.backend.domain.coupon.engine.CompiledDiscount;
+import groom.backend.domain.coupon.engine.DiscountEngine;
+import groom.backend.domain.coupon.mapper.CouponContextMapper;
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.domain.coupon.model.vo.DiscountContext;
+import groom.backend.domain.coupon.policy.DiscountAmountMinCostSinglePolicy;
+import groom.backend.domain.coupon.policy.DiscountAmountMultiPolicy;
+import groom.backend.domain.coupon.policy.DiscountMultiPolicy;
+import groom.backend.domain.coupon.policy.DiscountPercentMaximumDiscountSinglePolicy;
+import groom.backend.domain.coupon.policy.DiscountPercentMultiPolicy;
+import groom.backend.domain.coupon.policy.DiscountPolicy;
+import groom.backend.domain.coupon.policy.DiscountPolicyFactory;
+import groom.backend.domain.coupon.policy.DiscountSinglePolicy;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 할인 정책 벤치마크
+ *
+ * 정책 단건/다건 계산과, calculateDiscount의 기존 정책 경로(DiscountContext + instanceof 분기)와
+ * 사전 변환 엔진(DiscountEngine) 경로를 같은 쿠폰 조합으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponPolicyBenchmark {
+
+    private static final int COST = 187_300;
+
+    // 주문에 함께 사용하는 쿠폰 수 (비율/금액 쿠폰을 번갈아 구성)
+    @Param({"1", "3", "8"})
+    private int couponCount;
+
+    private final DiscountAmountMultiPolicy amountMultiPolicy = new DiscountAmountMultiPolicy();
+    private final DiscountPercentMultiPolicy percentMultiPolicy = new DiscountPercentMultiPolicy();
+    private final DiscountAmountMinCostSinglePolicy amountMinCostPolicy = new DiscountAmountMinCostSinglePolicy();
+    private final DiscountPercentMaximumDiscountSinglePolicy percentMaximumDiscountPolicy = new DiscountPercentMaximumDiscountSinglePolicy();
+    private final DiscountPolicyFactory discountPolicyFactory = new DiscountPolicyFactory(
+            amountMultiPolicy, percentMultiPolicy, amountMinCostPolicy, percentMaximumDiscountPolicy);
+    private final DiscountEngine discountEngine = new DiscountEngine(10_000);
+
+    private List<CouponIssueResponse> coupons;
+    private List<DiscountContext> amountContexts;
+    private List<DiscountContext> percentContexts;
+    private DiscountContext minCostContext;
+    private DiscountContext maximumDiscountContext;
+
+    @Setup
+    public void setUp() {
+        coupons = new ArrayList<>();
+        amountContexts = new ArrayList<>();
+        percentContexts = new ArrayList<>();
+        for (int i = 0; i < couponCount; i++) {
+            boolean percent = i % 2 == 0;
+            CouponIssueResponse coupon = CouponIssueResponse.builder()
+                    .couponIssueId((long) i)
+                    .couponType(percent ? CouponType.PERCENT : CouponType.DISCOUNT)
+                    .discountValue(percent ? 5 + (i * 7) % 40 : 1_000 + i * 500)
+                    .build();
+            coupons.add(coupon);
+            (percent ? percentContexts : amountContexts).add(CouponContextMapper.from(coupon, COST));
+        }
+        minCostContext = DiscountContext.builder().cost(COST).amount(3_000).minimumCost(50_000).build();
+        maximumDiscountContext = DiscountContext.builder().cost(COST).amount(15).maximumDiscount(10_000).build();
+        // 엔진 변환 결과는 DTO 인스턴스에 묶여 재사용되므로 미리 한 번 변환
+        coupons.forEach(discountEngine::compile);
+    }
+
+    @Benchmark
+    public int amountMultiPolicy() {
+        return amountMultiPolicy.calculateMultiDiscount(amountContexts);
+    }
+
+    @Benchmark
+    public int percentMultiPolicy() {
+        return percentMultiPolicy.calculateMultiDiscount(percentContexts);
+    }
+
+    @Benchmark
+    public int amountMinCostSinglePolicy() {
+        return amountMinCostPolicy.calculateDiscount(minCostContext);
+    }
+
+    @Benchmark
+    public int percentMaximumDiscountSinglePolicy() {
+        return percentMaximumDiscountPolicy.calculateDiscount(maximumDiscountContext);
+    }
+
+    /**
+     * 기존 calculateDiscount 5~6단계 (정책 경로)
+     */
+    @Benchmark
+    public int calculateDiscountPolicyPath() {
+        List<DiscountContext> amount = new ArrayList<>();
+        List<DiscountContext> percent = new ArrayList<>();
+        for (CouponIssueResponse coupon : coupons) {
+            DiscountContext context = CouponContextMapper.from(coupon, COST);
+            DiscountPolicy discountPolicy = discountPolicyFactory.getDiscountStrategy(coupon.getCouponType());
+            if (discountPolicy instanceof DiscountSinglePolicy)
+                throw new IllegalStateException();
+            else if (discountPolicy instanceof DiscountAmountMultiPolicy)
+                amount.add(context);
+            else if (discountPolicy instanceof DiscountPercentMultiPolicy)
+                percent.add(context);
+        }
+        DiscountMultiPolicy percentStrategy = discountPolicyFactory.getDiscountMultiStrategy(CouponType.PERCENT);
+        DiscountMultiPolicy amountStrategy = discountPolicyFactory.getDiscountMultiStrategy(CouponType.DISCOUNT);
+        return Math.min(COST, percentStrategy.calculateMultiDiscount(percent) + amountStrategy.calculateMultiDiscount(amount));
+    }
+
+    /**
+     * 현재 calculateDiscount 5~6단계 (사전 변환 엔진 경로)
+     */
+    @Benchmark
+    public int calculateDiscountEnginePath() {
+        CompiledDiscount[] discounts = new CompiledDiscount[coupons.size()];
+        for (int i = 0; i < discounts.length; i++) {
+            CompiledDiscount discount = discountEngine.compile(coupons.get(i));
+            if (!discount.isMultiUsable())
+                throw new IllegalStateException();
+            discounts[i] = discount;
+        }
+        return DiscountEngine.calculateMultiDiscount(discounts, COST);
+    }
+}
@@ -0,0 +1,197 @@
+package groom.backend.application.cart;
+
+import groom.backend.infrastructure.cart.RedisCartRepository;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository.StaleCartPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 방치된 장바구니 정리 스케줄러 (cart.sweeper.enabled=true)
+ *
+ * Redis 장바구니는 조회/변경 시 TTL이 갱신되어 cart.redis.ttl-days 동안 사용하지 않으면 사라지지만,
+ * DB 장바구니는 남아 있어 조회 미스 시 다시 적재되므로 같은 기준으로 DB에서도 만료시킵니다.
+ *
+ * 1. Redis : 클라이언트 SCAN 커서를 주기 사이에 이어가며 읽은 cart:{userId} 키 중 TTL 없는 키에만 TTL 설정 (파이프라인)
+ * 2. DB    : cart.id 순 keyset 페이지로 장바구니와 모든 항목이 TTL 이전에 변경된 장바구니를 찾고,
+ *            Redis 장바구니가 없고 반영할 변경도 없는 (= Redis에서도 만료된) 장바구니만 삭제 후 역색인에서 제거
+ *
+ * 한 주기에 batch-size 단위로 최대 max-batches-per-run 배치를 처리하고 배치 사이에 batch-pause-ms 만큼 쉬어
+ * DB/Redis 부하를 제한합니다. 남은 부분은 다음 주기에 이어서 처리합니다. (커서는 인스턴스별, 처리는 멱등)
+ * 메트릭: cart.sweeper.expired, cart.sweeper.ttl-restored
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.sweeper.enabled", havingValue = "true")
+public class CartAbandonmentSweeper {
+
+    private final JdbcCartSyncRepository cartSyncRepository;
+    private final RedisCartRepository redisCartRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cart.redis.ttl-days:7}")
+    private long cartTtlDays;
+
+    @Value("${cart.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${cart.sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    // 배치 사이 대기 시간 (처리 속도 제한)
+    @Value("${cart.sweeper.batch-pause-ms:100}")
+    private long batchPauseMillis;
+
+    // 다음 주기에 이어서 처리할 위치
+    private Cursor<String> cartKeyCursor;
+    private long lastCartId = 0L;
+
+    private Counter expiredCarts;
+    private Counter ttlRestored;
+
+    @PostConstruct
+    public void registerMetrics() {
+        expiredCarts = Counter.builder("cart.sweeper.expired")
+                .description("만료되어 DB에서 삭제된 장바구니 수")
+                .register(meterRegistry);
+        ttlRestored = Counter.builder("cart.sweeper.ttl-restored")
+                .description("TTL이 없어 새로 설정한 Redis 장바구니 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closeCartKeyCursor();
+    }
+
+    @Scheduled(fixedDelayString = "${cart.sweeper.interval-ms:60000}", initialDelay = 60000)
+    public void sweep() {
+        try {
+            sweepRedis();
+        } catch (Exception e) {
+            // 커서를 버리고 다음 주기에 처음부터 다시 순회 (TTL 설정은 멱등)
+            closeCartKeyCursor();
+            log.error("[CART_SWEEP_REDIS_FAILED]", e);
+        }
+        try {
+            sweepDb();
+        } catch (Exception e) {
+            // 삭제 전에 실패하면 아무것도 지우지 않으므로 다음 주기에 같은 위치부터 다시 처리
+            log.error("[CART_SWEEP_DB_FAILED] lastCartId={}", lastCartId, e);
+        }
+    }
+
+    private void sweepRedis() {
+        if (cartKeyCursor == null) {
+            cartKeyCursor = redisCartRepository.scanCartKeys(batchSize);
+        }
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<String> keys = new ArrayList<>(batchSize);
+            while (keys.size() < batchSize && cartKeyCursor.hasNext()) {
+                keys.add(cartKeyCursor.next());
+            }
+            int restored = redisCartRepository.enforceTtl(keys);
+            ttlRestored.increment(restored);
+            if (restored > 0) {
+                log.info("[CART_SWEEP_TTL_RESTORED] count={}", restored);
+            }
+            if (!cartKeyCursor.hasNext()) {
+                closeCartKeyCursor();
+                log.debug("[CART_SWEEP_REDIS_PASS_COMPLETE]");
+                return;
+            }
+            if (!pause()) {
+                return;
+            }
+        }
+    }
+
+    private void closeCartKeyCursor() {
+        if (cartKeyCursor == null) {
+            return;
+        }
+        try {
+            cartKeyCursor.close();
+        } catch (Exception e) {
+            log.warn("[CART_SWEEP_CURSOR_CLOSE_FAILED] error={}", e.getMessage());
+        }
+        cartKeyCursor = null;
+    }
+
+    private void sweepDb() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(cartTtlDays);
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            StaleCartPage page = cartSyncRepository.findStaleCarts(lastCartId, batchSize, cutoff);
+            if (!page.staleCarts().isEmpty()) {
+                expire(page.staleCarts(), cutoff);
+            }
+            if (page.size() < batchSize) {
+                lastCartId = 0L;
+                log.debug("[CART_SWEEP_DB_PASS_COMPLETE]");
+                return;
+            }
+            lastCartId = page.lastCartId();
+            if (!pause()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param staleCarts cartId → userId
+     */
+    private void expire(Map<Long, Long> staleCarts, LocalDateTime cutoff) {
+        // Redis에서 아직 사용 중인 장바구니는 제외 (조회만 한 장바구니도 Redis TTL은 갱신됨)
+        Set<Long> activeUsers = redisCartRepository.findActiveUsers(staleCarts.values());
+        List<Long> cartIds = staleCarts.entrySet().stream()
+                .filter(entry -> !activeUsers.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (cartIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<UUID>> expired = cartSyncRepository.deleteStaleCarts(cartIds, cutoff);
+        expiredCarts.increment(expired.size());
+        try {
+            redisCartRepository.releaseExpired(expired);
+        } catch (Exception e) {
+            // 남은 역색인 항목은 알림 대상이 조금 늘어날 뿐이며 역색인 재구성 시 정리됨
+            log.warn("[CART_SWEEP_INDEX_RELEASE_FAILED] users={}, error={}", expired.size(), e.getMessage());
+        }
+        log.info("[CART_SWEEP_EXPIRED] candidates={}, expired={}", staleCarts.size(), expired.size());
+    }
+
+    /**
+     * @return 중단 요청을 받았으면 false
+     */
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -4,11 +4,16 @@ import groom.backend.common.exception.BusinessException;
 import groom.backend.common.exception.ErrorCode;
 import groom.backend.domain.product.model.Product;
 import groom.backend.domain.product.repository.ProductRepository;
+import groom.backend.infrastructure.cart.CartLines;
 import groom.backend.infrastructure.cart.RedisCartRepository;
+import groom.backend.infrastructure.redis.ProductSummaryRedisRepository;
+import groom.backend.infrastructure.redis.ProductSummaryRedisRepository.ProductSummary;
 import groom.backend.interfaces.auth.persistence.SpringDataUserRepository;
 import groom.backend.interfaces.auth.persistence.UserJpaEntity;
 import groom.backend.interfaces.cart.persistence.CartItemJpaEntity;
 import groom.backend.interfaces.cart.persistence.CartJpaEntity;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository.QuantityUpdate;
 import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
 import groom.backend.interfaces.cart.persistence.SpringDataCartRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +21,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,11 +41,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CartApplicationService {
 
+    // 수량 증감 UPDATE 가 동시 변경으로 반영되지 않았을 때 최대 시도 횟수
+    private static final int MAX_QUANTITY_UPDATE_ATTEMPTS = 3;
+
     private final SpringDataCartRepository cartRepository;
     private final SpringDataCartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
     private final SpringDataUserRepository userJpaRepository;
     private final RedisCartRepository redisCartRepository;
+    private final ProductSummaryRedisRepository productSummaryRedisRepository;
+    private final JdbcCartSyncRepository cartSyncRepository;
 
     /**
      * 장바구니 추가 결과를 담는 내부 클래스
@@ -137,7 +154,8 @@ public class CartApplicationService {
 
         // 7. Redis에 동시 저장 (Write-Through 패턴)
         try {
-            redisCartRepository.addOrUpdateItem(userId, productId, savedCartItem.getQuantity(), savedCartItem.getId());
+            redisCartRepository.addOrUpdateItem(userId, productId, savedCartItem.getQuantity(), savedCartItem.getId(),
+                    savedCart.getId());
             log.debug("[CART_REDIS_SAVED] userId={}, productId={}, quantity={}", userId, productId, savedCartItem.getQuantity());
         } catch (Exception e) {
             // Redis 저장 실패해도 DB는 저장되었으므로 로그만 남김
@@ -162,11 +180,11 @@ public class CartApplicationService {
         log.info("[CART_VIEW_START] userId={}", userId);
 
         // 1. Redis에서 먼저 조회 시도 (Read-Through 패턴)
-        Map<UUID, RedisCartRepository.CartItemData> redisItems = redisCartRepository.getAllItems(userId);
-        
-        if (!redisItems.isEmpty()) {
-            log.debug("[CART_VIEW_REDIS_HIT] userId={}, itemCount={}", userId, redisItems.size());
-            return buildCartViewResultFromRedis(userId, redisItems);
+        CartLines redisLines = findRedisLines(userId);
+
+        if (!redisLines.isEmpty()) {
+            log.debug("[CART_VIEW_REDIS_HIT] userId={}, itemCount={}", userId, redisLines.size());
+            return buildCartViewResultFromRedis(userId, redisLines);
         }
 
         // 2. Redis에 없으면 DB에서 조회
@@ -187,16 +205,9 @@ public class CartApplicationService {
             return new CartViewResult(cart.getId(), List.of(), 0, 0);
         }
 
-        // 4. DB 조회 결과를 Redis에 캐싱
+        // 4. DB 조회 결과를 Redis에 캐싱 (cartId, 항목 시각 포함, 한 번에 적재)
         try {
-            for (CartItemJpaEntity cartItem : cartItems) {
-                redisCartRepository.addOrUpdateItem(
-                        userId, 
-                        cartItem.getProductId(), 
-                        cartItem.getQuantity(), 
-                        cartItem.getId()
-                );
-            }
+            redisCartRepository.loadItemsIfAbsent(userId, toCartLines(cart.getId(), cartItems));
             log.debug("[CART_VIEW_REDIS_CACHED] userId={}, itemCount={}", userId, cartItems.size());
         } catch (Exception e) {
             log.warn("[CART_VIEW_REDIS_CACHE_FAILED] userId={}, error={}", userId, e.getMessage());
@@ -208,50 +219,44 @@ public class CartApplicationService {
 
     /**
      * Redis 데이터로부터 장바구니 조회 결과 생성
+     *
+     * cartId 와 항목 시각은 Redis 장바구니에, 제품 이름/가격은 제품 요약 캐시에 있으므로 적중 시 DB를 조회하지 않습니다.
+     * (cartId 를 모르는 이전 장바구니만 한 번 조회해 기록)
      */
-    private CartViewResult buildCartViewResultFromRedis(Long userId, Map<UUID, RedisCartRepository.CartItemData> redisItems) {
-        // 1. Cart 정보 조회 (cartId를 위해)
-        CartJpaEntity cart = cartRepository.findByUserId(userId).orElse(null);
-        Long cartId = cart != null ? cart.getId() : null;
-        
-        // 2. CartItem 정보 조회 (createdAt, updatedAt을 위해)
-        List<CartItemJpaEntity> cartItems = cartItemRepository.findByUserId(userId);
-        Map<UUID, CartItemJpaEntity> cartItemMap = cartItems.stream()
-                .collect(Collectors.toMap(CartItemJpaEntity::getProductId, item -> item));
-        
-        // 3. 제품 정보 조회
-        List<UUID> productIds = new java.util.ArrayList<>(redisItems.keySet());
-        List<Product> products = productRepository.findByIds(productIds);
-        
-        // 4. 제품 정보를 Map으로 변환
-        Map<UUID, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
+    CartViewResult buildCartViewResultFromRedis(Long userId, CartLines lines) {
+        // 1. Cart ID
+        Long cartId = lines.cartId() != 0 ? lines.cartId() : findAndStoreCartId(userId);
 
-        // 5. 결과 생성
-        int totalItems = redisItems.size();
+        // 2. 제품 요약 조회 (캐시 미스만 DB 조회)
+        List<UUID> productIds = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            productIds.add(lines.productId(i));
+        }
+        Map<UUID, ProductSummary> productMap = findProductSummaries(productIds);
+
+        // 3. 결과 생성
+        int totalItems = lines.size();
         int totalPrice = 0;
-        List<CartItemResult> itemResults = new java.util.ArrayList<>();
+        List<CartItemResult> itemResults = new ArrayList<>(lines.size());
+
+        for (int i = 0; i < lines.size(); i++) {
+            UUID productId = productIds.get(i);
+            ProductSummary product = productMap.get(productId);
 
-        for (Map.Entry<UUID, RedisCartRepository.CartItemData> entry : redisItems.entrySet()) {
-            UUID productId = entry.getKey();
-            RedisCartRepository.CartItemData itemData = entry.getValue();
-            Product product = productMap.get(productId);
-            CartItemJpaEntity cartItem = cartItemMap.get(productId);
-            
             if (product != null) {
-                int itemTotalPrice = product.getPrice() * itemData.getQuantity();
+                int quantity = lines.quantity(i);
+                int itemTotalPrice = product.price() * quantity;
                 totalPrice += itemTotalPrice;
 
                 itemResults.add(new CartItemResult(
-                        itemData.getCartItemId() != null ? itemData.getCartItemId() : 
-                                (cartItem != null ? cartItem.getId() : null),
+                        lines.cartItemId(i) != 0 ? lines.cartItemId(i) : null,
                         productId,
-                        product.getName(),
-                        product.getPrice(),
-                        itemData.getQuantity(),
+                        product.name(),
+                        product.price(),
+                        quantity,
                         itemTotalPrice,
-                        cartItem != null ? cartItem.getCreatedAt() : null,
-                        cartItem != null ? cartItem.getUpdatedAt() : null
+                        toLocalDateTime(lines.createdAt(i)),
+                        toLocalDateTime(lines.updatedAt(i))
                 ));
             }
         }
@@ -262,6 +267,91 @@ public class CartApplicationService {
         return new CartViewResult(cartId, itemResults, totalItems, totalPrice);
     }
 
+    /**
+     * Redis 장바구니 조회 (실패 시 빈 장바구니로 보고 DB 경로 사용)
+     */
+    private CartLines findRedisLines(Long userId) {
+        try {
+            return redisCartRepository.getLines(userId);
+        } catch (Exception e) {
+            log.warn("[CART_VIEW_REDIS_READ_FAILED] userId={}, error={}", userId, e.getMessage());
+            return new CartLines(0);
+        }
+    }
+
+    private Long findAndStoreCartId(Long userId) {
+        Long cartId = cartRepository.findByUserId(userId).map(CartJpaEntity::getId).orElse(null);
+        if (cartId != null) {
+            try {
+                redisCartRepository.storeCartIds(Map.of(userId, cartId));
+            } catch (Exception e) {
+                log.warn("[CART_VIEW_CART_ID_CACHE_FAILED] userId={}, error={}", userId, e.getMessage());
+            }
+        }
+        return cartId;
+    }
+
+    /**
+     * 제품 요약 조회: 캐시(Redis) → 미스만 DB 조회 후 캐시에 채움
+     */
+    Map<UUID, ProductSummary> findProductSummaries(List<UUID> productIds) {
+        Map<UUID, ProductSummary> summaries;
+        try {
+            summaries = productSummaryRedisRepository.findAll(productIds);
+        } catch (Exception e) {
+            log.warn("[PRODUCT_SUMMARY_READ_FAILED] error={}", e.getMessage());
+            summaries = new HashMap<>();
+        }
+        if (summaries.size() == productIds.size()) {
+            return summaries;
+        }
+
+        List<UUID> missing = new ArrayList<>(productIds.size() - summaries.size());
+        for (UUID productId : productIds) {
+            if (!summaries.containsKey(productId)) {
+                missing.add(productId);
+            }
+        }
+        List<ProductSummary> loaded = productRepository.findByIds(missing).stream()
+                .filter(product -> product.getPrice() != null)
+                .map(product -> new ProductSummary(product.getId(), product.getName(), product.getPrice(),
+                        Boolean.TRUE.equals(product.getIsActive()),
+                        product.getStock() != null ? product.getStock() : 0))
+                .toList();
+        for (ProductSummary summary : loaded) {
+            summaries.put(summary.productId(), summary);
+        }
+        try {
+            productSummaryRedisRepository.saveAll(loaded);
+        } catch (Exception e) {
+            log.warn("[PRODUCT_SUMMARY_CACHE_FAILED] count={}, error={}", loaded.size(), e.getMessage());
+        }
+        return summaries;
+    }
+
+    /**
+     * DB 장바구니 항목을 Redis 적재용 형태로 변환
+     */
+    static CartLines toCartLines(Long cartId, List<CartItemJpaEntity> cartItems) {
+        CartLines lines = new CartLines(cartItems.size());
+        lines.cartId(cartId != null ? cartId : 0L);
+        for (CartItemJpaEntity item : cartItems) {
+            UUID productId = item.getProductId();
+            lines.add(productId.getMostSignificantBits(), productId.getLeastSignificantBits(), item.getQuantity(),
+                    item.getId() != null ? item.getId() : 0L, toEpochMillis(item.getCreatedAt()),
+                    toEpochMillis(item.getUpdatedAt()));
+        }
+        return lines;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis != 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()) : null;
+    }
+
     /**
      * DB 데이터로부터 장바구니 조회 결과 생성
      */
@@ -499,59 +589,21 @@ public class CartApplicationService {
     /**
      * 장바구니 제품 수량을 증가시킵니다.
      * 재고량을 확인하여 재고량을 초과하지 않도록 합니다.
+     * 조회 후 쓰기 대신 조건부 UPDATE 한 문장으로 처리합니다. (동시 요청도 재고를 넘지 않음)
      *
      * @param userId 사용자 ID
      * @param productId 제품 ID
      * @return 수량 변경 결과
      */
-    @Transactional
     public CartQuantityUpdateResult increaseQuantity(Long userId, UUID productId) {
         log.info("[CART_INCREASE_QUANTITY_START] userId={}, productId={}", userId, productId);
 
-        // 1. 사용자의 장바구니 조회
-        CartJpaEntity cart = cartRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_NOT_FOUND));
-
-        // 2. 장바구니 항목 조회
-        CartItemJpaEntity cartItem = cartItemRepository.findByCartIdAndProductId(cart.getId(), productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
-
-        // 3. 제품 정보 조회 및 재고 확인
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        if (!product.getIsActive()) {
-            throw new BusinessException(ErrorCode.PRODUCT_NOT_ACTIVE);
-        }
-
-        // 4. 현재 수량 및 재고 확인
-        int currentQuantity = cartItem.getQuantity();
-        int productStock = product.getStock();
-        int newQuantity = currentQuantity + 1;
-
-        // 5. 재고 확인 (장바구니 수량이 재고량을 초과할 수 없음)
-        if (newQuantity > productStock) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
-                    String.format("재고가 부족합니다. 현재 재고: %d개, 장바구니 수량: %d개", 
-                            productStock, currentQuantity));
-        }
-
-        // 6. 수량 증가
-        cartItem.setQuantity(newQuantity);
-        cartItemRepository.save(cartItem);
-
-        // 7. Redis에서도 수량 업데이트
-        try {
-            redisCartRepository.updateQuantity(userId, productId, newQuantity);
-        } catch (Exception e) {
-            log.warn("[CART_REDIS_UPDATE_QUANTITY_FAILED] userId={}, productId={}, error={}", 
-                    userId, productId, e.getMessage());
-        }
+        QuantityUpdate updated = changeQuantity(userId, productId, 1);
 
-        log.info("[CART_INCREASE_QUANTITY_SUCCESS] userId={}, productId={}, oldQuantity={}, newQuantity={}, stock={}",
-                userId, productId, currentQuantity, newQuantity, productStock);
+        log.info("[CART_INCREASE_QUANTITY_SUCCESS] userId={}, productId={}, newQuantity={}, stock={}",
+                userId, productId, updated.quantity(), updated.stock());
 
-        return new CartQuantityUpdateResult(productId, newQuantity, productStock);
+        return new CartQuantityUpdateResult(productId, updated.quantity(), updated.stock());
     }
 
     /**
@@ -563,50 +615,66 @@ public class CartApplicationService {
      * @param productId 제품 ID
      * @return 수량 변경 결과 (isRemoved: true면 제거됨)
      */
-    @Transactional
     public CartQuantityUpdateResult decreaseQuantity(Long userId, UUID productId) {
         log.info("[CART_DECREASE_QUANTITY_START] userId={}, productId={}", userId, productId);
 
-        // 1. 사용자의 장바구니 조회
+        QuantityUpdate updated = changeQuantity(userId, productId, -1);
+
+        log.info("[CART_DECREASE_QUANTITY_SUCCESS] userId={}, productId={}, newQuantity={}, stock={}",
+                userId, productId, updated.quantity(), updated.stock());
+
+        return new CartQuantityUpdateResult(productId, updated.quantity(), updated.stock(), false);
+    }
+
+    /**
+     * 수량을 조건부 UPDATE 로 증감하고 Redis에 반영합니다.
+     * 반영되지 않으면 원인을 조회해 예외로 알리고, 원인이 없으면 (조회 사이에 다른 요청이 항목을 바꾼 경우) 다시 시도합니다.
+     */
+    private QuantityUpdate changeQuantity(Long userId, UUID productId, int delta) {
+        for (int attempt = 1; attempt <= MAX_QUANTITY_UPDATE_ATTEMPTS; attempt++) {
+            Optional<QuantityUpdate> updated = cartSyncRepository.incrementQuantity(userId, productId, delta, 1);
+            if (updated.isPresent()) {
+                try {
+                    redisCartRepository.updateQuantity(userId, productId, updated.get().quantity());
+                } catch (Exception e) {
+                    log.warn("[CART_REDIS_UPDATE_QUANTITY_FAILED] userId={}, productId={}, error={}",
+                            userId, productId, e.getMessage());
+                }
+                return updated.get();
+            }
+            throwQuantityUpdateFailure(userId, productId, delta);
+            log.info("[CART_QUANTITY_UPDATE_RETRY] userId={}, productId={}, attempt={}", userId, productId, attempt);
+        }
+        throw new BusinessException(ErrorCode.SERVER_ERROR, "장바구니 수량 변경이 계속 충돌합니다.");
+    }
+
+    /**
+     * 조건부 UPDATE 가 반영되지 않은 원인을 예외로 알림 (원인이 없으면 그대로 반환)
+     */
+    private void throwQuantityUpdateFailure(Long userId, UUID productId, int delta) {
         CartJpaEntity cart = cartRepository.findByUserId(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CART_NOT_FOUND));
-
-        // 2. 장바구니 항목 조회
         CartItemJpaEntity cartItem = cartItemRepository.findByCartIdAndProductId(cart.getId(), productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
-
-        // 3. 제품 정보 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // 4. 현재 수량 확인
         int currentQuantity = cartItem.getQuantity();
-
-        // 5. 수량이 1이면 감소하지 않음
-        if (currentQuantity <= 1) {
+        int newQuantity = currentQuantity + delta;
+        if (newQuantity < 1) {
             log.info("[CART_DECREASE_QUANTITY_MIN] userId={}, productId={}, quantity={}, cannot decrease below 1",
                     userId, productId, currentQuantity);
-            throw new BusinessException(ErrorCode.CART_QUANTITY_MINIMUM, 
+            throw new BusinessException(ErrorCode.CART_QUANTITY_MINIMUM,
                     "수량은 1개 이상이어야 합니다. 삭제하려면 삭제 버튼을 사용하세요.");
         }
-
-        // 6. 수량 감소
-        int newQuantity = currentQuantity - 1;
-        cartItem.setQuantity(newQuantity);
-        cartItemRepository.save(cartItem);
-
-        // 7. Redis에서도 수량 업데이트
-        try {
-            redisCartRepository.updateQuantity(userId, productId, newQuantity);
-        } catch (Exception e) {
-            log.warn("[CART_REDIS_UPDATE_QUANTITY_FAILED] userId={}, productId={}, error={}", 
-                    userId, productId, e.getMessage());
+        if (delta > 0 && !product.getIsActive()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_ACTIVE);
+        }
+        if (delta > 0 && newQuantity > product.getStock()) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                    String.format("재고가 부족합니다. 현재 재고: %d개, 장바구니 수량: %d개",
+                            product.getStock(), currentQuantity));
         }
-
-        log.info("[CART_DECREASE_QUANTITY_SUCCESS] userId={}, productId={}, oldQuantity={}, newQuantity={}, stock={}",
-                userId, productId, currentQuantity, newQuantity, product.getStock());
-
-        return new CartQuantityUpdateResult(productId, newQuantity, product.getStock(), false);
     }
 
     /**
@@ -638,6 +706,111 @@ public class CartApplicationService {
         public Boolean getIsRemoved() { return isRemoved; }
     }
 
+    /**
+     * 장바구니의 여러 제품 수량을 한 번에 설정합니다.
+     * 요청 수량이 장바구니의 최종 수량이 되며, 0이면 항목을 제거합니다. (없는 제품은 추가)
+     * 제품 검증은 한 번의 조회로, DB 반영은 설정/삭제 SQL 각 한 번으로, Redis 반영은 스크립트 한 번으로 처리합니다.
+     * 하나라도 검증에 실패하면 아무것도 변경하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param items 설정할 제품 목록 (productId, quantity)
+     */
+    @Transactional
+    public void updateCartItems(Long userId, List<CartItemQuantity> items) {
+        log.info("[CART_UPDATE_BATCH_START] userId={}, itemCount={}", userId, items.size());
+
+        // 1. 사용자 확인 및 전체 제품 검증
+        userJpaRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Map<UUID, Integer> quantities = validateQuantities(items);
+
+        // 2. 장바구니 생성 또는 조회
+        Long cartId = cartSyncRepository.upsertCarts(List.of(userId)).get(userId);
+
+        // 3. 수량 설정 / 삭제
+        Map<UUID, Integer> toSet = new LinkedHashMap<>();
+        List<UUID> toDelete = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            if (quantity > 0) {
+                toSet.put(productId, quantity);
+            } else {
+                toDelete.add(productId);
+            }
+        });
+        Map<UUID, Long> cartItemIds = cartSyncRepository.setItems(cartId, toSet);
+        cartSyncRepository.deleteItems(cartId, toDelete);
+
+        // 4. Redis 반영 (실패해도 DB 기준으로 다음 조회 시 다시 적재됨)
+        redisCartRepository.setQuantities(userId, cartId, quantities, cartItemIds);
+
+        log.info("[CART_UPDATE_BATCH_SUCCESS] userId={}, cartId={}, updatedCount={}, removedCount={}",
+                userId, cartId, toSet.size(), toDelete.size());
+    }
+
+    /**
+     * 수량 설정 요청 검증 (제품은 한 번에 조회)
+     *
+     * @return productId → 수량 (요청 순서 유지)
+     */
+    Map<UUID, Integer> validateQuantities(List<CartItemQuantity> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "변경할 제품이 없습니다.");
+        }
+
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (CartItemQuantity item : items) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() < 0) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER, "제품 ID와 0 이상의 수량이 필요합니다.");
+            }
+            if (quantities.put(item.getProductId(), item.getQuantity()) != null) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER, "중복된 제품 ID: " + item.getProductId());
+            }
+        }
+
+        // 제거(0)는 제품 상태와 관계없이 허용
+        List<UUID> productIds = quantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (productIds.isEmpty()) {
+            return quantities;
+        }
+
+        Map<UUID, Product> products = productRepository.findByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        for (UUID productId : productIds) {
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "제품 ID: " + productId);
+            }
+            if (!product.getIsActive()) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_ACTIVE, "제품 ID: " + productId);
+            }
+            if (product.getStock() < quantities.get(productId)) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                        String.format("재고가 부족합니다. 제품 ID: %s, 현재 재고: %d개, 요청 수량: %d개",
+                                productId, product.getStock(), quantities.get(productId)));
+            }
+        }
+        return quantities;
+    }
+
+    /**
+     * 수량을 설정할 제품 정보를 담는 내부 클래스
+     */
+    public static class CartItemQuantity {
+        private final UUID productId;
+        private final Integer quantity;
+
+        public CartItemQuantity(UUID productId, Integer quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        public UUID getProductId() { return productId; }
+        public Integer getQuantity() { return quantity; }
+    }
+
     /**
      * 제거할 제품 정보를 담는 내부 클래스
      */
@@ -0,0 +1,107 @@
+package groom.backend.application.cart;
+
+import groom.backend.application.cart.CartApplicationService.CartAddResult;
+import groom.backend.application.cart.CartApplicationService.CartItemQuantity;
+import groom.backend.application.cart.CartApplicationService.CartItemToRemove;
+import groom.backend.application.cart.CartApplicationService.CartQuantityUpdateResult;
+import groom.backend.application.cart.CartApplicationService.CartRemoveBatchResult;
+import groom.backend.application.cart.CartApplicationService.CartViewResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 장바구니 진입점
+ * 설정된 장바구니 방식으로 위임합니다.
+ *
+ * 방식을 redis 에서 db 로 바꿀 때는 변경 기록(cart.write-behind.dirty)이 0이 된 뒤에 바꿔야 합니다.
+ * (반영되지 않은 Redis 변경이 db 모드의 변경을 덮어쓸 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartFacade {
+
+    // 버전 충돌 시 최대 실행 횟수
+    private static final int MAX_CONFLICT_ATTEMPTS = 3;
+
+    private final CartApplicationService cartApplicationService;
+    private final RedisPrimaryCartService redisPrimaryCartService;
+
+    // 장바구니 방식 : db(DB 저장 + Redis Write-Through) | redis(Redis 우선 + 비동기 DB 반영)
+    @Value("${cart.mode:db}")
+    private String cartMode;
+
+    public CartAddResult addToCart(Long userId, UUID productId, Integer quantity) {
+        if (isRedisMode()) {
+            return redisPrimaryCartService.addToCart(userId, productId, quantity);
+        }
+        return retryOnConflict(() -> cartApplicationService.addToCart(userId, productId, quantity));
+    }
+
+    public CartViewResult getCartItems(Long userId) {
+        if (isRedisMode()) {
+            return redisPrimaryCartService.getCartItems(userId);
+        }
+        return cartApplicationService.getCartItems(userId);
+    }
+
+    public CartRemoveBatchResult removeCartItems(Long userId, List<CartItemToRemove> itemsToRemove) {
+        if (isRedisMode()) {
+            return redisPrimaryCartService.removeCartItems(userId, itemsToRemove);
+        }
+        return retryOnConflict(() -> cartApplicationService.removeCartItems(userId, itemsToRemove));
+    }
+
+    /**
+     * 여러 제품 수량을 한 번에 설정하고 변경된 장바구니를 반환합니다. (수량 0은 제거)
+     */
+    public CartViewResult updateCartItems(Long userId, List<CartItemQuantity> items) {
+        if (isRedisMode()) {
+            redisPrimaryCartService.updateCartItems(userId, items);
+            return redisPrimaryCartService.getCartItems(userId);
+        }
+        cartApplicationService.updateCartItems(userId, items);
+        return cartApplicationService.getCartItems(userId);
+    }
+
+    public CartQuantityUpdateResult increaseQuantity(Long userId, UUID productId) {
+        if (isRedisMode()) {
+            return redisPrimaryCartService.increaseQuantity(userId, productId);
+        }
+        return cartApplicationService.increaseQuantity(userId, productId);
+    }
+
+    public CartQuantityUpdateResult decreaseQuantity(Long userId, UUID productId) {
+        if (isRedisMode()) {
+            return redisPrimaryCartService.decreaseQuantity(userId, productId);
+        }
+        return cartApplicationService.decreaseQuantity(userId, productId);
+    }
+
+    /**
+     * 읽고 쓰는 사이 다른 요청이 항목을 바꿔 버전 충돌이 나면 트랜잭션을 처음부터 다시 실행
+     */
+    private <T> T retryOnConflict(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("[CART_OPTIMISTIC_LOCK_RETRY] attempt={}, error={}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isRedisMode() {
+        return "redis".equalsIgnoreCase(cartMode);
+    }
+}
@@ -0,0 +1,30 @@
+package groom.backend.application.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 제품 → 장바구니 사용자 역색인 재구성 (cart.product-index.rebuild-on-startup=true)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.product-index.rebuild-on-startup", havingValue = "true")
+public class CartProductIndexRebuilder {
+
+    private final CartProductIndexService cartProductIndexService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            cartProductIndexService.rebuild();
+        } catch (Exception e) {
+            // 완료 표시가 없으면 알림 대상은 DB에서 조회
+            log.error("[CART_PRODUCT_INDEX_REBUILD_FAILED]", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package groom.backend.application.cart;
+
+import groom.backend.infrastructure.cart.RedisCartProductIndex;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 제품 → 장바구니 사용자 역색인(RedisCartProductIndex)을 DB(cart / cart_item) 기준으로 재구성
+ *
+ * 재구성 중에는 완료 표시를 지워 알림 대상 조회가 DB를 사용하도록 하고, 끝나면 다시 표시합니다.
+ * 여러 인스턴스가 함께 기동해도 재구성 잠금(SET NX PX)을 얻은 한 곳만 재구성하며, 나머지는 건너뜁니다.
+ * 잠금이 만료될 만큼 오래 걸린 재구성은 완료 표시를 하지 않습니다. (다른 재구성이 이어받았을 수 있음)
+ * 재구성 도중 바뀐 장바구니는 해당 제품을 읽은 시점에 따라 반영되지 않을 수 있으므로 한가한 시간에 실행합니다.
+ * (redis 모드에서는 아직 DB에 반영되지 않은 변경이 빠지므로 반영 지연(coalesce-ms) 이후 상태 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartProductIndexService {
+
+    private final JdbcCartSyncRepository cartSyncRepository;
+    private final RedisCartProductIndex productIndex;
+
+    @Value("${cart.product-index.rebuild-lock-ttl-ms:600000}")
+    private long rebuildLockTtlMillis;
+
+    /**
+     * @return 재구성 후 완료 표시까지 했으면 true (다른 재구성이 진행 중이거나 잠금을 잃었으면 false)
+     */
+    @Transactional(readOnly = true)
+    public boolean rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!productIndex.tryLockRebuild(token, Duration.ofMillis(rebuildLockTtlMillis))) {
+            log.info("[CART_PRODUCT_INDEX_REBUILD_SKIPPED] reason=LOCKED_BY_OTHER");
+            return false;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            productIndex.markNotReady();
+            long deleted = productIndex.deleteAll();
+
+            long[] counts = new long[2];
+            cartSyncRepository.forEachProductUsers((productId, userIds) -> {
+                productIndex.replace(productId, userIds);
+                counts[0]++;
+                counts[1] += userIds.size();
+            });
+            if (!productIndex.markReady(token)) {
+                log.warn("[CART_PRODUCT_INDEX_REBUILD_LOCK_LOST] products={}, duration={}ms",
+                        counts[0], System.currentTimeMillis() - startTime);
+                return false;
+            }
+
+            log.info("[CART_PRODUCT_INDEX_REBUILT] deletedKeys={}, products={}, entries={}, duration={}ms",
+                    deleted, counts[0], counts[1], System.currentTimeMillis() - startTime);
+            return true;
+        } finally {
+            productIndex.unlockRebuild(token);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package groom.backend.application.cart;
+
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 장바구니 상태를 DB에 배치로 반영하는 서비스 (write-behind)
+ *
+ * 1. cart 행을 한 번의 INSERT ... ON CONFLICT 로 생성/조회
+ * 2. cart_item 을 JDBC 배치 UPSERT 로 반영
+ * 3. Redis에 없는 cart_item 을 JDBC 배치 DELETE 로 제거
+ *
+ * 주문 생성 등 다른 트랜잭션 안에서 먼저 반영(read-your-writes)할 수 있도록 항상 별도 트랜잭션으로 커밋합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartSyncService {
+
+    private final JdbcCartSyncRepository cartSyncRepository;
+
+    /**
+     * @param carts userId → (productId → quantity), 반영 시점의 Redis 장바구니 전체
+     * @return userId → cart.id
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Long> sync(Map<Long, Map<UUID, Integer>> carts) {
+        if (carts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 동시에 실행되는 반영 간 행 잠금 순서를 맞추기 위해 userId 순으로 처리
+        List<Long> userIds = new ArrayList<>(carts.keySet());
+        Collections.sort(userIds);
+
+        Map<Long, Long> cartIds = cartSyncRepository.upsertCarts(userIds);
+
+        Map<Long, Map<UUID, Integer>> items = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            Long cartId = cartIds.get(userId);
+            if (cartId == null) {
+                throw new IllegalStateException("장바구니 생성 결과가 없습니다: userId=" + userId);
+            }
+            items.put(cartId, carts.get(userId));
+        }
+        cartSyncRepository.replaceItems(items);
+
+        log.debug("[CART_SYNC] userCount={}", userIds.size());
+        return cartIds;
+    }
+}
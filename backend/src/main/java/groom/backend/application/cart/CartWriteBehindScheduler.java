@@ -0,0 +1,172 @@
+package groom.backend.application.cart;
+
+import groom.backend.infrastructure.cart.RedisCartChangeLog;
+import groom.backend.infrastructure.cart.RedisCartRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 우선 장바구니의 변경을 주기적으로 DB에 반영하는 스케줄러 (write-behind)
+ *
+ * 1. 변경 기록(cart:dirty)에서 마지막 변경 후 coalesce-ms 이상 지난 사용자를 batch-size 만큼 조회
+ * 2. 해당 사용자들의 Redis 장바구니를 파이프라인으로 읽어 한 트랜잭션으로 반영
+ * 3. 커밋 성공 시 변경 기록에서 제거(ack), 반영 도중 다시 변경된 사용자는 남겨 다음 주기에 반영
+ *
+ * 배치 반영이 실패하면 사용자 단위로 다시 반영하여 한 사용자의 오류가 배치 전체를 막지 않도록 합니다.
+ * 변경 기록은 Redis에 남아 있으므로 애플리케이션이 반영 전에 종료되어도 재기동 후 반영됩니다.
+ *
+ * 대기열이 밀려 있으면 한 주기에 최대 max-batches-per-run 개 배치를 연속으로 반영합니다.
+ * 메트릭: cart.write-behind.flush.size, cart.write-behind.flush.latency, cart.write-behind.flush.failures, cart.write-behind.dirty
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartWriteBehindScheduler {
+
+    private final RedisCartChangeLog cartChangeLog;
+    private final RedisCartRepository redisCartRepository;
+    private final CartSyncService cartSyncService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cart.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${cart.write-behind.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    // 연속 변경을 모으는 시간 (마지막 변경 후 이 시간이 지나야 반영)
+    @Value("${cart.write-behind.coalesce-ms:1000}")
+    private long coalesceMillis;
+
+    private DistributionSummary flushSize;
+    private Timer flushLatency;
+    private Counter flushFailures;
+
+    @PostConstruct
+    public void registerMetrics() {
+        flushSize = DistributionSummary.builder("cart.write-behind.flush.size")
+                .description("배치당 DB에 반영된 장바구니 수")
+                .register(meterRegistry);
+        flushLatency = Timer.builder("cart.write-behind.flush.latency")
+                .description("장바구니 배치 반영 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        flushFailures = Counter.builder("cart.write-behind.flush.failures")
+                .description("장바구니 배치 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("cart.write-behind.dirty", cartChangeLog, RedisCartChangeLog::size)
+                .description("DB 반영 대기 중인 장바구니 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval-ms:500}", initialDelay = 5000)
+    public void flush() {
+        // 가득 찬 배치가 나오는 동안 (변경 기록이 밀려 있는 동안) 연속으로 반영
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (flushBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 사용자의 반영되지 않은 변경을 즉시 DB에 반영합니다. (변경이 없으면 아무 것도 하지 않음)
+     * DB 장바구니를 읽는 주문/구매 처리 전에 호출하여 최신 장바구니를 보장합니다.
+     */
+    public void flushUser(Long userId) {
+        Double score;
+        try {
+            score = cartChangeLog.dirtyScore(userId);
+        } catch (Exception e) {
+            // Redis 장애 시 DB 장바구니 기준으로 진행 (db 모드와 동일)
+            log.warn("[CART_WRITE_BEHIND_BARRIER_SKIPPED] userId={}, error={}", userId, e.getMessage());
+            return;
+        }
+        if (score != null) {
+            flushOne(userId, score);
+            log.info("[CART_WRITE_BEHIND_BARRIER] userId={}", userId);
+        }
+    }
+
+    /**
+     * 배치 하나를 반영합니다.
+     * @return 변경 기록에서 가져온 사용자 수 (실패 시 0)
+     */
+    private int flushBatch() {
+        Map<Long, Double> dirty;
+        try {
+            dirty = cartChangeLog.pollDirty(batchSize, coalesceMillis);
+        } catch (Exception e) {
+            log.error("[CART_WRITE_BEHIND_POLL_FAILED] 장바구니 변경 기록 조회 실패", e);
+            return 0;
+        }
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Map<Long, Map<UUID, Integer>> carts = redisCartRepository.readQuantities(new ArrayList<>(dirty.keySet()));
+            Map<Long, Long> cartIds = cartSyncService.sync(carts);
+            sample.stop(flushLatency);
+            flushSize.record(carts.size());
+            long acked = cartChangeLog.ack(dirty);
+            storeCartIds(cartIds);
+            log.info("[CART_WRITE_BEHIND_FLUSH] users={}, acked={}", dirty.size(), acked);
+            return dirty.size();
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.error("[CART_WRITE_BEHIND_FLUSH_FAILED] 배치 반영 실패, 사용자 단위로 다시 반영합니다. users={}", dirty.size(), e);
+            flushIndividually(dirty);
+            return 0;
+        }
+    }
+
+    private void flushIndividually(Map<Long, Double> dirty) {
+        dirty.forEach((userId, score) -> {
+            try {
+                flushOne(userId, score);
+            } catch (DataIntegrityViolationException e) {
+                // 삭제된 사용자/제품 등 재시도해도 성공할 수 없는 경우: 변경 기록에서 제외 (Redis 장바구니는 유지)
+                log.error("[CART_WRITE_BEHIND_DROPPED] userId={}, error={}", userId, e.getMessage());
+                cartChangeLog.ack(Map.of(userId, score));
+            } catch (Exception e) {
+                // 변경 기록에 남겨 다음 주기에 재시도
+                log.error("[CART_WRITE_BEHIND_USER_FAILED] userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    private void flushOne(Long userId, Double score) {
+        Map<Long, Map<UUID, Integer>> cart = redisCartRepository.readQuantities(List.of(userId));
+        Map<Long, Long> cartIds = cartSyncService.sync(cart);
+        cartChangeLog.ack(Map.of(userId, score));
+        storeCartIds(cartIds);
+    }
+
+    /**
+     * 반영으로 알게 된 cart.id 를 Redis 장바구니에 기록 (장바구니 조회가 DB 없이 cartId 를 응답하도록, 실패해도 무시)
+     */
+    private void storeCartIds(Map<Long, Long> cartIds) {
+        try {
+            redisCartRepository.storeCartIds(cartIds);
+        } catch (Exception e) {
+            log.warn("[CART_WRITE_BEHIND_CART_ID_FAILED] users={}, error={}", cartIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package groom.backend.application.cart;
+
+import groom.backend.application.cart.CartApplicationService.CartAddResult;
+import groom.backend.application.cart.CartApplicationService.CartItemQuantity;
+import groom.backend.application.cart.CartApplicationService.CartItemToRemove;
+import groom.backend.application.cart.CartApplicationService.CartQuantityUpdateResult;
+import groom.backend.application.cart.CartApplicationService.CartRemoveBatchResult;
+import groom.backend.application.cart.CartApplicationService.CartRemoveResult;
+import groom.backend.application.cart.CartApplicationService.CartViewResult;
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.infrastructure.cart.CartLines;
+import groom.backend.infrastructure.cart.RedisCartRepository;
+import groom.backend.infrastructure.redis.ProductSummaryRedisRepository.ProductSummary;
+import groom.backend.interfaces.cart.persistence.CartItemJpaEntity;
+import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 우선 장바구니 서비스 (cart.mode=redis)
+ *
+ * Redis Hash(cart:{userId})를 장바구니의 기준 데이터로 사용하고, DB(cart / cart_item)에는 CartWriteBehindScheduler가 비동기로 반영합니다.
+ * 변경 요청은 DB를 거치지 않으며, 제품 확인(재고/활성)은 캐시된 제품 요약을 사용합니다. (미스만 DB 조회)
+ *
+ * - 검증, 변경, TTL 갱신, 변경 기록(cart:dirty)은 RedisCartRepository의 스크립트 한 번으로 원자적으로 처리됩니다.
+ * - Redis에 장바구니가 없고 반영할 변경도 없으면 (스크립트 결과 RESULT_NOT_LOADED) DB 장바구니를 적재한 뒤 다시 처리합니다.
+ *   (반영할 변경이 남아 있는데 키가 없으면 사용자가 장바구니를 비운 것이므로 DB에서 다시 적재하지 않음)
+ * - Redis 모드의 cartId, cartItemId 는 DB 반영 전에는 알 수 없으므로 변경 응답에서 null 입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisPrimaryCartService {
+
+    private final SpringDataCartItemRepository cartItemRepository;
+    private final RedisCartRepository redisCartRepository;
+    private final CartApplicationService cartApplicationService;
+
+    public CartAddResult addToCart(Long userId, UUID productId, Integer quantity) {
+        log.info("[CART_REDIS_ADD_START] userId={}, productId={}, quantity={}", userId, productId, quantity);
+
+        ProductSummary product = findActiveProduct(productId);
+        if (product.stock() < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                    "재고가 부족합니다. 현재 재고: " + product.stock());
+        }
+
+        // 추가 후 수량이 재고를 넘지 않는지 확인하고 반영 (원자적)
+        long newQuantity = redisCartRepository.addQuantity(userId, productId, quantity, product.stock(), false);
+        if (newQuantity == RedisCartRepository.RESULT_NOT_LOADED) {
+            loadFromDb(userId);
+            newQuantity = redisCartRepository.addQuantity(userId, productId, quantity, product.stock(), true);
+        }
+        if (newQuantity == RedisCartRepository.RESULT_ABOVE_MAX) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                    "재고가 부족합니다. 현재 재고: " + product.stock() + ", 추가 요청 수량: " + quantity);
+        }
+
+        log.info("[CART_REDIS_ADD_SUCCESS] userId={}, productId={}, newQuantity={}", userId, productId, newQuantity);
+        return new CartAddResult(null, null, (int) newQuantity);
+    }
+
+    public CartViewResult getCartItems(Long userId) {
+        CartLines lines = redisCartRepository.getLines(userId);
+        if (lines.isEmpty() && loadFromDb(userId)) {
+            lines = redisCartRepository.getLines(userId);
+        }
+        if (lines.isEmpty()) {
+            log.info("[CART_VIEW_EMPTY] userId={}", userId);
+            return new CartViewResult(null, List.of(), 0, 0);
+        }
+        return cartApplicationService.buildCartViewResultFromRedis(userId, lines);
+    }
+
+    public CartRemoveBatchResult removeCartItems(Long userId, List<CartItemToRemove> itemsToRemove) {
+        log.info("[CART_REDIS_REMOVE_BATCH_START] userId={}, itemCount={}", userId, itemsToRemove.size());
+
+        LinkedHashMap<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (CartItemToRemove item : itemsToRemove) {
+            Integer quantity = item.getQuantity();
+            if (quantity == null || quantity < 1) {
+                throw new BusinessException(ErrorCode.INVALID_REMOVE_QUANTITY);
+            }
+            quantities.merge(item.getProductId(), quantity, Integer::sum);
+        }
+
+        // 모든 항목을 검증한 뒤 한 번에 반영 (하나라도 실패하면 변경 없음)
+        long[] result = redisCartRepository.removeQuantities(userId, quantities, false);
+        if (result[0] == RedisCartRepository.RESULT_NOT_LOADED) {
+            loadFromDb(userId);
+            result = redisCartRepository.removeQuantities(userId, quantities, true);
+        }
+        if (result[0] < 0) {
+            UUID failedProductId = new ArrayList<>(quantities.keySet()).get((int) result[1] - 1);
+            if (result[0] == RedisCartRepository.RESULT_NOT_FOUND) {
+                throw new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "제품 ID: " + failedProductId);
+            }
+            throw new BusinessException(ErrorCode.CART_QUANTITY_EXCEEDED,
+                    "장바구니 수량: " + result[2] + ", 요청 수량: " + quantities.get(failedProductId));
+        }
+
+        List<CartRemoveResult> results = new ArrayList<>();
+        int index = 1;
+        for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+            int remainingQuantity = (int) result[index++];
+            results.add(new CartRemoveResult(entry.getKey(), entry.getValue(), remainingQuantity, remainingQuantity == 0));
+        }
+
+        log.info("[CART_REDIS_REMOVE_BATCH_SUCCESS] userId={}, successCount={}", userId, results.size());
+        return new CartRemoveBatchResult(results, results.size(), 0);
+    }
+
+    public void updateCartItems(Long userId, List<CartItemQuantity> items) {
+        log.info("[CART_REDIS_UPDATE_BATCH_START] userId={}, itemCount={}", userId, items.size());
+
+        // 제품 검증은 한 번의 조회로, 반영은 스크립트 한 번으로 처리
+        Map<UUID, Integer> quantities = cartApplicationService.validateQuantities(items);
+        long result = redisCartRepository.setQuantities(userId, quantities, false);
+        if (result == RedisCartRepository.RESULT_NOT_LOADED) {
+            loadFromDb(userId);
+            result = redisCartRepository.setQuantities(userId, quantities, true);
+        }
+        if (result != 1L) {
+            log.error("[CART_REDIS_UPDATE_BATCH_FAILED] userId={}, result={}", userId, result);
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "장바구니 수량 변경에 실패했습니다.");
+        }
+
+        log.info("[CART_REDIS_UPDATE_BATCH_SUCCESS] userId={}, itemCount={}", userId, quantities.size());
+    }
+
+    public CartQuantityUpdateResult increaseQuantity(Long userId, UUID productId) {
+        ProductSummary product = findActiveProduct(productId);
+
+        long newQuantity = incrementQuantity(userId, productId, 1, product.stock());
+        if (newQuantity == RedisCartRepository.RESULT_ABOVE_MAX) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                    String.format("재고가 부족합니다. 현재 재고: %d개", product.stock()));
+        }
+
+        log.info("[CART_REDIS_INCREASE_QUANTITY_SUCCESS] userId={}, productId={}, newQuantity={}",
+                userId, productId, newQuantity);
+        return new CartQuantityUpdateResult(productId, (int) newQuantity, product.stock());
+    }
+
+    public CartQuantityUpdateResult decreaseQuantity(Long userId, UUID productId) {
+        ProductSummary product = findProduct(productId);
+
+        long newQuantity = incrementQuantity(userId, productId, -1, Integer.MAX_VALUE);
+        if (newQuantity == RedisCartRepository.RESULT_BELOW_MIN) {
+            throw new BusinessException(ErrorCode.CART_QUANTITY_MINIMUM,
+                    "수량은 1개 이상이어야 합니다. 삭제하려면 삭제 버튼을 사용하세요.");
+        }
+
+        log.info("[CART_REDIS_DECREASE_QUANTITY_SUCCESS] userId={}, productId={}, newQuantity={}",
+                userId, productId, newQuantity);
+        return new CartQuantityUpdateResult(productId, (int) newQuantity, product.stock(), false);
+    }
+
+    private ProductSummary findActiveProduct(UUID productId) {
+        ProductSummary product = findProduct(productId);
+        if (!product.active()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_ACTIVE);
+        }
+        return product;
+    }
+
+    /**
+     * 캐시된 제품 요약 조회 (미스만 DB 조회 후 캐시에 채움)
+     */
+    private ProductSummary findProduct(UUID productId) {
+        ProductSummary product = cartApplicationService.findProductSummaries(List.of(productId)).get(productId);
+        if (product == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return product;
+    }
+
+    /**
+     * 기존 항목 수량을 1 이상 maxQuantity 이하 범위에서 증감 (원자적)
+     */
+    private long incrementQuantity(Long userId, UUID productId, int delta, int maxQuantity) {
+        long result = redisCartRepository.incrementQuantity(userId, productId, delta, 1, maxQuantity, false);
+        if (result == RedisCartRepository.RESULT_NOT_LOADED) {
+            loadFromDb(userId);
+            result = redisCartRepository.incrementQuantity(userId, productId, delta, 1, maxQuantity, true);
+        }
+        if (result == RedisCartRepository.RESULT_NOT_FOUND) {
+            throw new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND);
+        }
+        return result;
+    }
+
+    /**
+     * DB 장바구니를 Redis에 적재합니다. (Redis에 장바구니가 없고 반영할 변경도 없을 때만 적재됨)
+     *
+     * @return DB에 장바구니 항목이 있었으면 true
+     */
+    private boolean loadFromDb(Long userId) {
+        List<CartItemJpaEntity> items = cartItemRepository.findByUserId(userId);
+        Long cartId = items.isEmpty() ? null : items.get(0).getCart().getId();
+        redisCartRepository.loadItemsIfAbsent(userId, CartApplicationService.toCartLines(cartId, items));
+        log.debug("[CART_REDIS_LOADED_FROM_DB] userId={}, itemCount={}", userId, items.size());
+        return !items.isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package groom.backend.application.coupon;
+
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.auth.entity.User;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 발급 진입점
+ * 중복 발급 사전 차단(CouponIssueGuard) 후 설정된 발급 방식으로 위임합니다.
+ * 트랜잭션 밖에서 호출되므로, 차단된 요청은 DB 커넥션을 사용하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueFacade {
+
+  private final CouponIssueService couponIssueService;
+  private final CouponRedisIssueService couponRedisIssueService;
+  private final CouponIssueGuard couponIssueGuard;
+
+  // 발급 방식 : db(비관적 락) | redis(Redis 원자 발급 + 비동기 배치 저장)
+  @Value("${coupon.issue.mode:db}")
+  private String issueMode;
+
+  public CouponIssueResponse issueCoupon(Long couponId, User user) {
+    Long userId = user.getId();
+
+    if (couponIssueGuard.isAlreadyIssued(couponId, userId)) {
+      throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+    }
+
+    if ("redis".equalsIgnoreCase(issueMode)) {
+      try {
+        CouponIssueResponse response = couponRedisIssueService.issueCoupon(couponId, user);
+        // Redis 집합은 발급 스크립트에서 이미 추가됨
+        couponIssueGuard.markIssuedLocally(couponId, userId);
+        return response;
+      } catch (BusinessException e) {
+        if (e.getErrorCode() == ErrorCode.COUPON_ALREADY_ISSUED) {
+          couponIssueGuard.markIssuedLocally(couponId, userId);
+        }
+        throw e;
+      }
+    }
+
+    try {
+      // 트랜잭션 커밋 이후에 기록
+      CouponIssueResponse response = couponIssueService.issueCoupon(couponId, user);
+      couponIssueGuard.markIssued(couponId, userId);
+      return response;
+    } catch (BusinessException e) {
+      // DB 검사에서 중복으로 확인된 사용자도 기록하여 다음 재시도는 사전 차단
+      if (e.getErrorCode() == ErrorCode.COUPON_ALREADY_ISSUED) {
+        couponIssueGuard.markIssued(couponId, userId);
+      }
+      throw e;
+    }
+  }
+}
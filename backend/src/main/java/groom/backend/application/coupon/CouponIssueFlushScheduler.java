@@ -0,0 +1,167 @@
+package groom.backend.application.coupon;
+
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 발급 대기열을 주기적으로 비워 CouponIssue를 DB에 저장하는 스케줄러
+ *
+ * 1. pending 대기열에서 batch-size 만큼 processing 집합으로 이동 (원자적, 처리 기한 = 현재 + processing-lease-ms)
+ * 2. 한 트랜잭션으로 CouponIssue 저장 및 Coupon.quantity 반영
+ * 3. 커밋 성공 시 processing 에서 제거(ack), 실패 시 pending 으로 되돌림(requeue)
+ *
+ * 인스턴스가 2와 3 사이에서 종료되면 항목이 processing 에 남으며, 처리 기한이 지난 항목만
+ * 어느 인스턴스든 pending 으로 되돌린 뒤 (couponId, userId) 유니크 제약으로 한 번만 저장됩니다. (at-least-once + 멱등 재처리)
+ * 다른 인스턴스가 아직 저장 중인 배치는 기한 전이라 되돌리지 않으므로, 배포 중에도 중복 처리되지 않습니다.
+ *
+ * 대기열이 밀려 있으면 한 주기에 최대 max-batches-per-run 개 배치를 연속으로 저장합니다.
+ * 메트릭: coupon.issue.flush.size, coupon.issue.flush.latency, coupon.issue.flush.failures, coupon.issue.pending
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueFlushScheduler {
+
+  private final CouponIssueRedisRepository couponIssueRedisRepository;
+  private final CouponIssuePersistService couponIssuePersistService;
+  private final CacheManager couponCacheManager;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${coupon.issue.flush-batch-size:500}")
+  private int batchSize;
+
+  @Value("${coupon.issue.flush-max-batches-per-run:20}")
+  private int maxBatchesPerRun;
+
+  // 배치 저장 제한 시간보다 충분히 길게 (기한이 지나면 다른 인스턴스가 다시 저장)
+  @Value("${coupon.issue.processing-lease-ms:60000}")
+  private long processingLeaseMillis;
+
+  private DistributionSummary flushSize;
+  private Timer flushLatency;
+  private Counter flushFailures;
+
+  @PostConstruct
+  public void registerMetrics() {
+    flushSize = DistributionSummary.builder("coupon.issue.flush.size")
+            .description("배치당 저장된 쿠폰 발급 건수")
+            .register(meterRegistry);
+    flushLatency = Timer.builder("coupon.issue.flush.latency")
+            .description("쿠폰 발급 배치 저장 소요 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    flushFailures = Counter.builder("coupon.issue.flush.failures")
+            .description("쿠폰 발급 배치 저장 실패 횟수")
+            .register(meterRegistry);
+    Gauge.builder("coupon.issue.pending", couponIssueRedisRepository, CouponIssueRedisRepository::pendingSize)
+            .description("영속화 대기 중인 쿠폰 발급 건수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 처리 기한이 지난 (ack 되지 않은) 예약을 대기열로 복구
+   * 기동 시와 주기적으로 실행하여, 종료된 인스턴스의 배치를 재기동 없이도 다른 인스턴스가 이어서 저장합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${coupon.issue.processing-recover-interval-ms:30000}", initialDelay = 30000)
+  public void recoverProcessingReservations() {
+    try {
+      long recovered = couponIssueRedisRepository.requeueExpiredProcessing(batchSize * maxBatchesPerRun);
+      if (recovered > 0) {
+        log.warn("[COUPON_FLUSH_RECOVER] 처리 기한이 지난 발급 예약을 대기열로 복구했습니다. count={}", recovered);
+      }
+    } catch (Exception e) {
+      log.error("[COUPON_FLUSH_RECOVER_FAILED] 발급 예약 복구 실패", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${coupon.issue.flush-interval-ms:200}", initialDelay = 5000)
+  public void flush() {
+    // 가득 찬 배치가 나오는 동안 (대기열이 밀려 있는 동안) 연속으로 저장
+    for (int i = 0; i < maxBatchesPerRun; i++) {
+      if (flushBatch() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 배치 하나를 저장합니다.
+   * @return 대기열에서 가져온 건수 (실패 시 0)
+   */
+  private int flushBatch() {
+    List<String> batch;
+    try {
+      batch = couponIssueRedisRepository.drainReservations(batchSize, processingLeaseMillis);
+    } catch (Exception e) {
+      log.error("[COUPON_FLUSH_DRAIN_FAILED] 발급 대기열 조회 실패", e);
+      return 0;
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    List<CouponIssueReservation> reservations = new ArrayList<>(batch.size());
+    List<String> malformed = new ArrayList<>();
+    for (String value : batch) {
+      try {
+        reservations.add(CouponIssueReservation.parse(value));
+      } catch (IllegalArgumentException e) {
+        log.error("[COUPON_FLUSH_MALFORMED] 잘못된 발급 예약을 폐기합니다. value={}", value);
+        malformed.add(value);
+      }
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      List<CouponIssue> saved = couponIssuePersistService.persist(reservations);
+      sample.stop(flushLatency);
+      flushSize.record(saved.size());
+      couponIssueRedisRepository.ackReservations(batch);
+      evictListCaches(saved);
+      log.info("[COUPON_FLUSH] drained={}, saved={}", batch.size(), saved.size());
+      return batch.size();
+    } catch (Exception e) {
+      flushFailures.increment();
+      log.error("[COUPON_FLUSH_FAILED] 발급 예약 저장 실패, 대기열로 되돌립니다. count={}", batch.size(), e);
+      couponIssueRedisRepository.ackReservations(malformed);
+      List<String> retry = new ArrayList<>(batch);
+      retry.removeAll(malformed);
+      couponIssueRedisRepository.requeueReservations(retry);
+      return 0;
+    }
+  }
+
+  /**
+   * 새로 저장된 발급 사용자의 목록 캐시를 무효화합니다.
+   * (JDBC 배치 저장이라 발급 id가 없으므로 단건 캐시는 조회 시 채워짐)
+   */
+  private void evictListCaches(List<CouponIssue> saved) {
+    Cache listCache = couponCacheManager.getCache(CouponIssueService.COUPON_LIST_CACHE_NAME);
+    if (listCache == null) {
+      return;
+    }
+    saved.stream()
+            .map(CouponIssue::getUserId)
+            .distinct()
+            .forEach(listCache::evict);
+  }
+}
@@ -0,0 +1,132 @@
+package groom.backend.application.coupon;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.repository.CouponIssueRepository;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 중복 발급 사전 차단
+ *
+ * 발급 트랜잭션(비관적 락)이나 Redis 발급 스크립트에 들어가기 전에,
+ * 이미 발급 받은 사용자의 재요청을 DB 조회 없이 거절합니다.
+ *
+ * 1. 인스턴스 로컬 집합 (이 인스턴스가 발급/확인한 사용자, 쿠폰당 상한 있음)
+ *    쿠폰 수와 유지 시간에도 상한을 두어, 만료/소진되어 더 이상 요청이 없는 쿠폰의 집합은 메모리에서 제거됩니다.
+ * 2. Redis 발급 사용자 집합 coupon:issued:{couponId} (redis 발급 모드와 공유)
+ *
+ * 두 집합 모두 "발급됨"만 기록하므로 여기서 통과한 요청은 기존 DB 검사(또는 Lua 스크립트)가 최종 판단합니다.
+ * 애플리케이션 기동 시 활성 쿠폰의 CouponIssue로 Redis 집합을 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueGuard {
+
+  private static final int WARM_UP_CHUNK_SIZE = 1000;
+
+  private final CouponRepository couponRepository;
+  private final CouponIssueRepository couponIssueRepository;
+  private final CouponIssueRedisRepository couponIssueRedisRepository;
+
+  @Value("${coupon.issue.guard.local-max-users-per-coupon:100000}")
+  private int localMaxUsersPerCoupon;
+
+  @Value("${coupon.issue.guard.local-max-coupons:1000}")
+  private long localMaxCoupons;
+
+  // 마지막 조회/기록 이후 이 시간 동안 요청이 없으면 쿠폰의 로컬 집합 제거 (Redis 집합이 계속 판단)
+  @Value("${coupon.issue.guard.local-expire-after-access-minutes:30}")
+  private long localExpireAfterAccessMinutes;
+
+  private Cache<Long, Set<Long>> localIssued;
+
+  @PostConstruct
+  public void initLocalCache() {
+    localIssued = Caffeine.newBuilder()
+            .maximumSize(localMaxCoupons)
+            .expireAfterAccess(Duration.ofMinutes(localExpireAfterAccessMinutes))
+            .build();
+  }
+
+  /**
+   * 이미 발급 받은 사용자이면 true
+   * Redis 장애 시에는 false를 반환하여 기존 검사 경로로 넘깁니다.
+   */
+  public boolean isAlreadyIssued(Long couponId, Long userId) {
+    Set<Long> local = localIssued.getIfPresent(couponId);
+    if (local != null && local.contains(userId)) {
+      return true;
+    }
+
+    try {
+      if (couponIssueRedisRepository.isIssued(couponId, userId)) {
+        markIssuedLocally(couponId, userId);
+        return true;
+      }
+    } catch (Exception e) {
+      log.warn("[COUPON_GUARD_REDIS_FAILED] couponId={}, userId={}, message={}", couponId, userId, e.getMessage());
+    }
+    return false;
+  }
+
+  /**
+   * 발급(또는 DB에서 중복 확인)된 사용자를 기록합니다.
+   */
+  public void markIssued(Long couponId, Long userId) {
+    markIssuedLocally(couponId, userId);
+    try {
+      couponIssueRedisRepository.addIssuedUsers(couponId, List.of(userId));
+    } catch (Exception e) {
+      log.warn("[COUPON_GUARD_MARK_FAILED] couponId={}, userId={}, message={}", couponId, userId, e.getMessage());
+    }
+  }
+
+  /**
+   * 쿠폰의 발급 사용자를 DB에서 읽어 Redis 집합을 채웁니다.
+   */
+  public void warmUp(Long couponId) {
+    List<Long> userIds = couponIssueRepository.findUserIdsByCouponId(couponId);
+    for (int from = 0; from < userIds.size(); from += WARM_UP_CHUNK_SIZE) {
+      int to = Math.min(from + WARM_UP_CHUNK_SIZE, userIds.size());
+      couponIssueRedisRepository.addIssuedUsers(couponId, userIds.subList(from, to));
+    }
+    log.info("[COUPON_GUARD_WARM_UP] couponId={}, issuedUsers={}", couponId, userIds.size());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUpActiveCoupons() {
+    try {
+      List<Coupon> coupons = couponRepository.findByIsActiveTrueAndExpireDateGreaterThanEqual(LocalDate.now());
+      coupons.forEach(coupon -> warmUp(coupon.getId()));
+    } catch (Exception e) {
+      // 워밍 실패 시에도 발급은 기존 검사 경로로 정상 동작
+      log.error("[COUPON_GUARD_WARM_UP_FAILED]", e);
+    }
+  }
+
+  /**
+   * 로컬 집합에만 기록합니다. (Redis 발급 스크립트가 이미 Redis 집합에 추가한 경우)
+   */
+  public void markIssuedLocally(Long couponId, Long userId) {
+    Set<Long> local = localIssued.get(couponId, id -> ConcurrentHashMap.newKeySet());
+    if (local.size() < localMaxUsersPerCoupon) {
+      local.add(userId);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package groom.backend.application.coupon;
+
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.domain.coupon.repository.CouponIssueBatchRepository;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis에서 확정된 쿠폰 발급 예약을 DB에 배치로 저장하는 서비스
+ *
+ * 1. 배치에 포함된 쿠폰을 IN 쿼리 한 번으로 조회
+ * 2. CouponIssue를 다건 INSERT 한 문장으로 저장 (ON CONFLICT DO NOTHING)
+ * 3. 실제 삽입된 건수만큼 쿠폰별로 quantity를 한 번씩 차감
+ *
+ * 같은 예약이 재처리되어도 (couponId, userId) 유니크 제약에 의해 한 번만 저장되고 수량도 한 번만 차감됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssuePersistService {
+
+  private final CouponRepository couponRepository;
+  private final CouponIssueBatchRepository couponIssueBatchRepository;
+
+  /**
+   * 발급 예약 배치를 하나의 트랜잭션으로 저장합니다.
+   * @return 이번 배치에서 새로 저장된 CouponIssue 목록 (id는 채워지지 않음)
+   */
+  @Transactional
+  public List<CouponIssue> persist(List<CouponIssueReservation> reservations) {
+    List<Long> couponIds = reservations.stream()
+            .map(CouponIssueReservation::couponId)
+            .distinct()
+            .toList();
+    Map<Long, Coupon> couponMap = couponRepository.findAllById(couponIds).stream()
+            .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+
+    List<CouponIssue> candidates = new ArrayList<>(reservations.size());
+    Set<String> seen = new HashSet<>();
+    for (CouponIssueReservation reservation : reservations) {
+      Coupon coupon = couponMap.get(reservation.couponId());
+      if (coupon == null) {
+        // 발급 이후 쿠폰이 삭제된 경우
+        log.warn("[COUPON_PERSIST_SKIP] 쿠폰이 존재하지 않습니다. couponId={}, userId={}",
+                reservation.couponId(), reservation.userId());
+        continue;
+      }
+
+      // 같은 배치 안의 중복 예약 제거 (DB 중복은 ON CONFLICT로 처리)
+      if (!seen.add(reservation.couponId() + ":" + reservation.userId())) {
+        continue;
+      }
+
+      candidates.add(CouponIssue.builder()
+              .coupon(coupon)
+              .userId(reservation.userId())
+              .createdAt(reservation.issuedAt())
+              .deletedAt(LocalDateTime.of(coupon.getExpireDate(), LocalTime.MIN))
+              .build());
+    }
+
+    boolean[] inserted = couponIssueBatchRepository.insertIgnoringDuplicates(candidates);
+
+    List<CouponIssue> saved = new ArrayList<>(candidates.size());
+    Map<Long, Long> insertedCountByCoupon = new HashMap<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      if (inserted[i]) {
+        CouponIssue issue = candidates.get(i);
+        saved.add(issue);
+        insertedCountByCoupon.merge(issue.getCoupon().getId(), 1L, Long::sum);
+      }
+    }
+
+    // 쿠폰별 수량 차감은 배치당 UPDATE 한 번
+    insertedCountByCoupon.forEach(couponIssueBatchRepository::decreaseQuantity);
+
+    if (saved.size() < candidates.size()) {
+      log.info("[COUPON_PERSIST_REPLAY] 이미 저장된 발급을 건너뛰었습니다. skipped={}", candidates.size() - saved.size());
+    }
+    return saved;
+  }
+}
@@ -0,0 +1,34 @@
+package groom.backend.application.coupon;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Redis에서 발급이 확정되었지만 아직 DB에 저장되지 않은 쿠폰 발급 예약입니다.
+ * Redis 대기열에는 "couponId:userId:issuedAtMillis" 형태의 문자열로 저장됩니다.
+ */
+public record CouponIssueReservation(Long couponId, Long userId, long issuedAtMillis) {
+
+  private static final String DELIMITER = ":";
+
+  public static CouponIssueReservation of(Long couponId, Long userId) {
+    return new CouponIssueReservation(couponId, userId, System.currentTimeMillis());
+  }
+
+  public static CouponIssueReservation parse(String value) {
+    String[] parts = value.split(DELIMITER);
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("잘못된 쿠폰 발급 예약 형식입니다: " + value);
+    }
+    return new CouponIssueReservation(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public String serialize() {
+    return couponId + DELIMITER + userId + DELIMITER + issuedAtMillis;
+  }
+
+  public LocalDateTime issuedAt() {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(issuedAtMillis), ZoneId.systemDefault());
+  }
+}
@@ -3,17 +3,18 @@ package groom.backend.application.coupon;
 import groom.backend.common.exception.BusinessException;
 import groom.backend.common.exception.ErrorCode;
 import groom.backend.domain.auth.entity.User;
-import groom.backend.domain.coupon.mapper.CouponContextMapper;
+import groom.backend.domain.coupon.engine.CompiledDiscount;
+import groom.backend.domain.coupon.engine.DiscountEngine;
 import groom.backend.domain.coupon.model.entity.Coupon;
 import groom.backend.domain.coupon.model.entity.CouponIssue;
-import groom.backend.domain.coupon.model.enums.CouponType;
-import groom.backend.domain.coupon.model.vo.DiscountContext;
-import groom.backend.domain.coupon.policy.*;
 import groom.backend.domain.coupon.repository.CouponIssueRepository;
 import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.infrastructure.cache.PipelinedCacheWriter;
+import groom.backend.infrastructure.cache.TwoTierCache;
 import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
@@ -50,10 +51,18 @@ public class CouponIssueService {
 
   private final CouponRepository couponRepository;
   private final CouponIssueRepository couponIssueRepository;
-  private final DiscountPolicyFactory discountPolicyFactory;
+  private final DiscountEngine discountEngine;
   private final CacheManager couponCacheManager; // CacheManager 주입
 
   private final RedisTemplate<String, CouponIssueResponse> couponCacheTemplate;
+  private final PipelinedCacheWriter pipelinedCacheWriter;
+
+  // 단건 쿠폰 캐시 TTL 및 만료 시점 분산용 지터 비율
+  @Value("${coupon.cache.item-ttl-minutes:60}")
+  private long couponItemTtlMinutes;
+
+  @Value("${coupon.cache.ttl-jitter-ratio:0.1}")
+  private double couponItemTtlJitterRatio;
 
 
   /**
@@ -132,11 +141,8 @@ public class CouponIssueService {
       responses.forEach(couponResponse -> {
         cacheWriteMap.put(CACHE_PREFIX + couponResponse.getCouponIssueId(), couponResponse);
       });
-      // MSET 적용 시 TTL 지정 불가능.
-      for (CouponIssueResponse r : responses) {
-        String key = CACHE_PREFIX + r.getCouponIssueId();
-        couponCacheTemplate.opsForValue().set(key, r, Duration.ofMinutes(60)); // TTL 적용, 1시간
-      }
+      // MSET 적용 시 TTL 지정 불가능 → SET PX 파이프라인으로 1번의 Redis 통신
+      writeItemCache(cacheWriteMap);
     }
 
 //    // 목록을 순회하며 개별 쿠폰 캐시에 수동으로 PUT (Cache Warming)
@@ -170,28 +176,47 @@ public class CouponIssueService {
    */
   public Integer calculateDiscount(List<Long> couponIssueIdList, Long userId, Integer cost) {
 
-    // 1. 캐시에서 MGET (Multi-Get)
-    List<String> cacheKeys = couponIssueIdList.stream()
-            .map(id -> CACHE_PREFIX + id)
-            .collect(Collectors.toList());
-
-    // MGET 실행 (1번의 Redis 통신)
-    List<CouponIssueResponse> cachedList = couponCacheTemplate.opsForValue().multiGet(cacheKeys);
-
     Map<Long, CouponIssueResponse> couponMap = new HashMap<>(); // (Key: couponIssueId)
-    List<Long> cacheMissIds = new ArrayList<>(); // 캐시에 없던 ID 목록
-
-    // 2. 캐시 히트/미스 분리
-    for (int i = 0; i < couponIssueIdList.size(); i++) {
-      CouponIssueResponse couponDto = cachedList.get(i);
-      Long couponIssueId = couponIssueIdList.get(i);
 
-      if (couponDto != null) {
-        // Cache Hit
+    // 0. 로컬(L1) 캐시 조회 - 적중 시 Redis 통신 없음
+    Cache couponItemCache = couponCacheManager.getCache(COUPON_ITEM_CACHE_NAME);
+    TwoTierCache nearCache = couponItemCache instanceof TwoTierCache twoTierCache ? twoTierCache : null;
+    List<Long> remoteLookupIds = new ArrayList<>();
+    for (Long couponIssueId : couponIssueIdList) {
+      Object local = nearCache != null ? nearCache.getLocal(couponIssueId) : null;
+      if (local instanceof CouponIssueResponse couponDto) {
         couponMap.put(couponIssueId, couponDto);
       } else {
-        // Cache Miss
-        cacheMissIds.add(couponIssueId);
+        remoteLookupIds.add(couponIssueId);
+      }
+    }
+
+    List<Long> cacheMissIds = new ArrayList<>(); // 캐시에 없던 ID 목록
+
+    if (!remoteLookupIds.isEmpty()) {
+      // 1. 캐시에서 MGET (Multi-Get)
+      List<String> cacheKeys = remoteLookupIds.stream()
+              .map(id -> CACHE_PREFIX + id)
+              .collect(Collectors.toList());
+
+      // MGET 실행 (1번의 Redis 통신)
+      List<CouponIssueResponse> cachedList = couponCacheTemplate.opsForValue().multiGet(cacheKeys);
+
+      // 2. 캐시 히트/미스 분리
+      for (int i = 0; i < remoteLookupIds.size(); i++) {
+        CouponIssueResponse couponDto = cachedList != null ? cachedList.get(i) : null;
+        Long couponIssueId = remoteLookupIds.get(i);
+
+        if (couponDto != null) {
+          // Cache Hit
+          couponMap.put(couponIssueId, couponDto);
+          if (nearCache != null) {
+            nearCache.putLocal(couponIssueId, couponDto);
+          }
+        } else {
+          // Cache Miss
+          cacheMissIds.add(couponIssueId);
+        }
       }
     }
 
@@ -210,21 +235,21 @@ public class CouponIssueService {
 
         // 캐시에 쓸 맵에도 추가
         cacheWriteMap.put(CACHE_PREFIX + issue.getId(), dto);
+        if (nearCache != null) {
+          nearCache.putLocal(issue.getId(), dto);
+        }
       }
 
-      if (!cacheWriteMap.isEmpty()) {
-        // MSET 실행 (1번의 Redis 통신)
-        couponCacheTemplate.opsForValue().multiSet(cacheWriteMap);
-        // (필요시 TTL 설정 로직 추가)
-      }
+      // TTL 포함 다건 저장 (1번의 Redis 통신)
+      writeItemCache(cacheWriteMap);
     }
 
     // 5. [중요] 비즈니스 로직 수행 (보안 검증 포함)
-    List<DiscountContext> amount = new ArrayList<>();
-    List<DiscountContext> percent = new ArrayList<>();
+    CompiledDiscount[] discounts = new CompiledDiscount[couponIssueIdList.size()];
 
     // (couponIssueIdList)를 순회해야 요청한 쿠폰이 DB에 없는 경우를 잡을 수 있음
-    for(Long requestedId : couponIssueIdList) {
+    for (int i = 0; i < couponIssueIdList.size(); i++) {
+      Long requestedId = couponIssueIdList.get(i);
       CouponIssueResponse couponDto = couponMap.get(requestedId);
 
       // 5-1. 쿠폰 존재 여부 확인
@@ -236,23 +261,15 @@ public class CouponIssueService {
       // (캐시된 데이터이므로, 현재 요청의 userId와 '반드시' 비교해야 함)
       checkCouponUsable(couponDto, userId);
 
-      // 5-3. 정책 로직 수행
-      DiscountContext context = CouponContextMapper.from(couponDto, cost);
-      DiscountPolicy discountPolicy = discountPolicyFactory.getDiscountStrategy(couponDto.getCouponType());
-
-      if (discountPolicy instanceof DiscountSinglePolicy)
+      // 5-3. 정책 확인 (L1에서 꺼낸 DTO는 변환 결과를 재사용)
+      CompiledDiscount discount = discountEngine.compile(couponDto);
+      if (!discount.isMultiUsable())
         throw new BusinessException(ErrorCode.COUPON_INVALID_POLICY, "단일 사용 전용 쿠폰은 여러 개 사용할 수 없습니다.");
-      else if (discountPolicy instanceof DiscountAmountMultiPolicy)
-        amount.add(context);
-      else if (discountPolicy instanceof DiscountPercentMultiPolicy)
-        percent.add(context);
+      discounts[i] = discount;
     }
 
-    // 6. 최종 할인액 계산
-    DiscountMultiPolicy discountPercentMultiStrategy = discountPolicyFactory.getDiscountMultiStrategy(CouponType.PERCENT);
-    DiscountMultiPolicy discountAmountMultiStrategy = discountPolicyFactory.getDiscountMultiStrategy(CouponType.DISCOUNT);
-
-    return Math.min(cost, discountPercentMultiStrategy.calculateMultiDiscount(percent) + discountAmountMultiStrategy.calculateMultiDiscount(amount));
+    // 6. 최종 할인액 계산 (비율 할인 순차 적용 + 금액 할인 합산, 주문 금액 상한)
+    return DiscountEngine.calculateMultiDiscount(discounts, cost);
   }
 
   /**
@@ -282,6 +299,14 @@ public class CouponIssueService {
     return true;
   }
 
+  /**
+   * 단건 쿠폰 캐시 다건 저장 (TTL + 지터 적용, 파이프라인)
+   */
+  private void writeItemCache(Map<String, CouponIssueResponse> cacheWriteMap) {
+    pipelinedCacheWriter.putAll(couponCacheTemplate, cacheWriteMap,
+            Duration.ofMinutes(couponItemTtlMinutes), couponItemTtlJitterRatio);
+  }
+
   // --- 쿠폰 검증 헬퍼 메서드 ---
 
   /**
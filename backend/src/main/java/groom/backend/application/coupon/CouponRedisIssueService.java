@@ -0,0 +1,120 @@
+package groom.backend.application.coupon;
+
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.auth.entity.User;
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.repository.CouponIssueRepository;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Redis 기반 선착순 쿠폰 발급 서비스 (coupon.issue.mode=redis)
+ *
+ * 비관적 락(findByIdForUpdate) 대신 Redis Lua 스크립트 한 번으로 수량 차감과 중복 발급 검사를 처리합니다.
+ * CouponIssue 행은 CouponIssueFlushScheduler가 대기열을 배치로 비워 DB에 저장하므로,
+ * 응답의 couponIssueId는 비어 있으며 영속화 이후 내 쿠폰 조회에서 확인할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponRedisIssueService {
+
+  private final CouponRepository couponRepository;
+  private final CouponIssueRepository couponIssueRepository;
+  private final CouponIssueRedisRepository couponIssueRedisRepository;
+
+  // 영속화 대기열이 이 길이를 넘으면 DB 저장이 따라올 때까지 발급을 거절 (back-pressure)
+  @Value("${coupon.issue.max-pending:100000}")
+  private long maxPending;
+
+  public CouponIssueResponse issueCoupon(Long couponId, User user) {
+    // 쿠폰 메타데이터 조회 (락 없음)
+    Coupon coupon = couponRepository.findById(couponId).orElseThrow(
+            () -> new BusinessException(ErrorCode.COUPON_NOT_FOUND)
+    );
+
+    // 활성화 여부 확인
+    if (!coupon.getIsActive()) {
+      throw new BusinessException(ErrorCode.COUPON_NOT_FOUND);
+    }
+
+    CouponIssueReservation reservation = CouponIssueReservation.of(couponId, user.getId());
+    long result = tryIssue(coupon, user.getId(), reservation);
+
+    // Redis에 발급 상태가 없으면 (최초 발급, Redis 재기동) DB 기준으로 초기화 후 한 번 더 시도
+    if (result == CouponIssueRedisRepository.RESULT_NOT_INITIALIZED) {
+      initializeFromDatabase(couponId);
+      result = tryIssue(coupon, user.getId(), reservation);
+    }
+
+    if (result == CouponIssueRedisRepository.RESULT_ALREADY_ISSUED) {
+      throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+    }
+    if (result == CouponIssueRedisRepository.RESULT_OUT_OF_STOCK) {
+      throw new BusinessException(ErrorCode.COUPON_OUT_OF_STOCK);
+    }
+    if (result == CouponIssueRedisRepository.RESULT_QUEUE_FULL) {
+      log.warn("[COUPON_REDIS_ISSUE_BUSY] couponId={}, userId={}", couponId, user.getId());
+      throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+    }
+    if (result < 0) {
+      throw new BusinessException(ErrorCode.SERVER_ERROR, "쿠폰 발급 상태를 초기화하지 못했습니다.");
+    }
+
+    log.info("[COUPON_REDIS_ISSUE] couponId={}, userId={}, remaining={}", couponId, user.getId(), result);
+
+    return CouponIssueResponse.builder()
+            .couponId(coupon.getId())
+            .userId(user.getId())
+            .createdAt(reservation.issuedAt())
+            .deletedAt(LocalDateTime.of(coupon.getExpireDate(), LocalTime.MIN))
+            .couponType(coupon.getType())
+            .discountValue(coupon.getAmount())
+            .maximumDiscount(coupon.getMaximumDiscount())
+            .minimumCost(coupon.getMinimumCost())
+            .isActive(coupon.getIsActive())
+            .build();
+  }
+
+  /**
+   * 스트라이프 수에 따라 단일 카운터 또는 분할 카운터로 발급을 시도합니다.
+   */
+  private long tryIssue(Coupon coupon, Long userId, CouponIssueReservation reservation) {
+    int stripes = stripesOf(coupon);
+    if (stripes > 1) {
+      return couponIssueRedisRepository.tryIssueStriped(coupon.getId(), userId, reservation.serialize(), stripes, maxPending);
+    }
+    return couponIssueRedisRepository.tryIssue(coupon.getId(), userId, reservation.serialize(), maxPending);
+  }
+
+  private int stripesOf(Coupon coupon) {
+    return coupon.getStockStripes() != null ? coupon.getStockStripes() : 1;
+  }
+
+  /**
+   * DB에 영속화된 상태(Coupon.quantity, CouponIssue)를 기준으로 Redis 발급 상태를 구성합니다.
+   * 영속화 대기열은 같은 Redis에 있으므로, 재고 키가 사라진 경우 대기열도 함께 유실된 것으로 보고 DB 값을 그대로 사용합니다.
+   */
+  public void initializeFromDatabase(Long couponId) {
+    Coupon coupon = couponRepository.findById(couponId).orElseThrow(
+            () -> new BusinessException(ErrorCode.COUPON_NOT_FOUND)
+    );
+    List<Long> issuedUserIds = couponIssueRepository.findUserIdsByCouponId(couponId);
+    int stripes = stripesOf(coupon);
+    if (stripes > 1) {
+      couponIssueRedisRepository.initializeStriped(couponId, stripes, coupon.getQuantity(), issuedUserIds);
+    } else {
+      couponIssueRedisRepository.initialize(couponId, coupon.getQuantity(), issuedUserIds);
+    }
+  }
+}
@@ -56,11 +56,22 @@ public class NotificationApplicationService {
         log.info("[NOTIFICATION_SERVICE_START] productId={}, currentStock={}, thresholdValue={}", 
                 productId, currentStock, thresholdValue);
 
+        // 1. 제품 정보 조회 (제품명만 필요, 재고량은 Kafka 이벤트의 currentStock 사용)
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> {
+                    log.error("[NOTIFICATION_SERVICE_FAILED] productId={}, error=제품을 찾을 수 없습니다", productId);
+                    return new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "제품을 찾을 수 없습니다: " + productId);
+                });
+        sendNotifications(product, currentStock, thresholdValue, excludeUserId, startTime);
+    }
+
+    /**
+     * 조회된 제품 기준으로 장바구니 사용자에게 알림을 생성하고 SSE로 전송합니다.
+     */
+    private void sendNotifications(Product product, Integer currentStock, Integer thresholdValue,
+                                   Long excludeUserId, long startTime) {
+        UUID productId = product.getId();
         try {
-            // 1. 제품 정보 조회 (제품명만 필요, 재고량은 Kafka 이벤트의 currentStock 사용)
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, 
-                            "제품을 찾을 수 없습니다: " + productId));
             String productName = product.getName() != null ? product.getName() : "제품";
             
 
@@ -223,11 +234,21 @@ public class NotificationApplicationService {
      * @param excludeUserId 제외할 사용자 ID (주문한 사용자 등, null 가능)
      */
     public void createAndSendNotificationsForProducts(List<UUID> productIds, Map<UUID, Integer> productStockMap, Long excludeUserId) {
+        if (productIds == null || productIds.isEmpty()) {
+            log.info("[BATCH_NOTIFICATION_EMPTY] no products to check");
+            return;
+        }
+
+        // 제품 정보 조회 (IN 쿼리 한 번, 트랜잭션 커밋 후 최신 상태 조회)
+        List<Product> products = productRepository.findByIds(productIds);
+        if (products.size() < productIds.size()) {
+            log.warn("[BATCH_NOTIFICATION_PRODUCT_NOT_FOUND] requested={}, found={}", productIds.size(), products.size());
+        }
+
         long startTime = System.currentTimeMillis();
-        log.info("[BATCH_NOTIFICATION_START] productIds={}, count={}, timestamp={}", 
-                productIds, productIds.size(), startTime);
+        log.info("[BATCH_NOTIFICATION_START] count={}, timestamp={}", products.size(), startTime);
 
-        if (productIds == null || productIds.isEmpty()) {
+        if (products.isEmpty()) {
             log.info("[BATCH_NOTIFICATION_EMPTY] no products to check");
             return;
         }
@@ -236,20 +257,10 @@ public class NotificationApplicationService {
         int notifiedCount = 0;
         int skippedCount = 0;
 
-        for (UUID productId : productIds) {
+        for (Product product : products) {
+            UUID productId = product.getId();
             try {
                 long productStartTime = System.currentTimeMillis();
-                
-                // 1. 제품 정보 조회 (트랜잭션 커밋 후 최신 상태 조회)
-                // @Async로 비동기 실행되므로 트랜잭션이 커밋된 후 실행되어야 함
-                Product product = productRepository.findById(productId)
-                        .orElse(null);
-
-                if (product == null) {
-                    log.warn("[BATCH_NOTIFICATION_PRODUCT_NOT_FOUND] productId={}", productId);
-                    skippedCount++;
-                    continue;
-                }
 
                 // 2. 재고와 임계값 확인
                 // 차감 후 재고량이 제공되면 그 값을 사용 (결제 경로에서 전달된 정확한 값)
@@ -280,7 +291,7 @@ public class NotificationApplicationService {
                     // 재고 차감 후 값 사용 (제품 조회 시점의 재고량은 이미 차감된 값)
                     // createAndSendNotifications 내부에서도 currentStock을 그대로 사용하므로
                     // 차감 후 값이 알림 메시지에 표시됨
-                    createAndSendNotifications(productId, currentStock, thresholdValue, excludeUserId);
+                    sendNotifications(product, currentStock, thresholdValue, excludeUserId, System.currentTimeMillis());
                     notifiedCount++;
                 } else {
                     log.info("[BATCH_NOTIFICATION_THRESHOLD_NOT_REACHED] productId={}, currentStock={}, thresholdValue={}", 
@@ -304,7 +315,7 @@ public class NotificationApplicationService {
         long totalDuration = endTime - startTime;
 
         log.info("[BATCH_NOTIFICATION_COMPLETE] totalProducts={}, processedCount={}, notifiedCount={}, skippedCount={}, totalDuration={}ms", 
-                productIds.size(), processedCount, notifiedCount, skippedCount, totalDuration);
+                products.size(), processedCount, notifiedCount, skippedCount, totalDuration);
     }
 
     /**
@@ -1,6 +1,8 @@
 package groom.backend.application.order;
 
+import groom.backend.application.cart.CartWriteBehindScheduler;
 import groom.backend.application.coupon.CouponIssueService;
+import groom.backend.application.product.InventoryReservationService;
 import groom.backend.domain.order.model.Order;
 import groom.backend.domain.order.model.OrderItem;
 import groom.backend.domain.order.repository.OrderRepository;
@@ -11,6 +13,7 @@ import groom.backend.interfaces.cart.persistence.CartItemJpaEntity;
 import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
 import groom.backend.interfaces.product.persistence.ProductJpaEntity;
 import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,10 +35,15 @@ public class OrderApplicationService {
     private final SpringDataProductRepository productRepository;
     private final CouponIssueService couponIssueService;
     private final PaymentRepository paymentRepository;
+    private final CartWriteBehindScheduler cartWriteBehindScheduler;
+    private final InventoryReservationService inventoryReservationService;
 
     @Transactional
     public Order createOrder(Long userId, Long couponId) {
 
+        // Redis 우선 장바구니(cart.mode=redis)의 반영되지 않은 변경을 먼저 DB에 반영
+        cartWriteBehindScheduler.flushUser(userId);
+
         // 사용자 장바구니의 상품 정보 조회하여 (productId, quantity) 리스트로 받기
         List<CartItemJpaEntity> cartItemProducts = cartItemRepository.findByUserId(userId);
 
@@ -64,6 +72,9 @@ public class OrderApplicationService {
                 .couponId(couponId)
                 .build();
 
+        // Redis 재고 선점 대상 상품의 수량 (product.redis_inventory)
+        Map<UUID, Integer> reservedQuantities = new LinkedHashMap<>();
+
         // 각 장바구니 아이템을 OrderItem으로 변환하여 추가
         for (CartItemJpaEntity cartItem : cartItemProducts) {
             UUID productId = cartItem.getProductId();
@@ -93,6 +104,10 @@ public class OrderApplicationService {
                 );
             }
 
+            if (product.usesRedisInventory()) {
+                reservedQuantities.merge(productId, quantity, Integer::sum);
+            }
+
             // OrderItem 생성 (주문 시점의 상품 정보 스냅샷)
             OrderItem orderItem = OrderItem.builder()
                     .productId(product.getId())
@@ -126,6 +141,9 @@ public class OrderApplicationService {
         // Order 저장 (cascade로 OrderItem 저장)
         Order savedOrder = orderRepository.save(order);
 
+        // 인기 상품 재고 선점 (부족하면 예외로 주문 취소, 트랜잭션이 롤백되면 선점 해제)
+        inventoryReservationService.reserve(savedOrder.getId(), reservedQuantities);
+
         // Payment 자동 생성 (PENDING 상태)
         String orderName = createOrderName(savedOrder.getOrderItems());
         Payment payment = Payment.builder()
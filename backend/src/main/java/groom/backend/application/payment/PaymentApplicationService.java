@@ -1,30 +1,42 @@
 package groom.backend.application.payment;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import groom.backend.application.raffle.RaffleTicketAllocationService;
-import groom.backend.application.raffle.RaffleTicketApplicationService;
+import groom.backend.application.product.InventoryReservationService;
 import groom.backend.application.raffle.RaffleValidationService;
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
 import groom.backend.domain.order.model.Order;
 import groom.backend.domain.order.model.OrderItem;
 import groom.backend.domain.order.model.enums.OrderStatus;
 import groom.backend.domain.order.repository.OrderRepository;
 import groom.backend.domain.payment.model.Payment;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
 import groom.backend.domain.payment.repository.PaymentRepository;
 import groom.backend.domain.product.model.Product;
+import groom.backend.domain.product.model.StockChange;
 import groom.backend.domain.product.model.enums.ProductCategory;
 import groom.backend.domain.product.repository.ProductRepository;
 import groom.backend.domain.raffle.entity.Raffle;
 import groom.backend.domain.raffle.repository.RaffleRepository;
 import groom.backend.infrastructure.payment.TossPaymentClient;
-import groom.backend.infrastructure.payment.dto.TossPaymentConfirmRequest;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent;
 import groom.backend.infrastructure.payment.dto.TossPaymentResponse;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentConfirmOutboxRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,99 +52,139 @@ public class PaymentApplicationService {
     private final TossPaymentClient tossPaymentClient;
     private final RaffleRepository raffleRepository;
     private final RaffleValidationService raffleValidationService;
-    private final RaffleTicketApplicationService raffleTicketApplicationService;
-    private final RaffleTicketAllocationService raffleTicketAllocationService;
-    private final PaymentNotificationService paymentNotificationService;
+    private final InventoryReservationService inventoryReservationService;
+    private final JdbcPaymentConfirmOutboxRepository confirmOutboxRepository;
+    private final JdbcPaymentEventOutboxRepository paymentEventOutboxRepository;
     private final ObjectMapper objectMapper;
 
+    // PG 응답을 기다리는 최대 시간, 지나면 복구 스케줄러가 승인을 이어서 처리 (PG 호출 제한 시간보다 길게)
+    @Value("${payment.confirm.lease-seconds:60}")
+    private long confirmLeaseSeconds;
+
     /**
-     * 결제 승인 - Toss Payments API 호출 후 상태 변경
+     * 결제 승인 1단계 - 결제를 IN_PROGRESS 로 표시하고 재고를 차감한 뒤 outbox에 기록 (PG 호출 전, 짧은 트랜잭션)
+     * 재고가 부족하면 PG를 호출하지 않고 실패합니다. 이미 승인된 결제면 변경 없이 반환합니다.
      */
     @Transactional
-    public Payment confirmPayment(String paymentKey, UUID orderId, Integer amount) {
-        // 결제 조회
-        Payment payment = paymentRepository.findByOrderId(orderId)
+    public ConfirmStart beginConfirm(String paymentKey, UUID orderId, Integer amount) {
+        // 결제 조회 (같은 주문의 동시 승인 요청은 여기서 순서대로 처리)
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + orderId));
 
         // 금액 검증
         if (!payment.getAmountValue().equals(amount)) {
             throw new IllegalArgumentException("결제 금액이 일치하지 않습니다.");
         }
+        if (payment.getStatus() == PaymentStatus.DONE) {
+            return new ConfirmStart(payment, List.of(), false);
+        }
+        if (payment.getStatus() == PaymentStatus.IN_PROGRESS) {
+            throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
 
-        try {
-            // Toss Payments API 결제 승인 요청
-            TossPaymentConfirmRequest request = new TossPaymentConfirmRequest(
-                    paymentKey,
-                    orderId.toString(),
-                    amount
-            );
-            TossPaymentResponse response = tossPaymentClient.confirmPayment(request);
-
-            log.info("[PAYMENT_CONFIRM] Toss API response - PaymentKey: {}, Status: {}",
-                    response.getPaymentKey(), response.getStatus());
-
-            // Toss Payment API 응답 데이터로 Payment 승인 처리
-            String paymentMethodDetailsJson = convertPaymentMethodDetails(response);
-            String receiptJson = convertObjectToJson(response.getReceipt());
-            String checkoutJson = convertObjectToJson(response.getCheckout());
-            LocalDateTime requestedAtDateTime = parseDateTime(response.getRequestedAt());
-
-            payment.approveWithTossResponse(
-                    response.getPaymentKey(),
-                    response.getLastTransactionKey(),
-                    response.getBalanceAmount() != null ? response.getBalanceAmount() : response.getTotalAmount(),
-                    response.getSuppliedAmount() != null ? response.getSuppliedAmount() : response.getTotalAmount(),
-                    response.getVat() != null ? response.getVat() : 0,
-                    response.getTaxFreeAmount() != null ? response.getTaxFreeAmount() : 0,
-                    response.getTaxExemptionAmount() != null ? response.getTaxExemptionAmount() : 0,
-                    response.getMId(),
-                    response.getVersion(),
-                    response.getType(),
-                    response.getCurrency(),
-                    response.getUseEscrow(),
-                    response.getCultureExpense(),
-                    response.getIsPartialCancelable(),
-                    requestedAtDateTime,
-                    paymentMethodDetailsJson,
-                    receiptJson,
-                    checkoutJson
-            );
-            paymentRepository.save(payment);
+        payment.startConfirm(paymentKey);
+        paymentRepository.save(payment);
 
-            // Order 상태 변경 (PENDING -> CONFIRMED)
-            Order order = payment.getOrder();
-            order.changeStatus(OrderStatus.CONFIRMED);
-            orderRepository.save(order);
+        // 재고 차감 및 차감된 상품 ID와 차감 후 재고량 수집 (승인 실패 시 failConfirm 에서 복구)
+        List<PaymentNotificationService.StockReductionResult> stockReductions = reduceProductStock(payment.getOrder());
 
-            // 재고 차감 및 차감된 상품 ID와 차감 후 재고량 수집
-            List<PaymentNotificationService.StockReductionResult> stockReductions = reduceProductStock(order);
+        // PG 응답 전에 중단되면 복구 스케줄러가 이 기록으로 다시 승인 요청
+        confirmOutboxRepository.insert(orderId, payment.getId(), paymentKey, amount,
+                LocalDateTime.now().plusSeconds(confirmLeaseSeconds));
 
-            // TICKET 카테고리 상품 처리 (Raffle 티켓 생성)
-            processTicketProducts(order);
+        log.info("[PAYMENT_CONFIRM_BEGIN] Payment in progress - PaymentId: {}, OrderId: {}", payment.getId(), orderId);
+        return new ConfirmStart(payment, stockReductions, true);
+    }
 
-            log.info("[PAYMENT_CONFIRM_SUCCESS] Payment confirmed - PaymentId: {}, OrderId: {}",
-                    payment.getId(), orderId);
+    /**
+     * 결제 승인 3단계 - PG 승인 응답 반영 (결제 DONE, 주문 CONFIRMED, 추첨 응모 검증, 후속 처리 이벤트 기록, outbox 삭제)
+     * 이미 반영된 결제면 (복구 스케줄러와 경합) 변경 없이 반환합니다.
+     *
+     * @param stockReductions 1단계에서 차감한 재고 (재고 알림용), 복구된 승인은 빈 목록을 전달하며 현재 재고로 다시 구성
+     */
+    @Transactional
+    public ConfirmResult completeConfirm(UUID orderId, TossPaymentResponse response,
+                                         List<PaymentNotificationService.StockReductionResult> stockReductions) {
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + orderId));
+        if (payment.getStatus() != PaymentStatus.IN_PROGRESS) {
+            confirmOutboxRepository.delete(orderId);
+            log.info("[PAYMENT_CONFIRM_ALREADY_APPLIED] OrderId: {}, Status: {}", orderId, payment.getStatus());
+            return new ConfirmResult(payment, false);
+        }
 
-            // 비동기로 알림 처리 (응답 시간에 영향 없음)
-            // 차감 후 재고량을 함께 전달하여 정확한 값이 알림에 표시되도록 함
-            // 주문한 사용자는 알림에서 제외
-            paymentNotificationService.sendStockReducedNotifications(stockReductions, order);
+        // Toss Payment API 응답 데이터로 Payment 승인 처리
+        String paymentMethodDetailsJson = convertPaymentMethodDetails(response);
+        String receiptJson = convertObjectToJson(response.getReceipt());
+        String checkoutJson = convertObjectToJson(response.getCheckout());
+        LocalDateTime requestedAtDateTime = parseDateTime(response.getRequestedAt());
+
+        payment.approveWithTossResponse(
+                response.getPaymentKey(),
+                response.getLastTransactionKey(),
+                response.getBalanceAmount() != null ? response.getBalanceAmount() : response.getTotalAmount(),
+                response.getSuppliedAmount() != null ? response.getSuppliedAmount() : response.getTotalAmount(),
+                response.getVat() != null ? response.getVat() : 0,
+                response.getTaxFreeAmount() != null ? response.getTaxFreeAmount() : 0,
+                response.getTaxExemptionAmount() != null ? response.getTaxExemptionAmount() : 0,
+                response.getMId(),
+                response.getVersion(),
+                response.getType(),
+                response.getCurrency(),
+                response.getUseEscrow(),
+                response.getCultureExpense(),
+                response.getIsPartialCancelable(),
+                requestedAtDateTime,
+                paymentMethodDetailsJson,
+                receiptJson,
+                checkoutJson
+        );
+        paymentRepository.save(payment);
 
-            // 비동기로 장바구니 비우기 (응답 시간에 영향 없음)
-            paymentNotificationService.clearCartItems(order);
+        // Order 상태 변경 (PENDING -> CONFIRMED)
+        Order order = payment.getOrder();
+        order.changeStatus(OrderStatus.CONFIRMED);
+        orderRepository.save(order);
 
-            return payment;
+        // TICKET 카테고리 상품 응모 검증 (실패하면 PG 결제 취소)
+        Map<UUID, Product> products = loadOrderProducts(order);
+        List<PaymentConfirmedEvent.TicketEntry> ticketEntries = validateTicketProducts(order, products);
 
-        } catch (Exception e) {
-            // 결제 실패 처리
-            payment.fail("PAYMENT_FAILED", e.getMessage());
-            paymentRepository.save(payment);
+        if (stockReductions.isEmpty()) {
+            // 복구된 승인: 1단계의 차감 후 재고를 알 수 없으므로 현재 재고로 재고 알림 대상을 구성
+            stockReductions = currentStockLevels(products);
+        }
 
-            log.error("[PAYMENT_CONFIRM_FAILED] Payment failed - OrderId: {}, Error: {}",
-                    orderId, e.getMessage());
+        // 재고 알림, 장바구니 비우기, 추첨 티켓 생성은 커밋 후 Kafka 소비자가 처리
+        appendConfirmedEvent(order, stockReductions, ticketEntries);
+
+        confirmOutboxRepository.delete(orderId);
+
+        log.info("[PAYMENT_CONFIRM_SUCCESS] Payment confirmed - PaymentId: {}, OrderId: {}",
+                payment.getId(), orderId);
+        return new ConfirmResult(payment, true);
+    }
 
-            throw new RuntimeException("결제 승인에 실패했습니다: " + e.getMessage(), e);
+    /**
+     * 결제 승인 실패 반영 - 결제 FAILED, 1단계에서 차감한 재고 복구, outbox 삭제
+     */
+    @Transactional
+    public Payment failConfirm(UUID orderId, String failureCode, String failureMessage) {
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다: " + orderId));
+        if (payment.getStatus() != PaymentStatus.IN_PROGRESS) {
+            confirmOutboxRepository.delete(orderId);
+            return payment;
         }
+
+        payment.fail(failureCode, failureMessage);
+        paymentRepository.save(payment);
+        restoreProductStock(payment.getOrder());
+        confirmOutboxRepository.delete(orderId);
+
+        log.error("[PAYMENT_CONFIRM_FAILED] Payment failed - OrderId: {}, Code: {}, Error: {}",
+                orderId, failureCode, failureMessage);
+        return payment;
     }
 
     /**
@@ -160,20 +212,15 @@ public class PaymentApplicationService {
         // 재고 차감 및 차감된 상품 ID와 차감 후 재고량 수집
         List<PaymentNotificationService.StockReductionResult> stockReductions = reduceProductStock(order);
 
-        // TICKET 카테고리 상품 처리 (Raffle 티켓 생성)
-        processTicketProducts(order);
+        // TICKET 카테고리 상품 응모 검증
+        List<PaymentConfirmedEvent.TicketEntry> ticketEntries = validateTicketProducts(order, loadOrderProducts(order));
+
+        // 재고 알림, 장바구니 비우기, 추첨 티켓 생성은 커밋 후 Kafka 소비자가 처리
+        appendConfirmedEvent(order, stockReductions, ticketEntries);
 
         log.info("[TEST_PAYMENT_CONFIRM_SUCCESS] Test payment confirmed - PaymentId: {}, OrderId: {}",
                 payment.getId(), orderId);
 
-        // 비동기로 알림 처리 (응답 시간에 영향 없음)
-        // 차감 후 재고량을 함께 전달하여 정확한 값이 알림에 표시되도록 함
-        // 주문한 사용자는 알림에서 제외
-        paymentNotificationService.sendStockReducedNotifications(stockReductions, order);
-
-        // 비동기로 장바구니 비우기 (응답 시간에 영향 없음)
-        paymentNotificationService.clearCartItems(order);
-
         return payment;
     }
 
@@ -309,55 +356,128 @@ public class PaymentApplicationService {
         }
     }
 
+    /**
+     * 주문 전체 재고를 한 문장으로 차감 (재고가 부족한 상품이 하나라도 있으면 예외로 전체 취소)
+     * Redis 재고 선점 상품은 커밋 후 선점을 확정하고, DB 재고는 InventoryReservationScheduler가 배치로 차감합니다.
+     */
     private List<PaymentNotificationService.StockReductionResult> reduceProductStock(Order order) {
-        List<PaymentNotificationService.StockReductionResult> results = new java.util.ArrayList<>();
-
-        for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = productRepository.findById(orderItem.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "상품을 찾을 수 없습니다: " + orderItem.getProductId()));
-
-            // 재고 차감 전 값 저장
-            int stockBefore = product.getStock();
-            
-            product.decreaseStock(orderItem.getQuantity());
-            productRepository.save(product);
-
-            // 차감 후 재고량 확인 (차감 후 값)
-            int stockAfter = product.getStock();
+        Map<UUID, Integer> quantities = orderQuantities(order);
+        List<PaymentNotificationService.StockReductionResult> results = new ArrayList<>();
+
+        Map<UUID, Integer> reserved = inventoryReservationService.prepareConfirm(order.getId(), quantities);
+        reserved.forEach((productId, available) -> {
+            results.add(new PaymentNotificationService.StockReductionResult(productId, available));
+            log.info("[STOCK_RESERVATION_CONFIRM] Reserved stock confirmed - ProductId: {}, Quantity: {}, Available: {}",
+                    productId, quantities.get(productId), available);
+        });
+        quantities.keySet().removeAll(reserved.keySet());
+
+        List<StockChange> changes = productRepository.decreaseStocks(quantities);
+        if (changes.size() < quantities.size()) {
+            throw new IllegalArgumentException("재고가 부족하거나 상품을 찾을 수 없습니다: " + missingProductIds(quantities, changes));
+        }
 
+        for (StockChange change : changes) {
             // 차감된 상품 ID와 차감 후 재고량 저장
-            results.add(new PaymentNotificationService.StockReductionResult(product.getId(), stockAfter));
+            results.add(new PaymentNotificationService.StockReductionResult(change.productId(), change.stock()));
 
-            log.info("[STOCK_REDUCE] Product stock reduced - ProductId: {}, Quantity: {}, StockBefore: {}, StockAfter: {}",
-                    product.getId(), orderItem.getQuantity(), stockBefore, stockAfter);
+            log.info("[STOCK_REDUCE] Product stock reduced - ProductId: {}, Quantity: {}, StockAfter: {}",
+                    change.productId(), quantities.get(change.productId()), change.stock());
         }
 
         return results;
     }
 
+    /**
+     * 주문 재고 복구. Redis 재고 선점 상품은 선점 해제·확정 수량 차감으로 되돌리고, DB에 반영된 수량만 DB 재고를 늘립니다.
+     */
     private void restoreProductStock(Order order) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        inventoryReservationService.cancelConfirm(order.getId(), orderQuantities(order)).forEach((productId, quantity) -> {
+            if (quantity > 0) {
+                quantities.put(productId, quantity);
+            }
+        });
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<StockChange> changes = productRepository.increaseStocks(quantities);
+        if (changes.size() < quantities.size()) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + missingProductIds(quantities, changes));
+        }
+
+        for (StockChange change : changes) {
+            log.info("[STOCK_RESTORE] Product stock restored - ProductId: {}, Quantity: {}, Current: {}",
+                    change.productId(), quantities.get(change.productId()), change.stock());
+        }
+    }
+
+    /**
+     * 주문 상품별 수량 (같은 상품이 여러 줄이면 합산)
+     */
+    private Map<UUID, Integer> orderQuantities(Order order) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
         for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = productRepository.findById(orderItem.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "상품을 찾을 수 없습니다: " + orderItem.getProductId()));
+            quantities.merge(orderItem.getProductId(), orderItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
 
-            product.increaseStock(orderItem.getQuantity());
-            productRepository.save(product);
+    private List<UUID> missingProductIds(Map<UUID, Integer> quantities, List<StockChange> changes) {
+        Set<UUID> changed = changes.stream().map(StockChange::productId).collect(Collectors.toSet());
+        return quantities.keySet().stream().filter(productId -> !changed.contains(productId)).toList();
+    }
 
-            log.info("[STOCK_RESTORE] Product stock restored - ProductId: {}, Quantity: {}, Current: {}",
-                    product.getId(), orderItem.getQuantity(), product.getStock());
+    /**
+     * 주문 상품을 IN 쿼리 한 번으로 조회 (없는 상품이 있으면 예외)
+     */
+    private Map<UUID, Product> loadOrderProducts(Order order) {
+        List<UUID> productIds = order.getOrderItems().stream()
+                .map(OrderItem::getProductId)
+                .distinct()
+                .toList();
+        Map<UUID, Product> products = productRepository.findByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() < productIds.size()) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productIds.stream()
+                    .filter(productId -> !products.containsKey(productId))
+                    .toList());
         }
+        return products;
     }
 
-    private void processTicketProducts(Order order) {
+    /**
+     * 주문 상품의 현재 재고 (Redis 재고 선점 상품은 가용 재고, 나머지는 DB 재고)
+     * Redis를 읽지 못하면 DB 재고를 사용합니다. (재고 알림 때문에 승인 반영이 실패하지 않도록)
+     */
+    private List<PaymentNotificationService.StockReductionResult> currentStockLevels(Map<UUID, Product> products) {
+        Map<UUID, Integer> available;
+        try {
+            available = inventoryReservationService.findAvailable(products.keySet());
+        } catch (Exception e) {
+            log.warn("[STOCK_LEVEL_REDIS_UNAVAILABLE] Using DB stock for notifications - Error: {}", e.getMessage());
+            available = Map.of();
+        }
+        List<PaymentNotificationService.StockReductionResult> results = new ArrayList<>();
+        for (Product product : products.values()) {
+            results.add(new PaymentNotificationService.StockReductionResult(
+                    product.getId(), available.getOrDefault(product.getId(), product.getStock())));
+        }
+        return results;
+    }
+
+    /**
+     * TICKET 카테고리 상품의 추첨 응모 가능 여부와 사용자 응모 한도를 검증합니다.
+     * 티켓 생성(번호 할당)은 결제 커밋 후 이벤트 소비자가 처리합니다.
+     *
+     * @return 추첨별 응모 수량
+     */
+    private List<PaymentConfirmedEvent.TicketEntry> validateTicketProducts(Order order, Map<UUID, Product> products) {
         Long userId = order.getUserId();
+        List<PaymentConfirmedEvent.TicketEntry> entries = new ArrayList<>();
 
         for (OrderItem orderItem : order.getOrderItems()) {
-            // 상품 조회
-            Product product = productRepository.findById(orderItem.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "상품을 찾을 수 없습니다: " + orderItem.getProductId()));
+            Product product = products.get(orderItem.getProductId());
 
             // TICKET 카테고리가 아니면 건너뛰기
             if (product.getCategory() != ProductCategory.TICKET) {
@@ -375,14 +495,59 @@ public class PaymentApplicationService {
             // 추첨 상태 검증 (응모 가능 여부)
             raffleValidationService.validateRaffleForEntry(raffle);
 
-            // 수량만큼 티켓 생성
             int quantity = orderItem.getQuantity();
 
             // 사용자 응모 한도 검증 (전체 수량에 대해 한 번만)
             raffleValidationService.validateUserEntryLimit(raffle, userId, quantity);
 
-            // 티켓생성
-            raffleTicketApplicationService.createTickets(raffle, userId, quantity);
+            entries.add(new PaymentConfirmedEvent.TicketEntry(raffle.getRaffleId(), quantity));
         }
+        return entries;
+    }
+
+    /**
+     * 결제 완료 이벤트를 outbox에 기록합니다. (결제 승인과 같은 트랜잭션)
+     */
+    private void appendConfirmedEvent(Order order,
+                                      List<PaymentNotificationService.StockReductionResult> stockReductions,
+                                      List<PaymentConfirmedEvent.TicketEntry> ticketEntries) {
+        PaymentConfirmedEvent event = new PaymentConfirmedEvent(
+                UUID.randomUUID(),
+                order.getId(),
+                order.getUserId(),
+                order.getOrderItems().stream()
+                        .map(item -> new PaymentConfirmedEvent.Item(item.getProductId(), item.getQuantity()))
+                        .toList(),
+                stockReductions.stream()
+                        .map(result -> new PaymentConfirmedEvent.StockLevel(result.getProductId(), result.getStockAfter()))
+                        .toList(),
+                ticketEntries,
+                System.currentTimeMillis()
+        );
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            throw new IllegalStateException("결제 완료 이벤트 직렬화 실패: " + order.getId(), e);
+        }
+        paymentEventOutboxRepository.append(event.getEventId(), PaymentConfirmedEvent.TYPE, order.getId(), payload);
+    }
+
+    /**
+     * 결제 승인 1단계 결과
+     *
+     * @param started 이번 요청이 승인을 시작했으면 true (이미 승인된 결제면 false, PG 호출 불필요)
+     */
+    public record ConfirmStart(Payment payment,
+                               List<PaymentNotificationService.StockReductionResult> stockReductions,
+                               boolean started) {
+    }
+
+    /**
+     * 결제 승인 3단계 결과
+     *
+     * @param applied 이번 호출이 승인 결과를 반영했으면 true
+     */
+    public record ConfirmResult(Payment payment, boolean applied) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package groom.backend.application.payment;
+
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.payment.model.Payment;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
+import groom.backend.infrastructure.redis.PaymentConfirmResultRedisRepository;
+import groom.backend.infrastructure.redis.PaymentConfirmResultRedisRepository.ConfirmedPayment;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 승인 진입점 (재요청 멱등 처리)
+ *
+ * 클라이언트가 타임아웃으로 같은 승인을 다시 보내도 PG 호출과 재고 차감은 한 번만 일어나도록 합니다.
+ * 1. 재생: 승인된 결과가 Redis에 있고 결제 키와 금액이 같으면 결제를 조회해 바로 응답
+ * 2. 단일 실행: 같은 인스턴스의 동시 중복 요청은 먼저 들어온 요청의 결과를 기다려 함께 응답
+ * 3. 다른 인스턴스에서 진행 중이면 (PAYMENT_IN_PROGRESS) 결과가 Redis에 기록될 때까지 잠시 기다림
+ * 트랜잭션 밖에서 호출되므로, 재생/대기 중인 요청은 DB 커넥션을 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmFacade {
+
+    private final PaymentConfirmService paymentConfirmService;
+    private final PaymentApplicationService paymentApplicationService;
+    private final PaymentConfirmResultRedisRepository confirmResultRedisRepository;
+
+    // 진행 중인 승인 (orderId:paymentKey:amount -> 결과)
+    private final ConcurrentHashMap<String, CompletableFuture<Payment>> inFlight = new ConcurrentHashMap<>();
+
+    // 중복 요청이 먼저 들어온 승인을 기다리는 최대 시간 (PG 승인 제한 시간보다 길게)
+    @Value("${payment.confirm.idempotency.wait-ms:20000}")
+    private long waitMillis;
+
+    @Value("${payment.confirm.idempotency.poll-interval-ms:100}")
+    private long pollIntervalMillis;
+
+    public Payment confirmPayment(String paymentKey, UUID orderId, Integer amount) {
+        Optional<Payment> replayed = replay(paymentKey, orderId, amount);
+        if (replayed.isPresent()) {
+            log.info("[PAYMENT_CONFIRM_REPLAY] OrderId: {}", orderId);
+            return replayed.get();
+        }
+
+        String key = orderId + ":" + paymentKey + ":" + amount;
+        CompletableFuture<Payment> execution = new CompletableFuture<>();
+        CompletableFuture<Payment> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            log.info("[PAYMENT_CONFIRM_COALESCED] Waiting for in-flight confirm - OrderId: {}", orderId);
+            return await(running, orderId);
+        }
+
+        try {
+            Payment payment = execute(paymentKey, orderId, amount);
+            execution.complete(payment);
+            return payment;
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    private Payment execute(String paymentKey, UUID orderId, Integer amount) {
+        Payment payment;
+        try {
+            payment = paymentConfirmService.confirmPayment(paymentKey, orderId, amount);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.PAYMENT_IN_PROGRESS) {
+                throw e;
+            }
+            // 다른 인스턴스(또는 복구 스케줄러)가 승인 중: 결과가 기록될 때까지 대기
+            payment = pollReplay(paymentKey, orderId, amount).orElseThrow(() -> e);
+        }
+        if (payment.getStatus() == PaymentStatus.DONE) {
+            confirmResultRedisRepository.save(orderId, paymentKey, amount, payment.getId());
+        }
+        return payment;
+    }
+
+    private Optional<Payment> replay(String paymentKey, UUID orderId, Integer amount) {
+        Optional<ConfirmedPayment> confirmed = confirmResultRedisRepository.find(orderId);
+        if (confirmed.isEmpty()) {
+            return Optional.empty();
+        }
+        // 결제 키나 금액이 다른 요청은 재생하지 않고 정상 처리 (금액 검증 등에서 거절)
+        if (!confirmed.get().paymentKey().equals(paymentKey)
+                || !Integer.valueOf(confirmed.get().amount()).equals(amount)) {
+            return Optional.empty();
+        }
+        return Optional.of(paymentApplicationService.getPayment(confirmed.get().paymentId()));
+    }
+
+    private Optional<Payment> pollReplay(String paymentKey, UUID orderId, Integer amount) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<Payment> replayed = replay(paymentKey, orderId, amount);
+            if (replayed.isPresent()) {
+                return replayed;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Payment await(CompletableFuture<Payment> running, UUID orderId) {
+        try {
+            return running.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 들어온 요청과 같은 예외로 응답
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("[PAYMENT_CONFIRM_COALESCE_TIMEOUT] OrderId: {}", orderId);
+            throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package groom.backend.application.payment;
+
+import groom.backend.interfaces.payment.persistence.JdbcPaymentConfirmOutboxRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentConfirmOutboxRepository.PendingConfirm;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 결제 승인 복구 스케줄러
+ *
+ * payment_confirm_outbox 에 남은 승인 (PG 응답 대기 중 타임아웃, 결과 반영 전 서버 중단)을 같은 Idempotency-Key 로 다시 승인합니다.
+ * 실패한 행은 재시도 간격을 두 배씩 늘려 (최대 recovery-max-backoff-seconds) 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmRecoveryScheduler {
+
+    private final JdbcPaymentConfirmOutboxRepository confirmOutboxRepository;
+    private final PaymentConfirmService paymentConfirmService;
+
+    @Value("${payment.confirm.recovery-batch-size:50}")
+    private int batchSize;
+
+    @Value("${payment.confirm.recovery-backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${payment.confirm.recovery-max-backoff-seconds:600}")
+    private long maxBackoffSeconds;
+
+    @Scheduled(fixedDelayString = "${payment.confirm.recovery-interval-ms:10000}", initialDelay = 15000)
+    public void recover() {
+        List<PendingConfirm> pendings;
+        try {
+            pendings = confirmOutboxRepository.claimDue(batchSize, backoffSeconds, maxBackoffSeconds);
+        } catch (Exception e) {
+            log.error("[PAYMENT_CONFIRM_RECOVERY_FAILED] 복구 대상 조회 실패", e);
+            return;
+        }
+        for (PendingConfirm pending : pendings) {
+            try {
+                paymentConfirmService.resume(pending);
+            } catch (Exception e) {
+                log.warn("[PAYMENT_CONFIRM_RECOVERY_RETRY] orderId={}, attempts={}, error={}",
+                        pending.orderId(), pending.attempts(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package groom.backend.application.payment;
+
+import groom.backend.application.payment.PaymentApplicationService.ConfirmResult;
+import groom.backend.application.payment.PaymentApplicationService.ConfirmStart;
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.payment.model.Payment;
+import groom.backend.infrastructure.payment.TossPaymentClient;
+import groom.backend.infrastructure.payment.TossPaymentException;
+import groom.backend.infrastructure.payment.dto.TossPaymentConfirmRequest;
+import groom.backend.infrastructure.payment.dto.TossPaymentResponse;
+import groom.backend.infrastructure.redis.PaymentConfirmResultRedisRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentConfirmOutboxRepository.PendingConfirm;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 승인 흐름 (트랜잭션 밖에서 PG 호출)
+ *
+ * 1. beginConfirm  : 결제 IN_PROGRESS, 재고 차감, outbox 기록 (짧은 트랜잭션, 커밋 후 DB 커넥션 반환)
+ * 2. Toss 승인 호출 : 트랜잭션 없음, Idempotency-Key 로 재시도해도 한 번만 승인
+ * 3. completeConfirm / failConfirm : 결과 반영과 outbox 삭제 (짧은 트랜잭션)
+ *
+ * PG 응답을 받지 못했거나 3단계 전에 중단되면 outbox 행이 남고, PaymentConfirmRecoveryScheduler가 같은 키로 다시 승인합니다.
+ * PG 승인 후 결과를 반영할 수 없으면 (주문 상태 불일치 등) PG 결제를 취소하고 실패 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmService {
+
+    private final PaymentApplicationService paymentApplicationService;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentConfirmResultRedisRepository confirmResultRedisRepository;
+
+    /**
+     * 결제 승인 - Toss Payments API 호출 후 상태 변경
+     */
+    public Payment confirmPayment(String paymentKey, UUID orderId, Integer amount) {
+        ConfirmStart start = paymentApplicationService.beginConfirm(paymentKey, orderId, amount);
+        if (!start.started()) {
+            log.info("[PAYMENT_CONFIRM_ALREADY_DONE] OrderId: {}", orderId);
+            return start.payment();
+        }
+
+        // 재고 알림, 장바구니 비우기, 추첨 티켓 생성은 승인 트랜잭션에서 기록한 이벤트로 처리
+        return confirmWithPg(paymentKey, orderId, amount, start.stockReductions()).payment();
+    }
+
+    /**
+     * 중단된 결제 승인 재처리 (복구 스케줄러)
+     * 차감 시점의 재고량을 알 수 없으므로 빈 목록을 넘겨, 승인 반영 시점의 현재 재고로 재고 알림 대상을 구성합니다.
+     */
+    public void resume(PendingConfirm pending) {
+        ConfirmResult result = confirmWithPg(pending.paymentKey(), pending.orderId(), pending.amount(), List.of());
+        if (result.applied()) {
+            // 다른 인스턴스에서 같은 승인을 기다리는 재요청이 결과를 받을 수 있도록 기록
+            confirmResultRedisRepository.save(pending.orderId(), pending.paymentKey(), pending.amount(),
+                    result.payment().getId());
+        }
+        log.info("[PAYMENT_CONFIRM_RECOVERED] OrderId: {}, Attempts: {}, Applied: {}",
+                pending.orderId(), pending.attempts(), result.applied());
+    }
+
+    private ConfirmResult confirmWithPg(String paymentKey, UUID orderId, Integer amount,
+                                        List<PaymentNotificationService.StockReductionResult> stockReductions) {
+        TossPaymentResponse response;
+        try {
+            // Toss Payments API 결제 승인 요청
+            response = tossPaymentClient.confirmPayment(
+                    new TossPaymentConfirmRequest(paymentKey, orderId.toString(), amount));
+        } catch (TossPaymentException e) {
+            if (!e.isDeclined()) {
+                // 승인 여부를 알 수 없음: outbox 행을 남겨 복구 스케줄러가 같은 키로 다시 승인
+                log.warn("[PAYMENT_CONFIRM_PENDING] PG result unknown - OrderId: {}, Error: {}",
+                        orderId, e.getMessage());
+                throw new BusinessException(ErrorCode.PAYMENT_RESULT_PENDING);
+            }
+            paymentApplicationService.failConfirm(orderId, e.getCode(), e.getMessage());
+            throw new RuntimeException("결제 승인에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        log.info("[PAYMENT_CONFIRM] Toss API response - PaymentKey: {}, Status: {}",
+                response.getPaymentKey(), response.getStatus());
+
+        try {
+            return paymentApplicationService.completeConfirm(orderId, response, stockReductions);
+        } catch (BusinessException | IllegalArgumentException | IllegalStateException e) {
+            // PG는 승인했지만 주문에 반영할 수 없음: PG 결제를 취소하고 실패 처리
+            // 그 밖의 예외 (DB 장애 등)는 outbox 행이 남아 복구 스케줄러가 다시 반영
+            compensate(orderId, response.getPaymentKey(), e);
+            throw e;
+        }
+    }
+
+    private void compensate(UUID orderId, String paymentKey, RuntimeException cause) {
+        log.error("[PAYMENT_CONFIRM_APPLY_FAILED] Cancelling approved payment - OrderId: {}, Error: {}",
+                orderId, cause.getMessage());
+        try {
+            tossPaymentClient.cancelPayment(paymentKey, "결제 승인 처리 실패");
+        } catch (Exception e) {
+            // 취소하지 못하면 outbox 행이 남아 재시도됨 (같은 키로 승인 응답을 다시 받아 반영 재시도)
+            log.error("[PAYMENT_CONFIRM_COMPENSATE_FAILED] OrderId: {}, Error: {}", orderId, e.getMessage());
+            return;
+        }
+        paymentApplicationService.failConfirm(orderId, "APPLY_FAILED", cause.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package groom.backend.application.payment;
+
+import groom.backend.application.raffle.RaffleTicketApplicationService;
+import groom.backend.domain.raffle.entity.Raffle;
+import groom.backend.domain.raffle.repository.RaffleRepository;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventConsumedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 완료 이벤트 처리 (소비자 그룹별 한 번만 처리)
+ *
+ * - 추첨 티켓 생성: 소비 기록과 티켓 저장을 한 트랜잭션으로 처리 (재전달되어도 티켓은 한 번만 생성)
+ * - 재고 알림, 장바구니 비우기: 자체 트랜잭션/Redis를 사용하므로 소비 기록을 먼저 남기고 실패하면 지워 재전달 시 다시 처리
+ *   (처리 직후 기록 삭제 전에 중단되면 한 번 누락될 수 있으며, 결제에는 영향 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmedEventHandler {
+
+    public static final String CONSUMER_RAFFLE_TICKET = "raffle-ticket";
+    public static final String CONSUMER_STOCK_NOTIFICATION = "stock-notification";
+    public static final String CONSUMER_CART_CLEAR = "cart-clear";
+
+    private final JdbcPaymentEventConsumedRepository consumedRepository;
+    private final PaymentNotificationService paymentNotificationService;
+    private final RaffleRepository raffleRepository;
+    private final RaffleTicketApplicationService raffleTicketApplicationService;
+
+    @Transactional
+    public void createRaffleTickets(PaymentConfirmedEvent event) {
+        if (event.getTicketEntries() == null || event.getTicketEntries().isEmpty()) {
+            return;
+        }
+        if (!consumedRepository.markConsumed(event.getEventId(), CONSUMER_RAFFLE_TICKET)) {
+            log.info("[PAYMENT_EVENT_DUPLICATE] consumer={}, eventId={}", CONSUMER_RAFFLE_TICKET, event.getEventId());
+            return;
+        }
+        for (PaymentConfirmedEvent.TicketEntry entry : event.getTicketEntries()) {
+            Raffle raffle = raffleRepository.findById(entry.raffleId())
+                    .orElseThrow(() -> new IllegalStateException("추첨 정보를 찾을 수 없습니다: " + entry.raffleId()));
+            if (!raffleTicketApplicationService.createTickets(raffle, event.getUserId(), entry.quantity())) {
+                // 예외로 트랜잭션을 롤백하여 소비 기록도 지우고 재전달 시 다시 생성
+                throw new IllegalStateException("추첨 티켓 생성 실패: raffleId=" + entry.raffleId()
+                        + ", orderId=" + event.getOrderId());
+            }
+            log.info("[RAFFLE_TICKET_CREATED] raffleId={}, userId={}, quantity={}, orderId={}",
+                    entry.raffleId(), event.getUserId(), entry.quantity(), event.getOrderId());
+        }
+    }
+
+    public void sendStockNotifications(PaymentConfirmedEvent event) {
+        if (event.getStockLevels() == null || event.getStockLevels().isEmpty()) {
+            return;
+        }
+        runOnce(event, CONSUMER_STOCK_NOTIFICATION,
+                () -> paymentNotificationService.sendStockReducedNotifications(event.getStockLevels(), event.getUserId()));
+    }
+
+    public void clearCartItems(PaymentConfirmedEvent event) {
+        if (event.getItems() == null || event.getItems().isEmpty()) {
+            return;
+        }
+        runOnce(event, CONSUMER_CART_CLEAR,
+                () -> paymentNotificationService.clearCartItems(event.getUserId(), event.getOrderId(), event.getItems()));
+    }
+
+    private void runOnce(PaymentConfirmedEvent event, String consumer, Runnable action) {
+        if (!consumedRepository.markConsumed(event.getEventId(), consumer)) {
+            log.info("[PAYMENT_EVENT_DUPLICATE] consumer={}, eventId={}", consumer, event.getEventId());
+            return;
+        }
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            consumedRepository.unmark(event.getEventId(), consumer);
+            throw e;
+        }
+    }
+}
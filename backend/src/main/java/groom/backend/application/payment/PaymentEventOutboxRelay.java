@@ -0,0 +1,94 @@
+package groom.backend.application.payment;
+
+import groom.backend.application.payment.PaymentEventRelayService.RelayResult;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventConsumedRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 이벤트 outbox 릴레이 스케줄러
+ *
+ * 1. 발행: 미발행 이벤트를 배치 단위로 Kafka에 발행 (배치가 가득 차면 max-batches-per-run 까지 이어서 발행)
+ * 2. 정리: 보관 기간이 지난 발행 완료 이벤트와 소비 기록 삭제
+ *
+ * 메트릭: payment.outbox.published, payment.outbox.publish.failures
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentEventOutboxRelay {
+
+    private final PaymentEventRelayService relayService;
+    private final JdbcPaymentEventOutboxRepository outboxRepository;
+    private final JdbcPaymentEventConsumedRepository consumedRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.event.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.event.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${payment.event.outbox.retention-hours:24}")
+    private long outboxRetentionHours;
+
+    // 재전달 가능 기간보다 길게 유지
+    @Value("${payment.event.consumed.retention-days:7}")
+    private long consumedRetentionDays;
+
+    private Counter publishedEvents;
+    private Counter publishFailures;
+
+    @PostConstruct
+    public void registerMetrics() {
+        publishedEvents = Counter.builder("payment.outbox.published")
+                .description("Kafka에 발행한 결제 이벤트 수")
+                .register(meterRegistry);
+        publishFailures = Counter.builder("payment.outbox.publish.failures")
+                .description("결제 이벤트 배치 발행 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.event.outbox.relay-interval-ms:500}", initialDelay = 5000)
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            RelayResult result;
+            try {
+                result = relayService.relayBatch(batchSize);
+            } catch (Exception e) {
+                publishFailures.increment();
+                log.error("[PAYMENT_EVENT_RELAY_FAILED] 결제 이벤트 발행 실패", e);
+                return;
+            }
+            publishedEvents.increment(result.published());
+            if (result.published() < result.claimed()) {
+                // 일부 발행 실패: 다음 주기에 실패한 행부터 다시 발행
+                publishFailures.increment();
+                return;
+            }
+            if (result.claimed() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.event.outbox.purge-interval-ms:3600000}", initialDelay = 60000)
+    public void purge() {
+        try {
+            int outbox = outboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(outboxRetentionHours));
+            int consumed = consumedRepository.deleteConsumedBefore(LocalDateTime.now().minusDays(consumedRetentionDays));
+            log.info("[PAYMENT_EVENT_PURGE] outbox={}, consumed={}", outbox, consumed);
+        } catch (Exception e) {
+            log.error("[PAYMENT_EVENT_PURGE_FAILED] 결제 이벤트 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package groom.backend.application.payment;
+
+import groom.backend.infrastructure.kafka.payment.PaymentEventProducer;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 결제 이벤트 outbox 배치 발행
+ *
+ * 미발행 행을 잠근 트랜잭션 안에서 Kafka에 발행하고 확인된 행만 발행 완료로 기록합니다.
+ * 발행 후 기록 전에 중단되면 다음 주기에 다시 발행되며, 소비자가 이벤트 ID로 중복을 걸러냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentEventRelayService {
+
+    private final JdbcPaymentEventOutboxRepository outboxRepository;
+    private final PaymentEventProducer paymentEventProducer;
+
+    /**
+     * @return 조회한 행 수와 발행한 행 수
+     */
+    @Transactional
+    public RelayResult relayBatch(int batchSize) {
+        List<OutboxEvent> events = outboxRepository.claimUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return new RelayResult(0, 0);
+        }
+        List<Long> published = paymentEventProducer.publishAll(events);
+        outboxRepository.markPublished(published);
+        return new RelayResult(events.size(), published.size());
+    }
+
+    public record RelayResult(int claimed, int published) {
+    }
+}
@@ -1,29 +1,42 @@
 package groom.backend.application.payment;
 
-import groom.backend.application.cart.CartApplicationService;
+import groom.backend.application.cart.CartApplicationService.CartItemResult;
 import groom.backend.application.cart.CartApplicationService.CartItemToRemove;
+import groom.backend.application.cart.CartFacade;
 import groom.backend.application.notification.NotificationApplicationService;
-import groom.backend.domain.order.model.Order;
-import groom.backend.domain.order.model.OrderItem;
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent.Item;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent.StockLevel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
- * 결제 완료 후 알림 처리를 비동기로 수행하는 서비스 - @Async를 사용하여 별도 스레드에서 실행 - 알림 처리가 실패해도 결제 응답에 영향 없음
+ * 결제 완료 후속 처리 (재고 알림, 장바구니 비우기)
+ * 결제 승인 트랜잭션에서 outbox에 기록한 이벤트를 Kafka 소비자가 받아 호출하므로 결제 응답에 영향이 없고,
+ * 실패하면 예외를 던져 이벤트가 다시 전달되도록 합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentNotificationService {
+    // 장바구니를 읽고 제거하는 사이 사용자가 항목을 바꿔 제거가 실패할 때 다시 읽어 시도하는 횟수
+    private static final int CART_CLEAR_MAX_ATTEMPTS = 3;
+    // 장바구니가 이미 바뀌었음을 뜻하는 오류 (다시 전달해도 같은 결과이므로 재시도하지 않음)
+    private static final Set<ErrorCode> CART_CHANGED_ERRORS = Set.of(
+            ErrorCode.CART_NOT_FOUND, ErrorCode.CART_ITEM_NOT_FOUND, ErrorCode.CART_QUANTITY_EXCEEDED);
+
     private final NotificationApplicationService notificationApplicationService;
-    private final CartApplicationService cartApplicationService;
+    private final CartFacade cartFacade;
 
     /**
      * 재고 차감 결과를 담는 내부 클래스
@@ -47,81 +60,88 @@ public class PaymentNotificationService {
     }
 
     /**
-     * 재고 차감된 상품에 대한 알림을 비동기로 처리 - notificationExecutor 스레드풀에서 실행 - 팀원이 만든 알림 메서드는 내부적으로 트랜잭션 처리
+     * 재고 차감된 상품 중 임계값 이하인 상품의 알림을 생성하고 전송합니다. (결제 완료 이벤트 소비자에서 호출)
      *
-     * @param stockReductions 재고 차감 결과 목록 (제품 ID와 차감 후 재고량 포함)
-     * @param order 주문 정보 (주문한 사용자 제외를 위해 필요)
+     * @param stockLevels 차감 후 재고량 (알림에 정확한 값이 표시되도록 함)
+     * @param orderUserId 주문한 사용자 (알림에서 제외)
      */
-    @Async("notificationExecutor")
-    public void sendStockReducedNotifications(List<StockReductionResult> stockReductions, Order order) {
-        Long orderUserId = order != null ? order.getUserId() : null;
-        log.info("[NOTIFICATION_ASYNC_START] Sending stock reduced notifications - Count: {}, orderUserId={}", 
-                stockReductions.size(), orderUserId);
-
-        try {
-            // 제품 ID와 차감 후 재고량 맵 생성
-            Map<UUID, Integer> productStockMap = new HashMap<>();
-            for (StockReductionResult result : stockReductions) {
-                productStockMap.put(result.getProductId(), result.getStockAfter());
-                log.info("[NOTIFICATION_STOCK_MAP] productId={}, stockAfter={}", 
-                        result.getProductId(), result.getStockAfter());
-            }
-
-            // 차감 후 재고량을 함께 전달하여 정확한 값이 알림에 표시되도록 함
-            // 주문한 사용자는 알림에서 제외
-            notificationApplicationService.createAndSendNotificationsForProducts(
-                    stockReductions.stream().map(StockReductionResult::getProductId).collect(Collectors.toList()),
-                    productStockMap,
-                    orderUserId
-            );
-
-            log.info("[NOTIFICATION_PROCESSING] Processing notifications for {} products", stockReductions.size());
+    public void sendStockReducedNotifications(List<StockLevel> stockLevels, Long orderUserId) {
+        log.info("[NOTIFICATION_START] Sending stock reduced notifications - Count: {}, orderUserId={}",
+                stockLevels.size(), orderUserId);
+
+        // 제품 ID와 차감 후 재고량 맵 생성
+        Map<UUID, Integer> productStockMap = new HashMap<>();
+        for (StockLevel stockLevel : stockLevels) {
+            productStockMap.put(stockLevel.productId(), stockLevel.stockAfter());
+        }
 
-            log.info("[NOTIFICATION_ASYNC_SUCCESS] Stock reduced notifications sent successfully - Count: {}",
-                    stockReductions.size());
+        // 차감 후 재고량을 함께 전달하여 정확한 값이 알림에 표시되도록 함
+        // 주문한 사용자는 알림에서 제외
+        notificationApplicationService.createAndSendNotificationsForProducts(
+                new ArrayList<>(productStockMap.keySet()),
+                productStockMap,
+                orderUserId
+        );
 
-        } catch (Exception e) {
-            log.error(
-                    "[NOTIFICATION_ASYNC_FAILED] Failed to send stock reduced notifications - Count: {}, Error: {}",
-                    stockReductions.size(), e.getMessage(), e);
-        }
+        log.info("[NOTIFICATION_SUCCESS] Stock reduced notifications sent successfully - Count: {}",
+                stockLevels.size());
     }
 
     /**
-     * 결제 완료 후 장바구니를 비동기로 비우는 메서드 - notificationExecutor 스레드풀에서 실행 - 장바구니 비우기가 실패해도 결제 응답에 영향 없음 - Order의 OrderItem들을
-     * 기반으로 장바구니에서 해당 상품들을 제거
+     * 결제 완료된 주문 상품을 장바구니에서 제거합니다. (결제 완료 이벤트 소비자에서 호출)
+     * 상품마다 주문 수량과 현재 장바구니 수량 중 작은 만큼만 제거하며, 이미 없는 상품은 처리된 것으로 봅니다.
+     * (사용자가 먼저 지웠거나 수량을 줄인 경우, 이벤트가 다시 전달된 경우)
+     * 일시적인 오류만 예외로 던져 이벤트가 다시 전달되도록 합니다.
      *
-     * @param order 결제 완료된 주문
+     * @param userId 주문한 사용자
+     * @param orderId 결제 완료된 주문
+     * @param items 주문 상품별 수량
      */
-    @Async("notificationExecutor")
-    public void clearCartItems(Order order) {
-        Long userId = order.getUserId();
-        List<OrderItem> orderItems = order.getOrderItems();
-
-        log.info("[CART_CLEAR_ASYNC_START] Clearing cart items - UserId: {}, OrderId: {}, ItemCount: {}",
-                userId, order.getId(), orderItems.size());
-
-        try {
-            // OrderItem을 CartItemToRemove로 변환
-            List<CartItemToRemove> itemsToRemove = orderItems.stream()
-                    .map(orderItem -> new CartItemToRemove(
-                            orderItem.getProductId(),
-                            orderItem.getQuantity()
-                    ))
-                    .collect(Collectors.toList());
-
-            // 장바구니에서 제거
-            cartApplicationService.removeCartItems(userId, itemsToRemove);
-
-            log.info(
-                    "[CART_CLEAR_ASYNC_SUCCESS] Cart items cleared successfully - UserId: {}, OrderId: {}, ItemCount: {}",
-                    userId, order.getId(), itemsToRemove.size());
-
-        } catch (Exception e) {
-            // 장바구니 비우기 실패는 로그만 남기고 예외를 전파하지 않음
-            // 결제는 이미 성공했으므로 장바구니 비우기 실패가 영향을 주면 안됨
-            log.error("[CART_CLEAR_ASYNC_FAILED] Failed to clear cart items - UserId: {}, OrderId: {}, Error: {}",
-                    userId, order.getId(), e.getMessage(), e);
+    public void clearCartItems(Long userId, UUID orderId, List<Item> items) {
+        log.info("[CART_CLEAR_START] Clearing cart items - UserId: {}, OrderId: {}, ItemCount: {}",
+                userId, orderId, items.size());
+
+        Map<UUID, Integer> ordered = new LinkedHashMap<>();
+        items.forEach(item -> ordered.merge(item.productId(), item.quantity(), Integer::sum));
+
+        for (int attempt = 1; attempt <= CART_CLEAR_MAX_ATTEMPTS; attempt++) {
+            List<CartItemToRemove> itemsToRemove = toRemove(userId, ordered);
+            if (itemsToRemove.isEmpty()) {
+                log.info("[CART_CLEAR_SKIPPED] No ordered items left in cart - UserId: {}, OrderId: {}",
+                        userId, orderId);
+                return;
+            }
+            try {
+                cartFacade.removeCartItems(userId, itemsToRemove);
+                log.info("[CART_CLEAR_SUCCESS] Cart items cleared successfully - UserId: {}, OrderId: {}, ItemCount: {}",
+                        userId, orderId, itemsToRemove.size());
+                return;
+            } catch (BusinessException e) {
+                if (!CART_CHANGED_ERRORS.contains(e.getErrorCode())) {
+                    throw e;
+                }
+                // 읽은 뒤 장바구니가 바뀜, 다시 읽어 남은 수량만 제거
+                log.info("[CART_CLEAR_RETRY] Cart changed while clearing - UserId: {}, OrderId: {}, attempt={}, error={}",
+                        userId, orderId, attempt, e.getErrorCode());
+            }
         }
+        // 사용자가 계속 장바구니를 바꾸는 경우, 남은 항목은 사용자가 직접 정리할 수 있으므로 이벤트는 완료 처리
+        log.warn("[CART_CLEAR_GAVE_UP] Cart kept changing - UserId: {}, OrderId: {}", userId, orderId);
+    }
+
+    /**
+     * 주문 수량과 현재 장바구니 수량 중 작은 만큼의 제거 목록 (장바구니에 없는 상품 제외)
+     */
+    private List<CartItemToRemove> toRemove(Long userId, Map<UUID, Integer> ordered) {
+        Map<UUID, Integer> current = cartFacade.getCartItems(userId).getItems().stream()
+                .collect(Collectors.toMap(CartItemResult::getProductId, CartItemResult::getQuantity, Integer::sum));
+        List<CartItemToRemove> itemsToRemove = new ArrayList<>();
+        ordered.forEach((productId, quantity) -> {
+            int removable = Math.min(quantity, current.getOrDefault(productId, 0));
+            if (removable > 0) {
+                itemsToRemove.add(new CartItemToRemove(productId, removable));
+            }
+        });
+        return itemsToRemove;
     }
 }
@@ -0,0 +1,65 @@
+package groom.backend.application.product;
+
+import groom.backend.domain.product.model.StockChange;
+import groom.backend.domain.product.repository.ProductRepository;
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository.DrainBatch;
+import groom.backend.interfaces.product.persistence.JdbcInventoryDrainRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis에서 확정된 재고 선점 수량을 DB 재고에 배치로 반영하는 서비스
+ *
+ * 배치 ID 기록과 재고 차감을 한 트랜잭션으로 처리하여, 같은 배치가 재처리되어도 한 번만 차감됩니다.
+ * DB 재고가 확정 수량보다 적은 상품(Redis 밖에서 재고가 줄어든 경우)은 남은 재고를 모두 차감하고
+ * 모자란 수량을 반환하며, 호출자는 이를 ack와 함께 Redis 부족분으로 넘겨 가용 재고 재계산에서 빼도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryDrainPersistService {
+
+    private final ProductRepository productRepository;
+    private final JdbcInventoryDrainRepository drainRepository;
+
+    /**
+     * 배치의 상품별 수량을 한 문장으로 차감합니다.
+     *
+     * @return 차감하지 못한 상품별 모자란 수량 (이미 반영된 배치면 그때 기록한 부족분)
+     */
+    @Transactional
+    public Map<UUID, Integer> apply(DrainBatch batch) {
+        if (!drainRepository.markDrained(batch.batchId())) {
+            log.info("[INVENTORY_DRAIN_DUPLICATE] 이미 반영된 배치입니다. batchId={}", batch.batchId());
+            return drainRepository.findShortages(batch.batchId());
+        }
+        List<StockChange> changes = productRepository.decreaseStocks(batch.quantities());
+        Set<UUID> changed = changes.stream().map(StockChange::productId).collect(Collectors.toSet());
+        Map<UUID, Integer> unchanged = new LinkedHashMap<>();
+        batch.quantities().forEach((productId, quantity) -> {
+            if (!changed.contains(productId)) {
+                unchanged.put(productId, quantity);
+            }
+        });
+        if (unchanged.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, Integer> shortages = drainRepository.drainShortages(batch.batchId(), unchanged);
+        if (shortages.size() < unchanged.size()) {
+            // 삭제된 상품 등 DB에 없는 상품은 차감할 재고가 없으므로 부족분으로 넘기지 않음
+            log.warn("[INVENTORY_DRAIN_UNKNOWN_PRODUCT] productIds={}",
+                    unchanged.keySet().stream().filter(productId -> !shortages.containsKey(productId)).toList());
+        }
+        return shortages;
+    }
+}
@@ -0,0 +1,243 @@
+package groom.backend.application.product;
+
+import groom.backend.domain.order.model.Order;
+import groom.backend.domain.order.model.enums.OrderStatus;
+import groom.backend.domain.order.repository.OrderRepository;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
+import groom.backend.domain.payment.repository.PaymentRepository;
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository;
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository.DrainBatch;
+import groom.backend.interfaces.product.persistence.JdbcInventoryDrainRepository;
+import groom.backend.interfaces.product.persistence.ProductJpaEntity;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 상품 재고 선점 스케줄러
+ *
+ * 1. 만료 처리: 만료 시각이 지난 선점을 주문 상태 기준으로 정리
+ *    - 결제되지 않은 주문 (PENDING, CANCELLED, 없음): 가용 재고로 되돌림
+ *    - 결제 승인 중인 주문 (결제 IN_PROGRESS): PG 응답 후 확정·실패 처리가 선점을 정리하므로 만료를 늦춤
+ *    - 결제된 주문: 커밋 후 확정이 누락된 것이므로 확정
+ * 2. 배치 반영: 확정 수량을 상품별로 합산한 배치를 DB 재고에 한 문장으로 차감하고 Redis에서 제거(ack)
+ *    차감과 ack 사이에 장애가 나면 같은 배치가 다시 반환되고, 배치 ID 기록으로 한 번만 차감됩니다.
+ *    DB 재고가 부족했던 상품은 남은 재고만 차감하고, 모자란 수량은 ack와 함께 부족분으로 남깁니다.
+ * 3. 재계산 (reconcile-interval-ms): 가용 재고를 DB 재고 - 선점 - 확정 - 반영 중 - 부족분 으로 맞춤
+ *    결제 취소, 관리자 재고 수정 등 Redis 밖의 재고 변경을 반영하고 어긋난 값을 보정합니다.
+ * 4. 반영 기록 정리 (drain-record-purge-interval-ms): 보관 기간이 지난 배치 반영 기록 삭제
+ *
+ * 메트릭: inventory.reservation.active, inventory.reservation.expired, inventory.drain.size,
+ *        inventory.drain.latency, inventory.drain.failures, inventory.drain.shortage, inventory.reconcile.corrections
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationScheduler {
+
+    private final InventoryReservationRedisRepository inventoryRedisRepository;
+    private final InventoryDrainPersistService inventoryDrainPersistService;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final JdbcInventoryDrainRepository drainRepository;
+    private final SpringDataProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${inventory.reservation.expire-batch-size:500}")
+    private int expireBatchSize;
+
+    @Value("${inventory.reservation.drain-max-batches-per-run:10}")
+    private int maxDrainBatchesPerRun;
+
+    @Value("${inventory.reservation.confirm-hold-seconds:300}")
+    private long confirmHoldSeconds;
+
+    @Value("${inventory.reservation.drain-record-retention-days:7}")
+    private long drainRecordRetentionDays;
+
+    private Counter expiredReservations;
+    private DistributionSummary drainSize;
+    private Timer drainLatency;
+    private Counter drainFailures;
+    private Counter drainShortages;
+    private Counter reconcileCorrections;
+
+    @PostConstruct
+    public void registerMetrics() {
+        expiredReservations = Counter.builder("inventory.reservation.expired")
+                .description("결제되지 않아 만료된 재고 선점 수")
+                .register(meterRegistry);
+        drainSize = DistributionSummary.builder("inventory.drain.size")
+                .description("배치당 DB에 반영한 상품 수")
+                .register(meterRegistry);
+        drainLatency = Timer.builder("inventory.drain.latency")
+                .description("확정 수량 배치 반영 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        drainFailures = Counter.builder("inventory.drain.failures")
+                .description("확정 수량 배치 반영 실패 횟수")
+                .register(meterRegistry);
+        drainShortages = Counter.builder("inventory.drain.shortage")
+                .description("DB 재고가 부족해 차감하지 못한 상품 수")
+                .register(meterRegistry);
+        reconcileCorrections = Counter.builder("inventory.reconcile.corrections")
+                .description("재계산으로 보정한 가용 재고 수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.reservation.active", inventoryRedisRepository,
+                        InventoryReservationRedisRepository::reservationCount)
+                .description("진행 중인 재고 선점 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.drain-interval-ms:1000}", initialDelay = 5000)
+    public void process() {
+        try {
+            expire();
+        } catch (Exception e) {
+            log.error("[INVENTORY_EXPIRE_FAILED] 선점 만료 처리 실패", e);
+        }
+        for (int i = 0; i < maxDrainBatchesPerRun; i++) {
+            if (!drainBatch()) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.reconcile-interval-ms:30000}", initialDelay = 10000)
+    public void reconcile() {
+        try {
+            // DB 재고를 읽기 전의 반영 순번 (그 사이 배치가 반영되면 스크립트가 건너뜀)
+            String drainSeq = inventoryRedisRepository.drainSeq();
+            List<ProductJpaEntity> products = productRepository.findRedisInventoryProducts();
+            for (ProductJpaEntity product : products) {
+                if (!reconcile(product.getId(), product.getStock(), drainSeq)) {
+                    log.debug("[INVENTORY_RECONCILE_DEFERRED] 재계산 중 배치가 반영되어 다음 주기에 다시 계산합니다.");
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[INVENTORY_RECONCILE_FAILED] 가용 재고 재계산 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.drain-record-purge-interval-ms:3600000}", initialDelay = 60000)
+    public void purgeDrainRecords() {
+        try {
+            int purged = drainRepository.purgeDrainedBefore(
+                    LocalDateTime.now().minusDays(drainRecordRetentionDays), inventoryRedisRepository.drainingBatchId());
+            if (purged > 0) {
+                log.info("[INVENTORY_DRAIN_RECORD_PURGED] purged={}, retentionDays={}", purged, drainRecordRetentionDays);
+            }
+        } catch (Exception e) {
+            log.error("[INVENTORY_DRAIN_RECORD_PURGE_FAILED] 배치 반영 기록 정리 실패", e);
+        }
+    }
+
+    private void expire() {
+        long now = System.currentTimeMillis();
+        List<UUID> orderIds = inventoryRedisRepository.findExpired(now, expireBatchSize);
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, OrderStatus> statuses = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Order::getStatus));
+
+        // 결제 승인 중인 주문의 선점을 되돌리면 승인 완료 시 확정할 선점이 없고, 승인 실패 시 재고가 두 번 복구됨
+        Set<UUID> paying = new HashSet<>(paymentRepository.findOrderIdsByStatus(orderIds, PaymentStatus.IN_PROGRESS));
+
+        int released = 0;
+        int confirmed = 0;
+        int held = 0;
+        for (UUID orderId : orderIds) {
+            OrderStatus status = statuses.get(orderId);
+            if (status == OrderStatus.PENDING && paying.contains(orderId)) {
+                if (!inventoryRedisRepository.hold(orderId, now + confirmHoldSeconds * 1000).isEmpty()) {
+                    held++;
+                }
+            } else if (status == null || status == OrderStatus.PENDING || status == OrderStatus.CANCELLED) {
+                if (inventoryRedisRepository.release(orderId, now) > 0) {
+                    released++;
+                }
+            } else if (inventoryRedisRepository.confirm(orderId) > 0) {
+                confirmed++;
+                log.warn("[INVENTORY_LATE_CONFIRM] 결제된 주문의 선점을 확정합니다. orderId={}, status={}", orderId, status);
+            }
+        }
+        expiredReservations.increment(released);
+        log.info("[INVENTORY_EXPIRE] candidates={}, released={}, confirmed={}, held={}",
+                orderIds.size(), released, confirmed, held);
+    }
+
+    /**
+     * @return 배치를 반영했으면 true
+     */
+    private boolean drainBatch() {
+        DrainBatch batch;
+        try {
+            batch = inventoryRedisRepository.drain();
+        } catch (Exception e) {
+            log.error("[INVENTORY_DRAIN_FETCH_FAILED] 확정 수량 조회 실패", e);
+            return false;
+        }
+        if (batch == null) {
+            return false;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Map<UUID, Integer> shortages = inventoryDrainPersistService.apply(batch);
+            sample.stop(drainLatency);
+            // 모자란 수량은 부족분으로 옮겨 재계산이 가용 재고를 다시 늘리지 않도록 함
+            inventoryRedisRepository.ack(batch.batchId(), shortages);
+            drainSize.record(batch.quantities().size());
+            if (!shortages.isEmpty()) {
+                // Redis 밖에서 재고가 줄어든 상품, DB 재고를 보충하면 다음 배치에서 부족분을 차감
+                drainShortages.increment(shortages.size());
+                log.error("[INVENTORY_DRAIN_SHORTAGE] DB 재고가 확정 수량보다 적습니다. shortages={}", shortages);
+            }
+            log.info("[INVENTORY_DRAIN] batchId={}, products={}", batch.batchId(), batch.quantities().size());
+            return true;
+        } catch (Exception e) {
+            // 배치는 반영 중으로 남아 다음 주기에 같은 배치 ID로 다시 처리됨
+            drainFailures.increment();
+            log.error("[INVENTORY_DRAIN_FAILED] batchId={}", batch.batchId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * @return 재계산 중 배치가 반영되어 건너뛰었으면 false
+     */
+    private boolean reconcile(UUID productId, int dbStock, String drainSeq) {
+        long[] result = inventoryRedisRepository.reconcile(productId, dbStock, drainSeq, false);
+        if (result[0] == InventoryReservationRedisRepository.RESULT_DRAIN_RACE) {
+            return false;
+        }
+        long available = result[1];
+        long previous = result[2];
+        if (previous >= 0 && previous != available) {
+            // 결제 취소, 관리자 재고 수정 등 Redis 밖의 재고 변경 반영
+            reconcileCorrections.increment();
+            log.info("[INVENTORY_RECONCILE_CORRECTED] productId={}, dbStock={}, previous={}, available={}",
+                    productId, dbStock, previous, available);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,190 @@
+package groom.backend.application.product;
+
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 상품(product.redis_inventory) 재고 선점 서비스
+ *
+ * - 주문 생성: 선점 대상 상품을 Redis에서 한 번에 선점 (부족하면 예외, 주문 트랜잭션이 롤백되면 선점 해제)
+ * - 결제 확정: 선점 만료를 늦춰 두고 커밋 후 확정 수량으로 옮김 (DB 재고 차감은 InventoryReservationScheduler가 배치로 반영)
+ *   선점이 이미 만료되었으면 그 시점의 가용 재고로 다시 선점하며, 부족하면 결제를 실패시킵니다.
+ * - 결제 승인 실패·결제 취소: 남은 선점은 해제하고 DB에 반영되지 않은 확정 수량은 가용 재고로 되돌림
+ *   DB 재고는 이미 반영된 수량만 복구하도록 호출자에 알려, 만료 처리·재계산과 겹쳐 두 번 복구되지 않게 합니다.
+ * - 가용 재고가 아직 적재되지 않은 상품은 DB 재고 기준으로 적재한 뒤 다시 선점합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationService {
+
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final InventoryReservationRedisRepository inventoryRedisRepository;
+    private final SpringDataProductRepository productRepository;
+
+    // 결제하지 않은 주문의 선점 유지 시간
+    @Value("${inventory.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
+
+    // 결제 확정 시작 후 커밋까지 선점을 유지할 시간
+    @Value("${inventory.reservation.confirm-hold-seconds:300}")
+    private long confirmHoldSeconds;
+
+    /**
+     * 주문 상품을 선점합니다. (주문 트랜잭션 안에서 호출)
+     *
+     * @param quantities 선점 대상 상품별 수량 (상품 중복 없음)
+     */
+    public void reserve(UUID orderId, Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        reserve(orderId, quantities, System.currentTimeMillis() + reservationTtlSeconds * 1000);
+        releaseOnRollback(orderId);
+        log.info("[INVENTORY_RESERVED] orderId={}, products={}", orderId, quantities.size());
+    }
+
+    /**
+     * 결제 확정 준비. 주문의 선점을 커밋 후 확정하도록 예약합니다. (결제 트랜잭션 안에서 호출)
+     *
+     * @param quantities 주문 상품별 수량
+     * @return Redis 재고로 처리되는 상품별 가용 재고 (DB 재고 차감 대상에서 제외할 상품)
+     */
+    public Map<UUID, Integer> prepareConfirm(UUID orderId, Map<UUID, Integer> quantities) {
+        long holdUntil = System.currentTimeMillis() + confirmHoldSeconds * 1000;
+        Map<UUID, Integer> reserved = inventoryRedisRepository.hold(orderId, holdUntil);
+        if (reserved.isEmpty()) {
+            // 선점이 만료되었거나 주문 이후 선점 대상이 된 상품: 지금 다시 선점
+            List<UUID> flagged = productRepository.findRedisInventoryIds(quantities.keySet());
+            if (flagged.isEmpty()) {
+                return Map.of();
+            }
+            reserved = new LinkedHashMap<>();
+            for (UUID productId : flagged) {
+                reserved.put(productId, quantities.get(productId));
+            }
+            reserve(orderId, reserved, holdUntil);
+            log.info("[INVENTORY_RESERVED_ON_CONFIRM] orderId={}, products={}", orderId, reserved.size());
+        }
+        confirmAfterCommit(orderId);
+
+        Map<UUID, Integer> available = inventoryRedisRepository.findAvailable(reserved.keySet());
+        Map<UUID, Integer> result = new LinkedHashMap<>();
+        reserved.keySet().forEach(productId -> result.put(productId, available.getOrDefault(productId, 0)));
+        return result;
+    }
+
+    /**
+     * 결제 승인 실패·결제 취소 시 Redis 재고를 되돌립니다. (결제 트랜잭션 안에서 호출)
+     * Redis 변경 결과는 주문별로 남아, 트랜잭션이 롤백된 뒤 다시 호출되어도 Redis는 한 번만 바뀌고 같은 결과를 반환합니다.
+     *
+     * @param quantities 주문 상품별 수량
+     * @return 상품별 DB 재고 복구 수량 (선점이 남아 있었거나 아직 DB에 반영되지 않은 수량은 제외)
+     */
+    public Map<UUID, Integer> cancelConfirm(UUID orderId, Map<UUID, Integer> quantities) {
+        Set<UUID> flagged = new HashSet<>(productRepository.findRedisInventoryIds(quantities.keySet()));
+        if (flagged.isEmpty()) {
+            return quantities;
+        }
+        Map<UUID, Integer> restore = inventoryRedisRepository.cancel(orderId, quantities, flagged);
+        log.info("[INVENTORY_CANCELLED] orderId={}, products={}, restoreToDb={}", orderId, flagged.size(), restore);
+        return restore;
+    }
+
+    /**
+     * 상품별 Redis 가용 재고 (적재되지 않은 상품은 제외)
+     */
+    public Map<UUID, Integer> findAvailable(Collection<UUID> productIds) {
+        return inventoryRedisRepository.findAvailable(productIds);
+    }
+
+    /**
+     * 가용 재고가 없으면 DB 재고 기준으로 적재합니다.
+     * DB 재고를 읽는 동안 확정 수량 배치가 반영되면 적재하지 않고 false를 반환합니다. (다음 시도에서 다시 적재)
+     */
+    public boolean initialize(UUID productId) {
+        String drainSeq = inventoryRedisRepository.drainSeq();
+        Integer stock = productRepository.findStockById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        long[] result = inventoryRedisRepository.reconcile(productId, stock, drainSeq, true);
+        if (result[0] == InventoryReservationRedisRepository.RESULT_RECONCILED) {
+            log.info("[INVENTORY_INITIALIZED] productId={}, dbStock={}, available={}", productId, stock, result[1]);
+        }
+        return result[0] != InventoryReservationRedisRepository.RESULT_DRAIN_RACE;
+    }
+
+    private void reserve(UUID orderId, Map<UUID, Integer> quantities, long expireAtMillis) {
+        List<UUID> productIds = new ArrayList<>(quantities.keySet());
+        for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+            long[] result = inventoryRedisRepository.reserve(orderId, quantities, expireAtMillis);
+            if (result[0] >= 0) {
+                return;
+            }
+            UUID failedProductId = productIds.get((int) result[1] - 1);
+            if (result[0] == InventoryReservationRedisRepository.RESULT_OUT_OF_STOCK) {
+                throw new IllegalArgumentException(String.format("재고가 부족합니다. 상품: %s, 요청: %d, 재고: %d",
+                        failedProductId, quantities.get(failedProductId), result[2]));
+            }
+            initialize(failedProductId);
+        }
+        throw new IllegalStateException("재고 선점에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void releaseOnRollback(UUID orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    inventoryRedisRepository.release(orderId, Long.MAX_VALUE);
+                } catch (Exception e) {
+                    // 해제하지 못한 선점은 만료 후 InventoryReservationScheduler가 되돌림
+                    log.warn("[INVENTORY_RELEASE_FAILED] orderId={}, error={}", orderId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void confirmAfterCommit(UUID orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirm(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                confirm(orderId);
+            }
+        });
+    }
+
+    private void confirm(UUID orderId) {
+        try {
+            inventoryRedisRepository.confirm(orderId);
+        } catch (Exception e) {
+            // 선점은 hold 기간 뒤 만료 처리에서 주문 상태(결제 완료)를 확인해 확정됨
+            log.warn("[INVENTORY_CONFIRM_FAILED] orderId={}, error={}", orderId, e.getMessage());
+        }
+    }
+}
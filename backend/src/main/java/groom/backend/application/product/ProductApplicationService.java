@@ -1,10 +1,13 @@
 package groom.backend.application.product;
 
-import groom.backend.domain.product.model.Product;
+import groom.backend.application.cart.CartWriteBehindScheduler;
+import groom.backend.domain.product.model.StockChange;
 import groom.backend.domain.product.repository.ProductRepository;
+import groom.backend.infrastructure.cart.RedisCartRepository;
 import groom.backend.infrastructure.kafka.StockThresholdProducer;
 import groom.backend.interfaces.cart.persistence.CartItemJpaEntity;
 import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,6 +30,9 @@ public class ProductApplicationService {
     private final ProductRepository productRepository;
     private final StockThresholdProducer stockThresholdProducer;
     private final SpringDataCartItemRepository cartItemRepository;
+    private final CartWriteBehindScheduler cartWriteBehindScheduler;
+    private final RedisCartRepository redisCartRepository;
+    private final SpringDataProductRepository springDataProductRepository;
 
     /**
      * 제품을 구매합니다.
@@ -42,41 +49,32 @@ public class ProductApplicationService {
                 productId, quantity, purchaseStartTime);
 
         try {
-            // 1. 제품 조회
-            long queryStartTime = System.currentTimeMillis();
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다."));
-            long queryDuration = System.currentTimeMillis() - queryStartTime;
-            log.info("[PURCHASE_QUERY] productId={}, queryDuration={}ms", productId, queryDuration);
-
-            // 2. 재고 확인 및 차감
-            int stockBeforePurchase = product.getStock();
-            product.reduceStock(quantity);
-            int stockAfterPurchase = product.getStock();
-            
+            // 1. 재고 확인 및 차감 (조건부 UPDATE 한 문장, 조회 후 저장 사이에 다른 구매가 끼어들어도 재고를 넘지 않음)
             long reduceStartTime = System.currentTimeMillis();
-            productRepository.save(product);
+            StockChange change = decreaseStock(productId, quantity);
+            int stockAfterPurchase = change.stock();
+            int stockBeforePurchase = stockAfterPurchase + quantity;
             long reduceDuration = System.currentTimeMillis() - reduceStartTime;
             log.info("[PURCHASE_STOCK_REDUCED] productId={}, stockBefore={}, stockAfter={}, reduceDuration={}ms", 
                     productId, stockBeforePurchase, stockAfterPurchase, reduceDuration);
 
-            // 3. 임계값 확인 및 Kafka 이벤트 발행 (비동기)
-            boolean thresholdReached = product.isStockBelowThreshold();
+            // 2. 임계값 확인 및 Kafka 이벤트 발행 (비동기, 차감 문장이 반환한 재고 기준)
+            boolean thresholdReached = change.isStockBelowThreshold();
             
             long kafkaPublishStartTime = System.currentTimeMillis();
-            if (thresholdReached && product.canNotify()) {
+            if (thresholdReached && change.canNotify()) {
                 // Kafka 발행 시작 (비동기 - 즉시 반환)
                 stockThresholdProducer.publishStockThresholdEvent(
                         productId,
                         stockAfterPurchase,
-                        product.getThresholdValue()
+                        change.thresholdValue()
                 );
                 
                 long kafkaPublishSubmitTime = System.currentTimeMillis();
                 long kafkaSubmitDuration = kafkaPublishSubmitTime - kafkaPublishStartTime;
                 
                 log.info("[PURCHASE_KAFKA_SUBMIT] productId={}, submitDuration={}ms, currentStock={}, thresholdValue={}, note=ASYNC_NON_BLOCKING", 
-                        productId, kafkaSubmitDuration, stockAfterPurchase, product.getThresholdValue());
+                        productId, kafkaSubmitDuration, stockAfterPurchase, change.thresholdValue());
             }
 
             long purchaseApiEndTime = System.currentTimeMillis();
@@ -90,7 +88,7 @@ public class ProductApplicationService {
                     quantity,
                     stockAfterPurchase,
                     thresholdReached,
-                    product.getThresholdValue()
+                    change.thresholdValue()
             );
 
         } catch (Exception e) {
@@ -116,20 +114,10 @@ public class ProductApplicationService {
                 productId, quantity, reduceStartTime);
 
         try {
-            // 1. 제품 조회
-            long queryStartTime = System.currentTimeMillis();
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다."));
-            long queryDuration = System.currentTimeMillis() - queryStartTime;
-            log.info("[STOCK_REDUCE_QUERY] productId={}, queryDuration={}ms", productId, queryDuration);
-
-            // 2. 재고 차감
-            int stockBefore = product.getStock();
-            product.reduceStock(quantity);
-            int stockAfter = product.getStock();
-            
+            // 1. 재고 차감 (조건부 UPDATE 한 문장)
             long saveStartTime = System.currentTimeMillis();
-            productRepository.save(product);
+            int stockAfter = decreaseStock(productId, quantity).stock();
+            int stockBefore = stockAfter + quantity;
             long saveDuration = System.currentTimeMillis() - saveStartTime;
             
             log.info("[STOCK_REDUCE_SUCCESS] productId={}, stockBefore={}, stockAfter={}, quantity={}, saveDuration={}ms", 
@@ -145,6 +133,26 @@ public class ProductApplicationService {
         }
     }
 
+    /**
+     * 재고 차감 (재고가 충분할 때만 반영), 반영되지 않으면 원인을 조회해 예외로 알림
+     * Redis 재고 선점 상품은 DB 재고가 배치로 늦게 반영되므로 여기서 차감하면 선점과 합쳐 초과 판매되어, 주문 결제로만 구매합니다.
+     */
+    private StockChange decreaseStock(UUID productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("감소할 수량은 양수여야 합니다.");
+        }
+        if (!springDataProductRepository.findRedisInventoryIds(List.of(productId)).isEmpty()) {
+            throw new IllegalArgumentException("주문 결제로만 구매할 수 있는 상품입니다.");
+        }
+        List<StockChange> changes = productRepository.decreaseStocks(Map.of(productId, quantity));
+        if (changes.isEmpty()) {
+            productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다."));
+            throw new IllegalArgumentException("재고가 부족합니다.");
+        }
+        return changes.get(0);
+    }
+
     /**
      * 사용자의 장바구니에 담긴 모든 제품을 구매합니다.
      *
@@ -156,7 +164,8 @@ public class ProductApplicationService {
         long cartPurchaseStartTime = System.currentTimeMillis();
         log.info("[CART_PURCHASE_START] userId={}, timestamp={}", userId, cartPurchaseStartTime);
 
-        // 1. 사용자의 장바구니 항목 조회
+        // 1. 사용자의 장바구니 항목 조회 (Redis 우선 장바구니의 반영되지 않은 변경을 먼저 DB에 반영)
+        cartWriteBehindScheduler.flushUser(userId);
         List<CartItemJpaEntity> cartItems = cartItemRepository.findByUserId(userId);
 
         if (cartItems.isEmpty()) {
@@ -195,6 +204,7 @@ public class ProductApplicationService {
         if (successCount > 0) {
             try {
                 // 구매 성공한 제품들의 cartItem만 삭제
+                List<UUID> purchasedProductIds = new ArrayList<>();
                 for (CartItemJpaEntity cartItem : cartItems) {
                     UUID productId = cartItem.getProductId();
                     // 구매 결과에 있는 제품인지 확인
@@ -203,10 +213,13 @@ public class ProductApplicationService {
                     
                     if (purchaseSuccess) {
                         cartItemRepository.delete(cartItem);
+                        purchasedProductIds.add(productId);
                         log.info("[CART_ITEM_DELETED] userId={}, productId={}, cartItemId={}", 
                                 userId, productId, cartItem.getId());
                     }
                 }
+                // Redis 장바구니에서도 제거
+                redisCartRepository.removeItems(userId, purchasedProductIds);
             } catch (Exception e) {
                 log.error("[CART_CLEAR_FAILED] userId={}, error={}", userId, e.getMessage(), e);
             }
@@ -237,9 +250,13 @@ public class ProductApplicationService {
         log.info("[CART_CLEAR_START] userId={}, timestamp={}", userId, clearStartTime);
 
         try {
-            // 1. 사용자의 장바구니 항목 조회
+            // 1. 사용자의 장바구니 항목 조회 (Redis 우선 장바구니의 반영되지 않은 변경을 먼저 DB에 반영)
+            cartWriteBehindScheduler.flushUser(userId);
             List<CartItemJpaEntity> cartItems = cartItemRepository.findByUserId(userId);
 
+            // Redis 장바구니도 함께 비움
+            redisCartRepository.clearCart(userId);
+
             if (cartItems.isEmpty()) {
                 log.info("[CART_CLEAR_NO_ITEMS] userId={}", userId);
                 return;
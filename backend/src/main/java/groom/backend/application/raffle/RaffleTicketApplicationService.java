@@ -1,6 +1,6 @@
 package groom.backend.application.raffle;
 
-import groom.backend.application.cart.CartApplicationService;
+import groom.backend.application.cart.CartFacade;
 import groom.backend.domain.raffle.entity.Participant;
 import groom.backend.domain.raffle.entity.Raffle;
 import groom.backend.domain.raffle.entity.RaffleTicket;
@@ -22,7 +22,7 @@ public class RaffleTicketApplicationService {
     private final RaffleTicketAllocationService allocationService;
     private final RaffleTicketRepository raffleTicketRepo;
     private final RaffleValidationService validationService;
-    private final CartApplicationService cartApplicationService;
+    private final CartFacade cartFacade;
 
     // 응모 장바구니에 저장
     @Transactional
@@ -43,7 +43,7 @@ public class RaffleTicketApplicationService {
         validationService.validateUserEntryLimit(raffle, userId, count);
         // 장바구니에 응모 상품 추가
         // TODO : 예외 발생 시 처리 방식 확인 필요
-        cartApplicationService.addToCart(userId, raffle.getRaffleProductId(), count);
+        cartFacade.addToCart(userId, raffle.getRaffleProductId(), count);
 
     }
 
@@ -126,7 +126,14 @@ public enum ErrorCode {
 
     COUPON_INVALID_POLICY(HttpStatus.BAD_REQUEST, "쿠폰 정책에 맞지 않은 사용방식입니다."),
     COUPON_OUT_OF_STOCK(HttpStatus.CONFLICT, "발급 수량이 소진되었습니다."),
-    COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "이미 발급받은 쿠폰입니다.");
+    COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "이미 발급받은 쿠폰입니다."),
+    COUPON_ISSUE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "쿠폰 발급 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // ===================== Payment 에러 코드 ====================
+    /** 같은 주문의 결제 승인이 진행 중 */
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "결제 승인이 진행 중입니다. 잠시 후 결제 상태를 확인해주세요."),
+    /** PG 응답을 받지 못해 승인 결과를 확인 중 (복구 스케줄러가 마무리) */
+    PAYMENT_RESULT_PENDING(HttpStatus.GATEWAY_TIMEOUT, "결제 승인 결과를 확인 중입니다. 잠시 후 결제 상태를 확인해주세요.");
 
 
     // HTTP 상태 코드
@@ -0,0 +1,65 @@
+package groom.backend.domain.coupon.engine;
+
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import lombok.Getter;
+
+/**
+ * 할인 계산에 필요한 값만 원시 타입으로 미리 풀어 둔 불변 쿠폰
+ *
+ * CouponIssueResponse 1건당 한 번만 만들고, 계산 시에는 객체 생성 없이 필드만 읽습니다.
+ * 계산식은 policy 패키지의 각 정책(DiscountPolicy 구현체)과 동일합니다.
+ */
+@Getter
+public final class CompiledDiscount {
+
+  private final CouponType couponType;
+  private final int amount;
+  // 비율 할인 시 사용하는 비율 (amount / 100.0)
+  private final double rate;
+  private final int maximumDiscount;
+  private final int minimumCost;
+
+  private CompiledDiscount(CouponType couponType, int amount, int maximumDiscount, int minimumCost) {
+    this.couponType = couponType;
+    this.amount = amount;
+    this.rate = amount / 100.0;
+    this.maximumDiscount = maximumDiscount;
+    this.minimumCost = minimumCost;
+  }
+
+  public static CompiledDiscount from(CouponIssueResponse coupon) {
+    return new CompiledDiscount(
+            coupon.getCouponType(),
+            coupon.getDiscountValue() != null ? coupon.getDiscountValue() : 0,
+            coupon.getMaximumDiscount() != null ? coupon.getMaximumDiscount() : Integer.MAX_VALUE,
+            coupon.getMinimumCost() != null ? coupon.getMinimumCost() : 0);
+  }
+
+  public boolean isPercent() {
+    return couponType == CouponType.PERCENT;
+  }
+
+  /**
+   * 여러 장을 함께 사용할 수 있는 쿠폰인지 여부 (DiscountMultiPolicy 대상)
+   */
+  public boolean isMultiUsable() {
+    return couponType == CouponType.PERCENT || couponType == CouponType.DISCOUNT;
+  }
+
+  /**
+   * 단건 할인 금액
+   */
+  public int discount(int cost) {
+    return switch (couponType) {
+      case DISCOUNT -> amount;
+      case PERCENT -> applyRate(cost);
+      case MIN_COST_AMOUNT -> cost > minimumCost ? amount : 0;
+      case MAX_DISCOUNT_PERCENT -> Math.min(applyRate(cost), maximumDiscount);
+    };
+  }
+
+  int applyRate(int cost) {
+    return (int) Math.floor((cost * rate) / 100) * 100; // 백원 단위 절삭
+  }
+}
@@ -0,0 +1,73 @@
+package groom.backend.domain.coupon.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다건 쿠폰 할인 계산 엔진
+ *
+ * 쿠폰 DTO를 CompiledDiscount로 한 번 변환해 두고, 할인 합산은 원시 타입 루프로 계산합니다.
+ * 결과는 DiscountPercentMultiPolicy + DiscountAmountMultiPolicy 조합과 동일합니다.
+ *
+ * 변환 결과는 DTO 인스턴스(동일성 기준, weak key)에 묶어 보관하므로,
+ * 로컬 캐시(L1)에서 같은 DTO를 다시 꺼내는 경우 변환 없이 재사용합니다.
+ */
+@Component
+public class DiscountEngine {
+
+  private final Cache<CouponIssueResponse, CompiledDiscount> compiled;
+
+  public DiscountEngine(@Value("${coupon.cache.local.max-size:10000}") long maxSize) {
+    this.compiled = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(maxSize)
+            .build();
+  }
+
+  public CompiledDiscount compile(CouponIssueResponse coupon) {
+    return compiled.get(coupon, CompiledDiscount::from);
+  }
+
+  /**
+   * 다건 할인 금액 계산
+   * 금액 할인은 합산하고, 비율 할인은 비율 오름차순으로 적용한 뒤 주문 금액을 넘지 않도록 제한합니다.
+   *
+   * @param discounts 여러 장 사용 가능한 쿠폰만 포함해야 합니다. (비율 순 정렬을 위해 배열 순서가 바뀝니다)
+   */
+  public static int calculateMultiDiscount(CompiledDiscount[] discounts, int cost) {
+    // 비율 할인을 앞쪽에 비율 오름차순으로 모음 (삽입 정렬, 쿠폰 수가 적으므로 충분)
+    int percentCount = 0;
+    long amountDiscount = 0;
+    for (int i = 0; i < discounts.length; i++) {
+      CompiledDiscount discount = discounts[i];
+      if (!discount.isPercent()) {
+        amountDiscount += discount.getAmount();
+        continue;
+      }
+      // 정렬 구간 바로 뒤의 금액 할인을 현재 위치로 옮겨 자리를 비운 뒤 삽입
+      if (i != percentCount) {
+        discounts[i] = discounts[percentCount];
+      }
+      int j = percentCount;
+      while (j > 0 && discounts[j - 1].getAmount() > discount.getAmount()) {
+        discounts[j] = discounts[j - 1];
+        j--;
+      }
+      discounts[j] = discount;
+      percentCount++;
+    }
+
+    int percentDiscount = 0;
+    if (percentCount > 0) {
+      percentDiscount = cost;
+      for (int i = 0; i < percentCount; i++) {
+        percentDiscount = discounts[i].applyRate(percentDiscount);
+      }
+    }
+
+    return (int) Math.min(cost, percentDiscount + amountDiscount);
+  }
+}
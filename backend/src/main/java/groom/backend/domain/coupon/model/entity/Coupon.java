@@ -40,6 +40,10 @@ public class Coupon {
 
   private LocalDate expireDate;
 
+  // redis 발급 모드의 잔여 수량 카운터 분할 수 (1 = 단일 카운터)
+  @Builder.Default
+  private Integer stockStripes = 1;
+
   public void update(CouponUpdateRequest request) {
     if (request.getName() != null) {
       this.name = request.getName();
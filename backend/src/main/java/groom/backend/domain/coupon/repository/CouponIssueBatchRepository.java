@@ -0,0 +1,23 @@
+package groom.backend.domain.coupon.repository;
+
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+
+import java.util.List;
+
+/**
+ * 쿠폰 발급 대량 저장용 저장소
+ * JPA의 IDENTITY 전략은 INSERT 배치를 지원하지 않으므로 JDBC 다건 INSERT 로 처리합니다.
+ */
+public interface CouponIssueBatchRepository {
+
+  /**
+   * CouponIssue를 다건 INSERT 합니다. 이미 존재하는 (couponId, userId)는 무시합니다.
+   * @return 입력 순서와 같은 순서로, 실제 삽입되었는지 여부
+   */
+  boolean[] insertIgnoringDuplicates(List<CouponIssue> issues);
+
+  /**
+   * 쿠폰 잔여 수량을 count 만큼 한 번에 차감합니다. (0 미만으로 내려가지 않음)
+   */
+  void decreaseQuantity(Long couponId, long count);
+}
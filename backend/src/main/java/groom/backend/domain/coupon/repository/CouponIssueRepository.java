@@ -2,6 +2,8 @@ package groom.backend.domain.coupon.repository;
 
 import groom.backend.domain.coupon.model.entity.CouponIssue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,4 +16,7 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long>
   List<CouponIssue> findByUserIdAndIsActiveTrueAndDeletedAtAfter(Long userId, LocalDateTime currentDate);
   Optional<CouponIssue> findByCouponIdAndUserId(Long couponId, Long userId);
   List<CouponIssue> findByCouponIdInAndUserId(List<Long> couponId, Long userId);
+
+  @Query("SELECT ci.userId FROM CouponIssue ci WHERE ci.coupon.id = :couponId")
+  List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
 }
@@ -12,6 +12,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,6 +22,8 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
   @Query("SELECT c FROM Coupon c WHERE c.id = :couponId")
   Optional<Coupon> findByIdForUpdate(@Param("couponId") Long couponId);
 
+  List<Coupon> findByIsActiveTrueAndExpireDateGreaterThanEqual(LocalDate date);
+
   @Modifying
   @Query("UPDATE Coupon c SET c.isActive = false where c.id = :couponId")
   Integer updateIsActiveFalse(@Param("couponId") Long couponId);
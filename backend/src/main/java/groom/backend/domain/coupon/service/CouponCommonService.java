@@ -4,6 +4,7 @@ import groom.backend.common.exception.BusinessException;
 import groom.backend.common.exception.ErrorCode;
 import groom.backend.infrastructure.kafka.stream.CouponDelayEvent;
 import groom.backend.infrastructure.kafka.stream.CouponDelayProducer;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
 import groom.backend.interfaces.coupon.dto.request.CouponCreateRequest;
 import groom.backend.interfaces.coupon.dto.request.CouponSearchCondition;
 import groom.backend.interfaces.coupon.dto.request.CouponUpdateRequest;
@@ -11,21 +12,26 @@ import groom.backend.interfaces.coupon.dto.response.CouponResponse;
 import groom.backend.domain.coupon.model.entity.Coupon;
 import groom.backend.domain.coupon.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CouponCommonService {
   private final CouponRepository couponRepository;
   private final CouponDelayProducer couponDelayProducer;
+  private final CouponIssueRedisRepository couponIssueRedisRepository;
 
 
   @Transactional
@@ -79,8 +85,16 @@ public class CouponCommonService {
     );
 
     // 쿠폰 수정
+    Long previousQuantity = currentCoupon.getQuantity();
     currentCoupon.update(couponUpdateRequest);
 
+    // Redis 발급 모드의 잔여 수량에도 변경분 반영 (커밋 후, 초기화 전이면 무시됨)
+    if (previousQuantity != null && !previousQuantity.equals(currentCoupon.getQuantity())) {
+      int stripes = currentCoupon.getStockStripes();
+      long delta = currentCoupon.getQuantity() - previousQuantity;
+      runAfterCommit("adjust", couponId, () -> couponIssueRedisRepository.adjustStock(couponId, stripes, delta));
+    }
+
     // 정책 고정, 이름과 설명, 수량과 만료 기간만 바꿀 수 있음. -> 정책에 따라 변경 가능할 것으로 보임.
     // 결제 관련된 내용이라 생성 후에는 고정되도록 하는 것이 맞는 것 같습니다.
     couponRepository.save(currentCoupon);
@@ -92,11 +106,37 @@ public class CouponCommonService {
   @Transactional
   public Boolean deleteCoupon(Long couponId) {
     // 쿠폰 존재 여부 확인
-    if (!couponRepository.existsById(couponId)) {
+    Coupon coupon = couponRepository.findById(couponId).orElse(null);
+    if (coupon == null) {
       return false;
     }
     // 쿠폰 삭제
     couponRepository.deleteById(couponId);
+    int stripes = coupon.getStockStripes();
+    runAfterCommit("clear", couponId, () -> couponIssueRedisRepository.clear(couponId, stripes));
     return true;
   }
+
+  /**
+   * Redis 발급 상태 변경은 커밋 후 반영합니다. (롤백 시 DB와 Redis 수량이 어긋나지 않도록)
+   */
+  private void runAfterCommit(String action, Long couponId, Runnable redisUpdate) {
+    Runnable guarded = () -> {
+      try {
+        redisUpdate.run();
+      } catch (Exception e) {
+        log.warn("[COUPON_REDIS_SYNC_FAILED] action={}, couponId={}, error={}", action, couponId, e.getMessage());
+      }
+    };
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      guarded.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        guarded.run();
+      }
+    });
+  }
 }
@@ -214,6 +214,19 @@ public class Payment {
         this.requestedAt = LocalDateTime.now();
     }
 
+    // 비즈니스 로직: 결제 승인 요청 시작 (PG 응답 전)
+    public void startConfirm(String paymentKey) {
+        if (this.status != PaymentStatus.PENDING && this.status != PaymentStatus.READY
+                && this.status != PaymentStatus.FAILED) {
+            throw new IllegalStateException("승인할 수 없는 결제 상태입니다: " + this.status);
+        }
+        this.paymentKey = PaymentKey.of(paymentKey);
+        this.status = PaymentStatus.IN_PROGRESS;
+        this.requestedAt = LocalDateTime.now();
+        this.failureCode = null;
+        this.failureMessage = null;
+    }
+
     // 비즈니스 로직: 결제 승인 (기본 정보)
     public void approve(String paymentKey, String transactionId) {
         this.paymentKey = PaymentKey.of(paymentKey);
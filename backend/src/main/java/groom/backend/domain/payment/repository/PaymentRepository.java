@@ -2,6 +2,7 @@ package groom.backend.domain.payment.repository;
 
 import groom.backend.domain.payment.model.Payment;
 import groom.backend.domain.payment.model.enums.PaymentStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,12 +15,22 @@ public interface PaymentRepository {
 
     Optional<Payment> findByOrderId(UUID orderId);
 
+    /**
+     * 결제 행을 잠그고 조회 (트랜잭션 안에서 사용)
+     */
+    Optional<Payment> findByOrderIdForUpdate(UUID orderId);
+
     Optional<Payment> findByPaymentKey(String paymentKey);
 
     List<Payment> findByUserId(Long userId);
 
     List<Payment> findByUserIdAndStatus(Long userId, PaymentStatus status);
 
+    /**
+     * 주어진 주문 중 결제 상태가 status 인 주문 ID
+     */
+    List<UUID> findOrderIdsByStatus(Collection<UUID> orderIds, PaymentStatus status);
+
     boolean existsByOrderId(UUID orderId);
 
     void delete(Payment payment);
@@ -0,0 +1,24 @@
+package groom.backend.domain.product.model;
+
+import java.util.UUID;
+
+/**
+ * 재고 증감 결과 (증감 문장이 반환한 값)
+ *
+ * @param productId 제품 ID
+ * @param stock 증감 후 재고
+ * @param thresholdValue 재고 임계값
+ * @param isActive 판매 여부
+ */
+public record StockChange(UUID productId, int stock, Integer thresholdValue, Boolean isActive) {
+
+    // 재고 임계값 확인 (Product.isStockBelowThreshold 와 같은 기준)
+    public boolean isStockBelowThreshold() {
+        return thresholdValue != null && stock <= thresholdValue;
+    }
+
+    // 알림 가능 여부 확인 (Product.canNotify 와 같은 기준)
+    public boolean canNotify() {
+        return Boolean.TRUE.equals(isActive) && stock > 0 && isStockBelowThreshold();
+    }
+}
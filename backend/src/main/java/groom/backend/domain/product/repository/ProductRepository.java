@@ -1,7 +1,9 @@
 package groom.backend.domain.product.repository;
 
 import groom.backend.domain.product.model.Product;
+import groom.backend.domain.product.model.StockChange;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +15,23 @@ public interface ProductRepository {
     List<Product> findByIds(List<UUID> productIds);
 
     List<Product> findProductsInCartByUserId(Long userId);
+
+    /**
+     * 여러 제품 재고를 한 문장으로 차감 (재고가 충분한 제품만 반영, 상태도 함께 갱신)
+     * 결과에 없는 제품은 없거나 재고가 부족한 제품이므로, 호출 측이 예외를 던져 트랜잭션 전체를 되돌립니다.
+     *
+     * @param quantities productId → 차감 수량 (양수)
+     * @return 반영된 제품의 차감 후 재고
+     */
+    List<StockChange> decreaseStocks(Map<UUID, Integer> quantities);
+
+    /**
+     * 여러 제품 재고를 한 문장으로 증가 (상태도 함께 갱신)
+     *
+     * @param quantities productId → 증가 수량 (양수)
+     * @return 반영된 제품의 증가 후 재고
+     */
+    List<StockChange> increaseStocks(Map<UUID, Integer> quantities);
 }
 
 
@@ -6,6 +6,7 @@ import groom.backend.domain.product.model.vo.Name;
 import groom.backend.domain.product.model.vo.Price;
 import groom.backend.domain.product.repository.ProductCommonRepository;
 import groom.backend.infrastructure.aws.S3Service;
+import groom.backend.infrastructure.redis.ProductSummaryRedisRepository;
 import groom.backend.interfaces.product.dto.request.CreateProductRequest;
 import groom.backend.interfaces.product.dto.request.UpdateProductRequest;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class ProductCommonService {
 
     private final ProductCommonRepository productCommonRepository;
     private final S3Service s3Service;
+    private final ProductSummaryRedisRepository productSummaryRedisRepository;
 
     @Transactional
     public Product findById(UUID id) {
@@ -80,6 +82,8 @@ public class ProductCommonService {
         }
 
         productCommonRepository.save(product);
+        // 장바구니용 제품 요약(이름, 가격, 재고) 캐시 무효화
+        productSummaryRedisRepository.evict(id);
 
         return product;
     }
@@ -90,6 +94,7 @@ public class ProductCommonService {
         Product product = findById(id);
         product.increaseStock(amount);
         productCommonRepository.save(product);
+        productSummaryRedisRepository.evict(id);
         return product;
     }
 
@@ -98,12 +103,14 @@ public class ProductCommonService {
         Product product = findById(id);
         product.decreaseStock(amount);
         productCommonRepository.save(product);
+        productSummaryRedisRepository.evict(id);
         return product;
     }
 
     @Transactional
     public void deleteProduct(UUID id) {
         productCommonRepository.deleteById(id);
+        productSummaryRedisRepository.evict(id);
     }
 }
 
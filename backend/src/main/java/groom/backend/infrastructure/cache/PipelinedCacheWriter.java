@@ -0,0 +1,54 @@
+package groom.backend.infrastructure.cache;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TTL을 지정한 다건 캐시 쓰기
+ *
+ * MSET은 TTL을 지정할 수 없고, 건별 SET EX는 건수만큼 왕복이 발생하므로
+ * SET key value PX ttl 명령을 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+ * 같은 시점에 쓴 항목이 동시에 만료되지 않도록 항목마다 TTL에 무작위 지터를 더합니다.
+ */
+@Component
+public class PipelinedCacheWriter {
+
+    /**
+     * @param template    키/값 직렬화 설정을 사용할 RedisTemplate
+     * @param entries     저장할 (키, 값)
+     * @param baseTtl     기본 TTL
+     * @param jitterRatio 기본 TTL 대비 추가할 최대 지터 비율 (예: 0.1 → 최대 +10%)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> void putAll(RedisTemplate<String, V> template, Map<String, V> entries,
+                           Duration baseTtl, double jitterRatio) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) template.getKeySerializer();
+        RedisSerializer<V> valueSerializer = (RedisSerializer<V>) template.getValueSerializer();
+        long baseMillis = baseTtl.toMillis();
+        long maxJitterMillis = (long) (baseMillis * jitterRatio);
+
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (Map.Entry<String, V> entry : entries.entrySet()) {
+                long ttlMillis = baseMillis + (maxJitterMillis > 0 ? random.nextLong(maxJitterMillis + 1) : 0L);
+                connection.stringCommands().set(
+                        keySerializer.serialize(entry.getKey()),
+                        valueSerializer.serialize(entry.getValue()),
+                        Expiration.milliseconds(ttlMillis),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package groom.backend.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬(L1, Caffeine) + Redis(L2) 2단 캐시
+ *
+ * 조회: L1 → L2 순서로 조회하고, L2 적중 시 L1에 채웁니다.
+ * 변경: L2 반영 후 L1을 갱신하고, 다른 인스턴스의 L1 무효화를 위해 Redis pub/sub으로 알립니다.
+ *
+ * L1 키는 Redis 캐시 키와 마찬가지로 문자열로 정규화합니다. (pub/sub 메시지로 전달된 키와 일치시키기 위함)
+ * null 값은 L1에 저장하지 않습니다.
+ */
+public class TwoTierCache implements Cache {
+
+    public static final String CLEAR_ALL_KEY = "*";
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    // (cacheName, key) 무효화 알림
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoTierCache(Cache remote,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object cached = local.getIfPresent(localKey(key));
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey(key), wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object cached = local.getIfPresent(localKey(key));
+        if (cached != null && (type == null || type.isInstance(cached))) {
+            return (T) cached;
+        }
+        T value = remote.get(key, type);
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = local.getIfPresent(localKey(key));
+        if (cached != null) {
+            return (T) cached;
+        }
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(localKey(key), value);
+        } else {
+            local.invalidate(localKey(key));
+        }
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(getName(), CLEAR_ALL_KEY);
+    }
+
+    // --- L1 전용 연산 (직접 Redis를 다루는 코드와 L1을 공유하기 위함) ---
+
+    public Object getLocal(Object key) {
+        return local.getIfPresent(localKey(key));
+    }
+
+    public void putLocal(Object key, Object value) {
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+    }
+
+    /**
+     * 다른 인스턴스로부터 받은 무효화 알림 반영 (L1만 제거)
+     */
+    void invalidateLocal(String key) {
+        if (CLEAR_ALL_KEY.equals(key)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
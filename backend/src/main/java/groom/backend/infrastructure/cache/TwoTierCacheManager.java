@@ -0,0 +1,101 @@
+package groom.backend.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisCacheManager 앞에 인스턴스 로컬 Caffeine 캐시를 두는 CacheManager
+ *
+ * 캐시 변경(put/evict/clear) 시 INVALIDATION_CHANNEL 로 "instanceId|cacheName|key" 메시지를 발행하고,
+ * 다른 인스턴스는 이 메시지를 받아 자신의 L1에서 해당 키를 제거합니다.
+ * 메시지 유실에 대비해 L1 TTL은 L2보다 짧게 설정합니다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               StringRedisTemplate stringRedisTemplate,
+                               long localMaxSize,
+                               Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                remote,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                this::publishInvalidation));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 인스턴스의 L1 무효화 요청 발행
+     * 발행 실패는 캐시 변경 자체를 실패시키지 않습니다. (L1 TTL 만료로 수렴)
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    instanceId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            log.warn("[CACHE_INVALIDATION_PUBLISH_FAILED] cacheName={}, key={}, message={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2]);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package groom.backend.infrastructure.cart;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Redis 장바구니 Hash의 이진 필드/값 형식
+ *
+ * - 필드 : 제품 UUID 16바이트 (상위 8바이트 + 하위 8바이트, big-endian)
+ * - 값   : 형식 버전(2) + 수량 int32 + cart_item_id int64 + 담은 시각 int64 + 변경 시각 int64 = 29바이트, big-endian
+ *          (cart_item_id, 시각은 0이면 없음, 시각은 epoch millis)
+ * - 버전 1 값 (버전 + 수량 + cart_item_id = 13바이트) 도 읽을 수 있으며, 스크립트가 변경할 때 버전 2로 저장합니다.
+ * - 메타 필드 META_CART_ID_FIELD : DB cart.id (숫자 문자열)
+ *
+ * 값 형식은 장바구니 스크립트의 struct.pack('>Bi4i8i8i8', ...)과 같습니다.
+ */
+public final class CartLineCodec {
+
+    public static final int FIELD_LENGTH = 16;
+    public static final byte VERSION = 2;
+    public static final int VALUE_LENGTH = 1 + Integer.BYTES + Long.BYTES * 3;
+    public static final byte VERSION_1 = 1;
+    public static final int VERSION_1_VALUE_LENGTH = 1 + Integer.BYTES + Long.BYTES;
+
+    public static final String META_CART_ID_FIELD = "#cart_id";
+    private static final byte[] META_CART_ID_FIELD_BYTES = META_CART_ID_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private CartLineCodec() {
+    }
+
+    public static byte[] encodeField(UUID productId) {
+        return ByteBuffer.allocate(FIELD_LENGTH)
+                .putLong(productId.getMostSignificantBits())
+                .putLong(productId.getLeastSignificantBits())
+                .array();
+    }
+
+    public static boolean isBinaryField(byte[] field) {
+        return field.length == FIELD_LENGTH;
+    }
+
+    public static boolean isCartIdField(byte[] field) {
+        return Arrays.equals(field, META_CART_ID_FIELD_BYTES);
+    }
+
+    public static long mostSignificantBits(byte[] field) {
+        return ByteBuffer.wrap(field).getLong(0);
+    }
+
+    public static long leastSignificantBits(byte[] field) {
+        return ByteBuffer.wrap(field).getLong(Long.BYTES);
+    }
+
+    public static byte[] encodeValue(int quantity, long cartItemId, long createdAtMillis, long updatedAtMillis) {
+        return ByteBuffer.allocate(VALUE_LENGTH)
+                .put(VERSION)
+                .putInt(quantity)
+                .putLong(cartItemId)
+                .putLong(createdAtMillis)
+                .putLong(updatedAtMillis)
+                .array();
+    }
+
+    /**
+     * 이진 필드/값 한 쌍을 lines에 추가
+     */
+    public static void decodeInto(byte[] field, byte[] value, CartLines lines) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        if (value.length == VALUE_LENGTH && value[0] == VERSION) {
+            lines.add(mostSignificantBits(field), leastSignificantBits(field), buffer.getInt(1), buffer.getLong(5),
+                    buffer.getLong(13), buffer.getLong(21));
+            return;
+        }
+        if (value.length == VERSION_1_VALUE_LENGTH && value[0] == VERSION_1) {
+            lines.add(mostSignificantBits(field), leastSignificantBits(field), buffer.getInt(1), buffer.getLong(5),
+                    0L, 0L);
+            return;
+        }
+        throw new IllegalArgumentException("지원하지 않는 장바구니 값 형식입니다. length=" + value.length);
+    }
+}
@@ -0,0 +1,111 @@
+package groom.backend.infrastructure.cart;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 한 사용자의 Redis 장바구니 항목 (원시 타입 배열)
+ *
+ * 항목마다 객체를 만들지 않고 제품 UUID 상/하위 비트, 수량, cart_item_id, 담은/변경 시각을 같은 인덱스의 배열에 담습니다.
+ * cart_item_id 가 0이면 아직 DB에 반영되지 않은 항목이고, 시각이 0이면 알 수 없는 항목(이전 형식)입니다.
+ */
+public final class CartLines {
+
+    private long[] productMostSigBits;
+    private long[] productLeastSigBits;
+    private int[] quantities;
+    private long[] cartItemIds;
+    private long[] createdAtMillis;
+    private long[] updatedAtMillis;
+    private int size;
+    private long cartId;
+
+    public CartLines(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        this.productMostSigBits = new long[capacity];
+        this.productLeastSigBits = new long[capacity];
+        this.quantities = new int[capacity];
+        this.cartItemIds = new long[capacity];
+        this.createdAtMillis = new long[capacity];
+        this.updatedAtMillis = new long[capacity];
+    }
+
+    public void add(long mostSigBits, long leastSigBits, int quantity, long cartItemId,
+                    long createdAt, long updatedAt) {
+        if (size == quantities.length) {
+            int capacity = size * 2;
+            productMostSigBits = Arrays.copyOf(productMostSigBits, capacity);
+            productLeastSigBits = Arrays.copyOf(productLeastSigBits, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            cartItemIds = Arrays.copyOf(cartItemIds, capacity);
+            createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+            updatedAtMillis = Arrays.copyOf(updatedAtMillis, capacity);
+        }
+        productMostSigBits[size] = mostSigBits;
+        productLeastSigBits[size] = leastSigBits;
+        quantities[size] = quantity;
+        cartItemIds[size] = cartItemId;
+        createdAtMillis[size] = createdAt;
+        updatedAtMillis[size] = updatedAt;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UUID productId(int index) {
+        return new UUID(productMostSigBits[index], productLeastSigBits[index]);
+    }
+
+    public int quantity(int index) {
+        return quantities[index];
+    }
+
+    public long cartItemId(int index) {
+        return cartItemIds[index];
+    }
+
+    public long createdAt(int index) {
+        return createdAtMillis[index];
+    }
+
+    public long updatedAt(int index) {
+        return updatedAtMillis[index];
+    }
+
+    /**
+     * DB cart.id (0이면 알 수 없음)
+     */
+    public long cartId() {
+        return cartId;
+    }
+
+    public void cartId(long cartId) {
+        this.cartId = cartId;
+    }
+
+    public Map<UUID, Integer> toQuantityMap() {
+        Map<UUID, Integer> result = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            result.put(productId(i), quantities[i]);
+        }
+        return result;
+    }
+
+    public Map<UUID, RedisCartRepository.CartItemData> toItemMap() {
+        Map<UUID, RedisCartRepository.CartItemData> result = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            UUID productId = productId(i);
+            result.put(productId, new RedisCartRepository.CartItemData(
+                    productId, quantities[i], cartItemIds[i] != 0 ? cartItemIds[i] : null));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package groom.backend.infrastructure.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 변경 기록 (write-behind 대상 사용자 목록)
+ *
+ * Redis 우선 장바구니 모드에서 장바구니가 바뀐 사용자를 cart:dirty (Sorted Set, score = 마지막 변경 시각 millis)에 기록합니다.
+ * 같은 사용자의 변경은 하나의 항목으로 합쳐지며, 반영 작업은 사용자의 현재 Redis 장바구니 전체를 DB에 동기화합니다.
+ * 기록은 장바구니 변경 스크립트(RedisCartRepository) 안에서 변경과 함께 원자적으로 남깁니다.
+ *
+ * 반영 후에는 score가 읽은 시점과 같을 때만 제거하므로, 반영 도중 새 변경이 생긴 사용자는 다음 주기에 다시 반영됩니다.
+ * 반영 전에 애플리케이션이 종료되어도 항목이 남아 있으므로 재기동 후 반영됩니다. (동기화는 멱등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCartChangeLog {
+
+    public static final String DIRTY_KEY = "cart:dirty";
+
+    /**
+     * ARGV = [userId1, score1, userId2, score2, ...]
+     * 기록된 score가 반영 시 읽은 score와 같을 때만 제거합니다.
+     */
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV, 2 do
+              local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+              if score and tonumber(score) == tonumber(ARGV[i + 1]) then
+                removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+              end
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 마지막 변경 후 quietMillis 이상 지난 사용자를 오래된 순으로 최대 limit명 조회
+     * (연속 변경을 모아서 한 번에 반영하기 위함)
+     *
+     * @return userId → 조회 시점의 score (ack에 사용)
+     */
+    public Map<Long, Double> pollDirty(int limit, long quietMillis) {
+        double maxScore = System.currentTimeMillis() - quietMillis;
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(DIRTY_KEY, Double.NEGATIVE_INFINITY, maxScore, 0, limit);
+        Map<Long, Double> dirty = new LinkedHashMap<>();
+        if (tuples == null) {
+            return dirty;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                dirty.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * 반영할 변경이 남아 있으면 기록된 score, 없으면 null
+     */
+    public Double dirtyScore(Long userId) {
+        return stringRedisTemplate.opsForZSet().score(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    /**
+     * 반영 완료 (반영 도중 다시 변경된 사용자는 남겨 둠)
+     */
+    public long ack(Map<Long, Double> flushed) {
+        if (flushed.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>(flushed.size() * 2);
+        flushed.forEach((userId, score) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(score.longValue()));
+        });
+        Long removed = stringRedisTemplate.execute(ACK_SCRIPT, List.of(DIRTY_KEY), args.toArray());
+        return removed != null ? removed : 0;
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(DIRTY_KEY);
+        return size != null ? size : 0;
+    }
+}
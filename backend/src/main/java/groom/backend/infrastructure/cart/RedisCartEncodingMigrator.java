@@ -0,0 +1,33 @@
+package groom.backend.infrastructure.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 이전 형식(텍스트 필드) Redis 장바구니를 이진 형식으로 일괄 변환 (cart.redis.migrate-legacy-on-startup=true)
+ *
+ * 변환하지 않아도 장바구니 스크립트가 항목에 처음 접근할 때 변환하므로, 배포 후 한 번만 켜서 남은 항목을 정리하는 용도입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.redis.migrate-legacy-on-startup", havingValue = "true")
+public class RedisCartEncodingMigrator {
+
+    private final RedisCartRepository redisCartRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            long converted = redisCartRepository.migrateLegacyCarts();
+            log.info("[REDIS_CART_MIGRATE_DONE] convertedItems={}", converted);
+        } catch (Exception e) {
+            // 변환 실패 시에도 스크립트가 접근 시점에 변환하므로 기동은 계속
+            log.error("[REDIS_CART_MIGRATE_FAILED]", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package groom.backend.infrastructure.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 제품 → 장바구니에 담은 사용자 역색인 (재고 임계값 알림 대상 조회용)
+ *
+ * 장바구니 변경 스크립트(RedisCartRepository)가 항목 추가/제거와 같은 스크립트 안에서 함께 갱신하므로
+ * 알림 시 cart / cart_item 조인 없이 결과 크기만큼만 읽습니다.
+ * Redis 데이터가 사라진 경우 등을 위해 DB에서 다시 만들 수 있으며, 다시 만든 적이 없으면(READY_KEY 없음) 사용하지 않습니다.
+ *
+ * Key 구조
+ * - cart:product-users:{productId} : 해당 제품을 장바구니에 담은 userId 집합 (Set)
+ * - cart:product-index:ready       : DB 기준 재구성 완료 표시 (String)
+ * - cart:product-index:rebuild-lock : 재구성 잠금, 값은 잠근 재구성의 토큰 (String, SET NX PX)
+ *   여러 인스턴스가 동시에 재구성하면 한쪽의 전체 삭제가 다른 쪽이 채운 집합을 지우므로 한 번에 하나만 재구성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCartProductIndex {
+
+    public static final String KEY_PREFIX = "cart:product-users:";
+    public static final String READY_KEY = "cart:product-index:ready";
+    public static final String REBUILD_LOCK_KEY = "cart:product-index:rebuild-lock";
+    private static final int SCAN_COUNT = 500;
+
+    /**
+     * 잠금을 가진 재구성만 완료 표시 (잠금이 만료되어 다른 재구성이 시작된 경우 표시하지 않음)
+     * KEYS[1] = rebuild lock, KEYS[2] = ready, ARGV[1] = 토큰, ARGV[2] = 완료 시각 millis
+     */
+    private static final DefaultRedisScript<Long> MARK_READY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 자신의 잠금만 해제
+     * KEYS[1] = rebuild lock, ARGV[1] = 토큰
+     */
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 제품 하나의 집합 교체
+     * KEYS[1] = product users, ARGV[1..n] = userId
+     */
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 1, #ARGV, 1000 do
+              redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            return #ARGV
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 제품을 장바구니에 담은 사용자 조회
+     *
+     * @return 색인이 준비되지 않았으면 empty (호출 측이 DB 조회)
+     */
+    public Optional<List<Long>> findUserIds(UUID productId) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+            return Optional.empty();
+        }
+        Set<String> members = stringRedisTemplate.opsForSet().members(KEY_PREFIX + productId);
+        if (members == null) {
+            return Optional.empty();
+        }
+        List<Long> userIds = new ArrayList<>(members.size());
+        members.forEach(member -> userIds.add(Long.valueOf(member)));
+        return Optional.of(userIds);
+    }
+
+    /**
+     * 제품 하나의 사용자 집합을 DB 기준으로 교체
+     */
+    public void replace(UUID productId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            stringRedisTemplate.delete(KEY_PREFIX + productId);
+            return;
+        }
+        stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(KEY_PREFIX + productId),
+                userIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 모든 제품의 집합 삭제 (전체 재구성 시작 시)
+     *
+     * @return 삭제한 키 수
+     */
+    public long deleteAll() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        long deleted = 0;
+        for (int from = 0; from < keys.size(); from += SCAN_COUNT) {
+            Long count = stringRedisTemplate.delete(keys.subList(from, Math.min(from + SCAN_COUNT, keys.size())));
+            deleted += count != null ? count : 0L;
+        }
+        return deleted;
+    }
+
+    /**
+     * 재구성 잠금 획득 (SET NX PX)
+     *
+     * @param token 이 재구성의 고유 값 (완료 표시와 해제 시 확인)
+     * @return 다른 재구성이 잠금을 가지고 있으면 false
+     */
+    public boolean tryLockRebuild(String token, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, ttl));
+    }
+
+    public void unlockRebuild(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+    }
+
+    /**
+     * 전체 재구성 완료 표시 (이후 조회는 색인 사용)
+     *
+     * @return 잠금을 잃어 표시하지 않았으면 false
+     */
+    public boolean markReady(String token) {
+        Long marked = stringRedisTemplate.execute(MARK_READY_SCRIPT, List.of(REBUILD_LOCK_KEY, READY_KEY),
+                token, String.valueOf(System.currentTimeMillis()));
+        return marked != null && marked == 1L;
+    }
+
+    /**
+     * 재구성 전 표시 제거 (재구성 중에는 DB 조회)
+     */
+    public void markNotReady() {
+        stringRedisTemplate.delete(READY_KEY);
+    }
+}
@@ -1,13 +1,23 @@
 package groom.backend.infrastructure.cart;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -16,6 +26,22 @@ import java.util.concurrent.TimeUnit;
  * - 빠른 읽기/쓰기 성능
  * - TTL 설정으로 임시 데이터 관리
  * - Hash 구조로 사용자별 장바구니 항목 저장
+ *
+ * Hash 구조 (cart:{userId}), 형식은 CartLineCodec 참고
+ * - 필드 : 제품 UUID 16바이트
+ * - 값   : 버전(2) + 수량 int32 + cart_item_id int64 + 담은 시각 + 변경 시각 (0이면 없음) = 29바이트
+ * - #cart_id : DB cart.id (알고 있는 경우에만)
+ *
+ * 장바구니 조회에 필요한 값(cartId, 항목 시각)을 모두 담고 있어 Redis 적중 시 DB를 조회하지 않습니다.
+ *
+ * 모든 변경은 Lua 스크립트 한 번으로 "조회 → 검증 → 변경 → TTL 갱신 (→ 변경 기록)"을 원자적으로 수행합니다.
+ * 이전 형식 항목({productId} 텍스트 필드 = 숫자 또는 JSON, {productId}:id = cart_item_id)은
+ * 스크립트가 처음 접근할 때 이진 형식으로 변환하며, 조회 시에는 두 형식을 모두 읽습니다.
+ * 남은 이전 형식 항목은 migrateLegacyCarts()로 한 번에 변환할 수 있습니다.
+ *
+ * 항목이 생기거나 없어질 때 같은 스크립트에서 제품 → 사용자 역색인(RedisCartProductIndex)도 함께 갱신합니다.
+ * 스크립트가 접근하는 키(장바구니, cart:dirty, 역색인)는 모두 Java에서 만들어 KEYS로 전달합니다.
+ * 한 스크립트가 여러 해시 슬롯의 키를 다루므로 단일 Redis(standalone)만 지원하며, 클러스터 연결이면 기동 시 실패합니다.
  */
 @Slf4j
 @Repository
@@ -23,7 +49,385 @@ import java.util.concurrent.TimeUnit;
 public class RedisCartRepository {
 
     private static final String CART_KEY_PREFIX = "cart:";
-    
+    private static final String CART_ITEM_ID_SUFFIX = ":id";
+    private static final int SCAN_COUNT = 500;
+    // 이전 형식 항목 필드 (UUID 텍스트) 길이
+    private static final int LEGACY_FIELD_LENGTH = 36;
+    // 장바구니 비우기 중 항목이 계속 추가될 때 재시도 횟수
+    private static final int CLEAR_MAX_ATTEMPTS = 3;
+    // 여러 사용자를 다루는 스크립트 한 번에 전달하는 최대 키 수 (Redis 점유 시간 제한)
+    private static final int SCRIPT_CHUNK_KEYS = 200;
+
+    // 변경 스크립트 결과 코드 (0 이상이면 변경 후 수량)
+    public static final long RESULT_NOT_LOADED = -1L;
+    public static final long RESULT_NOT_FOUND = -2L;
+    public static final long RESULT_ABOVE_MAX = -3L;
+    public static final long RESULT_BELOW_MIN = -4L;
+
+    /**
+     * 스크립트 공통 함수
+     * - packLine : 수량, cart_item_id, 담은 시각, 변경 시각을 29바이트 값으로 변환
+     * - readLine : 항목 조회 (이진 필드, text = 이전 형식 텍스트 필드). 이전 형식이면 이진 형식으로 변환합니다.
+     *              결과: 수량, cart_item_id, 담은 시각 (0이면 없음) / 항목이 없거나 해석할 수 없으면 nil
+     * - isLoaded : Redis 장바구니를 기준으로 사용해도 되는지 여부
+     *              (키가 있거나, 반영할 변경이 남아 있거나 (= 사용자가 비운 장바구니), DB에서 적재를 마친 경우)
+     */
+    private static final String COMMON_FUNCTIONS = """
+            local function packLine(quantity, cartItemId, createdAt, updatedAt)
+              return struct.pack('>Bi4i8i8i8', 2, quantity, cartItemId, createdAt, updatedAt)
+            end
+            local function readLine(key, field, text)
+              local value = redis.call('HGET', key, field)
+              if value then
+                local version = string.byte(value, 1)
+                if version == 2 and #value == 29 then
+                  local _, quantity, cartItemId, createdAt = struct.unpack('>Bi4i8i8i8', value)
+                  return quantity, cartItemId, createdAt
+                end
+                if version == 1 and #value == 13 then
+                  local _, quantity, cartItemId = struct.unpack('>Bi4i8', value)
+                  return quantity, cartItemId, 0
+                end
+                return nil
+              end
+              local legacy = redis.call('HGET', key, text)
+              if not legacy then
+                return nil
+              end
+              local quantity = tonumber(legacy)
+              local cartItemId = tonumber(redis.call('HGET', key, text .. ':id') or '0') or 0
+              if not quantity then
+                local ok, item = pcall(cjson.decode, legacy)
+                if not ok or type(item) ~= 'table' or type(item.quantity) ~= 'number' then
+                  return nil
+                end
+                quantity = item.quantity
+                if type(item.cartItemId) == 'number' then
+                  cartItemId = item.cartItemId
+                end
+              end
+              redis.call('HDEL', key, text, text .. ':id')
+              redis.call('HSET', key, field, packLine(quantity, cartItemId, 0, 0))
+              return quantity, cartItemId, 0
+            end
+            local function isLoaded(key, dirtyKey, userId, loaded)
+              return loaded == '1' or redis.call('EXISTS', key) == 1 or redis.call('ZSCORE', dirtyKey, userId)
+            end
+            """;
+
+    /**
+     * 수량 추가 (없으면 생성), Redis 우선 모드
+     * KEYS[1] = cart, KEYS[2] = cart:dirty, KEYS[3] = 제품 역색인
+     * ARGV[1] = 이진 필드, ARGV[2] = productId 텍스트, ARGV[3] = 추가 수량, ARGV[4] = 최대 수량(재고),
+     * ARGV[5] = TTL(초), ARGV[6] = userId, ARGV[7] = 변경 시각 millis, ARGV[8] = DB 적재 완료 여부
+     */
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            if not isLoaded(KEYS[1], KEYS[2], ARGV[6], ARGV[8]) then
+              return -1
+            end
+            local current, cartItemId, createdAt = readLine(KEYS[1], ARGV[1], ARGV[2])
+            local quantity = (current or 0) + tonumber(ARGV[3])
+            if quantity > tonumber(ARGV[4]) then
+              return -3
+            end
+            local now = tonumber(ARGV[7])
+            redis.call('ZADD', KEYS[2], ARGV[7], ARGV[6])
+            redis.call('HSET', KEYS[1], ARGV[1], packLine(quantity, cartItemId or 0, current and createdAt or now, now))
+            redis.call('SADD', KEYS[3], ARGV[6])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return quantity
+            """, Long.class);
+
+    /**
+     * 기존 항목 수량 증감, Redis 우선 모드
+     * KEYS[1] = cart, KEYS[2] = cart:dirty
+     * ARGV[1] = 이진 필드, ARGV[2] = productId 텍스트, ARGV[3] = 증감량, ARGV[4] = 최소 수량, ARGV[5] = 최대 수량,
+     * ARGV[6] = TTL(초), ARGV[7] = userId, ARGV[8] = 변경 시각 millis, ARGV[9] = DB 적재 완료 여부
+     */
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            if not isLoaded(KEYS[1], KEYS[2], ARGV[7], ARGV[9]) then
+              return -1
+            end
+            local current, cartItemId, createdAt = readLine(KEYS[1], ARGV[1], ARGV[2])
+            if not current then
+              return -2
+            end
+            local quantity = current + tonumber(ARGV[3])
+            if quantity > tonumber(ARGV[5]) then
+              return -3
+            end
+            if quantity < tonumber(ARGV[4]) then
+              return -4
+            end
+            redis.call('ZADD', KEYS[2], ARGV[8], ARGV[7])
+            redis.call('HSET', KEYS[1], ARGV[1], packLine(quantity, cartItemId, createdAt, tonumber(ARGV[8])))
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            return quantity
+            """, Long.class);
+
+    /**
+     * 여러 항목 수량 감소 (모두 검증 후 한 번에 반영, 0이 되면 항목 제거), Redis 우선 모드
+     * KEYS[1] = cart, KEYS[2] = cart:dirty, KEYS[3..n] = 항목별 제품 역색인 (ARGV 묶음 순서)
+     * ARGV[1] = TTL(초), ARGV[2] = userId, ARGV[3] = 변경 시각 millis, ARGV[4] = DB 적재 완료 여부,
+     * ARGV[5..n] = 이진 필드, productId 텍스트, 감소 수량 묶음
+     * 결과: {1, 남은 수량...} 또는 {결과 코드, 실패 항목 순번(1부터), 현재 수량}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REMOVE_QUANTITIES_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            if not isLoaded(KEYS[1], KEYS[2], ARGV[2], ARGV[4]) then
+              return {-1, 0, 0}
+            end
+            local remaining = {}
+            local cartItemIds = {}
+            local createdAts = {}
+            for i = 5, #ARGV, 3 do
+              local current, cartItemId, createdAt = readLine(KEYS[1], ARGV[i], ARGV[i + 1])
+              if not current then
+                return {-2, #remaining + 1, 0}
+              end
+              local quantity = current - tonumber(ARGV[i + 2])
+              if quantity < 0 then
+                return {-4, #remaining + 1, current}
+              end
+              remaining[#remaining + 1] = quantity
+              cartItemIds[#cartItemIds + 1] = cartItemId
+              createdAts[#createdAts + 1] = createdAt
+            end
+            local now = tonumber(ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+            local result = {1}
+            for i = 5, #ARGV, 3 do
+              local quantity = remaining[#result]
+              if quantity == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[i])
+                redis.call('SREM', KEYS[#result + 2], ARGV[2])
+              else
+                redis.call('HSET', KEYS[1], ARGV[i], packLine(quantity, cartItemIds[#result], createdAts[#result], now))
+              end
+              result[#result + 1] = quantity
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return result
+            """, List.class);
+
+    /**
+     * DB 장바구니 적재 (키가 없고 반영할 변경도 없을 때만)
+     * KEYS[1] = cart, KEYS[2] = cart:dirty, KEYS[3..n] = 항목별 제품 역색인 (ARGV 쌍 순서)
+     * ARGV[1] = TTL(초), ARGV[2] = userId, ARGV[3] = cartId (없으면 빈 값), ARGV[4..n] = 이진 필드, 이진 값 쌍
+     */
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('ZSCORE', KEYS[2], ARGV[2]) then
+              return 0
+            end
+            if #ARGV < 4 then
+              return 1
+            end
+            for i = 4, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+              redis.call('SADD', KEYS[(i - 4) / 2 + 3], ARGV[2])
+            end
+            if ARGV[3] ~= '' then
+              redis.call('HSET', KEYS[1], '#cart_id', ARGV[3])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 수량 설정 (DB 저장 후 Write-Through, 변경 기록 없음)
+     * KEYS[1] = cart, KEYS[2] = 제품 역색인
+     * ARGV[1] = 이진 필드, ARGV[2] = productId 텍스트, ARGV[3] = 수량, ARGV[4] = cartItemId (없으면 빈 값),
+     * ARGV[5] = TTL(초), ARGV[6] = 1이면 항목이 있을 때만 설정, ARGV[7] = 변경 시각 millis,
+     * ARGV[8] = cartId (없으면 빈 값), ARGV[9] = userId
+     */
+    private static final DefaultRedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            local current, cartItemId, createdAt = readLine(KEYS[1], ARGV[1], ARGV[2])
+            if ARGV[6] == '1' and not current then
+              return 0
+            end
+            if ARGV[4] ~= '' then
+              cartItemId = tonumber(ARGV[4])
+            end
+            local now = tonumber(ARGV[7])
+            redis.call('HSET', KEYS[1], ARGV[1], packLine(tonumber(ARGV[3]), cartItemId or 0, current and createdAt or now, now))
+            if ARGV[8] ~= '' then
+              redis.call('HSET', KEYS[1], '#cart_id', ARGV[8])
+            end
+            redis.call('SADD', KEYS[2], ARGV[9])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 항목 제거 (변경 기록 없음, 이전 형식 필드도 함께 제거)
+     * KEYS[1] = cart, KEYS[2..n] = 항목별 제품 역색인 (ARGV 쌍 순서)
+     * ARGV[1] = TTL(초), ARGV[2] = userId, ARGV[3..n] = 이진 필드, productId 텍스트 쌍
+     */
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 3, #ARGV, 2 do
+              removed = removed + redis.call('HDEL', KEYS[1], ARGV[i], ARGV[i + 1], ARGV[i + 1] .. ':id')
+              redis.call('SREM', KEYS[(i - 3) / 2 + 2], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return removed
+            """, Long.class);
+
+    /**
+     * 여러 항목 수량 설정 (0이면 제거)
+     * KEYS[1] = cart, KEYS[2] = cart:dirty, KEYS[3..n] = 항목별 제품 역색인 (ARGV 묶음 순서)
+     * ARGV[1] = TTL(초), ARGV[2] = userId, ARGV[3] = 변경 시각 millis, ARGV[4] = cartId (없으면 빈 값),
+     * ARGV[5] = 1이면 Redis 우선 모드 (적재 확인 + 변경 기록), ARGV[6] = DB 적재 완료 여부,
+     * ARGV[7..n] = 이진 필드, productId 텍스트, 수량, cartItemId (없으면 빈 값) 묶음
+     * Write-Through(ARGV[5] = 0)에서는 장바구니 키가 없으면 항목을 쓰지 않습니다. (일부 항목만 캐시되는 것 방지, 역색인은 갱신)
+     * 결과: 1 또는 -1 (RESULT_NOT_LOADED)
+     */
+    private static final DefaultRedisScript<Long> SET_QUANTITIES_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            local tracked = ARGV[5] == '1'
+            if tracked and not isLoaded(KEYS[1], KEYS[2], ARGV[2], ARGV[6]) then
+              return -1
+            end
+            local writeLines = tracked or redis.call('EXISTS', KEYS[1]) == 1
+            local now = tonumber(ARGV[3])
+            for i = 7, #ARGV, 4 do
+              local indexKey = KEYS[(i - 7) / 4 + 3]
+              local quantity = tonumber(ARGV[i + 2])
+              if quantity == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[i], ARGV[i + 1], ARGV[i + 1] .. ':id')
+                redis.call('SREM', indexKey, ARGV[2])
+              else
+                if writeLines then
+                  local current, cartItemId, createdAt = readLine(KEYS[1], ARGV[i], ARGV[i + 1])
+                  if ARGV[i + 3] ~= '' then
+                    cartItemId = tonumber(ARGV[i + 3])
+                  end
+                  redis.call('HSET', KEYS[1], ARGV[i], packLine(quantity, cartItemId or 0, current and createdAt or now, now))
+                end
+                redis.call('SADD', indexKey, ARGV[2])
+              end
+            end
+            if tracked then
+              redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2])
+            end
+            if writeLines and redis.call('EXISTS', KEYS[1]) == 1 then
+              if ARGV[4] ~= '' then
+                redis.call('HSET', KEYS[1], '#cart_id', ARGV[4])
+              end
+              redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 장바구니 전체 삭제 (역색인에서도 제거)
+     * KEYS[1] = cart, KEYS[2..n] = 항목별 제품 역색인, ARGV[1] = userId, ARGV[2..n] = 항목 필드 (KEYS 순서)
+     * 호출 측이 미리 읽은 항목 필드와 현재 항목이 다르면 (그 사이 항목 추가) 아무 것도 바꾸지 않고 -1을 반환합니다.
+     * 결과: 삭제한 키 수 또는 -1
+     */
+    private static final DefaultRedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+            local indexKeys = {}
+            for i = 2, #ARGV do
+              indexKeys[ARGV[i]] = KEYS[i]
+            end
+            local fields = redis.call('HKEYS', KEYS[1])
+            for _, field in ipairs(fields) do
+              if (#field == 16 or #field == 36) and not indexKeys[field] then
+                return -1
+              end
+            end
+            for i = 2, #KEYS do
+              redis.call('SREM', KEYS[i], ARGV[1])
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    /**
+     * 사용 중인 장바구니 사용자 조회 (만료 전 확인)
+     * KEYS[1] = cart:dirty, KEYS[2..n] = 사용자별 cart 키, ARGV[1..n] = userId (KEYS[2..] 순서)
+     * 결과: Redis 장바구니가 있거나 반영할 변경이 남아 있는 userId 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ACTIVE_USERS_SCRIPT = new DefaultRedisScript<>("""
+            local active = {}
+            for i, userId in ipairs(ARGV) do
+              if redis.call('EXISTS', KEYS[i + 1]) == 1 or redis.call('ZSCORE', KEYS[1], userId) then
+                active[#active + 1] = tonumber(userId)
+              end
+            end
+            return active
+            """, List.class);
+
+    /**
+     * DB에서 만료된 장바구니를 역색인에서 제거 (그 사이 다시 사용된 장바구니는 제외)
+     * KEYS[1] = cart:dirty, 이후 사용자마다 cart 키 1개 + 제품 역색인 키 n개
+     * ARGV = userId, 제품 수(n) 반복 (KEYS의 사용자 순서)
+     * 결과: 역색인에서 제거한 사용자 수
+     */
+    private static final DefaultRedisScript<Long> RELEASE_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            local k = 2
+            for i = 1, #ARGV, 2 do
+              local userId = ARGV[i]
+              local count = tonumber(ARGV[i + 1])
+              if redis.call('EXISTS', KEYS[k]) == 0 and not redis.call('ZSCORE', KEYS[1], userId) then
+                for j = k + 1, k + count do
+                  redis.call('SREM', KEYS[j], userId)
+                end
+                released = released + 1
+              end
+              k = k + 1 + count
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * cartId 기록 (장바구니가 있을 때만, write-behind 반영 후)
+     * KEYS[1] = cart, ARGV[1] = cartId
+     */
+    private static final DefaultRedisScript<Long> STORE_CART_ID_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], '#cart_id', ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 전체 조회 + TTL 갱신 (Touch 패턴)
+     * KEYS[1] = cart, ARGV[1] = TTL(초)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            if #entries > 0 then
+              redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return entries
+            """, List.class);
+
+    /**
+     * 이전 형식 항목을 이진 형식으로 일괄 변환 (TTL 유지)
+     * KEYS[1] = cart
+     * 결과: 변환한 항목 수
+     */
+    private static final DefaultRedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(COMMON_FUNCTIONS + """
+            local entries = redis.call('HGETALL', KEYS[1])
+            local converted = 0
+            for i = 1, #entries, 2 do
+              local text = entries[i]
+              if #text == 36 then
+                local hex = (string.gsub(text, '-', ''))
+                local field = (string.gsub(hex, '%x%x', function(pair)
+                  return string.char(tonumber(pair, 16))
+                end))
+                if #field == 16 and readLine(KEYS[1], field, text) then
+                  converted = converted + 1
+                end
+              end
+            end
+            return converted
+            """, Long.class);
+
     @Value("${cart.redis.ttl-days:7}") // 기본값 7일, application.yml에서 설정 가능
     private long cartTtlDays;
 
@@ -31,6 +435,17 @@ public class RedisCartRepository {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 장바구니 스크립트는 장바구니, cart:dirty, 역색인 키를 함께 다루므로 (서로 다른 해시 슬롯) 클러스터에서는 실행할 수 없습니다.
+     */
+    @PostConstruct
+    public void requireStandaloneRedis() {
+        RedisConnectionFactory factory = redisTemplate.getConnectionFactory();
+        if (factory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+            throw new IllegalStateException("Redis 장바구니는 단일 Redis(standalone)만 지원합니다. (클러스터 연결 감지)");
+        }
+    }
+
     /**
      * 장바구니 항목 정보를 담는 내부 클래스
      */
@@ -65,20 +480,24 @@ public class RedisCartRepository {
      * 사용자의 장바구니에 제품 추가 또는 수량 업데이트
      */
     public void addOrUpdateItem(Long userId, UUID productId, Integer quantity, Long cartItemId) {
+        addOrUpdateItem(userId, productId, quantity, cartItemId, null);
+    }
+
+    /**
+     * 사용자의 장바구니에 제품 추가 또는 수량 업데이트 (DB cart.id 함께 기록)
+     */
+    public void addOrUpdateItem(Long userId, UUID productId, Integer quantity, Long cartItemId, Long cartId) {
         String cartKey = getCartKey(userId);
-        String productIdStr = productId.toString();
 
         try {
-            CartItemData itemData = new CartItemData(productId, quantity, cartItemId);
-            String itemJson = objectMapper.writeValueAsString(itemData);
-
-            redisTemplate.opsForHash().put(cartKey, productIdStr, itemJson);
-            refreshTtl(cartKey);
+            execute(SET_SCRIPT, List.of(cartKey, productUsersKey(productId)), CartLineCodec.encodeField(productId),
+                    text(productId), bytes(quantity), optionalBytes(cartItemId), ttlSeconds(), bytes("0"),
+                    bytes(System.currentTimeMillis()), optionalBytes(cartId), bytes(userId));
 
-            log.debug("[REDIS_CART_ADD] userId={}, productId={}, quantity={}, cartItemId={}", 
+            log.debug("[REDIS_CART_ADD] userId={}, productId={}, quantity={}, cartItemId={}",
                     userId, productId, quantity, cartItemId);
         } catch (Exception e) {
-            log.error("[REDIS_CART_ADD_FAILED] userId={}, productId={}, error={}", 
+            log.error("[REDIS_CART_ADD_FAILED] userId={}, productId={}, error={}",
                     userId, productId, e.getMessage(), e);
             throw new RuntimeException("Redis 장바구니 저장 실패", e);
         }
@@ -88,129 +507,305 @@ public class RedisCartRepository {
      * 사용자의 장바구니에서 제품 제거
      */
     public void removeItem(Long userId, UUID productId) {
-        String cartKey = getCartKey(userId);
-        String productIdStr = productId.toString();
-
-        try {
-            redisTemplate.opsForHash().delete(cartKey, productIdStr);
-            // 제거 후에도 장바구니가 비어있지 않으면 TTL 갱신
-            if (redisTemplate.opsForHash().size(cartKey) > 0) {
-                refreshTtl(cartKey);
-            }
-            log.debug("[REDIS_CART_REMOVE] userId={}, productId={}", userId, productId);
-        } catch (Exception e) {
-            log.error("[REDIS_CART_REMOVE_FAILED] userId={}, productId={}, error={}", 
-                    userId, productId, e.getMessage(), e);
-        }
+        removeItems(userId, List.of(productId));
     }
 
     /**
      * 사용자의 장바구니에서 여러 제품 제거
      */
     public void removeItems(Long userId, List<UUID> productIds) {
-        String cartKey = getCartKey(userId);
-        Object[] productIdStrs = productIds.stream()
-                .map(UUID::toString)
-                .toArray();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        keys.add(getCartKey(userId));
+        List<byte[]> args = new ArrayList<>(productIds.size() * 2 + 2);
+        args.add(ttlSeconds());
+        args.add(bytes(userId));
+        for (UUID productId : productIds) {
+            keys.add(productUsersKey(productId));
+            args.add(CartLineCodec.encodeField(productId));
+            args.add(text(productId));
+        }
 
         try {
-            redisTemplate.opsForHash().delete(cartKey, productIdStrs);
-            // 제거 후에도 장바구니가 비어있지 않으면 TTL 갱신
-            if (redisTemplate.opsForHash().size(cartKey) > 0) {
-                refreshTtl(cartKey);
-            }
+            execute(REMOVE_SCRIPT, keys, args.toArray());
             log.debug("[REDIS_CART_REMOVE_BATCH] userId={}, productIds={}", userId, productIds);
         } catch (Exception e) {
-            log.error("[REDIS_CART_REMOVE_BATCH_FAILED] userId={}, error={}", 
+            log.error("[REDIS_CART_REMOVE_BATCH_FAILED] userId={}, error={}",
                     userId, e.getMessage(), e);
         }
     }
 
     /**
-     * 사용자의 장바구니에서 제품 수량 업데이트
+     * 사용자의 장바구니에서 제품 수량 업데이트 (항목이 있을 때만)
      */
     public void updateQuantity(Long userId, UUID productId, Integer quantity) {
         String cartKey = getCartKey(userId);
-        String productIdStr = productId.toString();
 
         try {
-            String existingItemJson = (String) redisTemplate.opsForHash().get(cartKey, productIdStr);
-            
-            if (existingItemJson != null) {
-                CartItemData itemData = objectMapper.readValue(existingItemJson, CartItemData.class);
-                itemData.setQuantity(quantity);
-                String updatedItemJson = objectMapper.writeValueAsString(itemData);
-                
-                redisTemplate.opsForHash().put(cartKey, productIdStr, updatedItemJson);
-                refreshTtl(cartKey);
-                
-                log.debug("[REDIS_CART_UPDATE_QUANTITY] userId={}, productId={}, quantity={}", 
-                        userId, productId, quantity);
-            }
+            execute(SET_SCRIPT, List.of(cartKey, productUsersKey(productId)), CartLineCodec.encodeField(productId),
+                    text(productId), bytes(quantity), new byte[0], ttlSeconds(), bytes("1"),
+                    bytes(System.currentTimeMillis()), new byte[0], bytes(userId));
+            log.debug("[REDIS_CART_UPDATE_QUANTITY] userId={}, productId={}, quantity={}",
+                    userId, productId, quantity);
         } catch (Exception e) {
-            log.error("[REDIS_CART_UPDATE_QUANTITY_FAILED] userId={}, productId={}, error={}", 
+            log.error("[REDIS_CART_UPDATE_QUANTITY_FAILED] userId={}, productId={}, error={}",
                     userId, productId, e.getMessage(), e);
         }
     }
 
     /**
-     * 사용자의 모든 장바구니 항목 조회
-     * Touch 패턴: 조회 시 TTL 갱신하여 활성 사용자의 장바구니 유지
+     * 수량 추가 (없으면 생성) 후 변경 기록, Redis 우선 모드
+     *
+     * @param maxQuantity 추가 후 허용되는 최대 수량 (재고)
+     * @param loaded DB 장바구니 적재를 마쳤으면 true (false이면 적재가 필요할 때 RESULT_NOT_LOADED 반환)
+     * @return 변경 후 수량 또는 결과 코드 (RESULT_NOT_LOADED, RESULT_ABOVE_MAX)
      */
-    public Map<UUID, CartItemData> getAllItems(Long userId) {
-        String cartKey = getCartKey(userId);
+    public long addQuantity(Long userId, UUID productId, int quantity, int maxQuantity, boolean loaded) {
+        Long result = execute(ADD_SCRIPT,
+                List.of(getCartKey(userId), RedisCartChangeLog.DIRTY_KEY, productUsersKey(productId)),
+                CartLineCodec.encodeField(productId), text(productId), bytes(quantity), bytes(maxQuantity),
+                ttlSeconds(), bytes(userId), bytes(System.currentTimeMillis()), bytes(loaded ? "1" : "0"));
+        return requireResult(result);
+    }
+
+    /**
+     * 기존 항목 수량 증감 후 변경 기록, Redis 우선 모드
+     *
+     * @return 변경 후 수량 또는 결과 코드 (RESULT_NOT_LOADED, RESULT_NOT_FOUND, RESULT_ABOVE_MAX, RESULT_BELOW_MIN)
+     */
+    public long incrementQuantity(Long userId, UUID productId, int delta, int minQuantity, int maxQuantity,
+                                  boolean loaded) {
+        Long result = execute(INCREMENT_SCRIPT, List.of(getCartKey(userId), RedisCartChangeLog.DIRTY_KEY),
+                CartLineCodec.encodeField(productId), text(productId), bytes(delta), bytes(minQuantity),
+                bytes(maxQuantity), ttlSeconds(), bytes(userId), bytes(System.currentTimeMillis()),
+                bytes(loaded ? "1" : "0"));
+        return requireResult(result);
+    }
+
+    /**
+     * 여러 항목 수량 감소 후 변경 기록, Redis 우선 모드
+     * 하나라도 없거나 수량이 부족하면 아무 것도 변경하지 않습니다.
+     *
+     * @param quantities productId → 감소 수량 (요청 순서 유지)
+     * @return 성공 시 {1, 항목별 남은 수량...}, 실패 시 {결과 코드, 실패 항목 순번(1부터), 현재 수량}
+     */
+    public long[] removeQuantities(Long userId, LinkedHashMap<UUID, Integer> quantities, boolean loaded) {
+        List<String> keys = new ArrayList<>(2 + quantities.size());
+        keys.add(getCartKey(userId));
+        keys.add(RedisCartChangeLog.DIRTY_KEY);
+        List<byte[]> args = new ArrayList<>(4 + quantities.size() * 3);
+        args.add(ttlSeconds());
+        args.add(bytes(userId));
+        args.add(bytes(System.currentTimeMillis()));
+        args.add(bytes(loaded ? "1" : "0"));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(productUsersKey(productId));
+            args.add(CartLineCodec.encodeField(productId));
+            args.add(text(productId));
+            args.add(bytes(quantity));
+        });
 
+        List<?> result = execute(REMOVE_QUANTITIES_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Redis 장바구니 스크립트 결과가 없습니다.");
+        }
+        long[] values = new long[result.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ((Number) result.get(i)).longValue();
+        }
+        return values;
+    }
+
+    /**
+     * 여러 항목 수량 설정 (DB 저장 후 Write-Through, 변경 기록 없음)
+     * 장바구니 키가 없으면 항목은 쓰지 않고 다음 조회 시 DB에서 적재되도록 둡니다.
+     *
+     * @param quantities productId → 수량 (0이면 제거)
+     * @param cartItemIds productId → cart_item id (알고 있는 항목만)
+     */
+    public void setQuantities(Long userId, Long cartId, Map<UUID, Integer> quantities, Map<UUID, Long> cartItemIds) {
         try {
-            Map<Object, Object> hashMap = redisTemplate.opsForHash().entries(cartKey);
-            
-            if (hashMap.isEmpty()) {
-                return Collections.emptyMap();
+            executeSetQuantities(userId, cartId, quantities, cartItemIds, false, true);
+            log.debug("[REDIS_CART_SET_QUANTITIES] userId={}, itemCount={}", userId, quantities.size());
+        } catch (Exception e) {
+            log.error("[REDIS_CART_SET_QUANTITIES_FAILED] userId={}, error={}", userId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 여러 항목 수량 설정 후 변경 기록, Redis 우선 모드
+     *
+     * @param quantities productId → 수량 (0이면 제거)
+     * @return 1 또는 RESULT_NOT_LOADED
+     */
+    public long setQuantities(Long userId, Map<UUID, Integer> quantities, boolean loaded) {
+        return executeSetQuantities(userId, null, quantities, Map.of(), true, loaded);
+    }
+
+    private long executeSetQuantities(Long userId, Long cartId, Map<UUID, Integer> quantities,
+                                      Map<UUID, Long> cartItemIds, boolean tracked, boolean loaded) {
+        List<String> keys = new ArrayList<>(2 + quantities.size());
+        keys.add(getCartKey(userId));
+        keys.add(RedisCartChangeLog.DIRTY_KEY);
+        List<byte[]> args = new ArrayList<>(6 + quantities.size() * 4);
+        args.add(ttlSeconds());
+        args.add(bytes(userId));
+        args.add(bytes(System.currentTimeMillis()));
+        args.add(optionalBytes(cartId));
+        args.add(bytes(tracked ? "1" : "0"));
+        args.add(bytes(loaded ? "1" : "0"));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(productUsersKey(productId));
+            args.add(CartLineCodec.encodeField(productId));
+            args.add(text(productId));
+            args.add(bytes(quantity));
+            args.add(optionalBytes(cartItemIds.get(productId)));
+        });
+
+        Long result = execute(SET_QUANTITIES_SCRIPT, keys, args.toArray());
+        return requireResult(result);
+    }
+
+    /**
+     * DB 장바구니 항목을 Redis에 적재 (키가 없고 반영할 변경도 없을 때만)
+     * Redis 우선 모드에서 변경 스크립트가 RESULT_NOT_LOADED를 반환했을 때와 DB 모드의 조회 미스 시 사용합니다.
+     *
+     * @param lines DB 장바구니 항목 (lines.cartId() 가 0이 아니면 함께 기록)
+     */
+    public void loadItemsIfAbsent(Long userId, CartLines lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(2 + lines.size());
+        keys.add(getCartKey(userId));
+        keys.add(RedisCartChangeLog.DIRTY_KEY);
+        List<byte[]> args = new ArrayList<>(3 + lines.size() * 2);
+        args.add(ttlSeconds());
+        args.add(bytes(userId));
+        args.add(lines.cartId() != 0 ? bytes(lines.cartId()) : new byte[0]);
+        for (int i = 0; i < lines.size(); i++) {
+            keys.add(productUsersKey(lines.productId(i)));
+            args.add(CartLineCodec.encodeField(lines.productId(i)));
+            args.add(CartLineCodec.encodeValue(lines.quantity(i), lines.cartItemId(i),
+                    lines.createdAt(i), lines.updatedAt(i)));
+        }
+
+        Long loaded = execute(LOAD_SCRIPT, keys, args.toArray());
+        log.debug("[REDIS_CART_LOAD] userId={}, itemCount={}, loaded={}", userId, lines.size(), loaded);
+    }
+
+    /**
+     * write-behind 반영으로 알게 된 DB cart.id 를 Redis 장바구니에 기록 (파이프라인, 키가 있을 때만)
+     *
+     * @param cartIds userId → cartId
+     */
+    public void storeCartIds(Map<Long, Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return;
+        }
+        byte[] script = bytes(STORE_CART_ID_SCRIPT.getScriptAsString());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            cartIds.forEach((userId, cartId) -> connection.scriptingCommands()
+                    .eval(script, ReturnType.INTEGER, 1, bytes(getCartKey(userId)), bytes(cartId)));
+            return null;
+        });
+    }
+
+    /**
+     * 여러 사용자의 장바구니 수량을 한 번에 조회 (파이프라인, TTL 갱신 없음)
+     * write-behind 반영용이며, 키가 없는 사용자는 빈 장바구니로 반환합니다.
+     *
+     * @return userId → (productId → quantity)
+     */
+    public Map<Long, Map<UUID, Integer>> readQuantities(List<Long> userIds) {
+        Map<Long, Map<UUID, Integer>> result = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.hashCommands().hGetAll(bytes(getCartKey(userId)));
             }
+            return null;
+        }, RedisSerializer.byteArray());
 
-            // 조회 시 TTL 갱신 (Touch 패턴)
-            refreshTtl(cartKey);
-
-            Map<UUID, CartItemData> result = new HashMap<>();
-            for (Map.Entry<Object, Object> entry : hashMap.entrySet()) {
-                String productIdStr = (String) entry.getKey();
-                String itemJson = (String) entry.getValue();
-                
-                UUID productId = UUID.fromString(productIdStr);
-                CartItemData itemData = objectMapper.readValue(itemJson, CartItemData.class);
-                result.put(productId, itemData);
+        for (int i = 0; i < userIds.size(); i++) {
+            Map<UUID, Integer> quantities = Collections.emptyMap();
+            if (hashes.get(i) instanceof Map<?, ?> entries && !entries.isEmpty()) {
+                List<byte[]> flat = new ArrayList<>(entries.size() * 2);
+                entries.forEach((field, value) -> {
+                    flat.add((byte[]) field);
+                    flat.add((byte[]) value);
+                });
+                quantities = decodeLines(flat).toQuantityMap();
             }
+            result.put(userIds.get(i), quantities);
+        }
+        return result;
+    }
 
-            log.debug("[REDIS_CART_GET_ALL] userId={}, itemCount={}", userId, result.size());
-            return result;
+    /**
+     * 사용자의 모든 장바구니 항목 조회
+     * Touch 패턴: 조회 시 TTL 갱신하여 활성 사용자의 장바구니 유지 (조회와 갱신을 한 번에 수행)
+     */
+    public Map<UUID, CartItemData> getAllItems(Long userId) {
+        try {
+            CartLines lines = getLines(userId);
+            log.debug("[REDIS_CART_GET_ALL] userId={}, itemCount={}", userId, lines.size());
+            return lines.isEmpty() ? Collections.emptyMap() : lines.toItemMap();
         } catch (Exception e) {
-            log.error("[REDIS_CART_GET_ALL_FAILED] userId={}, error={}", 
+            log.error("[REDIS_CART_GET_ALL_FAILED] userId={}, error={}",
                     userId, e.getMessage(), e);
             return Collections.emptyMap();
         }
     }
 
+    /**
+     * 사용자의 모든 장바구니 항목을 원시 배열 형태로 조회 (TTL 갱신)
+     */
+    public CartLines getLines(Long userId) {
+        List<?> entries = execute(READ_SCRIPT, getCartKey(userId), ttlSeconds());
+        if (entries == null || entries.isEmpty()) {
+            return new CartLines(0);
+        }
+        List<byte[]> flat = new ArrayList<>(entries.size());
+        entries.forEach(entry -> flat.add((byte[]) entry));
+        return decodeLines(flat);
+    }
+
     /**
      * 특정 제품의 장바구니 항목 조회
-     * Touch 패턴: 조회 시 TTL 갱신하여 활성 사용자의 장바구니 유지
      */
     public Optional<CartItemData> getItem(Long userId, UUID productId) {
-        String cartKey = getCartKey(userId);
-        String productIdStr = productId.toString();
+        byte[] field = CartLineCodec.encodeField(productId);
+        byte[] text = text(productId);
+        byte[] idField = bytes(productId + CART_ITEM_ID_SUFFIX);
 
         try {
-            String itemJson = (String) redisTemplate.opsForHash().get(cartKey, productIdStr);
-            
-            if (itemJson == null) {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.hashCommands().hMGet(bytes(getCartKey(userId)), field, text, idField));
+            if (values == null || (values.get(0) == null && values.get(1) == null)) {
                 return Optional.empty();
             }
 
-            // 조회 시 TTL 갱신 (Touch 패턴)
-            refreshTtl(cartKey);
-
-            CartItemData itemData = objectMapper.readValue(itemJson, CartItemData.class);
-            return Optional.of(itemData);
+            List<byte[]> flat = new ArrayList<>(4);
+            if (values.get(0) != null) {
+                flat.add(field);
+                flat.add(values.get(0));
+            } else {
+                flat.add(text);
+                flat.add(values.get(1));
+                if (values.get(2) != null) {
+                    flat.add(idField);
+                    flat.add(values.get(2));
+                }
+            }
+            return Optional.ofNullable(decodeLines(flat).toItemMap().get(productId));
         } catch (Exception e) {
-            log.error("[REDIS_CART_GET_ITEM_FAILED] userId={}, productId={}, error={}", 
+            log.error("[REDIS_CART_GET_ITEM_FAILED] userId={}, productId={}, error={}",
                     userId, productId, e.getMessage(), e);
             return Optional.empty();
         }
@@ -221,16 +816,166 @@ public class RedisCartRepository {
      */
     public void clearCart(Long userId) {
         String cartKey = getCartKey(userId);
-        
+
         try {
-            redisTemplate.delete(cartKey);
-            log.debug("[REDIS_CART_CLEAR] userId={}", userId);
+            for (int attempt = 1; attempt <= CLEAR_MAX_ATTEMPTS; attempt++) {
+                if (clearOnce(cartKey, userId)) {
+                    log.debug("[REDIS_CART_CLEAR] userId={}", userId);
+                    return;
+                }
+            }
+            log.warn("[REDIS_CART_CLEAR_CONFLICT] 장바구니가 계속 변경되어 비우지 못했습니다. userId={}", userId);
         } catch (Exception e) {
-            log.error("[REDIS_CART_CLEAR_FAILED] userId={}, error={}", 
+            log.error("[REDIS_CART_CLEAR_FAILED] userId={}, error={}",
                     userId, e.getMessage(), e);
         }
     }
 
+    /**
+     * 항목 필드를 읽어 역색인 키를 만든 뒤 삭제 스크립트 실행
+     *
+     * @return 그 사이 항목이 추가되어 다시 시도해야 하면 false
+     */
+    private boolean clearOnce(String cartKey, Long userId) {
+        Set<byte[]> fields = redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                connection.hashCommands().hKeys(bytes(cartKey)));
+        List<String> keys = new ArrayList<>();
+        keys.add(cartKey);
+        List<byte[]> args = new ArrayList<>();
+        args.add(bytes(userId));
+        if (fields != null) {
+            for (byte[] field : fields) {
+                UUID productId = productIdOf(field);
+                if (productId != null) {
+                    keys.add(productUsersKey(productId));
+                    args.add(field);
+                }
+            }
+        }
+        Long result = execute(CLEAR_SCRIPT, keys, args.toArray());
+        return result == null || result >= 0;
+    }
+
+    /**
+     * 항목 필드(이진 16바이트 또는 이전 형식 UUID 텍스트)의 제품 ID, 항목 필드가 아니면 null
+     */
+    private static UUID productIdOf(byte[] field) {
+        if (CartLineCodec.isBinaryField(field)) {
+            return new UUID(CartLineCodec.mostSignificantBits(field), CartLineCodec.leastSignificantBits(field));
+        }
+        if (field.length == LEGACY_FIELD_LENGTH) {
+            try {
+                return UUID.fromString(new String(field, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Redis 장바구니가 있거나 반영할 변경이 남아 있는 사용자 조회 (만료 대상에서 제외)
+     * 스크립트 한 번에 최대 SCRIPT_CHUNK_KEYS 명씩 나눠 확인하여 Redis를 오래 점유하지 않습니다.
+     */
+    public Set<Long> findActiveUsers(Collection<Long> userIds) {
+        Set<Long> active = new HashSet<>();
+        List<Long> candidates = new ArrayList<>(userIds);
+        for (int from = 0; from < candidates.size(); from += SCRIPT_CHUNK_KEYS) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + SCRIPT_CHUNK_KEYS, candidates.size()));
+            List<String> keys = new ArrayList<>(chunk.size() + 1);
+            keys.add(RedisCartChangeLog.DIRTY_KEY);
+            chunk.forEach(userId -> keys.add(getCartKey(userId)));
+
+            List<?> result = execute(ACTIVE_USERS_SCRIPT, keys, chunk.stream().map(RedisCartRepository::bytes).toArray());
+            if (result == null) {
+                throw new IllegalStateException("Redis 장바구니 스크립트 결과가 없습니다.");
+            }
+            result.forEach(userId -> active.add(((Number) userId).longValue()));
+        }
+        return active;
+    }
+
+    /**
+     * DB에서 만료된 장바구니를 역색인에서 제거 (그 사이 Redis 장바구니가 다시 생긴 사용자는 유지)
+     * 사용자 단위로 묶어 스크립트 한 번에 약 SCRIPT_CHUNK_KEYS 개 키까지만 다룹니다. (한 사용자의 항목은 나누지 않음)
+     *
+     * @param expired userId → 장바구니에 있던 productId 목록
+     * @return 역색인에서 제거한 사용자 수
+     */
+    public long releaseExpired(Map<Long, List<UUID>> expired) {
+        long released = 0L;
+        List<String> keys = new ArrayList<>();
+        List<byte[]> args = new ArrayList<>();
+        for (Map.Entry<Long, List<UUID>> entry : expired.entrySet()) {
+            if (!keys.isEmpty() && keys.size() + 1 + entry.getValue().size() > SCRIPT_CHUNK_KEYS) {
+                released += releaseExpiredChunk(keys, args);
+                keys.clear();
+                args.clear();
+            }
+            if (keys.isEmpty()) {
+                keys.add(RedisCartChangeLog.DIRTY_KEY);
+            }
+            keys.add(getCartKey(entry.getKey()));
+            entry.getValue().forEach(productId -> keys.add(productUsersKey(productId)));
+            args.add(bytes(entry.getKey()));
+            args.add(bytes(entry.getValue().size()));
+        }
+        if (!keys.isEmpty()) {
+            released += releaseExpiredChunk(keys, args);
+        }
+        return released;
+    }
+
+    private long releaseExpiredChunk(List<String> keys, List<byte[]> args) {
+        Long released = execute(RELEASE_EXPIRED_SCRIPT, List.copyOf(keys), args.toArray());
+        return released != null ? released : 0L;
+    }
+
+    /**
+     * 장바구니 키 SCAN 커서 열기 (cart:{userId} 이외의 cart:* 키도 포함되므로 isCartKey로 걸러서 사용)
+     * 커서는 호출자가 닫아야 하며, 여러 주기에 걸쳐 나눠 읽을 수 있습니다.
+     *
+     * @param count SCAN COUNT
+     */
+    public Cursor<String> scanCartKeys(int count) {
+        ScanOptions options = ScanOptions.scanOptions().match(CART_KEY_PREFIX + "*").count(count).build();
+        return redisTemplate.scan(options);
+    }
+
+    /**
+     * 장바구니 키 중 TTL이 없는 키에 TTL 설정 (이전 버전에서 TTL 없이 저장된 키 등)
+     * TTL 조회와 설정을 각각 파이프라인으로 실행하며, 장바구니 키가 아닌 키는 건너뜁니다.
+     *
+     * @return TTL을 설정한 키 수
+     */
+    public int enforceTtl(List<String> keys) {
+        List<String> cartKeys = keys.stream().filter(RedisCartRepository::isCartKey).toList();
+        if (cartKeys.isEmpty()) {
+            return 0;
+        }
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            cartKeys.forEach(cartKey -> connection.keyCommands().ttl(bytes(cartKey)));
+            return null;
+        });
+
+        // TTL -1 = 만료 없음 (-2는 그 사이 삭제된 키)
+        List<String> persistent = new ArrayList<>();
+        for (int i = 0; i < cartKeys.size(); i++) {
+            if (ttls.get(i) instanceof Number ttl && ttl.longValue() == -1L) {
+                persistent.add(cartKeys.get(i));
+            }
+        }
+        if (persistent.isEmpty()) {
+            return 0;
+        }
+        long ttlSeconds = TimeUnit.DAYS.toSeconds(cartTtlDays);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            persistent.forEach(cartKey -> connection.keyCommands().expire(bytes(cartKey), ttlSeconds));
+            return null;
+        });
+        return (int) results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
     /**
      * 사용자의 장바구니 존재 여부 확인
      */
@@ -243,9 +988,52 @@ public class RedisCartRepository {
      * 사용자의 장바구니 항목 수 조회
      */
     public long getItemCount(Long userId) {
-        String cartKey = getCartKey(userId);
-        Long count = redisTemplate.opsForHash().size(cartKey);
-        return count != null ? count : 0;
+        byte[] cartKey = bytes(getCartKey(userId));
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            Set<byte[]> fields = connection.hashCommands().hKeys(cartKey);
+            if (fields == null) {
+                return 0L;
+            }
+            return fields.stream()
+                    .filter(field -> CartLineCodec.isBinaryField(field)
+                            || (!CartLineCodec.isCartIdField(field)
+                            && !new String(field, StandardCharsets.UTF_8).endsWith(CART_ITEM_ID_SUFFIX)))
+                    .count();
+        });
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 남아 있는 이전 형식(텍스트 필드) 장바구니 항목을 이진 형식으로 일괄 변환
+     * SCAN으로 cart:{userId} 키를 순회하며 키마다 스크립트를 한 번 실행합니다. (TTL은 유지)
+     *
+     * @return 변환한 항목 수
+     */
+    public long migrateLegacyCarts() {
+        List<String> cartKeys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(CART_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    if (isCartKey(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+            return keys;
+        });
+        if (cartKeys == null) {
+            return 0L;
+        }
+
+        long converted = 0;
+        for (String cartKey : cartKeys) {
+            Long result = execute(MIGRATE_SCRIPT, cartKey);
+            converted += result != null ? result : 0L;
+        }
+        log.info("[REDIS_CART_MIGRATE] cartCount={}, convertedItems={}", cartKeys.size(), converted);
+        return converted;
     }
 
     /**
@@ -256,21 +1044,110 @@ public class RedisCartRepository {
     }
 
     /**
-     * 장바구니 키의 TTL을 갱신합니다.
-     * 키가 존재하는 경우에만 TTL을 설정합니다.
-     * 
-     * @param cartKey 장바구니 Redis 키
+     * 제품 → 사용자 역색인 키 (RedisCartProductIndex)
      */
-    private void refreshTtl(String cartKey) {
-        try {
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(cartKey))) {
-                long ttlSeconds = TimeUnit.DAYS.toSeconds(cartTtlDays);
-                redisTemplate.expire(cartKey, ttlSeconds, TimeUnit.SECONDS);
-                log.debug("[REDIS_CART_TTL_REFRESHED] cartKey={}, ttlDays={}", cartKey, cartTtlDays);
+    private static String productUsersKey(UUID productId) {
+        return RedisCartProductIndex.KEY_PREFIX + productId;
+    }
+
+    /**
+     * cart:{userId} 형식의 키인지 확인 (cart:dirty 등 다른 장바구니 관련 키 제외)
+     */
+    private static boolean isCartKey(String key) {
+        String suffix = key.substring(CART_KEY_PREFIX.length());
+        return !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit);
+    }
+
+    private byte[] ttlSeconds() {
+        return bytes(TimeUnit.DAYS.toSeconds(cartTtlDays));
+    }
+
+    private static byte[] text(UUID productId) {
+        return bytes(productId.toString());
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] optionalBytes(Object value) {
+        return value != null ? bytes(value) : new byte[0];
+    }
+
+    private <T> T execute(DefaultRedisScript<T> script, String key, Object... args) {
+        return execute(script, List.of(key), args);
+    }
+
+    /**
+     * 인자와 결과를 직렬화 없이(byte[]) 그대로 주고받으며 스크립트 실행
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T execute(DefaultRedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, RedisSerializer.byteArray(),
+                (RedisSerializer<T>) (RedisSerializer<?>) RedisSerializer.byteArray(), keys, args);
+    }
+
+    private static long requireResult(Long result) {
+        if (result == null) {
+            throw new IllegalStateException("Redis 장바구니 스크립트 결과가 없습니다.");
+        }
+        return result;
+    }
+
+    /**
+     * HGETALL 결과(필드, 값 반복)를 항목으로 변환
+     * 이진 필드와 이전 형식(텍스트 필드, 값은 숫자 또는 JSON) 모두 읽습니다.
+     */
+    private CartLines decodeLines(List<byte[]> flat) {
+        CartLines lines = new CartLines(flat.size() / 2);
+        Map<UUID, CartItemData> legacyItems = null;
+        Map<UUID, Long> legacyCartItemIds = null;
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            byte[] field = flat.get(i);
+            byte[] value = flat.get(i + 1);
+            if (CartLineCodec.isBinaryField(field)) {
+                CartLineCodec.decodeInto(field, value, lines);
+                continue;
+            }
+            if (CartLineCodec.isCartIdField(field)) {
+                lines.cartId(Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+                continue;
+            }
+            if (legacyItems == null) {
+                legacyItems = new HashMap<>();
+                legacyCartItemIds = new HashMap<>();
+            }
+            String text = new String(field, StandardCharsets.UTF_8);
+            String valueText = new String(value, StandardCharsets.UTF_8);
+            if (text.endsWith(CART_ITEM_ID_SUFFIX)) {
+                UUID productId = UUID.fromString(text.substring(0, text.length() - CART_ITEM_ID_SUFFIX.length()));
+                legacyCartItemIds.put(productId, Long.valueOf(valueText));
+                continue;
+            }
+            UUID productId = UUID.fromString(text);
+            legacyItems.put(productId, parseLegacyValue(productId, valueText));
+        }
+        if (legacyItems != null) {
+            for (CartItemData item : legacyItems.values()) {
+                Long cartItemId = item.getCartItemId() != null
+                        ? item.getCartItemId() : legacyCartItemIds.get(item.getProductId());
+                lines.add(item.getProductId().getMostSignificantBits(), item.getProductId().getLeastSignificantBits(),
+                        item.getQuantity(), cartItemId != null ? cartItemId : 0L, 0L, 0L);
             }
+        }
+        return lines;
+    }
+
+    private CartItemData parseLegacyValue(UUID productId, String value) {
+        if (!value.isEmpty() && Character.isDigit(value.charAt(0))) {
+            return new CartItemData(productId, Integer.valueOf(value));
+        }
+        try {
+            CartItemData legacy = objectMapper.readValue(value, CartItemData.class);
+            legacy.setProductId(productId);
+            return legacy;
         } catch (Exception e) {
-            log.warn("[REDIS_CART_TTL_REFRESH_FAILED] cartKey={}, error={}", cartKey, e.getMessage());
+            throw new IllegalStateException("Redis 장바구니 항목 해석 실패: productId=" + productId, e);
         }
     }
 }
-
@@ -1,6 +1,5 @@
 package groom.backend.infrastructure.config;
 
-import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -9,37 +8,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    /**
-     * 알림 처리를 위한 비동기 Executor
-     * - 결제 완료 후 알림 처리는 별도 스레드에서 실행
-     * - 알림 실패해도 결제 응답에 영향 없음
-     */
-    @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);          // 기본 스레드 수
-        executor.setMaxPoolSize(10);          // 최대 스레드 수
-        executor.setQueueCapacity(100);       // 큐 크기
-        executor.setThreadNamePrefix("notification-async-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
-
-        // 스레드풀 초기화
-        executor.initialize();
-
-        log.info("[ASYNC_CONFIG] Notification executor initialized - CorePoolSize: {}, MaxPoolSize: {}, QueueCapacity: {}",
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-
-        return executor;
-    }
-
     /**
      * 알림 생성 및 전송을 위한 동적 스레드 풀
      * - CPU 코어 수 기반 동적 조정
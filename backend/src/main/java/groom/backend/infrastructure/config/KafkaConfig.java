@@ -2,9 +2,13 @@ package groom.backend.infrastructure.config;
 
 import groom.backend.domain.raffle.entity.RaffleDrawingEvent;
 import groom.backend.infrastructure.kafka.StockThresholdEvent;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent;
 import groom.backend.infrastructure.kafka.stream.CouponDelayEvent;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,8 +17,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -258,7 +267,79 @@ public class KafkaConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
-}
 
+    /**
+     * [결제] outbox 릴레이 Producer
+     * outbox에 저장된 JSON을 그대로 발행하므로 값은 문자열로 직렬화합니다.
+     * 릴레이가 발행 확인 후 outbox에 기록하므로 모든 복제본 저장(acks=all)과 멱등 발행으로 유실/중복을 줄입니다.
+     */
+    @Bean
+    public ProducerFactory<String, String> paymentEventProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // 릴레이 배치를 몇 ms 모아 한 번에 전송
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> paymentEventKafkaTemplate() {
+        return new KafkaTemplate<>(paymentEventProducerFactory());
+    }
+
+    /**
+     * [결제] 처리하지 못한 결제 완료 이벤트를 DLT({토픽}.DLT)로 옮기는 Producer
+     * 역직렬화에 실패한 메시지는 원본 바이트 그대로, 처리에 실패한 메시지는 JSON으로 발행합니다.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> paymentEventDeadLetterKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        Map<Class<?>, Serializer<?>> delegates = new HashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(PaymentConfirmedEvent.class, new JsonSerializer<PaymentConfirmedEvent>().noTypeInfo());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(), new DelegatingByTypeSerializer(delegates)));
+    }
 
+    /**
+     * [결제] 결제 완료 이벤트 Consumer
+     * 타입 헤더 없이 발행되므로 PaymentConfirmedEvent 로 역직렬화합니다. (그룹 ID는 리스너별로 지정)
+     * 역직렬화 실패는 ErrorHandlingDeserializer가 예외로 넘겨 같은 메시지를 무한히 다시 읽지 않고 DLT로 보냅니다.
+     */
+    @Bean
+    public ConsumerFactory<String, PaymentConfirmedEvent> paymentEventConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PaymentConfirmedEvent.class.getName());
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "groom.backend.infrastructure.kafka.payment");
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
 
+    /**
+     * 처리에 성공한 메시지만 커밋, 실패하면 1초 간격으로 10회까지 같은 메시지를 다시 처리한 뒤 DLT로 옮기고 커밋
+     * 역직렬화 실패처럼 다시 처리해도 실패하는 메시지는 재시도 없이 바로 DLT로 옮깁니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentConfirmedEvent> paymentEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentConfirmedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(paymentEventConsumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(paymentEventDeadLetterKafkaTemplate(),
+                // 파티션은 지정하지 않아 DLT 파티션 수가 원본 토픽과 달라도 발행
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 10L)));
+        return factory;
+    }
+}
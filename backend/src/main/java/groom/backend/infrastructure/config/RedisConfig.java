@@ -10,9 +10,9 @@ import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import groom.backend.domain.auth.entity.RefreshToken;
 import groom.backend.domain.raffle.entity.RaffleDrawingEvent;
+import groom.backend.infrastructure.cache.TwoTierCacheManager;
 import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +21,9 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -40,6 +43,13 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 쿠폰 캐시 로컬(L1) 설정
+    @Value("${coupon.cache.local.max-size:10000}")
+    private long couponLocalCacheMaxSize;
+
+    @Value("${coupon.cache.local.ttl-seconds:30}")
+    private long couponLocalCacheTtlSeconds;
+
     // --- 쿠폰 도메인 캐시 이름 상수 ---
     public static final String COUPON_ITEM_CACHE_NAME = "coupon-item-cache";
     public static final String COUPON_LIST_CACHE_NAME = "user-coupons-list-cache";
@@ -179,9 +189,11 @@ public class RedisConfig {
     // --- [3. 추가] CacheManager 빈 ---
     /**
      * @Cacheable, @CacheEvict 등 Spring Cache 추상화가 사용할 CacheManager
+     * Redis 캐시(L2) 앞에 인스턴스 로컬 Caffeine 캐시(L1)를 둡니다.
      */
     @Bean(name = "couponCacheManager")
-    public CacheManager couponCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoTierCacheManager couponCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                  StringRedisTemplate stringRedisTemplate) {
 
         // 4. CacheManager 전용 ObjectMapper 설정 (Type 정보 포함)
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
@@ -206,10 +218,29 @@ public class RedisConfig {
         perCacheConfig.put(COUPON_ITEM_CACHE_NAME, defaultCacheConfig.entryTtl(Duration.ofHours(1))); // 단건 캐시: 1시간
         perCacheConfig.put(COUPON_LIST_CACHE_NAME, defaultCacheConfig.entryTtl(Duration.ofMinutes(5))); // 목록 캐시: 5분
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(defaultCacheConfig) // 기본 설정
                 .withInitialCacheConfigurations(perCacheConfig) // 캐시별 맞춤 설정
                 .build();
+        // 빈으로 등록되지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.initializeCaches();
+
+        // 7. 로컬(L1) 캐시는 L2보다 짧은 TTL로, 무효화 메시지 유실 시에도 빠르게 수렴
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate,
+                couponLocalCacheMaxSize, Duration.ofSeconds(couponLocalCacheTtlSeconds));
+    }
+
+    /**
+     * 다른 인스턴스의 캐시 변경 알림을 받아 로컬(L1) 캐시를 무효화하는 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoTierCacheManager couponCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(couponCacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
@@ -1,14 +1,29 @@
 package groom.backend.infrastructure.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    /**
+     * PG(Toss Payments) 호출용 HTTP 클라이언트
+     *
+     * - 호스트별 연결을 재사용 (keep-alive 유휴 시간은 jdk.httpclient.keepalive.timeout 시스템 속성, 기본 30초)
+     * - HTTP/2 우선, 서버가 지원하지 않으면 HTTP/1.1
+     * - 응답 처리는 가상 스레드에서 실행되어 요청 스레드 수와 무관하게 동시 호출 수는 TossHttpClient의 bulkhead로 제한
+     * 응답 대기 시간(읽기 제한)은 엔드포인트별로 TossHttpClient에서 설정합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient pgHttpClient(@Value("${payment.toss.http.connect-timeout-ms:3000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
     }
 }
@@ -0,0 +1,41 @@
+package groom.backend.infrastructure.kafka.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 승인 완료 이벤트 (payment-confirmed-events)
+ *
+ * 결제 승인 트랜잭션에서 outbox에 기록되고, 소비자 그룹별로 후속 처리(재고 알림, 장바구니 비우기, 추첨 티켓 생성)를 수행합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentConfirmedEvent {
+
+    public static final String TYPE = "PAYMENT_CONFIRMED";
+
+    private UUID eventId;
+    private UUID orderId;
+    private Long userId;
+    // 주문 상품별 수량 (장바구니 비우기)
+    private List<Item> items;
+    // 차감 후 재고량 (재고 알림, 복구된 승인은 승인 반영 시점의 재고량)
+    private List<StockLevel> stockLevels;
+    // 추첨 상품 응모 수량 (결제 트랜잭션에서 응모 가능 여부와 한도를 검증한 값)
+    private List<TicketEntry> ticketEntries;
+    private Long timestamp;
+
+    public record Item(UUID productId, int quantity) {
+    }
+
+    public record StockLevel(UUID productId, int stockAfter) {
+    }
+
+    public record TicketEntry(Long raffleId, int quantity) {
+    }
+}
@@ -0,0 +1,51 @@
+package groom.backend.infrastructure.kafka.payment;
+
+import groom.backend.application.payment.PaymentConfirmedEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료 이벤트 소비자
+ * 후속 처리마다 컨슈머 그룹을 나눠, 한 처리가 실패해 재시도되어도 다른 처리는 지연되지 않습니다.
+ * 예외를 던지면 오프셋이 커밋되지 않고 재전달되며, 중복 처리는 PaymentConfirmedEventHandler 가 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmedEventConsumer {
+
+    private final PaymentConfirmedEventHandler eventHandler;
+
+    @KafkaListener(topics = PaymentEventProducer.TOPIC, groupId = "payment-raffle-ticket-group",
+            containerFactory = "paymentEventKafkaListenerContainerFactory")
+    public void createRaffleTickets(PaymentConfirmedEvent event) {
+        handle("raffle-ticket", event, () -> eventHandler.createRaffleTickets(event));
+    }
+
+    @KafkaListener(topics = PaymentEventProducer.TOPIC, groupId = "payment-stock-notification-group",
+            containerFactory = "paymentEventKafkaListenerContainerFactory")
+    public void sendStockNotifications(PaymentConfirmedEvent event) {
+        handle("stock-notification", event, () -> eventHandler.sendStockNotifications(event));
+    }
+
+    @KafkaListener(topics = PaymentEventProducer.TOPIC, groupId = "payment-cart-clear-group",
+            containerFactory = "paymentEventKafkaListenerContainerFactory")
+    public void clearCartItems(PaymentConfirmedEvent event) {
+        handle("cart-clear", event, () -> eventHandler.clearCartItems(event));
+    }
+
+    private void handle(String consumer, PaymentConfirmedEvent event, Runnable action) {
+        long eventAge = System.currentTimeMillis() - event.getTimestamp();
+        try {
+            action.run();
+            log.info("[PAYMENT_EVENT_CONSUMED] consumer={}, eventId={}, orderId={}, eventAge={}ms",
+                    consumer, event.getEventId(), event.getOrderId(), eventAge);
+        } catch (Exception e) {
+            log.error("[PAYMENT_EVENT_CONSUME_FAILED] consumer={}, eventId={}, orderId={}, error={}",
+                    consumer, event.getEventId(), event.getOrderId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package groom.backend.infrastructure.kafka.payment;
+
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 이벤트 outbox 배치를 Kafka에 발행합니다.
+ * 배치 전체를 먼저 보낸 뒤 한 번에 확인하므로, 건마다 브로커 응답을 기다리지 않습니다.
+ * 같은 주문의 이벤트는 같은 파티션으로 가도록 주문 ID를 키로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentEventProducer {
+
+    public static final String TOPIC = "payment-confirmed-events";
+
+    private final KafkaTemplate<String, String> paymentEventKafkaTemplate;
+
+    @Value("${payment.event.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * @return 발행이 확인된 outbox 행 ID (앞에서부터 연속, 실패한 행부터는 다음 주기에 다시 발행)
+     */
+    public List<Long> publishAll(List<OutboxEvent> events) {
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(paymentEventKafkaTemplate.send(TOPIC, event.aggregateId().toString(), event.payload()));
+        }
+        paymentEventKafkaTemplate.flush();
+
+        List<Long> published = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                published.add(events.get(i).id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 이후 행은 발행되었더라도 기록하지 않고 다시 발행 (소비자는 이벤트 ID로 중복 처리)
+                log.error("[PAYMENT_EVENT_PUBLISH_FAILED] eventId={}, error={}", events.get(i).eventId(), e.getMessage());
+                break;
+            }
+        }
+        return published;
+    }
+}
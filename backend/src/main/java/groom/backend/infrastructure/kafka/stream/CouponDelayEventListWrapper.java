@@ -10,6 +10,10 @@ import java.util.List;
 /**
  * <h3>StateStore 저장용 래퍼(Wrapper) 클래스</h3>
  *
+ * <b>[이전 형식]</b> 현재 지연 저장소는 (실행 시간(초), 쿠폰 ID) 복합 키에 이벤트를 1건씩 저장합니다.
+ * ({@link CouponDelayKey}, {@link CouponDelaySerdes})
+ * 이 클래스는 배포 전에 적재된 이전 저장소의 데이터를 읽어 옮기는 데에만 사용됩니다.
+ *
  * Kafka StateStore에 {@code List<CouponDelayEvent>}를 직접 저장할 때 발생하는
  * Java '타입 소거(Type Erasure)' 문제를 피하기 위해 사용하는 '포장' 클래스입니다.
  * (이유: Java 제네릭의 타입 소거 문제로 인한 Serde(직렬화) 오류 방지)
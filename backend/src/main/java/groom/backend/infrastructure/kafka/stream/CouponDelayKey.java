@@ -0,0 +1,28 @@
+package groom.backend.infrastructure.kafka.stream;
+
+/**
+ * <h3>지연 StateStore의 복합 키 (실행 시간(초), 쿠폰 ID)</h3>
+ *
+ * 같은 초에 실행될 이벤트를 하나의 목록 값으로 묶지 않고, 이벤트마다 별도의 키로 저장합니다.
+ * (저장 시 조회-수정-덮어쓰기 없이 put 1회)
+ *
+ * {@link CouponDelaySerdes#key()}는 두 값을 빅엔디언 16바이트로 직렬화하므로,
+ * RocksDB의 바이트 사전순 정렬이 (executionSecond, couponId) 순서와 일치하여 실행 시간 기준 범위 조회가 가능합니다.
+ * (두 값 모두 0 이상이어야 합니다.)
+ */
+public record CouponDelayKey(long executionSecond, long couponId) {
+
+  /**
+   * executionSecond 이하의 모든 키를 포함하는 범위 조회 상한
+   */
+  public static CouponDelayKey upperBound(long executionSecond) {
+    return new CouponDelayKey(executionSecond, Long.MAX_VALUE);
+  }
+
+  /**
+   * executionSecond 이상의 모든 키를 포함하는 범위 조회 하한
+   */
+  public static CouponDelayKey lowerBound(long executionSecond) {
+    return new CouponDelayKey(executionSecond, 0L);
+  }
+}
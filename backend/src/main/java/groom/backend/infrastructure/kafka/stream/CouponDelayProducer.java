@@ -1,11 +1,13 @@
 package groom.backend.infrastructure.kafka.stream;
 
+import groom.backend.infrastructure.timer.CouponExpiryWheelScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 /**
  * <h3>Kafka Producer: 쿠폰 지연 이벤트 "발행(생산)"</h3>
@@ -35,11 +37,23 @@ public class CouponDelayProducer {
    */
   private final KafkaTemplate<String, CouponDelayEvent> kafkaTemplate;
 
+  /**
+   * 인스턴스 내부 타이밍 휠 스케줄러 (coupon.expiry.scheduler=wheel 일 때만 존재)
+   * 존재하면 Kafka 대신 이 스케줄러에 만료를 예약합니다.
+   */
+  private final Optional<CouponExpiryWheelScheduler> wheelScheduler;
+
   /**
    * 쿠폰 지연 이벤트를 Kafka 토픽으로 발행합니다.
+   * (타이밍 휠 스케줄러가 활성화된 경우 Kafka를 거치지 않고 직접 예약합니다.)
    * @param event Kafka로 보낼 쿠폰 이벤트 데이터
    */
   public void publishCouponDelayEvent(CouponDelayEvent event) {
+    if (wheelScheduler.isPresent()) {
+      wheelScheduler.get().schedule(event);
+      return;
+    }
+
     long start = System.currentTimeMillis();
 
     // Kafka로 메시지를 비동기 전송합니다.
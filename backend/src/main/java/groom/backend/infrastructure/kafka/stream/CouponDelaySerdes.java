@@ -0,0 +1,82 @@
+package groom.backend.infrastructure.kafka.stream;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <h3>지연 StateStore용 바이너리 Serde</h3>
+ *
+ * StateStore는 토픽과 달리 외부에서 읽지 않으므로 JSON 대신 고정 길이 바이너리로 저장합니다.
+ * <ul>
+ * <li><b>키 ({@link CouponDelayKey}):</b> executionSecond(8) + couponId(8), 빅엔디언</li>
+ * <li><b>값 ({@link CouponDelayEvent}):</b> null 여부 플래그(1) + couponId(8) + delayMillis(8) + timestamp(8)</li>
+ * </ul>
+ */
+public final class CouponDelaySerdes {
+
+  private static final int KEY_SIZE = Long.BYTES * 2;
+  private static final int EVENT_SIZE = 1 + Long.BYTES * 3;
+
+  private static final int COUPON_ID_PRESENT = 1;
+  private static final int DELAY_MILLIS_PRESENT = 1 << 1;
+  private static final int TIMESTAMP_PRESENT = 1 << 2;
+
+  private CouponDelaySerdes() {
+  }
+
+  public static Serde<CouponDelayKey> key() {
+    return Serdes.serdeFrom(
+            (topic, key) -> key == null ? null : ByteBuffer.allocate(KEY_SIZE)
+                    .putLong(key.executionSecond())
+                    .putLong(key.couponId())
+                    .array(),
+            (topic, bytes) -> {
+              if (bytes == null) {
+                return null;
+              }
+              if (bytes.length != KEY_SIZE) {
+                throw new SerializationException("잘못된 지연 이벤트 키 길이: " + bytes.length);
+              }
+              ByteBuffer buffer = ByteBuffer.wrap(bytes);
+              return new CouponDelayKey(buffer.getLong(), buffer.getLong());
+            });
+  }
+
+  public static Serde<CouponDelayEvent> event() {
+    return Serdes.serdeFrom(
+            (topic, event) -> {
+              if (event == null) {
+                return null;
+              }
+              int flags = (event.getCouponId() != null ? COUPON_ID_PRESENT : 0)
+                      | (event.getDelayMillis() != null ? DELAY_MILLIS_PRESENT : 0)
+                      | (event.getTimestamp() != null ? TIMESTAMP_PRESENT : 0);
+              return ByteBuffer.allocate(EVENT_SIZE)
+                      .put((byte) flags)
+                      .putLong(event.getCouponId() != null ? event.getCouponId() : 0L)
+                      .putLong(event.getDelayMillis() != null ? event.getDelayMillis() : 0L)
+                      .putLong(event.getTimestamp() != null ? event.getTimestamp() : 0L)
+                      .array();
+            },
+            (topic, bytes) -> {
+              if (bytes == null) {
+                return null;
+              }
+              if (bytes.length != EVENT_SIZE) {
+                throw new SerializationException("잘못된 지연 이벤트 값 길이: " + bytes.length);
+              }
+              ByteBuffer buffer = ByteBuffer.wrap(bytes);
+              int flags = buffer.get();
+              long couponId = buffer.getLong();
+              long delayMillis = buffer.getLong();
+              long timestamp = buffer.getLong();
+              return new CouponDelayEvent(
+                      (flags & COUPON_ID_PRESENT) != 0 ? couponId : null,
+                      (flags & DELAY_MILLIS_PRESENT) != 0 ? delayMillis : null,
+                      (flags & TIMESTAMP_PRESENT) != 0 ? timestamp : null);
+            });
+  }
+}
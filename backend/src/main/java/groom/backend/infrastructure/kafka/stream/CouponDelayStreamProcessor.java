@@ -50,7 +50,10 @@ public class CouponDelayStreamProcessor {
   private static final String OUTPUT_TOPIC = "coupon-activate-events";
 
   // 3. 상태 저장소(StateStore)의 이름: 지연 이벤트를 임시 보관할 '내부 DB'의 이름
-  private static final String DELAY_STATE_STORE = "delay-events-store";
+  private static final String DELAY_STATE_STORE = "coupon-delay-store";
+
+  // 이전 형식(실행 시간(초) → 이벤트 목록 JSON) 저장소 이름. 남아 있는 이벤트를 옮긴 뒤에는 비어 있습니다.
+  private static final String LEGACY_DELAY_STATE_STORE = "delay-events-store";
 
   /**
    * Kafka Streams의 '토폴로지(Topology)'를 Bean으로 등록합니다.
@@ -74,7 +77,7 @@ public class CouponDelayStreamProcessor {
             new JsonDeserializer<>(CouponDelayEvent.class) // JSON(byte[]) -> Java
     );
 
-    // 2. StateStore에 저장될 'List 래퍼(Wrapper)' 객체용 Serde
+    // 2. (이전 형식) StateStore에 저장되던 'List 래퍼(Wrapper)' 객체용 Serde
     Serde<CouponDelayEventListWrapper> wrapperSerde = Serdes.serdeFrom(
             new JsonSerializer<>(),
             new JsonDeserializer<>(CouponDelayEventListWrapper.class)
@@ -85,20 +88,31 @@ public class CouponDelayStreamProcessor {
     // <Key, Value> 형식의 저장소입니다.
 
     // 3. KeyValueStore를 생성하기 위한 '설계도(Builder)'
-    StoreBuilder<KeyValueStore<Long, CouponDelayEventListWrapper>> storeBuilder = Stores.keyValueStoreBuilder(
+    //    Key: (실행 시간 '초', 쿠폰 ID) 복합 키 → 이벤트마다 put 1회 (같은 초의 목록을 다시 쓰지 않음)
+    //    Key/Value 모두 고정 길이 바이너리로 저장합니다. (CouponDelaySerdes)
+    StoreBuilder<KeyValueStore<CouponDelayKey, CouponDelayEvent>> storeBuilder = Stores.keyValueStoreBuilder(
 
             // StateStore를 디스크 기반의 '영속성' 저장소로 설정합니다 (앱이 재시작되어도 유지됨)
             // (Stores.inMemoryKeyValueStore(...)를 사용하면 메모리 기반이 됨)
             Stores.persistentKeyValueStore(DELAY_STATE_STORE), // 저장소 이름
 
-            Serdes.Long(), // Key 타입: Long (이벤트 실행 시간 '초(second)' 단위)
-            wrapperSerde   // Value 타입: CouponDelayEventListWrapper (해당 초에 실행될 이벤트 목록)
+            CouponDelaySerdes.key(),  // Key 타입: CouponDelayKey (실행 시간(초), 쿠폰 ID)
+            CouponDelaySerdes.event() // Value 타입: CouponDelayEvent (이벤트 1건)
+    );
+
+    // 3-1. 이전 형식(Key: 실행 시간(초), Value: 이벤트 목록 JSON) 저장소
+    //      배포 전에 적재된 지연 이벤트를 새 저장소로 옮기기 위해서만 등록합니다. (CouponDelayTransformer#init)
+    StoreBuilder<KeyValueStore<Long, CouponDelayEventListWrapper>> legacyStoreBuilder = Stores.keyValueStoreBuilder(
+            Stores.persistentKeyValueStore(LEGACY_DELAY_STATE_STORE),
+            Serdes.Long(),
+            wrapperSerde
     );
 
     // 4. 정의한 StateStore '설계도'를 'StreamsBuilder'에 등록합니다.
     //    이제 이 토폴로지 내의 Transformer들이 'DELAY_STATE_STORE'라는 이름으로
     //    이 저장소에 접근할 수 있게 됩니다.
     builder.addStateStore(storeBuilder);
+    builder.addStateStore(legacyStoreBuilder);
 
     // --- [STEP 3] 스트림 토폴로지 (데이터 흐름) 정의 ---
 
@@ -118,12 +132,13 @@ public class CouponDelayStreamProcessor {
                     // 'CouponDelayTransformer'의 새 인스턴스를 생성합니다.
                     // 'DELAY_STATE_STORE' 이름을 생성자로 넘겨주어,
                     // Transformer가 어떤 StateStore를 사용할지 알려줍니다.
-                    () -> new CouponDelayTransformer(DELAY_STATE_STORE),
+                    () -> new CouponDelayTransformer(DELAY_STATE_STORE, LEGACY_DELAY_STATE_STORE),
 
                     // [중요] 이 Transformer가 'DELAY_STATE_STORE'라는 이름의
                     // StateStore에 '접근해야 함'을 명시적으로 선언합니다.
                     // (위의 builder.addStateStore(storeBuilder)와 연결됩니다.)
-                    DELAY_STATE_STORE
+                    DELAY_STATE_STORE,
+                    LEGACY_DELAY_STATE_STORE
             )
             // 7. [출력] Transformer가 지연 처리 후 'forward'한 메시지를
             //    OUTPUT_TOPIC으로 보냅니다.
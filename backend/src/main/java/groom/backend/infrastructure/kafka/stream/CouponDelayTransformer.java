@@ -1,6 +1,5 @@
 package groom.backend.infrastructure.kafka.stream;
 
-import groom.backend.infrastructure.kafka.stream.CouponDelayEventListWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.kstream.Transformer;
@@ -11,7 +10,6 @@ import org.apache.kafka.streams.state.KeyValueStore;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 
 /**
  * <h3>Kafka Streams 'Transformer' (저수준 프로세서)</h3>
@@ -22,7 +20,7 @@ import java.util.ArrayList;
  *
  * <ol>
  * <li>메시지를 받으면, 메시지에 적힌 지연 시간(delayMillis)을 확인합니다.</li>
- * <li>메시지를 'StateStore'(내부 DB)에 "저장"합니다.</li>
+ * <li>메시지를 'StateStore'(내부 DB)에 (실행 시간(초), 쿠폰 ID) 키로 "저장"합니다.</li>
  * <li>내부 '타이머'(Punctuator)를 사용해 1초마다 StateStore를 스캔합니다.</li>
  * <li>지연 시간이 만료된 이벤트를 발견하면, 그제서야 'StateStore'에서 꺼내어
  * 다음 토픽({@code coupon-activate-events})으로 "전송(forward)"합니다.</li>
@@ -46,6 +44,12 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
    */
   private final String stateStoreName;
 
+  /**
+   * 이전 형식(실행 시간(초) → 이벤트 목록 JSON) StateStore의 이름.
+   * init 시 남아 있는 이벤트를 새 저장소로 옮기는 데에만 사용합니다.
+   */
+  private final String legacyStateStoreName;
+
   /**
    * Kafka Streams의 '컨텍스트'.
    * StateStore 접근, 타이머(Punctuator) 등록,
@@ -55,17 +59,26 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
 
   /**
    * 실제 '상태 저장소'(내부 DB) 인스턴스.
-   * Key: Long (이벤트가 실행될 시간 - 초 단위 타임스탬프)
-   * Value: CouponDelayEventListWrapper (해당 초에 실행될 이벤트 목록)
+   * Key: CouponDelayKey (이벤트가 실행될 시간 - 초 단위 타임스탬프, 쿠폰 ID)
+   * Value: CouponDelayEvent (이벤트 1건)
+   */
+  private KeyValueStore<CouponDelayKey, CouponDelayEvent> stateStore;
+
+  /**
+   * 다음 타이머 실행 시 범위 조회를 시작할 '초'.
+   * 이미 처리(삭제)한 구간을 매번 0부터 다시 훑지 않도록, 직전 조회 시각부터 조회합니다.
+   * (재시작 시에는 0부터 조회하여 복구된 이벤트를 모두 처리)
    */
-  private KeyValueStore<Long, CouponDelayEventListWrapper> stateStore;
+  private long scanFromSecond = 0L;
 
   /**
    * 생성자.
-   * @param stateStoreName (CouponDelayStreamProcessor에서) 연결할 StateStore의 이름을 주입받음.
+   * @param stateStoreName       (CouponDelayStreamProcessor에서) 연결할 StateStore의 이름을 주입받음.
+   * @param legacyStateStoreName 이전 형식 StateStore의 이름
    */
-  public CouponDelayTransformer(String stateStoreName) {
+  public CouponDelayTransformer(String stateStoreName, String legacyStateStoreName) {
     this.stateStoreName = stateStoreName;
+    this.legacyStateStoreName = legacyStateStoreName;
   }
 
   /**
@@ -81,6 +94,8 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
     // 1. 컨텍스트와 StateStore를 멤버 변수에 할당
     this.context = context;
     this.stateStore = context.getStateStore(stateStoreName);
+    // 1-1. 이전 형식 저장소에 남아 있는 이벤트를 새 저장소로 이동
+    migrateLegacyStore(context.getStateStore(legacyStateStoreName));
 
     // 2. [핵심] 'Punctuator'(타이머)를 스케줄링합니다.
     this.context.schedule(
@@ -103,7 +118,7 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
    */
   @Override
   public KeyValue<String, CouponDelayEvent> transform(String key, CouponDelayEvent event) {
-    if (event == null || event.getDelayMillis() <= 0) {
+    if (event == null || event.getCouponId() == null || event.getDelayMillis() == null || event.getDelayMillis() <= 0) {
       log.warn("잘못된 지연 이벤트 수신 (무시): {}", event);
       return null; // 처리할 필요 없으므로 즉시 종료
     }
@@ -116,21 +131,11 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
     long executionTimestamp = context.currentSystemTimeMs() + event.getDelayMillis();
 
     // 5. StateStore에 <Key, Value> 형태로 저장
-    //    Key는 '초' 단위로 그룹화합니다. (밀리초 단위로 저장하면 Key가 너무 많아짐)
+    //    Key는 (실행 시간 '초', 쿠폰 ID) 입니다. 같은 초에 실행될 이벤트가 많아도
+    //    기존 값을 읽고 다시 쓸 필요 없이 이벤트마다 put 1회로 끝납니다.
+    //    (같은 쿠폰이 같은 초에 다시 예약되면 하나로 합쳐집니다. 비활성화는 멱등이므로 문제 없음)
     long executionSecond = executionTimestamp / 1000;
-
-    // 5-1. StateStore에서 "해당 초(Key)"에 이미 저장된 이벤트 목록(Value)이 있는지 조회
-    CouponDelayEventListWrapper wrapper = stateStore.get(executionSecond);
-    if (wrapper == null) {
-      // 5-2. 없다면, 새로운 목록(Wrapper)을 생성
-      wrapper = new CouponDelayEventListWrapper(new ArrayList<>());
-    }
-
-    // 5-3. 현재 이벤트를 해당 목록에 추가
-    wrapper.getEvents().add(event);
-
-    // 5-4. <Key(실행 시간-초), Value(이벤트 목록)>을 StateStore에 덮어쓰기(저장)
-    stateStore.put(executionSecond, wrapper);
+    stateStore.put(new CouponDelayKey(executionSecond, event.getCouponId()), event);
 
     log.debug("이벤트 저장 완료 (지연 대기 시작): Key={}, 실행 예정 시각={}",
             key, Instant.ofEpochMilli(executionTimestamp));
@@ -153,35 +158,60 @@ public class CouponDelayTransformer implements Transformer<String, CouponDelayEv
     long currentSecond = currentTimestamp / 1000; // 현재 시간을 '초' 단위로 변환
 
     // 8. [핵심] StateStore를 '범위 조회(range scan)'합니다.
-    //    Key(실행 시간-초)가 0 (과거) 부터 "현재 시간(초)" 까지인
-    //    모든 데이터를 조회합니다.
+    //    Key(실행 시간-초)가 직전 조회 시각부터 "현재 시간(초)" 까지인
+    //    모든 데이터를 조회합니다. (키가 실행 시간 순으로 정렬되어 있으므로 만료된 구간만 읽음)
     //    -> "지금 당장 실행해야 하거나" 혹은 "과거에 실행됐어야 했는데 놓친"
-    //       모든 이벤트 목록을 가져옵니다.
-    try (KeyValueIterator<Long, CouponDelayEventListWrapper> iter = stateStore.range(0L, currentSecond)) {
+    //       모든 이벤트를 가져옵니다.
+    try (KeyValueIterator<CouponDelayKey, CouponDelayEvent> iter =
+                 stateStore.range(CouponDelayKey.lowerBound(scanFromSecond), CouponDelayKey.upperBound(currentSecond))) {
 
       while (iter.hasNext()) {
-        // 8-1. 실행 시간이 도래한 항목(Key-Value)을 하나씩 꺼냅니다.
-        KeyValue<Long, CouponDelayEventListWrapper> entry = iter.next();
-        Long executionSecond = entry.key; // 실행 시간(초)
-        CouponDelayEventListWrapper wrapper = entry.value; // 해당 초에 실행될 이벤트 목록
-
-        // 9. 목록(Wrapper)에 포함된 모든 이벤트를 다음 토픽으로 "수동 전송"합니다.
-        for (CouponDelayEvent event : wrapper.getEvents()) {
+        // 8-1. 실행 시간이 도래한 이벤트를 하나씩 꺼냅니다.
+        KeyValue<CouponDelayKey, CouponDelayEvent> entry = iter.next();
+        CouponDelayEvent event = entry.value;
 
-          // [매우 중요] context.forward():
-          // 'transform'에서 null을 반환하여 보류했던 메시지를
-          // 지금 이 시점에 '수동으로' 다음 토픽(coupon-activate-events)으로
-          // 보냅니다. (지연 처리 완료!)
-          context.forward(String.valueOf(event.getCouponId()), event);
+        // 9. [매우 중요] context.forward():
+        //    'transform'에서 null을 반환하여 보류했던 메시지를
+        //    지금 이 시점에 '수동으로' 다음 토픽(coupon-activate-events)으로
+        //    보냅니다. (지연 처리 완료!)
+        context.forward(String.valueOf(event.getCouponId()), event);
 
-          log.info("[Kafka Streams Timer] 쿠폰 {} 활성화 이벤트 발행 (지연 실행 완료)", event.getCouponId());
-        }
+        log.info("[Kafka Streams Timer] 쿠폰 {} 활성화 이벤트 발행 (지연 실행 완료)", event.getCouponId());
 
         // 10. [매우 중요] 처리가 완료된 항목은 StateStore에서 "삭제"합니다.
         //     이걸 하지 않으면 1초 뒤에 또 조회되어 중복 처리됩니다.
-        stateStore.delete(executionSecond);
+        stateStore.delete(entry.key);
+      }
+    }
+
+    // 11. 다음 조회는 현재 초부터 시작합니다.
+    //     (현재 초에 조회 이후 저장된 이벤트가 있을 수 있으므로 현재 초는 다시 포함)
+    scanFromSecond = currentSecond;
+  }
+
+  /**
+   * 이전 형식 StateStore(실행 시간(초) → 이벤트 목록)에 남아 있는 이벤트를 새 저장소로 옮깁니다.
+   * 한 번 옮기고 나면 이전 저장소는 비어 있으므로 이후에는 조회 1회로 끝납니다.
+   */
+  private void migrateLegacyStore(KeyValueStore<Long, CouponDelayEventListWrapper> legacyStore) {
+    int migrated = 0;
+    try (KeyValueIterator<Long, CouponDelayEventListWrapper> iter = legacyStore.all()) {
+      while (iter.hasNext()) {
+        KeyValue<Long, CouponDelayEventListWrapper> entry = iter.next();
+        if (entry.value != null && entry.value.getEvents() != null) {
+          for (CouponDelayEvent event : entry.value.getEvents()) {
+            if (event != null && event.getCouponId() != null) {
+              stateStore.put(new CouponDelayKey(entry.key, event.getCouponId()), event);
+              migrated++;
+            }
+          }
+        }
+        legacyStore.delete(entry.key);
       }
     }
+    if (migrated > 0) {
+      log.info("[Kafka Streams] 이전 형식 지연 이벤트 {}건을 새 저장소로 이동", migrated);
+    }
   }
 
   /**
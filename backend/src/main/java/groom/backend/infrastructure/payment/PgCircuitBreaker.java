@@ -0,0 +1,117 @@
+package groom.backend.infrastructure.payment;
+
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 호출 서킷 브레이커
+ *
+ * - CLOSED    : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN      : openDurationMillis 동안 호출하지 않고 즉시 실패
+ * - HALF_OPEN : OPEN 시간이 지나면 한 건만 시험 호출, 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 실패는 PG 상태를 알 수 없는 경우(타임아웃, 연결 실패, 5xx)만 집계하고, PG가 거절한 응답(4xx)은 성공으로 봅니다.
+ * 가상 스레드 고정(pinning)을 피하려고 synchronized 대신 ReentrantLock 을 사용합니다.
+ */
+@Slf4j
+public class PgCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public PgCircuitBreaker(String name, int failureThreshold, long openDurationMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * @return 호출해도 되면 true (true를 받은 호출은 반드시 onSuccess, onFailure, release 중 하나를 호출)
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+                log.info("[PG_CIRCUIT_HALF_OPEN] name={}", name);
+            }
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                state = State.CLOSED;
+                trialInFlight = false;
+                log.info("[PG_CIRCUIT_CLOSED] name={}", name);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("[PG_CIRCUIT_OPEN] name={}, consecutiveFailures={}", name, consecutiveFailures);
+                }
+                state = State.OPEN;
+                openedAt = System.currentTimeMillis();
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않은 경우, 결과에 반영하지 않고 시험 호출 권한만 반납합니다.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
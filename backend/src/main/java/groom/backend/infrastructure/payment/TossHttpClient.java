@@ -0,0 +1,182 @@
+package groom.backend.infrastructure.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Toss Payments HTTP 호출 계층
+ *
+ * - 연결 풀: 공유 HttpClient (RestTemplateConfig.pgHttpClient)
+ * - 엔드포인트별 응답 제한 시간과 bulkhead (동시 호출 수 제한, 가득 차면 bulkhead-wait-ms 만큼만 대기)
+ * - PG 전체에 대한 서킷 브레이커 (PgCircuitBreaker)
+ * - 메트릭: toss.api.latency (endpoint, outcome 태그, 히스토그램), toss.api.rejected, toss.circuit.state, toss.bulkhead.available
+ *
+ * 호출하지 못한 경우(서킷 OPEN, bulkhead 가득 참)는 PG 처리 여부를 알 수 없는 실패와 같이 declined=false 로 던집니다.
+ * (복구 중인 승인은 이전 시도의 결과를 알 수 없으므로 거절로 처리하면 안 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class TossHttpClient {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_DECLINED = "declined";
+    private static final String OUTCOME_ERROR = "error";
+
+    public enum Endpoint {
+        CONFIRM("confirm"),
+        CANCEL("cancel");
+
+        private final String tag;
+
+        Endpoint(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final HttpClient pgHttpClient;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.toss.http.confirm-timeout-ms:15000}")
+    private long confirmTimeoutMs;
+
+    @Value("${payment.toss.http.cancel-timeout-ms:15000}")
+    private long cancelTimeoutMs;
+
+    @Value("${payment.toss.http.confirm-max-concurrent:50}")
+    private int confirmMaxConcurrent;
+
+    @Value("${payment.toss.http.cancel-max-concurrent:10}")
+    private int cancelMaxConcurrent;
+
+    @Value("${payment.toss.http.bulkhead-wait-ms:100}")
+    private long bulkheadWaitMs;
+
+    @Value("${payment.toss.http.circuit-failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${payment.toss.http.circuit-open-ms:10000}")
+    private long circuitOpenMs;
+
+    private final Map<Endpoint, RestTemplate> restTemplates = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Semaphore> bulkheads = new EnumMap<>(Endpoint.class);
+    // 엔드포인트·결과별 응답 시간 (요청마다 등록하지 않도록 init 에서 한 번만 생성)
+    private final Map<Endpoint, Map<String, Timer>> latencyTimers = new EnumMap<>(Endpoint.class);
+    private PgCircuitBreaker circuitBreaker;
+    private Counter circuitRejections;
+    private Counter bulkheadRejections;
+
+    @PostConstruct
+    public void init() {
+        restTemplates.put(Endpoint.CONFIRM, restTemplate(confirmTimeoutMs));
+        restTemplates.put(Endpoint.CANCEL, restTemplate(cancelTimeoutMs));
+        bulkheads.put(Endpoint.CONFIRM, new Semaphore(confirmMaxConcurrent));
+        bulkheads.put(Endpoint.CANCEL, new Semaphore(cancelMaxConcurrent));
+        circuitBreaker = new PgCircuitBreaker("toss", circuitFailureThreshold, circuitOpenMs);
+
+        circuitRejections = Counter.builder("toss.api.rejected")
+                .tag("reason", "circuit_open")
+                .description("서킷 OPEN 으로 호출하지 않은 PG 요청 수")
+                .register(meterRegistry);
+        bulkheadRejections = Counter.builder("toss.api.rejected")
+                .tag("reason", "bulkhead_full")
+                .description("동시 호출 제한으로 호출하지 않은 PG 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("toss.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("PG 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        bulkheads.forEach((endpoint, bulkhead) ->
+                Gauge.builder("toss.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                        .tag("endpoint", endpoint.tag)
+                        .description("PG 동시 호출 여유 수")
+                        .register(meterRegistry));
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencyTimers.put(endpoint, Map.of(
+                    OUTCOME_SUCCESS, latencyTimer(endpoint, OUTCOME_SUCCESS),
+                    OUTCOME_DECLINED, latencyTimer(endpoint, OUTCOME_DECLINED),
+                    OUTCOME_ERROR, latencyTimer(endpoint, OUTCOME_ERROR)));
+        }
+    }
+
+    /**
+     * POST 요청. 4xx 응답은 HttpClientErrorException, 그 밖의 실패는 RestClientException 계열로 던집니다.
+     */
+    public <T> T post(Endpoint endpoint, String url, HttpEntity<?> entity, Class<T> responseType) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitRejections.increment();
+            throw new TossPaymentException(false, "PG_CIRCUIT_OPEN",
+                    "Toss Payments API 호출 차단: 서킷 OPEN (" + endpoint.tag + ")", null);
+        }
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        if (!acquire(bulkhead)) {
+            // 호출하지 않았으므로 서킷 결과에 반영하지 않음 (HALF_OPEN 시험 호출 권한 반납)
+            circuitBreaker.release();
+            bulkheadRejections.increment();
+            throw new TossPaymentException(false, "PG_BULKHEAD_FULL",
+                    "Toss Payments API 호출 차단: 동시 호출 제한 (" + endpoint.tag + ")", null);
+        }
+
+        long start = System.nanoTime();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T body = restTemplates.get(endpoint).exchange(url, HttpMethod.POST, entity, responseType).getBody();
+            outcome = OUTCOME_SUCCESS;
+            circuitBreaker.onSuccess();
+            return body;
+        } catch (HttpClientErrorException e) {
+            // PG가 요청을 처리하고 거절한 응답: PG는 정상
+            outcome = OUTCOME_DECLINED;
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+            latencyTimers.get(endpoint).get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer latencyTimer(Endpoint endpoint, String outcome) {
+        return Timer.builder("toss.api.latency")
+                .tag("endpoint", endpoint.tag)
+                .tag("outcome", outcome)
+                .description("Toss Payments API 응답 시간")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMillis(Math.max(confirmTimeoutMs, cancelTimeoutMs)))
+                .register(meterRegistry);
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RestTemplate restTemplate(long readTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(pgHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return restTemplateBuilder.requestFactory(() -> requestFactory).build();
+    }
+}
@@ -11,18 +11,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
+/**
+ * Toss Payments API 클라이언트
+ * 연결 풀, 제한 시간, bulkhead, 서킷 브레이커는 TossHttpClient 에서 처리합니다.
+ * 오프라인 부하 테스트는 payment.toss.stub.enabled=true 로 TossPaymentStubServer 를 띄우고 api-url 을 그 주소로 지정합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TossPaymentClientImpl implements TossPaymentClient {
 
-    private final RestTemplate restTemplate;
+    private final TossHttpClient tossHttpClient;
 
     @Value("${payment.toss.secret-key}")
     private String secretKey;
@@ -35,27 +38,30 @@ public class TossPaymentClientImpl implements TossPaymentClient {
         String url = apiUrl + "/v1/payments/confirm";
 
         HttpHeaders headers = createHeaders();
+        // 같은 결제 키의 재요청(복구 포함)은 PG가 첫 요청의 결과를 그대로 반환
+        // 주문 기준으로 두면 거절 후 다른 결제 수단으로 다시 승인할 때도 첫 거절 응답이 반환됨
+        headers.set("Idempotency-Key", "confirm-" + request.getPaymentKey());
         HttpEntity<TossPaymentConfirmRequest> entity = new HttpEntity<>(request, headers);
 
         log.info("[TOSS_API_REQUEST] Confirm payment - PaymentKey: {}, OrderId: {}, Amount: {}",
                 request.getPaymentKey(), request.getOrderId(), request.getAmount());
 
         try {
-            ResponseEntity<TossPaymentResponse> response = restTemplate.exchange(
+            TossPaymentResponse response = tossHttpClient.post(
+                    TossHttpClient.Endpoint.CONFIRM,
                     url,
-                    HttpMethod.POST,
                     entity,
                     TossPaymentResponse.class
             );
 
             log.info("[TOSS_API_SUCCESS] Payment confirmed - PaymentKey: {}",
-                    response.getBody().getPaymentKey());
+                    response.getPaymentKey());
 
-            return response.getBody();
+            return response;
 
         } catch (Exception e) {
             log.error("[TOSS_API_ERROR] Payment confirmation failed - Error: {}", e.getMessage());
-            throw new RuntimeException("Toss Payments API 호출 실패: " + e.getMessage(), e);
+            throw toTossPaymentException(e);
         }
     }
 
@@ -73,23 +79,38 @@ public class TossPaymentClientImpl implements TossPaymentClient {
                 paymentKey, cancelReason);
 
         try {
-            ResponseEntity<TossPaymentResponse> response = restTemplate.exchange(
+            TossPaymentResponse response = tossHttpClient.post(
+                    TossHttpClient.Endpoint.CANCEL,
                     url,
-                    HttpMethod.POST,
                     entity,
                     TossPaymentResponse.class
             );
 
             log.info("[TOSS_API_SUCCESS] Payment cancelled - PaymentKey: {}", paymentKey);
 
-            return response.getBody();
+            return response;
 
         } catch (Exception e) {
             log.error("[TOSS_API_ERROR] Payment cancellation failed - Error: {}", e.getMessage());
-            throw new RuntimeException("Toss Payments API 호출 실패: " + e.getMessage(), e);
+            throw toTossPaymentException(e);
         }
     }
 
+    /**
+     * 4xx 응답은 PG가 거절한 요청, 그 외(타임아웃, 5xx)는 처리 여부를 알 수 없는 실패로 구분
+     */
+    private TossPaymentException toTossPaymentException(Exception e) {
+        if (e instanceof TossPaymentException tossPaymentException) {
+            // 서킷 OPEN, 동시 호출 제한으로 호출하지 않은 요청
+            return tossPaymentException;
+        }
+        if (e instanceof HttpClientErrorException clientError) {
+            return new TossPaymentException(true, String.valueOf(clientError.getStatusCode().value()),
+                    "Toss Payments API 호출 실패: " + clientError.getResponseBodyAsString(), e);
+        }
+        return new TossPaymentException(false, "PG_UNAVAILABLE", "Toss Payments API 호출 실패: " + e.getMessage(), e);
+    }
+
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,22 @@
+package groom.backend.infrastructure.payment;
+
+import lombok.Getter;
+
+/**
+ * Toss Payments API 호출 실패
+ *
+ * declined = true  : PG가 요청을 거절한 응답 (4xx), 결제는 승인되지 않음
+ * declined = false : 응답을 받지 못했거나 PG 서버 오류 (타임아웃, 5xx), 승인 여부를 알 수 없음
+ */
+@Getter
+public class TossPaymentException extends RuntimeException {
+
+    private final boolean declined;
+    private final String code;
+
+    public TossPaymentException(boolean declined, String code, String message, Throwable cause) {
+        super(message, cause);
+        this.declined = declined;
+        this.code = code;
+    }
+}
@@ -0,0 +1,194 @@
+package groom.backend.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오프라인 부하 테스트용 Toss Payments 모의 서버 (payment.toss.stub.enabled=true)
+ *
+ * 같은 프로세스에서 HTTP 서버를 띄워 실제 호출 경로(연결 풀, 제한 시간, bulkhead, 서킷 브레이커)를 그대로 거치게 합니다.
+ * payment.toss.api-url 을 http://localhost:{port} 로 지정해서 사용합니다.
+ *
+ * - POST /v1/payments/confirm, POST /v1/payments/{paymentKey}/cancel
+ * - 응답 지연: latency-ms + [0, latency-jitter-ms)
+ * - failure-rate 비율로 500, decline-rate 비율로 400 응답
+ * - 같은 Idempotency-Key 의 재요청은 첫 응답을 그대로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.toss.stub.enabled", havingValue = "true")
+public class TossPaymentStubServer {
+
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CANCEL_SUFFIX = "/cancel";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${payment.toss.stub.port:18080}")
+    private int port;
+
+    @Value("${payment.toss.stub.latency-ms:150}")
+    private long latencyMs;
+
+    @Value("${payment.toss.stub.latency-jitter-ms:100}")
+    private long latencyJitterMs;
+
+    @Value("${payment.toss.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @Value("${payment.toss.stub.decline-rate:0.0}")
+    private double declineRate;
+
+    private final Map<String, StubResponse> idempotentResponses = new ConcurrentHashMap<>();
+    private HttpServer server;
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+        log.warn("[TOSS_STUB_STARTED] port={}, latencyMs={}, failureRate={}, declineRate={}",
+                port, latencyMs, failureRate, declineRate);
+    }
+
+    /**
+     * 수신 중인 포트 (port=0 이면 시작할 때 할당된 포트)
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                write(exchange, new StubResponse(405, error("METHOD_NOT_ALLOWED", "POST만 지원합니다.")));
+                return;
+            }
+            Map<String, Object> request = readBody(exchange.getRequestBody());
+            String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+
+            StubResponse response;
+            if (idempotencyKey != null && idempotentResponses.containsKey(idempotencyKey)) {
+                response = idempotentResponses.get(idempotencyKey);
+            } else {
+                delay();
+                if (CONFIRM_PATH.equals(path)) {
+                    response = respond(request, null);
+                } else if (path.endsWith(CANCEL_SUFFIX)) {
+                    String paymentKey = path.substring("/v1/payments/".length(), path.length() - CANCEL_SUFFIX.length());
+                    response = respond(request, paymentKey);
+                } else {
+                    response = new StubResponse(404, error("NOT_FOUND", "지원하지 않는 경로입니다."));
+                }
+                // 서버 오류는 PG가 처리하지 않은 것으로 보고 저장하지 않음 (재요청 시 다시 처리)
+                if (idempotencyKey != null && response.status() < 500) {
+                    // 같은 키의 동시 요청은 먼저 저장된 응답으로 통일
+                    StubResponse previous = idempotentResponses.putIfAbsent(idempotencyKey, response);
+                    response = previous != null ? previous : response;
+                }
+            }
+            write(exchange, response);
+        }
+    }
+
+    /**
+     * @param cancelPaymentKey 취소 요청이면 경로의 paymentKey, 승인 요청이면 null
+     */
+    private StubResponse respond(Map<String, Object> request, String cancelPaymentKey) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < failureRate) {
+            return new StubResponse(500, error("FAILED_INTERNAL_SYSTEM_PROCESSING", "모의 PG 서버 오류"));
+        }
+        if (roll < failureRate + declineRate) {
+            return new StubResponse(400, error("REJECT_CARD_PAYMENT", "모의 PG 승인 거절"));
+        }
+
+        String now = OffsetDateTime.now(ZoneOffset.ofHours(9)).withNano(0).toString();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mId", "tgroomstub");
+        body.put("version", "2022-11-16");
+        body.put("paymentKey", cancelPaymentKey != null ? cancelPaymentKey : request.get("paymentKey"));
+        body.put("orderId", request.get("orderId"));
+        body.put("method", "카드");
+        body.put("status", cancelPaymentKey != null ? "CANCELED" : "DONE");
+        body.put("type", "NORMAL");
+        body.put("currency", "KRW");
+        body.put("totalAmount", request.get("amount"));
+        body.put("balanceAmount", cancelPaymentKey != null ? 0 : request.get("amount"));
+        body.put("lastTransactionKey", "stub_tx_" + UUID.randomUUID());
+        body.put("requestedAt", now);
+        body.put("approvedAt", now);
+        body.put("useEscrow", false);
+        body.put("cultureExpense", false);
+        body.put("isPartialCancelable", true);
+        return new StubResponse(200, body);
+    }
+
+    private void delay() {
+        long millis = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(InputStream body) throws IOException {
+        byte[] bytes = body.readAllBytes();
+        if (bytes.length == 0) {
+            return Map.of();
+        }
+        return objectMapper.readValue(bytes, Map.class);
+    }
+
+    private void write(HttpExchange exchange, StubResponse response) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(response.body()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        return Map.of("code", code, "message", message);
+    }
+
+    private record StubResponse(int status, Map<String, Object> body) {
+    }
+}
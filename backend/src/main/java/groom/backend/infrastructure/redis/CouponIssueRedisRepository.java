@@ -0,0 +1,430 @@
+package groom.backend.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급용 Redis 저장소
+ *
+ * 잔여 수량과 발급 사용자 집합을 Redis에 두고, 하나의 Lua 스크립트로
+ * "중복 확인 → 수량 차감 → 발급 기록 → 영속화 대기열 적재"를 원자적으로 수행합니다.
+ * DB 행 락 없이 발급 여부가 결정되며, 실제 CouponIssue 행은 대기열을 통해 비동기로 저장됩니다.
+ *
+ * 스트라이프 쿠폰(stockStripes > 1)은 잔여 수량을 N개의 카운터로 나누고, 사용자마다 다른 카운터부터 차감하여
+ * 하나의 핫 키에 쓰기가 몰리지 않도록 합니다. 발급은 일반 쿠폰과 같이 한 스크립트로 원자적으로 수행되며,
+ * 어떤 카운터도 0 미만으로 내려가지 않으므로 합계 기준으로 초과 발급은 발생하지 않습니다.
+ *
+ * Key 구조
+ * - coupon:stock:{couponId}    : 잔여 수량 (String)
+ * - coupon:issued:{couponId}   : 발급 받은 userId 집합 (Set)
+ * - coupon:stripes:{couponId}  : 스트라이프 수 (String, 스트라이프 쿠폰의 초기화 여부 표시)
+ * - coupon:stock:{couponId}:{i}: 스트라이프별 잔여 수량 (String)
+ * - coupon:issue:pending       : 영속화 대기 중인 발급 예약 (List)
+ * - coupon:issue:processing    : 영속화 처리 중인 발급 예약 (Sorted Set, score = 처리 기한(epoch ms), 장애 복구용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueRedisRepository {
+
+    private static final String STOCK_KEY_PREFIX = "coupon:stock:";
+    private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
+    private static final String STRIPES_KEY_PREFIX = "coupon:stripes:";
+    private static final String PENDING_QUEUE_KEY = "coupon:issue:pending";
+    private static final String PROCESSING_QUEUE_KEY = "coupon:issue:processing";
+
+    // 발급 스크립트 결과 코드 (0 이상이면 발급 후 잔여 수량)
+    public static final long RESULT_ALREADY_ISSUED = -1L;
+    public static final long RESULT_OUT_OF_STOCK = -2L;
+    public static final long RESULT_NOT_INITIALIZED = -3L;
+    public static final long RESULT_QUEUE_FULL = -4L;
+
+    /**
+     * KEYS[1] = stock, KEYS[2] = issued set, KEYS[3] = pending queue
+     * ARGV[1] = userId, ARGV[2] = 직렬화된 발급 예약, ARGV[3] = 대기열 최대 길이
+     */
+    private static final DefaultRedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then
+              return -3
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+              return -1
+            end
+            if tonumber(stock) <= 0 then
+              return -2
+            end
+            if redis.call('LLEN', KEYS[3]) >= tonumber(ARGV[3]) then
+              return -4
+            end
+            local remaining = redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('RPUSH', KEYS[3], ARGV[2])
+            return remaining
+            """, Long.class);
+
+    /**
+     * 재고 키가 없을 때만 DB 기준으로 초기화합니다. (동시 초기화 경쟁 방지)
+     * KEYS[1] = stock, KEYS[2] = issued set
+     * ARGV[1] = 잔여 수량, ARGV[2..n] = 이미 발급 받은 userId
+     */
+    private static final DefaultRedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 2, #ARGV do
+              redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 스트라이프 쿠폰 초기화. 잔여 수량을 스트라이프에 고르게 나눕니다.
+     * KEYS[1] = stripes marker, KEYS[2] = issued set, KEYS[3..n] = 스트라이프 카운터
+     * ARGV[1] = 잔여 수량, ARGV[2..n] = 이미 발급 받은 userId
+     */
+    private static final DefaultRedisScript<Long> STRIPED_INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 2, #ARGV do
+              redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            local stripes = #KEYS - 2
+            local remaining = tonumber(ARGV[1])
+            local base = math.floor(remaining / stripes)
+            local extra = remaining % stripes
+            for i = 1, stripes do
+              local value = base
+              if i <= extra then
+                value = value + 1
+              end
+              redis.call('SET', KEYS[i + 2], value)
+            end
+            redis.call('SET', KEYS[1], stripes)
+            return 1
+            """, Long.class);
+
+    /**
+     * 스트라이프 쿠폰 발급. 중복 확인, 스트라이프 차감, 발급 기록, 대기열 적재를 한 번에 수행합니다.
+     * ARGV[4] 번째 스트라이프부터 차례로 보고, 비어 있으면 다음 스트라이프에서 차용합니다.
+     * KEYS[1] = stripes marker, KEYS[2] = issued set, KEYS[3] = pending queue, KEYS[4..n] = 스트라이프 카운터
+     * ARGV[1] = userId, ARGV[2] = 직렬화된 발급 예약, ARGV[3] = 대기열 최대 길이, ARGV[4] = 시작 스트라이프 (0부터)
+     */
+    private static final DefaultRedisScript<Long> STRIPED_ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -3
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+              return -1
+            end
+            if redis.call('LLEN', KEYS[3]) >= tonumber(ARGV[3]) then
+              return -4
+            end
+            local stripes = #KEYS - 3
+            local start = tonumber(ARGV[4])
+            for i = 0, stripes - 1 do
+              local key = KEYS[4 + (start + i) % stripes]
+              if tonumber(redis.call('GET', key) or '0') > 0 then
+                local remaining = redis.call('DECR', key)
+                redis.call('SADD', KEYS[2], ARGV[1])
+                redis.call('RPUSH', KEYS[3], ARGV[2])
+                return remaining
+              end
+            end
+            return -2
+            """, Long.class);
+
+    /**
+     * 스트라이프 쿠폰 수량 변경. 증가분은 첫 스트라이프에, 감소분은 남은 수량이 있는 스트라이프에서 차례로 차감합니다.
+     * KEYS[1] = stripes marker, KEYS[2..n] = 스트라이프 카운터, ARGV[1] = delta
+     */
+    private static final DefaultRedisScript<Long> STRIPED_ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return nil
+            end
+            local delta = tonumber(ARGV[1])
+            if delta >= 0 then
+              return redis.call('INCRBY', KEYS[2], delta)
+            end
+            local need = -delta
+            for i = 2, #KEYS do
+              if need <= 0 then
+                break
+              end
+              local stock = tonumber(redis.call('GET', KEYS[i]) or '0')
+              if stock > 0 then
+                local take = math.min(stock, need)
+                redis.call('DECRBY', KEYS[i], take)
+                need = need - take
+              end
+            end
+            return need
+            """, Long.class);
+
+    /**
+     * 초기화된 재고에 한해 증감합니다. (관리자 수량 변경 반영)
+     */
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return nil
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    /**
+     * pending 대기열에서 최대 ARGV[1]건을 processing 집합으로 원자적으로 옮기고 반환합니다.
+     * ARGV[2] = 처리 기한 (epoch ms), 기한이 지나도록 ack 되지 않은 항목만 복구 대상이 됩니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #items > 0 then
+              redis.call('LTRIM', KEYS[1], #items, -1)
+              for i = 1, #items do
+                redis.call('ZADD', KEYS[2], ARGV[2], items[i])
+              end
+            end
+            return items
+            """, List.class);
+
+    /**
+     * processing 집합에서 주어진 항목을 제거합니다. (영속화 완료 확인)
+     */
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV do
+              removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * processing 집합의 항목을 pending 대기열 앞쪽으로 되돌립니다.
+     * 이미 다른 곳에서 ack/복구되어 processing 에 없는 항목은 건너뜁니다.
+     */
+    private static final DefaultRedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local requeued = 0
+            for i = #ARGV, 1, -1 do
+              if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 then
+                redis.call('LPUSH', KEYS[2], ARGV[i])
+                requeued = requeued + 1
+              end
+            end
+            return requeued
+            """, Long.class);
+
+    /**
+     * 처리 기한이 지난 processing 항목을 최대 ARGV[2]건 pending 대기열 앞쪽으로 되돌립니다.
+     * (종료/장애로 ack 하지 못한 인스턴스의 배치만 복구, 다른 인스턴스가 처리 중인 배치는 건드리지 않음)
+     * ARGV[1] = 현재 시각 (epoch ms)
+     */
+    private static final DefaultRedisScript<Long> REQUEUE_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for i = #items, 1, -1 do
+              redis.call('ZREM', KEYS[1], items[i])
+              redis.call('LPUSH', KEYS[2], items[i])
+            end
+            return #items
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 발급 시도
+     * @return 0 이상: 발급 성공 후 잔여 수량, 음수: RESULT_* 코드
+     */
+    public long tryIssue(Long couponId, Long userId, String reservation, long maxPending) {
+        Long result = stringRedisTemplate.execute(ISSUE_SCRIPT,
+                List.of(stockKey(couponId), issuedKey(couponId), PENDING_QUEUE_KEY),
+                String.valueOf(userId), reservation, String.valueOf(maxPending));
+        return result != null ? result : RESULT_NOT_INITIALIZED;
+    }
+
+    /**
+     * 스트라이프 쿠폰 발급 시도
+     * userId 해시로 고른 스트라이프부터 차감하여 요청이 카운터 하나에 몰리지 않도록 하며,
+     * 선점·차감·적재가 한 스크립트에서 일어나므로 중간 장애로 발급이 누락되지 않습니다.
+     * @return 0 이상: 발급 성공 후 해당 스트라이프 잔여 수량, 음수: RESULT_* 코드
+     */
+    public long tryIssueStriped(Long couponId, Long userId, String reservation, int stripes, long maxPending) {
+        List<String> keys = new ArrayList<>(stripes + 3);
+        keys.add(stripesKey(couponId));
+        keys.add(issuedKey(couponId));
+        keys.add(PENDING_QUEUE_KEY);
+        for (int i = 0; i < stripes; i++) {
+            keys.add(stripeKey(couponId, i));
+        }
+        int start = Math.floorMod(Long.hashCode(userId), stripes);
+        Long result = stringRedisTemplate.execute(STRIPED_ISSUE_SCRIPT, keys,
+                String.valueOf(userId), reservation, String.valueOf(maxPending), String.valueOf(start));
+        return result != null ? result : RESULT_NOT_INITIALIZED;
+    }
+
+    /**
+     * 스트라이프 쿠폰의 Redis 상태를 DB 기준으로 초기화합니다.
+     */
+    public boolean initializeStriped(Long couponId, int stripes, long remaining, Collection<Long> issuedUserIds) {
+        List<String> keys = new ArrayList<>(stripes + 2);
+        keys.add(stripesKey(couponId));
+        keys.add(issuedKey(couponId));
+        for (int i = 0; i < stripes; i++) {
+            keys.add(stripeKey(couponId, i));
+        }
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 1);
+        args.add(String.valueOf(remaining));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long result = stringRedisTemplate.execute(STRIPED_INIT_SCRIPT, keys, args.toArray());
+        boolean initialized = result != null && result == 1L;
+        if (initialized) {
+            log.info("[COUPON_REDIS_INIT_STRIPED] couponId={}, stripes={}, remaining={}, issuedUsers={}",
+                    couponId, stripes, remaining, issuedUserIds.size());
+        }
+        return initialized;
+    }
+
+    /**
+     * DB 기준 잔여 수량과 발급 사용자로 Redis 상태를 초기화합니다.
+     * @return 이번 호출로 초기화되었으면 true, 이미 초기화되어 있으면 false
+     */
+    public boolean initialize(Long couponId, long remaining, Collection<Long> issuedUserIds) {
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 1);
+        args.add(String.valueOf(remaining));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long result = stringRedisTemplate.execute(INIT_SCRIPT,
+                List.of(stockKey(couponId), issuedKey(couponId)), args.toArray());
+        boolean initialized = result != null && result == 1L;
+        if (initialized) {
+            log.info("[COUPON_REDIS_INIT] couponId={}, remaining={}, issuedUsers={}",
+                    couponId, remaining, issuedUserIds.size());
+        }
+        return initialized;
+    }
+
+    /**
+     * 사용자가 이미 발급 받은 쿠폰인지 확인합니다. (발급 사용자 집합 SISMEMBER)
+     */
+    public boolean isIssued(Long couponId, Long userId) {
+        Boolean member = stringRedisTemplate.opsForSet().isMember(issuedKey(couponId), String.valueOf(userId));
+        return Boolean.TRUE.equals(member);
+    }
+
+    /**
+     * 발급 사용자 집합에 추가합니다. (DB 발급 모드 및 캐시 워밍용)
+     */
+    public void addIssuedUsers(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String[] members = userIds.stream().map(String::valueOf).toArray(String[]::new);
+        stringRedisTemplate.opsForSet().add(issuedKey(couponId), members);
+    }
+
+    /**
+     * 초기화된 잔여 수량을 delta만큼 증감합니다. 초기화 전이면 아무 것도 하지 않습니다.
+     */
+    public void adjustStock(Long couponId, int stripes, long delta) {
+        if (stripes <= 1) {
+            stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(stockKey(couponId)), String.valueOf(delta));
+            return;
+        }
+        List<String> keys = new ArrayList<>(stripes + 1);
+        keys.add(stripesKey(couponId));
+        for (int i = 0; i < stripes; i++) {
+            keys.add(stripeKey(couponId, i));
+        }
+        Long shortage = stringRedisTemplate.execute(STRIPED_ADJUST_SCRIPT, keys, String.valueOf(delta));
+        if (shortage != null && shortage > 0) {
+            log.warn("[COUPON_REDIS_ADJUST_SHORTAGE] 이미 발급된 수량보다 적게 줄일 수 없습니다. couponId={}, shortage={}",
+                    couponId, shortage);
+        }
+    }
+
+    /**
+     * 쿠폰의 Redis 발급 상태를 제거합니다. (쿠폰 삭제 시)
+     */
+    public void clear(Long couponId, int stripes) {
+        List<String> keys = new ArrayList<>(stripes + 3);
+        keys.add(stockKey(couponId));
+        keys.add(issuedKey(couponId));
+        keys.add(stripesKey(couponId));
+        for (int i = 0; i < stripes; i++) {
+            keys.add(stripeKey(couponId, i));
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * 영속화 대기 중인 발급 예약을 최대 batchSize건 가져옵니다.
+     * 가져온 항목은 ack 또는 requeue 전까지 processing 집합에 남고, leaseMillis 가 지나면 복구 대상이 됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> drainReservations(int batchSize, long leaseMillis) {
+        long deadline = System.currentTimeMillis() + leaseMillis;
+        List<String> items = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(PENDING_QUEUE_KEY, PROCESSING_QUEUE_KEY), String.valueOf(batchSize), String.valueOf(deadline));
+        return items != null ? items : List.of();
+    }
+
+    /**
+     * 영속화 대기 중인 발급 예약 건수
+     */
+    public long pendingSize() {
+        Long size = stringRedisTemplate.opsForList().size(PENDING_QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
+
+    public void ackReservations(List<String> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_QUEUE_KEY), reservations.toArray());
+    }
+
+    public void requeueReservations(List<String> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.execute(REQUEUE_SCRIPT,
+                List.of(PROCESSING_QUEUE_KEY, PENDING_QUEUE_KEY), reservations.toArray());
+    }
+
+    /**
+     * 처리 기한이 지난 processing 항목을 최대 limit건 pending 대기열로 되돌립니다.
+     * @return 되돌린 건수
+     */
+    public long requeueExpiredProcessing(int limit) {
+        Long count = stringRedisTemplate.execute(REQUEUE_EXPIRED_SCRIPT,
+                List.of(PROCESSING_QUEUE_KEY, PENDING_QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        return count != null ? count : 0L;
+    }
+
+    private String stockKey(Long couponId) {
+        return STOCK_KEY_PREFIX + couponId;
+    }
+
+    private String issuedKey(Long couponId) {
+        return ISSUED_KEY_PREFIX + couponId;
+    }
+
+    private String stripesKey(Long couponId) {
+        return STRIPES_KEY_PREFIX + couponId;
+    }
+
+    private String stripeKey(Long couponId, int stripe) {
+        return STOCK_KEY_PREFIX + couponId + ":" + stripe;
+    }
+}
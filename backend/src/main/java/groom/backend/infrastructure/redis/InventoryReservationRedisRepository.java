@@ -0,0 +1,545 @@
+package groom.backend.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 상품(product.redis_inventory) 재고 선점용 Redis 저장소
+ *
+ * 판매 가능 재고를 Redis 카운터로 두고 주문 생성 시 Lua 스크립트 한 번으로 주문의 모든 상품을 선점합니다.
+ * 선점은 만료 시각을 가지며, 결제가 확정되면 확정 수량으로 옮겨지고 InventoryReservationScheduler가
+ * 상품별로 합산해 DB 재고에 배치로 반영합니다. (결제마다 product 행을 갱신하지 않음)
+ *
+ * 초과 판매 방지: 상품별로 항상 다음이 성립합니다.
+ *   DB 재고 = 가용 + 선점 + 확정 + 반영 중 + 부족분
+ * 가용 카운터는 조건부로만 차감되어 0 미만이 되지 않고, 나머지 연산은 수량을 항목 사이에서 옮기기만 하므로
+ * 선점에 성공한 수량의 합은 DB 재고를 넘을 수 없습니다.
+ * DB 재고가 Redis 밖에서 바뀌면 (결제 취소, 관리자 수정) 재계산(reconcile)으로 가용 카운터를 맞춥니다.
+ * 반영 시 DB 재고가 확정 수량보다 적었던 상품은 모자란 수량을 부족분으로 남겨 재계산에서 빼고,
+ * 다음 배치에 다시 합쳐 DB 재고가 늘어나면 차감합니다.
+ * 결제 승인 실패·결제 취소는 cancel 로 선점을 해제하거나 아직 반영되지 않은 확정 수량을 가용 재고로 되돌리고,
+ * 이미 DB에 반영된 수량만 DB 재고 복구 대상으로 돌려줍니다.
+ *
+ * Key 구조
+ * - inventory:available:{productId}  : 가용 재고 (String)
+ * - inventory:reservation:{orderId}  : 주문의 선점 수량, productId → 수량 (Hash)
+ * - inventory:reservation-expiry     : 선점 만료 시각, orderId → epoch millis (Sorted Set)
+ * - inventory:reserved               : 상품별 선점 수량 합계 (Hash)
+ * - inventory:confirmed              : 상품별 확정되었지만 DB에 반영되지 않은 수량 (Hash)
+ * - inventory:draining               : DB 반영 중인 배치, 상품별 수량 + #batch 필드에 배치 ID (Hash, 장애 복구용)
+ * - inventory:drain-seq              : 반영 완료된 배치 수 (String, 재계산 경합 감지용)
+ * - inventory:deficit                : 상품별 DB 재고가 부족해 차감하지 못한 확정 수량 (Hash)
+ * - inventory:cancel:{orderId}       : 주문의 결제 실패·취소 처리 결과, productId → DB 재고 복구 수량 (Hash, 재시도 시 재사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationRedisRepository {
+
+    private static final String AVAILABLE_KEY_PREFIX = "inventory:available:";
+    private static final String RESERVATION_KEY_PREFIX = "inventory:reservation:";
+    private static final String EXPIRY_KEY = "inventory:reservation-expiry";
+    private static final String RESERVED_KEY = "inventory:reserved";
+    private static final String CONFIRMED_KEY = "inventory:confirmed";
+    private static final String DRAINING_KEY = "inventory:draining";
+    private static final String DRAIN_SEQ_KEY = "inventory:drain-seq";
+    private static final String DEFICIT_KEY = "inventory:deficit";
+    private static final String CANCEL_KEY_PREFIX = "inventory:cancel:";
+    private static final String BATCH_FIELD = "#batch";
+
+    // 선점 스크립트 결과 코드
+    public static final long RESULT_RESERVED = 1L;
+    public static final long RESULT_ALREADY_RESERVED = 0L;
+    public static final long RESULT_OUT_OF_STOCK = -2L;
+    public static final long RESULT_NOT_INITIALIZED = -3L;
+
+    // 재계산 스크립트 결과 코드
+    public static final long RESULT_RECONCILED = 1L;
+    public static final long RESULT_SKIPPED = 0L;
+    public static final long RESULT_DRAIN_RACE = -1L;
+
+    // 해제 스크립트: 전달한 상품 목록이 선점과 다름 (다시 읽어 재시도)
+    private static final long RELEASE_STALE_LINES = -1L;
+    private static final int RELEASE_MAX_ATTEMPTS = 3;
+
+    // 결제 실패·취소 처리 결과 보관 시간 (트랜잭션 롤백 후 재시도에서 같은 결과를 쓰기 위함)
+    private static final long CANCEL_RECORD_TTL_SECONDS = 86400;
+
+    /**
+     * 주문의 모든 상품을 확인한 뒤 한 번에 선점합니다. (하나라도 부족하면 변경 없음)
+     * 이전 결제 실패 처리 결과는 새 선점과 맞지 않으므로 함께 지웁니다. (실패한 결제를 다시 승인하는 경우)
+     * KEYS[1] = reservation, KEYS[2] = expiry, KEYS[3] = reserved, KEYS[4] = cancel, KEYS[5..n] = 상품별 가용 재고
+     * ARGV[1] = orderId, ARGV[2] = 만료 시각, ARGV[3..n] = productId, 수량 (KEYS[5..n] 순서)
+     * @return {코드, 실패한 상품 순번(1부터), 실패한 상품의 가용 재고}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return {0, 0, 0}
+            end
+            for i = 5, #KEYS do
+              local available = redis.call('GET', KEYS[i])
+              if not available then
+                return {-3, i - 4, 0}
+              end
+              if tonumber(available) < tonumber(ARGV[(i - 5) * 2 + 4]) then
+                return {-2, i - 4, tonumber(available)}
+              end
+            end
+            for i = 5, #KEYS do
+              local productId = ARGV[(i - 5) * 2 + 3]
+              local quantity = tonumber(ARGV[(i - 5) * 2 + 4])
+              redis.call('DECRBY', KEYS[i], quantity)
+              redis.call('HSET', KEYS[1], productId, quantity)
+              redis.call('HINCRBY', KEYS[3], productId, quantity)
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('DEL', KEYS[4])
+            return {1, 0, 0}
+            """, List.class);
+
+    /**
+     * 선점이 있으면 만료 시각을 늦추고 선점 수량을 반환합니다. (결제 확정 중 만료 방지)
+     * KEYS[1] = reservation, KEYS[2] = expiry, ARGV[1] = orderId, ARGV[2] = 만료 시각
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return {}
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    /**
+     * 선점을 확정 수량으로 옮깁니다. (가용 재고는 그대로)
+     * KEYS[1] = reservation, KEYS[2] = expiry, KEYS[3] = reserved, KEYS[4] = confirmed, ARGV[1] = orderId
+     * @return 확정한 상품 수, 선점이 없으면 0
+     */
+    private static final DefaultRedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            local lines = redis.call('HGETALL', KEYS[1])
+            for i = 1, #lines, 2 do
+              if redis.call('HINCRBY', KEYS[3], lines[i], -tonumber(lines[i + 1])) <= 0 then
+                redis.call('HDEL', KEYS[3], lines[i])
+              end
+              redis.call('HINCRBY', KEYS[4], lines[i], lines[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return #lines / 2
+            """, Long.class);
+
+    /**
+     * 만료 시각이 지난 선점만 가용 재고로 되돌립니다. (그 사이 hold 된 선점은 유지)
+     * 선점의 상품 목록은 호출 전에 읽어 가용 재고 키를 전달하며, 선점에 전달되지 않은 상품이 있으면 변경 없이 -1을 반환합니다.
+     * KEYS[1] = reservation, KEYS[2] = expiry, KEYS[3] = reserved, KEYS[4..n] = 상품별 가용 재고
+     * ARGV[1] = orderId, ARGV[2] = 현재 시각, ARGV[3..n] = productId (KEYS[4..n] 순서)
+     * @return 되돌린 상품 수, 만료되지 않았거나 선점이 없으면 0
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if expireAt and tonumber(expireAt) > tonumber(ARGV[2]) then
+              return 0
+            end
+            local availableKeys = {}
+            for i = 4, #KEYS do
+              availableKeys[ARGV[i - 1]] = KEYS[i]
+            end
+            local lines = redis.call('HGETALL', KEYS[1])
+            for i = 1, #lines, 2 do
+              if not availableKeys[lines[i]] then
+                return -1
+              end
+            end
+            for i = 1, #lines, 2 do
+              redis.call('INCRBY', availableKeys[lines[i]], lines[i + 1])
+              if redis.call('HINCRBY', KEYS[3], lines[i], -tonumber(lines[i + 1])) <= 0 then
+                redis.call('HDEL', KEYS[3], lines[i])
+              end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return #lines / 2
+            """, Long.class);
+
+    /**
+     * 결제 승인 실패·결제 취소 시 주문의 Redis 재고를 되돌리고 상품별 DB 재고 복구 수량을 반환합니다.
+     * - 선점에 남은 상품 (커밋 후 확정 실패): 선점을 해제, DB 재고는 차감되지 않았으므로 복구 0
+     * - 그 밖의 Redis 재고 상품: 아직 DB에 반영되지 않은 확정 수량에서 빼서 가용 재고로 되돌리고, 나머지(반영된 수량)를 복구
+     * - Redis 재고 상품이 아니면: 주문 수량 전체를 복구
+     * 결과를 cancel 키에 남겨 같은 주문에 다시 호출되면 (DB 트랜잭션 롤백 후 재시도) 변경 없이 같은 결과를 반환합니다.
+     * 선점에 전달되지 않은 상품이 있으면 변경 없이 오류를 반환합니다. (선점 상품은 항상 주문 상품에 포함)
+     * KEYS[1] = reservation, KEYS[2] = expiry, KEYS[3] = reserved, KEYS[4] = confirmed, KEYS[5] = cancel,
+     * KEYS[6..n] = 상품별 가용 재고
+     * ARGV[1] = orderId, ARGV[2] = 결과 보관 시간(초), ARGV[3..n] = productId, 수량, Redis 재고 여부('1'/'0') 반복
+     * @return productId, DB 재고 복구 수량 반복
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+            local done = redis.call('HGETALL', KEYS[5])
+            if #done > 0 then
+              return done
+            end
+            local ordered = {}
+            for i = 6, #KEYS do
+              ordered[ARGV[(i - 6) * 3 + 3]] = true
+            end
+            local held = {}
+            local lines = redis.call('HGETALL', KEYS[1])
+            for i = 1, #lines, 2 do
+              if not ordered[lines[i]] then
+                return redis.error_reply('reservation has a product outside the order: ' .. lines[i])
+              end
+              held[lines[i]] = tonumber(lines[i + 1])
+            end
+            local result = {}
+            for i = 6, #KEYS do
+              local base = (i - 6) * 3 + 3
+              local productId = ARGV[base]
+              local quantity = tonumber(ARGV[base + 1])
+              local restore = quantity
+              if held[productId] then
+                redis.call('INCRBY', KEYS[i], held[productId])
+                if redis.call('HINCRBY', KEYS[3], productId, -held[productId]) <= 0 then
+                  redis.call('HDEL', KEYS[3], productId)
+                end
+                restore = 0
+              elseif ARGV[base + 2] == '1' then
+                local taken = math.min(quantity, tonumber(redis.call('HGET', KEYS[4], productId) or '0'))
+                if taken > 0 then
+                  if redis.call('HINCRBY', KEYS[4], productId, -taken) <= 0 then
+                    redis.call('HDEL', KEYS[4], productId)
+                  end
+                  redis.call('INCRBY', KEYS[i], taken)
+                end
+                restore = quantity - taken
+              end
+              result[#result + 1] = productId
+              result[#result + 1] = tostring(restore)
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('HSET', KEYS[5], unpack(result))
+            redis.call('EXPIRE', KEYS[5], ARGV[2])
+            return result
+            """, List.class);
+
+    /**
+     * 확정 수량을 반영 중 배치로 옮기고 반환합니다. 이전 배치가 남아 있으면 그 배치를 다시 반환합니다.
+     * 새 배치에는 남아 있던 부족분을 합쳐 DB 재고가 늘어났으면 차감되도록 합니다. (확정 수량이 있을 때만)
+     * KEYS[1] = confirmed, KEYS[2] = draining, KEYS[3] = deficit, ARGV[1] = 새 배치 ID
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+              end
+              redis.call('RENAME', KEYS[1], KEYS[2])
+              local deficits = redis.call('HGETALL', KEYS[3])
+              for i = 1, #deficits, 2 do
+                redis.call('HINCRBY', KEYS[2], deficits[i], deficits[i + 1])
+              end
+              redis.call('DEL', KEYS[3])
+              redis.call('HSET', KEYS[2], '%s', ARGV[1])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """.formatted(BATCH_FIELD), List.class);
+
+    /**
+     * DB 반영이 끝난 배치를 제거하고 반영 순번을 올립니다. 차감하지 못한 수량은 같은 단계에서 부족분으로 옮깁니다.
+     * KEYS[1] = draining, KEYS[2] = drain seq, KEYS[3] = deficit
+     * ARGV[1] = 배치 ID, ARGV[2..n] = productId, 모자란 수량 반복
+     */
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], '%s') ~= ARGV[1] then
+              return 0
+            end
+            for i = 2, #ARGV, 2 do
+              redis.call('HINCRBY', KEYS[3], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            return 1
+            """.formatted(BATCH_FIELD), Long.class);
+
+    /**
+     * DB 재고 기준으로 가용 재고를 다시 계산합니다. (가용 = DB 재고 - 선점 - 확정 - 반영 중 - 부족분)
+     * DB 재고를 읽은 뒤 배치 반영이 끝났으면 (반영 순번 변경) 이미 차감된 수량을 한 번 더 더하게 되므로 건너뜁니다.
+     * KEYS[1] = available, KEYS[2] = reserved, KEYS[3] = confirmed, KEYS[4] = draining, KEYS[5] = drain seq,
+     * KEYS[6] = deficit
+     * ARGV[1] = productId, ARGV[2] = DB 재고, ARGV[3] = DB 재고를 읽기 전의 반영 순번, ARGV[4] = '1'이면 키가 없을 때만 설정
+     * @return {코드, 가용 재고, 이전 가용 재고 (없으면 -1)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[5]) or '0') ~= ARGV[3] then
+              return {-1, 0, 0}
+            end
+            local current = redis.call('GET', KEYS[1])
+            if ARGV[4] == '1' and current then
+              return {0, tonumber(current), tonumber(current)}
+            end
+            local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+                + tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0')
+                + tonumber(redis.call('HGET', KEYS[4], ARGV[1]) or '0')
+                + tonumber(redis.call('HGET', KEYS[6], ARGV[1]) or '0')
+            local available = math.max(tonumber(ARGV[2]) - pending, 0)
+            redis.call('SET', KEYS[1], available)
+            return {1, available, tonumber(current or '-1')}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 주문 상품을 선점합니다. (상품은 중복 없이 전달)
+     * @return {RESULT_* 코드, 실패한 상품 순번(1부터), 실패한 상품의 가용 재고}
+     */
+    @SuppressWarnings("unchecked")
+    public long[] reserve(UUID orderId, Map<UUID, Integer> quantities, long expireAtMillis) {
+        List<String> keys = new ArrayList<>(quantities.size() + 4);
+        keys.add(reservationKey(orderId));
+        keys.add(EXPIRY_KEY);
+        keys.add(RESERVED_KEY);
+        keys.add(cancelKey(orderId));
+        List<String> args = new ArrayList<>(quantities.size() * 2 + 2);
+        args.add(orderId.toString());
+        args.add(String.valueOf(expireAtMillis));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(availableKey(productId));
+            args.add(productId.toString());
+            args.add(String.valueOf(quantity));
+        });
+
+        List<Long> result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null) {
+            return new long[]{RESULT_NOT_INITIALIZED, 1, 0};
+        }
+        return new long[]{result.get(0), result.get(1), result.get(2)};
+    }
+
+    /**
+     * 선점 만료 시각을 늦춥니다.
+     * @return 선점 수량 (productId → 수량), 선점이 없으면 빈 Map
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Integer> hold(UUID orderId, long expireAtMillis) {
+        List<String> lines = stringRedisTemplate.execute(HOLD_SCRIPT,
+                List.of(reservationKey(orderId), EXPIRY_KEY), orderId.toString(), String.valueOf(expireAtMillis));
+        return toQuantities(lines);
+    }
+
+    /**
+     * @return 확정한 상품 수, 선점이 없으면 0
+     */
+    public long confirm(UUID orderId) {
+        Long confirmed = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+                List.of(reservationKey(orderId), EXPIRY_KEY, RESERVED_KEY, CONFIRMED_KEY), orderId.toString());
+        return confirmed != null ? confirmed : 0L;
+    }
+
+    /**
+     * 만료 시각이 nowMillis 이전인 선점을 가용 재고로 되돌립니다. (Long.MAX_VALUE 면 만료 여부와 관계없이 해제)
+     * @return 되돌린 상품 수
+     */
+    public long release(UUID orderId, long nowMillis) {
+        String reservationKey = reservationKey(orderId);
+        for (int attempt = 0; attempt < RELEASE_MAX_ATTEMPTS; attempt++) {
+            Set<Object> productIds = stringRedisTemplate.opsForHash().keys(reservationKey);
+            List<String> keys = new ArrayList<>(productIds.size() + 3);
+            keys.add(reservationKey);
+            keys.add(EXPIRY_KEY);
+            keys.add(RESERVED_KEY);
+            List<String> args = new ArrayList<>(productIds.size() + 2);
+            args.add(orderId.toString());
+            args.add(String.valueOf(nowMillis));
+            for (Object productId : productIds) {
+                keys.add(AVAILABLE_KEY_PREFIX + productId);
+                args.add(productId.toString());
+            }
+
+            Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+            if (released == null || released != RELEASE_STALE_LINES) {
+                return released != null ? released : 0L;
+            }
+        }
+        // 선점은 한 번 만들어진 뒤 상품이 바뀌지 않으므로 주문 ID 재사용 등 예외 상황에서만 도달
+        throw new IllegalStateException("선점 상품 목록이 계속 바뀌어 해제하지 못했습니다. orderId=" + orderId);
+    }
+
+    /**
+     * 결제 승인 실패·결제 취소 시 주문의 Redis 재고를 되돌립니다. (같은 주문에 다시 호출하면 처음 결과를 반환)
+     *
+     * @param quantities 주문 상품별 수량 (상품 중복 없음)
+     * @param redisInventoryIds 그중 Redis 재고 상품
+     * @return 상품별 DB 재고 복구 수량 (quantities 의 모든 상품)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Integer> cancel(UUID orderId, Map<UUID, Integer> quantities, Set<UUID> redisInventoryIds) {
+        List<String> keys = new ArrayList<>(quantities.size() + 5);
+        keys.add(reservationKey(orderId));
+        keys.add(EXPIRY_KEY);
+        keys.add(RESERVED_KEY);
+        keys.add(CONFIRMED_KEY);
+        keys.add(cancelKey(orderId));
+        List<String> args = new ArrayList<>(quantities.size() * 3 + 2);
+        args.add(orderId.toString());
+        args.add(String.valueOf(CANCEL_RECORD_TTL_SECONDS));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(availableKey(productId));
+            args.add(productId.toString());
+            args.add(String.valueOf(quantity));
+            args.add(redisInventoryIds.contains(productId) ? "1" : "0");
+        });
+
+        List<String> lines = stringRedisTemplate.execute(CANCEL_SCRIPT, keys, args.toArray());
+        return toQuantities(lines);
+    }
+
+    /**
+     * 만료 시각이 지난 선점의 주문 ID를 최대 limit 건 조회합니다.
+     */
+    public List<UUID> findExpired(long nowMillis, int limit) {
+        var orderIds = stringRedisTemplate.opsForZSet().rangeByScore(EXPIRY_KEY, 0, nowMillis, 0, limit);
+        if (orderIds == null) {
+            return List.of();
+        }
+        return orderIds.stream().map(UUID::fromString).toList();
+    }
+
+    /**
+     * DB에 반영할 확정 수량 배치를 가져옵니다.
+     * 가져온 배치는 ack 전까지 반영 중으로 남아 다음 호출에서 같은 배치 ID로 다시 반환됩니다.
+     * @return 배치가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public DrainBatch drain() {
+        List<String> fields = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(CONFIRMED_KEY, DRAINING_KEY, DEFICIT_KEY), UUID.randomUUID().toString());
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        String batchId = null;
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            if (BATCH_FIELD.equals(fields.get(i))) {
+                batchId = fields.get(i + 1);
+            } else {
+                quantities.put(UUID.fromString(fields.get(i)), Integer.parseInt(fields.get(i + 1)));
+            }
+        }
+        return new DrainBatch(batchId, quantities);
+    }
+
+    /**
+     * @param shortages DB 재고가 부족해 차감하지 못한 상품별 수량 (부족분으로 옮김)
+     */
+    public void ack(String batchId, Map<UUID, Integer> shortages) {
+        List<String> args = new ArrayList<>(shortages.size() * 2 + 1);
+        args.add(batchId);
+        shortages.forEach((productId, quantity) -> {
+            args.add(productId.toString());
+            args.add(String.valueOf(quantity));
+        });
+        stringRedisTemplate.execute(ACK_SCRIPT, List.of(DRAINING_KEY, DRAIN_SEQ_KEY, DEFICIT_KEY), args.toArray());
+    }
+
+    /**
+     * 반영 중인 배치 ID
+     * @return 반영 중인 배치가 없으면 null
+     */
+    public String drainingBatchId() {
+        Object batchId = stringRedisTemplate.opsForHash().get(DRAINING_KEY, BATCH_FIELD);
+        return batchId != null ? batchId.toString() : null;
+    }
+
+    /**
+     * 현재 반영 순번. DB 재고를 읽기 전에 조회해 reconcile에 전달합니다.
+     */
+    public String drainSeq() {
+        String seq = stringRedisTemplate.opsForValue().get(DRAIN_SEQ_KEY);
+        return seq != null ? seq : "0";
+    }
+
+    /**
+     * @param onlyIfAbsent true면 가용 재고가 없을 때만 설정 (최초 적재)
+     * @return {RESULT_* 코드, 가용 재고, 이전 가용 재고 (없으면 -1)}
+     */
+    @SuppressWarnings("unchecked")
+    public long[] reconcile(UUID productId, int dbStock, String drainSeq, boolean onlyIfAbsent) {
+        List<Long> result = stringRedisTemplate.execute(RECONCILE_SCRIPT,
+                List.of(availableKey(productId), RESERVED_KEY, CONFIRMED_KEY, DRAINING_KEY, DRAIN_SEQ_KEY, DEFICIT_KEY),
+                productId.toString(), String.valueOf(dbStock), drainSeq, onlyIfAbsent ? "1" : "0");
+        if (result == null) {
+            return new long[]{RESULT_DRAIN_RACE, 0, 0};
+        }
+        return new long[]{result.get(0), result.get(1), result.get(2)};
+    }
+
+    /**
+     * 상품별 가용 재고 (적재되지 않은 상품은 제외)
+     */
+    public Map<UUID, Integer> findAvailable(Collection<UUID> productIds) {
+        List<UUID> ids = new ArrayList<>(productIds);
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(ids.stream().map(this::availableKey).toList());
+        Map<UUID, Integer> available = new LinkedHashMap<>();
+        if (values == null) {
+            return available;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                available.put(ids.get(i), Integer.parseInt(values.get(i)));
+            }
+        }
+        return available;
+    }
+
+    /**
+     * 진행 중인 선점 건수
+     */
+    public long reservationCount() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(EXPIRY_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private Map<UUID, Integer> toQuantities(List<String> lines) {
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        if (lines == null) {
+            return quantities;
+        }
+        for (int i = 0; i + 1 < lines.size(); i += 2) {
+            quantities.put(UUID.fromString(lines.get(i)), Integer.parseInt(lines.get(i + 1)));
+        }
+        return quantities;
+    }
+
+    private String availableKey(UUID productId) {
+        return AVAILABLE_KEY_PREFIX + productId;
+    }
+
+    private String reservationKey(UUID orderId) {
+        return RESERVATION_KEY_PREFIX + orderId;
+    }
+
+    private String cancelKey(UUID orderId) {
+        return CANCEL_KEY_PREFIX + orderId;
+    }
+
+    /**
+     * DB에 반영할 확정 수량 배치 (productId → 수량)
+     */
+    public record DrainBatch(String batchId, Map<UUID, Integer> quantities) {
+    }
+}
@@ -0,0 +1,66 @@
+package groom.backend.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 결제 승인 결과 Redis 저장소 (재요청 재생용)
+ *
+ * 승인된 주문의 결제 키, 금액, 결제 ID를 replay-ttl-seconds 동안 보관합니다.
+ * 같은 요청(결제 키, 금액 일치)이 다시 오면 승인 과정(락, PG 호출) 없이 결제를 조회해 응답합니다.
+ * 결제 상태의 원본은 DB이므로 Redis 장애 시 조회/저장을 건너뜁니다.
+ *
+ * Key 구조
+ * - payment:confirm:result:{orderId} : "결제 키\t금액\t결제 ID" (String)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmResultRedisRepository {
+
+    private static final String KEY_PREFIX = "payment:confirm:result:";
+    private static final String DELIMITER = "\t";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${payment.confirm.idempotency.replay-ttl-seconds:600}")
+    private long replayTtlSeconds;
+
+    public record ConfirmedPayment(String paymentKey, int amount, UUID paymentId) {
+    }
+
+    public void save(UUID orderId, String paymentKey, int amount, UUID paymentId) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + orderId,
+                    paymentKey + DELIMITER + amount + DELIMITER + paymentId,
+                    Duration.ofSeconds(replayTtlSeconds));
+        } catch (Exception e) {
+            log.warn("[PAYMENT_CONFIRM_RESULT_SAVE_FAILED] orderId={}, error={}", orderId, e.getMessage());
+        }
+    }
+
+    public Optional<ConfirmedPayment> find(UUID orderId) {
+        String value;
+        try {
+            value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + orderId);
+        } catch (Exception e) {
+            log.warn("[PAYMENT_CONFIRM_RESULT_LOOKUP_FAILED] orderId={}, error={}", orderId, e.getMessage());
+            return Optional.empty();
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split(DELIMITER, 3);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        return Optional.of(new ConfirmedPayment(parts[0], Integer.parseInt(parts[1]), UUID.fromString(parts[2])));
+    }
+}
@@ -0,0 +1,119 @@
+package groom.backend.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 장바구니용 제품 요약(이름, 가격, 판매 여부, 재고) Redis 저장소
+ *
+ * 장바구니 조회는 항목마다 제품 이름/가격만 필요하므로, 제품 전체 대신 요약만 키 하나에 담아 MGET 한 번으로 조회합니다.
+ * 미스는 호출 측이 DB에서 읽어 채우며, 제품 변경/삭제 시 커밋 후 삭제합니다. (TTL은 삭제 누락에 대비한 상한)
+ * 재고는 장바구니 담기 수량 상한으로만 쓰이며, 주문 재고 차감(일괄 차감/복원)에서는 삭제하지 않으므로 TTL 동안 실제 재고와 다를 수 있습니다.
+ * (실제 재고 확인은 결제/구매 시 수행)
+ *
+ * Key 구조
+ * - product:summary:v2:{productId} : "가격\t판매 여부(1/0)\t재고\t이름" (String)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSummaryRedisRepository {
+
+    private static final String KEY_PREFIX = "product:summary:v2:";
+    private static final String DELIMITER = "\t";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${product.summary-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public record ProductSummary(UUID productId, String name, int price, boolean active, int stock) {
+    }
+
+    /**
+     * 캐시된 요약 조회 (없는 제품은 결과에서 제외)
+     */
+    public Map<UUID, ProductSummary> findAll(List<UUID> productIds) {
+        Map<UUID, ProductSummary> result = new HashMap<>(productIds.size() * 2);
+        if (productIds.isEmpty()) {
+            return result;
+        }
+        List<String> keys = new ArrayList<>(productIds.size());
+        productIds.forEach(productId -> keys.add(KEY_PREFIX + productId));
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < productIds.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String[] parts = value.split(DELIMITER, 4);
+            if (parts.length < 4) {
+                continue;
+            }
+            UUID productId = productIds.get(i);
+            result.put(productId, new ProductSummary(productId, parts[3], Integer.parseInt(parts[0]), "1".equals(parts[1]),
+                    Integer.parseInt(parts[2])));
+        }
+        return result;
+    }
+
+    /**
+     * 요약 저장 (파이프라인)
+     */
+    public void saveAll(Collection<ProductSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ProductSummary summary : summaries) {
+                String value = summary.price() + DELIMITER + (summary.active() ? "1" : "0") + DELIMITER
+                        + summary.stock() + DELIMITER + summary.name();
+                stringConnection.setEx(KEY_PREFIX + summary.productId(), ttlSeconds, value);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 요약 삭제. 트랜잭션 안이면 커밋 후 삭제합니다. (커밋 전 삭제 시 다른 요청이 이전 값으로 다시 채우는 것을 방지)
+     */
+    public void evict(UUID productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(productId);
+                }
+            });
+            return;
+        }
+        delete(productId);
+    }
+
+    private void delete(UUID productId) {
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + productId);
+        } catch (Exception e) {
+            log.warn("[PRODUCT_SUMMARY_EVICT_FAILED] productId={}, error={}", productId, e.getMessage());
+        }
+    }
+}
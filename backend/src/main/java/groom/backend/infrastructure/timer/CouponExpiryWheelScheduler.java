@@ -0,0 +1,168 @@
+package groom.backend.infrastructure.timer;
+
+import groom.backend.domain.coupon.service.CouponService;
+import groom.backend.infrastructure.kafka.stream.CouponDelayEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 만료 예약 스케줄러 (인스턴스 내부 타이밍 휠)
+ *
+ * coupon.expiry.scheduler=wheel 일 때 Kafka Streams 지연 처리 대신 사용됩니다. (CouponDelayProducer에서 위임)
+ * 만료 시각이 되면 CouponService.disableCoupon을 직접 호출합니다.
+ *
+ * - 예약/만료: HierarchicalTimingWheel (타이머당 O(1), 주기적 전체 조회 없음)
+ * - 복구: TimerLog (기동 시 재생 후 처리되지 않은 타이머를 다시 등록, 이미 지난 타이머는 즉시 만료)
+ *
+ * 쿠폰당 유효한 타이머는 하나입니다. 다시 예약하면 이전 타이머를 대체하며, 휠에서 이전 타이머가 만료되어도
+ * 현재 만료 시각 전이면 건너뜁니다. (휠은 취소를 지원하지 않으므로 만료 시점에 확인)
+ *
+ * 타이머는 예약을 받은 인스턴스에만 존재하므로, 로그 경로는 인스턴스마다 유지되는 디스크여야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.expiry.scheduler", havingValue = "wheel")
+public class CouponExpiryWheelScheduler {
+
+    private final CouponService couponService;
+
+    @Value("${coupon.expiry.wheel.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${coupon.expiry.wheel.log-path:tmp/coupon-expiry-timers.log}")
+    private String logPath;
+
+    // 비활성화 실패 시 재시도 간격
+    @Value("${coupon.expiry.wheel.retry-delay-ms:5000}")
+    private long retryDelayMillis;
+
+    private HierarchicalTimingWheel wheel;
+    private TimerLog timerLog;
+    private ScheduledExecutorService ticker;
+
+    // 쿠폰별 현재 만료 시각 (휠 잠금으로 보호)
+    private final Map<Long, Long> deadlines = new HashMap<>();
+
+    // 틱 스레드 전용 만료 (id, 만료 시각) 버퍼 (휠 잠금 밖에서 처리하기 위해 모아 둠)
+    private long[] expiredBuffer = new long[256];
+    private long[] expiredDeadlineBuffer = new long[256];
+    private int expiredCount;
+    private long tickNowMillis;
+
+    @PostConstruct
+    public void start() throws IOException {
+        long now = System.currentTimeMillis();
+        timerLog = new TimerLog(Path.of(logPath));
+        Map<Long, Long> pending = timerLog.recover();
+
+        wheel = new HierarchicalTimingWheel(tickMillis, now, pending.size());
+        pending.forEach(wheel::add);
+        deadlines.putAll(pending);
+        log.info("[COUPON_EXPIRY_WHEEL_RECOVERED] pending={}, logPath={}", pending.size(), logPath);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (timerLog != null) {
+            timerLog.close();
+        }
+    }
+
+    /**
+     * 쿠폰 만료 예약 (만료 시각 = 이벤트 생성 시각 + 지연 시간)
+     */
+    public void schedule(CouponDelayEvent event) {
+        long base = event.getTimestamp() != null ? event.getTimestamp() : System.currentTimeMillis();
+        long deadlineMillis = base + event.getDelayMillis();
+        schedule(event.getCouponId(), deadlineMillis);
+        log.info("[COUPON_EXPIRY_WHEEL_SCHEDULED] couponId={}, deadline={}", event.getCouponId(), deadlineMillis);
+    }
+
+    private void schedule(long couponId, long deadlineMillis) {
+        try {
+            // 로그 기록 후 등록 (기록에 실패한 예약은 등록하지 않고 호출 측에 알림)
+            timerLog.appendAdd(couponId, deadlineMillis);
+        } catch (IOException e) {
+            throw new IllegalStateException("쿠폰 만료 예약 기록 실패: couponId=" + couponId, e);
+        }
+        synchronized (wheel) {
+            deadlines.put(couponId, deadlineMillis);
+            wheel.add(couponId, deadlineMillis);
+        }
+    }
+
+    private void tick() {
+        try {
+            expiredCount = 0;
+            synchronized (wheel) {
+                tickNowMillis = System.currentTimeMillis();
+                wheel.advanceTo(tickNowMillis, this::collectExpired);
+            }
+            for (int i = 0; i < expiredCount; i++) {
+                expire(expiredBuffer[i], expiredDeadlineBuffer[i]);
+            }
+        } catch (Exception e) {
+            // 예외로 주기 실행이 중단되지 않도록 모두 처리
+            log.error("[COUPON_EXPIRY_WHEEL_TICK_FAILED]", e);
+        }
+    }
+
+    /**
+     * 휠 잠금 안에서 호출됩니다. 다시 예약되어 만료 시각이 남은 (또는 이미 처리된) 이전 타이머는 건너뜁니다.
+     */
+    private void collectExpired(long couponId) {
+        Long deadlineMillis = deadlines.get(couponId);
+        if (deadlineMillis == null || deadlineMillis > tickNowMillis) {
+            log.debug("[COUPON_EXPIRY_WHEEL_STALE] couponId={}, deadline={}", couponId, deadlineMillis);
+            return;
+        }
+        deadlines.remove(couponId);
+        if (expiredCount == expiredBuffer.length) {
+            expiredBuffer = Arrays.copyOf(expiredBuffer, expiredCount * 2);
+            expiredDeadlineBuffer = Arrays.copyOf(expiredDeadlineBuffer, expiredCount * 2);
+        }
+        expiredBuffer[expiredCount] = couponId;
+        expiredDeadlineBuffer[expiredCount++] = deadlineMillis;
+    }
+
+    private void expire(long couponId, long deadlineMillis) {
+        try {
+            Boolean disabled = couponService.disableCoupon(couponId);
+            timerLog.appendFire(couponId, deadlineMillis);
+            log.info("[COUPON_EXPIRY_WHEEL_FIRED] couponId={}, disabled={}", couponId, disabled);
+        } catch (Exception e) {
+            log.warn("[COUPON_EXPIRY_WHEEL_RETRY] couponId={}, message={}", couponId, e.getMessage());
+            try {
+                schedule(couponId, System.currentTimeMillis() + retryDelayMillis);
+            } catch (Exception retryFailure) {
+                // 로그에는 이전 ADD가 남아 있으므로 재기동 시 복구됨
+                log.error("[COUPON_EXPIRY_WHEEL_RETRY_FAILED] couponId={}", couponId, retryFailure);
+            }
+        }
+    }
+}
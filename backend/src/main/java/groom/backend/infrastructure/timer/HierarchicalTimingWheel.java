@@ -0,0 +1,167 @@
+package groom.backend.infrastructure.timer;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 타이밍 휠 (단일 스레드 전용, 호출 측에서 동기화)
+ *
+ * 레벨마다 64칸이며, 레벨 n의 한 칸은 64^n 틱을 담당합니다. (4레벨, 틱 1초 기준 약 194일)
+ * 추가/만료는 타이머 수와 무관하게 O(1)이고, 상위 레벨의 칸은 해당 구간에 진입할 때 한 번만 하위 레벨로 내려갑니다.
+ * 범위를 넘는 타이머는 최상위 레벨의 가장 먼 칸에 두었다가 내려올 때 다시 배치합니다.
+ *
+ * 타이머는 객체 대신 원시 타입 배열(id, 만료 틱, 다음 인덱스)로 보관하며, 칸은 배열 인덱스로 연결한 단일 연결 리스트입니다.
+ */
+public class HierarchicalTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int NIL = -1;
+
+    private final long tickMillis;
+
+    // 타이머 저장소 (인덱스 = 타이머 핸들)
+    private long[] ids;
+    private long[] deadlineTicks;
+    private int[] next;
+    private int freeHead = NIL;
+    private int allocated;
+    private int size;
+
+    // [level * SLOTS + slot] → 첫 타이머 인덱스
+    private final int[] heads = new int[LEVELS * SLOTS];
+
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis, int initialCapacity) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        int capacity = Math.max(initialCapacity, 16);
+        this.ids = new long[capacity];
+        this.deadlineTicks = new long[capacity];
+        this.next = new int[capacity];
+        Arrays.fill(heads, NIL);
+    }
+
+    /**
+     * 타이머 추가 (이미 지난 만료 시각은 다음 틱에 만료)
+     */
+    public void add(long id, long deadlineMillis) {
+        int index = allocate();
+        ids[index] = id;
+        // 올림: 만료 시각보다 먼저 실행되지 않도록 (현재 틱은 이미 처리되었으므로 최소 다음 틱)
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        deadlineTicks[index] = Math.max(deadlineTick, currentTick + 1);
+        size++;
+        place(index);
+    }
+
+    /**
+     * nowMillis까지 틱을 진행하며 만료된 타이머의 id를 전달합니다.
+     *
+     * @return 만료된 타이머 수
+     */
+    public int advanceTo(long nowMillis, LongConsumer expired) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            fired += expireCurrentSlot(expired);
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            long levelMask = (1L << (SLOT_BITS * level)) - 1;
+            if ((currentTick & levelMask) != 0) {
+                continue;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            int index = detach(level, slot);
+            while (index != NIL) {
+                int following = next[index];
+                place(index);
+                index = following;
+            }
+        }
+    }
+
+    private int expireCurrentSlot(LongConsumer expired) {
+        int index = detach(0, (int) (currentTick & SLOT_MASK));
+        int fired = 0;
+        while (index != NIL) {
+            int following = next[index];
+            if (deadlineTicks[index] <= currentTick) {
+                long id = ids[index];
+                release(index);
+                size--;
+                fired++;
+                expired.accept(id);
+            } else {
+                place(index);
+            }
+            index = following;
+        }
+        return fired;
+    }
+
+    private void place(int index) {
+        long deadline = deadlineTicks[index];
+        if (deadline <= currentTick) {
+            // 상위 레벨에서 내려온 시점에 만료: 이번 틱에 만료되도록 현재 칸 (cascade 후 현재 칸을 처리)
+            link(0, (int) (currentTick & SLOT_MASK), index);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((deadline >>> shift) - (currentTick >>> shift) < SLOTS) {
+                link(level, (int) ((deadline >>> shift) & SLOT_MASK), index);
+                return;
+            }
+        }
+        // 범위 초과: 최상위 레벨의 가장 먼 칸 (내려올 때 재배치)
+        int topShift = SLOT_BITS * (LEVELS - 1);
+        link(LEVELS - 1, (int) (((currentTick >>> topShift) - 1) & SLOT_MASK), index);
+    }
+
+    private void link(int level, int slot, int index) {
+        int head = level * SLOTS + slot;
+        next[index] = heads[head];
+        heads[head] = index;
+    }
+
+    private int detach(int level, int slot) {
+        int head = level * SLOTS + slot;
+        int index = heads[head];
+        heads[head] = NIL;
+        return index;
+    }
+
+    private int allocate() {
+        if (freeHead != NIL) {
+            int index = freeHead;
+            freeHead = next[index];
+            return index;
+        }
+        if (allocated == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            deadlineTicks = Arrays.copyOf(deadlineTicks, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(int index) {
+        next[index] = freeHead;
+        freeHead = index;
+    }
+}
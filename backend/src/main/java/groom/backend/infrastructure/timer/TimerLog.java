@@ -0,0 +1,184 @@
+package groom.backend.infrastructure.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 타이머 복구용 추가 전용(append-only) 로그
+ *
+ * 레코드는 고정 17바이트입니다: 종류(1) + id(8) + 만료 시각 millis(8)
+ * - ADD  : 타이머 등록
+ * - FIRE : 타이머 만료 처리 완료 ((id, 만료 시각) 기준)
+ *
+ * 기동 시 로그를 재생하여 아직 처리되지 않은 타이머를 구하고, 살아 있는 타이머만 남기도록 로그를 다시 씁니다.
+ * 실행 중에도 기록 수가 compactMinRecords 이상이고 살아 있는 타이머가 그 절반 이하가 되면 같은 방식으로 압축하여
+ * 재기동 없이도 로그가 끝없이 커지지 않도록 합니다.
+ * 같은 id가 다시 등록되면 마지막 등록이 유효하며, FIRE는 만료 시각까지 같은 등록만 지웁니다.
+ * (다시 등록된 뒤 이전 타이머의 FIRE가 기록되어도 새 타이머는 남음)
+ * 기록은 OS 페이지 캐시까지만 보장하므로 프로세스 장애에는 안전하지만, 호스트 장애 시 마지막 일부가 유실될 수 있습니다.
+ */
+@Slf4j
+public class TimerLog implements AutoCloseable {
+
+    private static final byte ADD = 1;
+    private static final byte FIRE = 2;
+    private static final int RECORD_SIZE = 1 + Long.BYTES * 2;
+    private static final int DEFAULT_COMPACT_MIN_RECORDS = 100_000;
+
+    private final Path path;
+    private final int compactMinRecords;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    // 압축 시 다시 쓸 살아 있는 타이머 (id → 만료 시각 millis)
+    private final Map<Long, Long> live = new HashMap<>();
+    private FileChannel channel;
+    // 현재 로그 파일의 레코드 수
+    private long records;
+    // 압축 실패 시 다음 시도까지 기다릴 레코드 수 (매 기록마다 재시도하지 않음)
+    private long nextCompactAt;
+
+    public TimerLog(Path path) {
+        this(path, DEFAULT_COMPACT_MIN_RECORDS);
+    }
+
+    public TimerLog(Path path, int compactMinRecords) {
+        if (compactMinRecords <= 0) {
+            throw new IllegalArgumentException("compactMinRecords must be positive: " + compactMinRecords);
+        }
+        this.path = path;
+        this.compactMinRecords = compactMinRecords;
+    }
+
+    /**
+     * 로그를 재생하여 처리되지 않은 타이머 (id → 만료 시각 millis)를 반환하고,
+     * 그 타이머만 담은 로그로 교체한 뒤 추가 기록을 위해 엽니다.
+     */
+    public synchronized Map<Long, Long> recover() throws IOException {
+        close();
+        live.clear();
+        if (Files.exists(path)) {
+            try (InputStream file = Files.newInputStream(path);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+                while (true) {
+                    byte type;
+                    long id;
+                    long deadlineMillis;
+                    try {
+                        type = in.readByte();
+                        id = in.readLong();
+                        deadlineMillis = in.readLong();
+                    } catch (EOFException e) {
+                        // 마지막 레코드가 쓰다가 잘린 경우 포함
+                        break;
+                    }
+                    if (type == ADD) {
+                        live.put(id, deadlineMillis);
+                    } else if (type == FIRE) {
+                        live.remove(id, deadlineMillis);
+                    }
+                }
+            }
+        }
+
+        compact();
+        return new HashMap<>(live);
+    }
+
+    public synchronized void appendAdd(long id, long deadlineMillis) throws IOException {
+        append(ADD, id, deadlineMillis);
+        live.put(id, deadlineMillis);
+        compactIfNeeded();
+    }
+
+    public synchronized void appendFire(long id, long deadlineMillis) throws IOException {
+        append(FIRE, id, deadlineMillis);
+        live.remove(id, deadlineMillis);
+        compactIfNeeded();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * 기록은 이미 끝났으므로 압축 실패는 호출 측에 전파하지 않고, 기존 로그에 계속 추가합니다.
+     */
+    private void compactIfNeeded() {
+        if (records < compactMinRecords || records < nextCompactAt || live.size() * 2L > records) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            nextCompactAt = records + compactMinRecords;
+            log.warn("[TIMER_LOG_COMPACT_FAILED] path={}, records={}, live={}", path, records, live.size(), e);
+        }
+    }
+
+    /**
+     * 살아 있는 타이머만으로 로그를 다시 쓰고 (임시 파일에 쓴 뒤 교체) 추가 기록을 위해 엽니다.
+     * 교체에 실패하면 기존 로그와 채널을 그대로 둡니다.
+     */
+    private void compact() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path compacted = Files.createTempFile(parent, path.getFileName().toString(), ".compact");
+        try {
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+                for (Map.Entry<Long, Long> entry : live.entrySet()) {
+                    if (buffer.remaining() < RECORD_SIZE) {
+                        writeFully(out, buffer);
+                    }
+                    buffer.put(ADD).putLong(entry.getKey()).putLong(entry.getValue());
+                }
+                writeFully(out, buffer);
+                out.force(true);
+            }
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(compacted);
+            throw e;
+        }
+
+        // 이전 채널은 교체 전 파일을 가리키므로 닫고 새 파일을 엶
+        close();
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        records = live.size();
+        nextCompactAt = 0;
+    }
+
+    private void append(byte type, long id, long deadlineMillis) throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("타이머 로그가 열려 있지 않습니다: " + path);
+        }
+        record.clear();
+        record.put(type).putLong(id).putLong(deadlineMillis);
+        writeFully(channel, record);
+        records++;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -1,9 +1,11 @@
 package groom.backend.interfaces.cart;
 
 import groom.backend.application.cart.CartApplicationService;
+import groom.backend.application.cart.CartFacade;
 import groom.backend.common.annotation.CheckPermission;
 import groom.backend.infrastructure.security.CustomUserDetails;
 import groom.backend.interfaces.cart.dto.request.RemoveCartItemsRequest;
+import groom.backend.interfaces.cart.dto.request.UpdateCartItemsRequest;
 import groom.backend.interfaces.cart.dto.request.UpdateCartQuantityRequest;
 import groom.backend.interfaces.cart.dto.response.CartItemResponse;
 import groom.backend.interfaces.cart.dto.response.CartResponse;
@@ -40,7 +42,7 @@ import java.util.List;
 @CheckPermission(roles = {"USER", "ADMIN"}, mode = CheckPermission.Mode.ANY, page = CheckPermission.Page.FO)
 public class CartController {
 
-    private final CartApplicationService cartApplicationService;
+    private final CartFacade cartFacade;
 
     /**
      * 장바구니에 제품을 추가합니다.
@@ -76,7 +78,7 @@ public class CartController {
 
         Long userId = userDetails.getUser().getId();
         
-        CartApplicationService.CartAddResult result = cartApplicationService.addToCart(
+        CartApplicationService.CartAddResult result = cartFacade.addToCart(
                 userId,
                 request.getProductId(),
                 request.getQuantity()
@@ -116,8 +118,59 @@ public class CartController {
 
         Long userId = userDetails.getUser().getId();
         
-        CartApplicationService.CartViewResult result = cartApplicationService.getCartItems(userId);
+        CartApplicationService.CartViewResult result = cartFacade.getCartItems(userId);
 
+        return ResponseEntity.ok(toCartResponse(result));
+    }
+
+    /**
+     * 장바구니의 여러 제품 수량을 한 번에 설정합니다.
+     * 요청한 수량이 최종 수량이 되며, 0이면 제거하고 장바구니에 없는 제품은 추가합니다.
+     * 하나라도 문제가 있으면 전체 실패 처리합니다.
+     */
+    @Operation(
+            summary = "장바구니 제품 일괄 수량 설정",
+            description = "여러 제품의 수량을 한 번에 설정하고 변경된 장바구니를 반환합니다. 수량 0은 제거이며, 하나라도 문제가 있으면 전체가 실패합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "수량 설정 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CartResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (재고 부족, 판매 중지 제품, 중복 제품 등)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패 - JWT 토큰이 필요합니다.")
+    })
+    @PutMapping("/items")
+    public ResponseEntity<CartResponse> updateCartItems(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "수량을 설정할 제품 목록",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = UpdateCartItemsRequest.class))
+            )
+            @RequestBody UpdateCartItemsRequest request) {
+
+        if (userDetails == null || userDetails.getUser() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Long userId = userDetails.getUser().getId();
+
+        List<CartApplicationService.CartItemQuantity> items = request.getItems().stream()
+                .map(item -> new CartApplicationService.CartItemQuantity(
+                        item.getProductId(),
+                        item.getQuantity()))
+                .toList();
+
+        CartApplicationService.CartViewResult result = cartFacade.updateCartItems(userId, items);
+
+        return ResponseEntity.ok(toCartResponse(result));
+    }
+
+    private CartResponse toCartResponse(CartApplicationService.CartViewResult result) {
         List<CartItemResponse> itemResponses = result.getItems().stream()
                 .map(item -> CartItemResponse.builder()
                         .cartItemId(item.getCartItemId())
@@ -131,7 +184,7 @@ public class CartController {
                         .build())
                 .toList();
 
-        CartResponse response = CartResponse.builder()
+        return CartResponse.builder()
                 .cartId(result.getCartId())
                 .items(itemResponses)
                 .totalItems(result.getTotalItems())
@@ -140,8 +193,6 @@ public class CartController {
                         ? String.format("%d개 제품이 장바구니에 담겨있습니다.", result.getTotalItems())
                         : "장바구니가 비어있습니다.")
                 .build();
-
-        return ResponseEntity.ok(response);
     }
 
     /**
@@ -190,7 +241,7 @@ public class CartController {
                     .toList();
 
             // 제거 처리 (하나라도 문제가 있으면 예외 발생)
-            cartApplicationService.removeCartItems(userId, itemsToRemove);
+            cartFacade.removeCartItems(userId, itemsToRemove);
 
             // 성공 시 간단한 메시지 반환
             return ResponseEntity.ok(java.util.Map.of(
@@ -241,7 +292,7 @@ public class CartController {
 
         try {
             CartApplicationService.CartQuantityUpdateResult result = 
-                    cartApplicationService.increaseQuantity(userId, request.getProductId());
+                    cartFacade.increaseQuantity(userId, request.getProductId());
 
             UpdateCartQuantityResponse response = UpdateCartQuantityResponse.builder()
                     .productId(result.getProductId())
@@ -296,7 +347,7 @@ public class CartController {
 
         try {
             CartApplicationService.CartQuantityUpdateResult result = 
-                    cartApplicationService.decreaseQuantity(userId, request.getProductId());
+                    cartFacade.decreaseQuantity(userId, request.getProductId());
 
             UpdateCartQuantityResponse response = UpdateCartQuantityResponse.builder()
                     .productId(result.getProductId())
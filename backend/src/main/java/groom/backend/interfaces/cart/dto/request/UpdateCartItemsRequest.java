@@ -0,0 +1,50 @@
+package groom.backend.interfaces.cart.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장바구니의 여러 제품 수량을 한 번에 설정하기 위한 요청 DTO
+ * 요청한 수량이 장바구니의 최종 수량이 되며, 0이면 제품을 제거합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 제품 일괄 수량 설정 요청 DTO")
+public class UpdateCartItemsRequest {
+
+    /**
+     * 수량을 설정할 제품 목록 (제품 ID 중복 불가)
+     */
+    @NotEmpty(message = "변경할 제품 목록은 필수입니다")
+    @Valid
+    @Schema(description = "수량을 설정할 제품 목록", required = true)
+    private List<CartItemQuantity> items;
+
+    /**
+     * 수량을 설정할 제품 정보를 담는 내부 클래스
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "수량을 설정할 제품 정보")
+    public static class CartItemQuantity {
+        @NotNull(message = "제품 ID는 필수입니다")
+        @Schema(description = "제품 ID", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
+        private UUID productId;
+
+        @NotNull(message = "수량은 필수입니다")
+        @Min(value = 0, message = "수량은 0 이상이어야 합니다")
+        @Schema(description = "설정할 수량 (0이면 제거)", example = "2", required = true, minimum = "0")
+        private Integer quantity;
+    }
+}
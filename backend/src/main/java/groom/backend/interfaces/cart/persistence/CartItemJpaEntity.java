@@ -39,6 +39,11 @@ public class CartItemJpaEntity {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // 동시 변경 감지 (수량 증감 UPDATE, write-behind 반영도 함께 올림)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
 
 
@@ -0,0 +1,311 @@
+package groom.backend.interfaces.cart.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 장바구니를 cart / cart_item 테이블에 일괄 반영하는 JDBC 저장소 (write-behind)
+ *
+ * 사용자별 장바구니 전체 상태를 그대로 덮어쓰므로 같은 내용을 여러 번 반영해도 결과가 같습니다. (멱등)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcCartSyncRepository {
+
+    // user_id 유니크 제약(V1)으로 없으면 생성, 있으면 기존 cart id 반환
+    private static final String UPSERT_CART_SQL = """
+            INSERT INTO cart (user_id)
+            SELECT unnest(?::bigint[])
+            ON CONFLICT (user_id) DO UPDATE SET updated_at = CURRENT_TIMESTAMP
+            RETURNING user_id, id
+            """;
+
+    // (cart_id, product_id) 유니크 제약(V1) 기준, 수량이 같으면 갱신하지 않음
+    private static final String UPSERT_ITEM_SQL = """
+            INSERT INTO cart_item (cart_id, product_id, quantity)
+            VALUES (?, ?, ?)
+            ON CONFLICT (cart_id, product_id) DO UPDATE
+            SET quantity = EXCLUDED.quantity, updated_at = CURRENT_TIMESTAMP, version = cart_item.version + 1
+            WHERE cart_item.quantity <> EXCLUDED.quantity
+            """;
+
+    // Redis 장바구니에 없는 항목 삭제 (빈 배열이면 전체 삭제)
+    private static final String DELETE_MISSING_SQL = """
+            DELETE FROM cart_item
+            WHERE cart_id = ? AND product_id <> ALL(?)
+            """;
+
+    // 여러 항목 수량 설정 (한 문장), 수량이 같으면 변경 시각을 유지하며 모든 항목의 id 반환
+    private static final String SET_ITEMS_SQL = """
+            INSERT INTO cart_item (cart_id, product_id, quantity)
+            SELECT ?, t.product_id, t.quantity
+            FROM unnest(?::uuid[], ?::int[]) AS t(product_id, quantity)
+            ON CONFLICT (cart_id, product_id) DO UPDATE
+            SET quantity = EXCLUDED.quantity,
+                updated_at = CASE WHEN cart_item.quantity <> EXCLUDED.quantity
+                                  THEN CURRENT_TIMESTAMP ELSE cart_item.updated_at END,
+                version = CASE WHEN cart_item.quantity <> EXCLUDED.quantity
+                               THEN cart_item.version + 1 ELSE cart_item.version END
+            RETURNING product_id, id
+            """;
+
+    private static final String DELETE_ITEMS_SQL = """
+            DELETE FROM cart_item
+            WHERE cart_id = ? AND product_id = ANY(?)
+            """;
+
+    // 제품 → 장바구니에 담은 사용자 역색인 재구성용 (제품 순으로 읽어 제품 단위로 묶음)
+    private static final String PRODUCT_USERS_SQL = """
+            SELECT ci.product_id, c.user_id
+            FROM cart_item ci
+            JOIN cart c ON c.id = ci.cart_id
+            ORDER BY ci.product_id
+            """;
+
+    // 수량 증감 (한 문장), 증감 후 수량이 최소 수량 이상이고 증가 시에는 판매 중인 제품의 재고 이하일 때만 반영
+    private static final String INCREMENT_QUANTITY_SQL = """
+            UPDATE cart_item ci
+            SET quantity = ci.quantity + ?, updated_at = CURRENT_TIMESTAMP, version = ci.version + 1
+            FROM cart c, product p
+            WHERE c.user_id = ? AND ci.cart_id = c.id AND ci.product_id = ? AND p.id = ci.product_id
+              AND ci.quantity + ? >= ?
+              AND (? < 0 OR (p.is_active AND ci.quantity + ? <= p.stock))
+            RETURNING ci.quantity, p.stock
+            """;
+
+    // 만료 대상 조회 (cart.id 순 keyset 페이지), 장바구니와 모든 항목이 기준 시각 이전에 변경되었으면 만료 대상
+    private static final String STALE_CART_PAGE_SQL = """
+            SELECT c.id, c.user_id,
+                   c.updated_at < ? AND NOT EXISTS (
+                       SELECT 1 FROM cart_item ci WHERE ci.cart_id = c.id AND ci.updated_at >= ?) AS stale
+            FROM cart c
+            WHERE c.id > ?
+            ORDER BY c.id
+            LIMIT ?
+            """;
+
+    // 만료 조건을 다시 확인하며 삭제 (cart_item 은 FK CASCADE), 역색인 정리를 위해 삭제 전 항목 반환
+    private static final String DELETE_STALE_CARTS_SQL = """
+            WITH expired AS (
+                DELETE FROM cart c
+                WHERE c.id = ANY(?) AND c.updated_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM cart_item ci WHERE ci.cart_id = c.id AND ci.updated_at >= ?)
+                RETURNING c.id, c.user_id
+            )
+            SELECT e.user_id, ci.product_id
+            FROM expired e
+            LEFT JOIN cart_item ci ON ci.cart_id = e.id
+            """;
+
+    private static final int PRODUCT_USERS_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자별 장바구니 생성 또는 조회
+     *
+     * @return userId → cartId
+     */
+    public Map<Long, Long> upsertCarts(List<Long> userIds) {
+        Map<Long, Long> cartIds = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return cartIds;
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_CART_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, rs -> {
+            cartIds.put(rs.getLong("user_id"), rs.getLong("id"));
+        });
+        return cartIds;
+    }
+
+    /**
+     * 장바구니 항목을 Redis 상태로 덮어씀
+     *
+     * @param items cartId → (productId → quantity)
+     */
+    public void replaceItems(Map<Long, Map<UUID, Integer>> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> upserts = new ArrayList<>();
+        items.forEach((cartId, quantities) ->
+                quantities.forEach((productId, quantity) -> upserts.add(new Object[]{cartId, productId, quantity})));
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, upserts, upserts.size(), (ps, row) -> {
+                ps.setLong(1, (Long) row[0]);
+                ps.setObject(2, row[1]);
+                ps.setInt(3, (Integer) row[2]);
+            });
+        }
+
+        List<Map.Entry<Long, Map<UUID, Integer>>> carts = new ArrayList<>(items.entrySet());
+        jdbcTemplate.batchUpdate(DELETE_MISSING_SQL, carts, carts.size(), (ps, cart) -> {
+            ps.setLong(1, cart.getKey());
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", cart.getValue().keySet().toArray()));
+        });
+    }
+
+    /**
+     * 한 장바구니의 여러 항목 수량 설정 (없으면 생성)
+     *
+     * @param quantities productId → 수량 (1 이상)
+     * @return productId → cart_item id
+     */
+    public Map<UUID, Long> setItems(Long cartId, Map<UUID, Integer> quantities) {
+        Map<UUID, Long> cartItemIds = new HashMap<>();
+        if (quantities.isEmpty()) {
+            return cartItemIds;
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SET_ITEMS_SQL);
+            ps.setLong(1, cartId);
+            ps.setArray(2, connection.createArrayOf("uuid", quantities.keySet().toArray()));
+            ps.setArray(3, connection.createArrayOf("integer", quantities.values().toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> cartItemIds.put(rs.getObject("product_id", UUID.class), rs.getLong("id")));
+        return cartItemIds;
+    }
+
+    /**
+     * 한 장바구니의 여러 항목 삭제
+     */
+    public int deleteItems(Long cartId, Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_ITEMS_SQL);
+            ps.setLong(1, cartId);
+            ps.setArray(2, connection.createArrayOf("uuid", productIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 장바구니 항목 수량 증감 (조건을 만족할 때만 반영, 한 문장)
+     * 조회 후 쓰기 대신 조건부 UPDATE 로 처리하므로 동시에 요청되어도 재고/최소 수량 조건을 넘지 않습니다.
+     *
+     * @param delta 증감량 (양수면 판매 중인 제품의 재고 이하인지 확인)
+     * @param minQuantity 증감 후 최소 수량
+     * @return 반영 후 수량과 재고, 항목이 없거나 조건을 만족하지 않으면 empty
+     */
+    public Optional<QuantityUpdate> incrementQuantity(Long userId, UUID productId, int delta, int minQuantity) {
+        List<QuantityUpdate> updated = jdbcTemplate.query(INCREMENT_QUANTITY_SQL,
+                (rs, rowNum) -> new QuantityUpdate(rs.getInt("quantity"), rs.getInt("stock")),
+                delta, userId, productId, delta, minQuantity, delta, delta);
+        return updated.stream().findFirst();
+    }
+
+    /**
+     * 수량 증감 결과
+     */
+    public record QuantityUpdate(int quantity, int stock) {
+    }
+
+    /**
+     * cart.id 순으로 afterCartId 다음 장바구니를 최대 limit개 읽어 만료 대상을 찾음
+     *
+     * @param cutoff 이 시각 이전에 마지막으로 변경된 장바구니가 만료 대상
+     */
+    public StaleCartPage findStaleCarts(long afterCartId, int limit, LocalDateTime cutoff) {
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        long[] lastCartId = {afterCartId};
+        int[] size = {0};
+        Map<Long, Long> staleCarts = new LinkedHashMap<>();
+
+        jdbcTemplate.query(STALE_CART_PAGE_SQL, (RowCallbackHandler) rs -> {
+            lastCartId[0] = rs.getLong("id");
+            size[0]++;
+            if (rs.getBoolean("stale")) {
+                staleCarts.put(lastCartId[0], rs.getLong("user_id"));
+            }
+        }, cutoffTimestamp, cutoffTimestamp, afterCartId, limit);
+        return new StaleCartPage(lastCartId[0], size[0], staleCarts);
+    }
+
+    /**
+     * 만료 대상 장바구니 삭제 (조회 후 변경된 장바구니는 남김)
+     *
+     * @return 삭제된 장바구니의 userId → 담겨 있던 productId 목록
+     */
+    public Map<Long, List<UUID>> deleteStaleCarts(Collection<Long> cartIds, LocalDateTime cutoff) {
+        Map<Long, List<UUID>> expired = new HashMap<>();
+        if (cartIds.isEmpty()) {
+            return expired;
+        }
+
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_STALE_CARTS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", cartIds.toArray()));
+            ps.setTimestamp(2, cutoffTimestamp);
+            ps.setTimestamp(3, cutoffTimestamp);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            List<UUID> productIds = expired.computeIfAbsent(rs.getLong("user_id"), userId -> new ArrayList<>());
+            UUID productId = rs.getObject("product_id", UUID.class);
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        });
+        return expired;
+    }
+
+    /**
+     * 만료 대상 조회 결과 한 페이지
+     *
+     * @param lastCartId 다음 페이지 조회 기준 (읽은 마지막 cart.id)
+     * @param size 읽은 장바구니 수 (limit보다 작으면 마지막 페이지)
+     * @param staleCarts 만료 대상 cartId → userId
+     */
+    public record StaleCartPage(long lastCartId, int size, Map<Long, Long> staleCarts) {
+    }
+
+    /**
+     * 제품별 장바구니 사용자 목록을 제품 순으로 전달 (커서로 나눠 읽음, 트랜잭션 안에서 호출)
+     *
+     * @param consumer (productId, userIds)
+     */
+    public void forEachProductUsers(BiConsumer<UUID, List<Long>> consumer) {
+        UUID[] currentProductId = new UUID[1];
+        List<Long> userIds = new ArrayList<>();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(PRODUCT_USERS_SQL);
+            ps.setFetchSize(PRODUCT_USERS_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            UUID productId = rs.getObject("product_id", UUID.class);
+            if (currentProductId[0] != null && !currentProductId[0].equals(productId)) {
+                consumer.accept(currentProductId[0], new ArrayList<>(userIds));
+                userIds.clear();
+            }
+            currentProductId[0] = productId;
+            userIds.add(rs.getLong("user_id"));
+        });
+        if (currentProductId[0] != null) {
+            consumer.accept(currentProductId[0], userIds);
+        }
+    }
+}
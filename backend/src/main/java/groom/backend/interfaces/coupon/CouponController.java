@@ -1,5 +1,6 @@
 package groom.backend.interfaces.coupon;
 
+import groom.backend.application.coupon.CouponIssueFacade;
 import groom.backend.application.coupon.CouponIssueService;
 import groom.backend.common.annotation.CheckPermission;
 import groom.backend.domain.coupon.service.CouponCommonService;
@@ -44,6 +45,7 @@ import java.util.List;
 public class CouponController {
   private final CouponCommonService couponCommonService;
   private final CouponIssueService couponIssueService;
+  private final CouponIssueFacade couponIssueFacade;
 
   @GetMapping("/{coupon_id}")
   @Operation(summary = "단일 쿠폰 조회", description = "지정된 id의 쿠폰을 조회합니다.")
@@ -89,6 +91,7 @@ public class CouponController {
           description = """
           지정된 쿠폰 ID의 쿠폰을 현재 로그인한 사용자에게 발급합니다.
           요청 헤더의 Date 값과 서버 시간의 차이가 1분 이상이면 거부됩니다.
+          redis 발급 모드에서는 DB 저장이 비동기로 이뤄지므로 응답의 couponIssueId가 비어 있습니다.
           """
   )
   @ApiResponses({
@@ -125,7 +128,7 @@ public class CouponController {
     }
 
     // 쿠폰 발급
-    CouponIssueResponse response = couponIssueService.issueCoupon(couponId, user);
+    CouponIssueResponse response = couponIssueFacade.issueCoupon(couponId, user);
 
     // 쿠폰이 존재하지 않을 시
     if (response == null) {
@@ -3,6 +3,8 @@ package groom.backend.interfaces.coupon.dto.request;
 import groom.backend.domain.coupon.model.entity.Coupon;
 import groom.backend.domain.coupon.model.enums.CouponType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -39,6 +41,11 @@ public class CouponCreateRequest {
   @Schema(description = "쿠폰 만료일", example = "2025-12-31")
   private LocalDate expireDate;
 
+  @Min(1)
+  @Max(64)
+  @Schema(description = "잔여 수량 카운터 분할 수 (인기 쿠폰용, 기본 1)", example = "8")
+  private Integer stockStripes;
+
   public Coupon toEntity() {
     return Coupon.builder()
             .name(name)
@@ -47,6 +54,7 @@ public class CouponCreateRequest {
             .amount(amount)
             .type(type)
             .expireDate(expireDate)
+            .stockStripes(stockStripes != null ? stockStripes : 1)
             .build();
   }
 }
@@ -37,6 +37,9 @@ public class CouponResponse {
   @Schema(description = "쿠폰 만료일", example = "2025-12-31")
   private LocalDate expireDate;
 
+  @Schema(description = "잔여 수량 카운터 분할 수", example = "1")
+  private Integer stockStripes;
+
   public static CouponResponse from(Coupon coupon) {
     return CouponResponse.builder()
             .id(coupon.getId())
@@ -47,6 +50,7 @@ public class CouponResponse {
             .isActive(coupon.getIsActive())
             .type(coupon.getType())
             .expireDate(coupon.getExpireDate())
+            .stockStripes(coupon.getStockStripes())
             .build();
   }
 }
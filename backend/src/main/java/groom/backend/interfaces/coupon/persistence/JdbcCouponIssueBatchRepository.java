@@ -0,0 +1,86 @@
+package groom.backend.interfaces.coupon.persistence;
+
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.domain.coupon.repository.CouponIssueBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcCouponIssueBatchRepository implements CouponIssueBatchRepository {
+
+  // (coupon_id, user_id) 유니크 제약(V10)에 걸리는 행은 건너뛰어 재처리 시에도 한 번만 저장됨
+  // VALUES 목록은 건수에 맞춰 붙이고, 실제 삽입된 행만 RETURNING 으로 돌려받음
+  private static final String INSERT_SQL_PREFIX =
+          "INSERT INTO coupon_issue (is_active, created_at, deleted_at, user_id, coupon_id) VALUES ";
+  private static final String INSERT_VALUES_ROW = "(?, ?, ?, ?, ?)";
+  private static final String INSERT_SQL_SUFFIX =
+          " ON CONFLICT (coupon_id, user_id) DO NOTHING RETURNING coupon_id, user_id";
+
+  // PostgreSQL 바인드 파라미터 상한(32767)을 넘지 않도록 문장당 행 수 제한
+  private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+  private static final String DECREASE_QUANTITY_SQL = """
+          UPDATE coupon
+          SET quantity = GREATEST(quantity - ?, 0), updated_at = CURRENT_TIMESTAMP
+          WHERE id = ?
+          """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean[] insertIgnoringDuplicates(List<CouponIssue> issues) {
+    boolean[] inserted = new boolean[issues.size()];
+    if (issues.isEmpty()) {
+      return inserted;
+    }
+
+    // 한 문장 안에서 같은 (coupon_id, user_id)가 반복되면 첫 행만 삽입됨
+    Set<String> returned = new HashSet<>();
+    for (int from = 0; from < issues.size(); from += MAX_ROWS_PER_STATEMENT) {
+      returned.addAll(insertChunk(issues.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, issues.size()))));
+    }
+    for (int i = 0; i < issues.size(); i++) {
+      inserted[i] = returned.remove(pairKey(issues.get(i).getCoupon().getId(), issues.get(i).getUserId()));
+    }
+    return inserted;
+  }
+
+  /**
+   * 다건 INSERT 한 문장을 실행합니다.
+   * @return 실제 삽입된 (couponId, userId) 키
+   */
+  private List<String> insertChunk(List<CouponIssue> chunk) {
+    StringBuilder sql = new StringBuilder(INSERT_SQL_PREFIX);
+    List<Object> params = new ArrayList<>(chunk.size() * 5);
+    for (int i = 0; i < chunk.size(); i++) {
+      CouponIssue issue = chunk.get(i);
+      sql.append(i == 0 ? "" : ", ").append(INSERT_VALUES_ROW);
+      params.add(issue.getIsActive());
+      params.add(Timestamp.valueOf(issue.getCreatedAt()));
+      params.add(issue.getDeletedAt() != null ? Timestamp.valueOf(issue.getDeletedAt()) : null);
+      params.add(issue.getUserId());
+      params.add(issue.getCoupon().getId());
+    }
+    sql.append(INSERT_SQL_SUFFIX);
+    return jdbcTemplate.query(sql.toString(),
+            (rs, rowNum) -> pairKey(rs.getLong("coupon_id"), rs.getLong("user_id")),
+            params.toArray());
+  }
+
+  private String pairKey(Long couponId, Long userId) {
+    return couponId + ":" + userId;
+  }
+
+  @Override
+  public void decreaseQuantity(Long couponId, long count) {
+    jdbcTemplate.update(DECREASE_QUANTITY_SQL, count, couponId);
+  }
+}
@@ -1,6 +1,7 @@
 package groom.backend.interfaces.payment;
 
 import groom.backend.application.payment.PaymentApplicationService;
+import groom.backend.application.payment.PaymentConfirmFacade;
 import groom.backend.common.annotation.CheckPermission;
 import groom.backend.domain.auth.entity.User;
 import groom.backend.domain.payment.model.Payment;
@@ -38,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController {
 
     private final PaymentApplicationService paymentApplicationService;
+    private final PaymentConfirmFacade paymentConfirmFacade;
 
     /**
      * 결제 승인 - Toss Payments API 호출 후 상태 변경
@@ -51,7 +53,9 @@ public class PaymentController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PaymentResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "401", description = "인증 실패 - JWT 토큰이 필요합니다.")
+            @ApiResponse(responseCode = "401", description = "인증 실패 - JWT 토큰이 필요합니다."),
+            @ApiResponse(responseCode = "409", description = "같은 주문의 결제 승인이 진행 중입니다."),
+            @ApiResponse(responseCode = "504", description = "결제 승인 결과 확인 중 - 잠시 후 결제 상태를 조회하세요.")
     })
     @PostMapping("/confirm")
     public ResponseEntity<PaymentResponse> confirmPayment(
@@ -66,7 +70,7 @@ public class PaymentController {
         log.info("[API_REQUEST] Confirm payment - UserId: {}, OrderId: {}, PaymentKey: {}",
                 user.getId(), request.getOrderId(), request.getPaymentKey());
 
-        Payment payment = paymentApplicationService.confirmPayment(
+        Payment payment = paymentConfirmFacade.confirmPayment(
                 request.getPaymentKey(),
                 request.getOrderId(),
                 request.getAmount()
@@ -0,0 +1,80 @@
+package groom.backend.interfaces.payment.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 승인 outbox (payment_confirm_outbox)
+ *
+ * 결제를 IN_PROGRESS 로 표시한 트랜잭션에서 기록하고, 승인 결과를 반영한 트랜잭션에서 삭제합니다.
+ * 남아 있는 행은 PG 호출 중 또는 결과 반영 전에 중단된 승인이며 복구 스케줄러가 다시 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentConfirmOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO payment_confirm_outbox (order_id, payment_id, payment_key, amount, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (order_id) DO UPDATE
+            SET payment_key = EXCLUDED.payment_key, amount = EXCLUDED.amount,
+                attempts = 0, next_attempt_at = EXCLUDED.next_attempt_at
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM payment_confirm_outbox WHERE order_id = ?";
+
+    // 재시도 시각이 지난 행을 선점 (다른 인스턴스가 처리 중인 행은 건너뜀), 재시도 간격은 시도마다 2배 (최대 maxBackoffSeconds)
+    private static final String CLAIM_DUE_SQL = """
+            WITH due AS (
+                SELECT order_id
+                FROM payment_confirm_outbox
+                WHERE next_attempt_at <= ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE payment_confirm_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = ?::timestamp + make_interval(secs => LEAST(?::float8 * power(2, o.attempts), ?::float8))
+            FROM due
+            WHERE o.order_id = due.order_id
+            RETURNING o.order_id, o.payment_id, o.payment_key, o.amount, o.attempts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param leaseUntil 이 시각까지 응답이 없으면 복구 대상 (PG 호출 제한 시간보다 길게)
+     */
+    public void insert(UUID orderId, UUID paymentId, String paymentKey, int amount, LocalDateTime leaseUntil) {
+        jdbcTemplate.update(INSERT_SQL, orderId, paymentId, paymentKey, amount, Timestamp.valueOf(leaseUntil));
+    }
+
+    public void delete(UUID orderId) {
+        jdbcTemplate.update(DELETE_SQL, orderId);
+    }
+
+    /**
+     * 재시도 시각이 지난 승인을 최대 limit 건 선점하고 다음 재시도 시각을 미룹니다.
+     */
+    public List<PendingConfirm> claimDue(int limit, long backoffSeconds, long maxBackoffSeconds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.query(CLAIM_DUE_SQL,
+                (rs, rowNum) -> new PendingConfirm(
+                        rs.getObject("order_id", UUID.class),
+                        rs.getObject("payment_id", UUID.class),
+                        rs.getString("payment_key"),
+                        rs.getInt("amount"),
+                        rs.getInt("attempts")),
+                now, limit, now, backoffSeconds, maxBackoffSeconds);
+    }
+
+    public record PendingConfirm(UUID orderId, UUID paymentId, String paymentKey, int amount, int attempts) {
+    }
+}
@@ -0,0 +1,52 @@
+package groom.backend.interfaces.payment.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 결제 이벤트 소비 기록 (payment_event_consumed)
+ *
+ * Kafka는 같은 이벤트를 다시 전달할 수 있으므로, 소비자별로 처리한 이벤트 ID를 기록해 한 번만 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentEventConsumedRepository {
+
+    private static final String MARK_CONSUMED_SQL = """
+            INSERT INTO payment_event_consumed (event_id, consumer)
+            VALUES (?, ?)
+            ON CONFLICT (event_id, consumer) DO NOTHING
+            """;
+
+    private static final String UNMARK_SQL = "DELETE FROM payment_event_consumed WHERE event_id = ? AND consumer = ?";
+
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM payment_event_consumed WHERE consumed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 처음 기록되었으면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean markConsumed(UUID eventId, String consumer) {
+        return jdbcTemplate.update(MARK_CONSUMED_SQL, eventId, consumer) == 1;
+    }
+
+    /**
+     * 처리에 실패한 이벤트의 기록을 지워 재전달 시 다시 처리되도록 합니다.
+     */
+    public void unmark(UUID eventId, String consumer) {
+        jdbcTemplate.update(UNMARK_SQL, eventId, consumer);
+    }
+
+    /**
+     * @return 삭제한 행 수
+     */
+    public int deleteConsumedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(before));
+    }
+}
@@ -0,0 +1,87 @@
+package groom.backend.interfaces.payment.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 완료 후속 처리 outbox (payment_event_outbox)
+ *
+ * 결제 승인을 반영하는 트랜잭션에서 기록하므로, 커밋된 결제만 이벤트가 남고 커밋된 결제의 이벤트는 유실되지 않습니다.
+ * PaymentEventOutboxRelay가 미발행 행을 순서대로 Kafka에 발행하고 발행 시각을 기록합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentEventOutboxRepository {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO payment_event_outbox (event_id, event_type, aggregate_id, payload)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    // 다른 인스턴스의 릴레이가 발행 중인 행은 건너뜀
+    private static final String CLAIM_UNPUBLISHED_SQL = """
+            SELECT id, event_id, aggregate_id, payload
+            FROM payment_event_outbox
+            WHERE published_at IS NULL
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MARK_PUBLISHED_SQL = """
+            UPDATE payment_event_outbox
+            SET published_at = ?
+            WHERE id = ANY (?)
+            """;
+
+    private static final String DELETE_PUBLISHED_SQL = """
+            DELETE FROM payment_event_outbox
+            WHERE published_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(UUID eventId, String eventType, UUID aggregateId, String payload) {
+        jdbcTemplate.update(APPEND_SQL, eventId, eventType, aggregateId, payload);
+    }
+
+    /**
+     * 미발행 이벤트를 최대 limit 건 잠그고 조회합니다. (트랜잭션 안에서 호출)
+     */
+    public List<OutboxEvent> claimUnpublished(int limit) {
+        return jdbcTemplate.query(CLAIM_UNPUBLISHED_SQL,
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getObject("event_id", UUID.class),
+                        rs.getObject("aggregate_id", UUID.class),
+                        rs.getString("payload")),
+                limit);
+    }
+
+    public void markPublished(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, ps -> {
+            ps.setTimestamp(1, now);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+        });
+    }
+
+    /**
+     * @return 삭제한 행 수
+     */
+    public int deletePublishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_SQL, Timestamp.valueOf(before));
+    }
+
+    public record OutboxEvent(long id, UUID eventId, UUID aggregateId, String payload) {
+    }
+}
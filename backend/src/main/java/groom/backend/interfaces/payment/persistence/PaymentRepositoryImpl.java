@@ -3,6 +3,7 @@ package groom.backend.interfaces.payment.persistence;
 import groom.backend.domain.payment.model.Payment;
 import groom.backend.domain.payment.model.enums.PaymentStatus;
 import groom.backend.domain.payment.repository.PaymentRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +31,11 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return springDataPaymentRepository.findByOrderId(orderId);
     }
 
+    @Override
+    public Optional<Payment> findByOrderIdForUpdate(UUID orderId) {
+        return springDataPaymentRepository.findByOrderIdForUpdate(orderId);
+    }
+
     @Override
     public Optional<Payment> findByPaymentKey(String paymentKey) {
         return springDataPaymentRepository.findByPaymentKeyValue(paymentKey);
@@ -45,6 +51,14 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return springDataPaymentRepository.findByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public List<UUID> findOrderIdsByStatus(Collection<UUID> orderIds, PaymentStatus status) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return springDataPaymentRepository.findOrderIdsByStatus(orderIds, status);
+    }
+
     @Override
     public boolean existsByOrderId(UUID orderId) {
         return springDataPaymentRepository.existsByOrderId(orderId);
@@ -2,10 +2,13 @@ package groom.backend.interfaces.payment.persistence;
 
 import groom.backend.domain.payment.model.Payment;
 import groom.backend.domain.payment.model.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +17,11 @@ public interface SpringDataPaymentRepository extends JpaRepository<Payment, UUID
     @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId")
     Optional<Payment> findByOrderId(@Param("orderId") UUID orderId);
 
+    // 결제 승인 단계 사이의 상태 변경을 직렬화 (같은 주문의 동시 승인 요청)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId")
+    Optional<Payment> findByOrderIdForUpdate(@Param("orderId") UUID orderId);
+
     @Query("SELECT p FROM Payment p WHERE p.paymentKey.value = :paymentKey")
     Optional<Payment> findByPaymentKeyValue(@Param("paymentKey") String paymentKey);
 
@@ -22,6 +30,9 @@ public interface SpringDataPaymentRepository extends JpaRepository<Payment, UUID
     @Query("SELECT p FROM Payment p WHERE p.userId = :userId AND p.status = :status")
     List<Payment> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") PaymentStatus status);
 
+    @Query("SELECT p.order.id FROM Payment p WHERE p.order.id IN :orderIds AND p.status = :status")
+    List<UUID> findOrderIdsByStatus(@Param("orderIds") Collection<UUID> orderIds, @Param("status") PaymentStatus status);
+
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Payment p WHERE p.order.id = :orderId")
     boolean existsByOrderId(@Param("orderId") UUID orderId);
 }
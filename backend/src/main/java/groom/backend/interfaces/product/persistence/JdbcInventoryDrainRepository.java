@@ -0,0 +1,125 @@
+package groom.backend.interfaces.product.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 재고 선점의 확정 수량 배치 반영 기록 (inventory_drain_batch, inventory_drain_shortage)
+ *
+ * 배치 ID를 재고 차감과 같은 트랜잭션에 기록하여, 반영 후 Redis 확인(ack) 전에 장애가 나도
+ * 같은 배치가 두 번 차감되지 않도록 합니다.
+ * 기록은 ack 이후에는 필요 없으므로 보관 기간이 지나면 삭제합니다. (부족분은 ON DELETE CASCADE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcInventoryDrainRepository {
+
+    private static final String MARK_DRAINED_SQL = """
+            INSERT INTO inventory_drain_batch (batch_id)
+            VALUES (?)
+            ON CONFLICT (batch_id) DO NOTHING
+            """;
+
+    // 재고가 확정 수량보다 적은 상품은 남은 재고를 모두 차감하고 모자란 수량을 배치 ID와 함께 기록
+    private static final String DRAIN_SHORTAGES_SQL = """
+            WITH req AS (
+                SELECT t.id, t.quantity FROM unnest(?::uuid[], ?::int[]) AS t(id, quantity)
+            ), locked AS (
+                SELECT p.id, p.stock FROM product p JOIN req r ON r.id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            ), drained AS (
+                UPDATE product p
+                SET stock = 0,
+                    status = 'OUT_OF_STOCK',
+                    updated_at = CURRENT_TIMESTAMP
+                FROM req r JOIN locked l ON l.id = r.id
+                WHERE p.id = r.id AND l.stock < r.quantity
+                RETURNING p.id, r.quantity - l.stock AS shortage
+            )
+            INSERT INTO inventory_drain_shortage (batch_id, product_id, quantity)
+            SELECT ?, id, shortage FROM drained
+            RETURNING product_id, quantity
+            """;
+
+    private static final String FIND_SHORTAGES_SQL = """
+            SELECT product_id, quantity FROM inventory_drain_shortage WHERE batch_id = ?
+            """;
+
+    // 반영 중인 배치는 ack 전이므로 오래되었어도 남김
+    private static final String PURGE_SQL = """
+            DELETE FROM inventory_drain_batch
+            WHERE drained_at < ?
+              AND batch_id <> ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 처음 기록되었으면 true, 이미 반영된 배치면 false
+     */
+    public boolean markDrained(String batchId) {
+        return jdbcTemplate.update(MARK_DRAINED_SQL, batchId) == 1;
+    }
+
+    /**
+     * 확정 수량만큼 차감하지 못한 상품의 재고를 0으로 차감하고 모자란 수량을 기록합니다. (markDrained 와 같은 트랜잭션)
+     *
+     * @param quantities 차감하지 못한 상품의 확정 수량
+     * @return productId → 모자란 수량 (DB에 없는 상품은 제외)
+     */
+    public Map<UUID, Integer> drainShortages(String batchId, Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = new ArrayList<>(quantities.keySet());
+        List<Integer> values = ids.stream().map(quantities::get).toList();
+
+        Map<UUID, Integer> shortages = new LinkedHashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DRAIN_SHORTAGES_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("integer", values.toArray()));
+            ps.setString(3, batchId);
+            return ps;
+        }, rs -> {
+            shortages.put(rs.getObject("product_id", UUID.class), rs.getInt("quantity"));
+        });
+        return shortages;
+    }
+
+    /**
+     * cutoff 이전에 반영된 배치 기록을 삭제합니다.
+     *
+     * @param keepBatchId 반영 중인 배치 ID (삭제하지 않음, 없으면 null)
+     * @return 삭제한 배치 수
+     */
+    public int purgeDrainedBefore(LocalDateTime cutoff, String keepBatchId) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff), keepBatchId != null ? keepBatchId : "");
+    }
+
+    /**
+     * 이미 반영된 배치의 부족분 (ack 전에 장애가 나 다시 처리되는 경우)
+     *
+     * @return productId → 모자란 수량
+     */
+    public Map<UUID, Integer> findShortages(String batchId) {
+        Map<UUID, Integer> shortages = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_SHORTAGES_SQL,
+                rs -> {
+                    shortages.put(rs.getObject("product_id", UUID.class), rs.getInt("quantity"));
+                },
+                batchId);
+        return shortages;
+    }
+}
@@ -2,7 +2,9 @@ package groom.backend.interfaces.product.persistence;
 
 import groom.backend.domain.notification.entity.Notification;
 import groom.backend.domain.notification.repository.NotificationRepository;
+import groom.backend.infrastructure.cart.RedisCartProductIndex;
 import groom.backend.interfaces.cart.persistence.SpringDataCartRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,15 +12,19 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 public class JpaNotificationRepository implements NotificationRepository {
 
     private final SpringDataNotificationRepository springRepo;
     private final SpringDataCartRepository cartRepo;
+    private final RedisCartProductIndex cartProductIndex;
 
-    public JpaNotificationRepository(SpringDataNotificationRepository springRepo, SpringDataCartRepository cartRepo) {
+    public JpaNotificationRepository(SpringDataNotificationRepository springRepo, SpringDataCartRepository cartRepo,
+                                     RedisCartProductIndex cartProductIndex) {
         this.springRepo = springRepo;
         this.cartRepo = cartRepo;
+        this.cartProductIndex = cartProductIndex;
     }
 
     @Override
@@ -59,6 +65,15 @@ public class JpaNotificationRepository implements NotificationRepository {
 
     @Override
     public List<Long> findUserIdsWithProductInCart(UUID productId) {
+        // 역색인이 준비되어 있으면 Redis에서, 아니면 (재구성 전/Redis 장애) DB 조인으로 조회
+        try {
+            Optional<List<Long>> indexed = cartProductIndex.findUserIds(productId);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        } catch (Exception e) {
+            log.warn("[CART_PRODUCT_INDEX_READ_FAILED] productId={}, error={}", productId, e.getMessage());
+        }
         return cartRepo.findUserIdsByProductId(productId);
     }
 
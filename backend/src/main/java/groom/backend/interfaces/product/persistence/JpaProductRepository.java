@@ -1,6 +1,7 @@
 package groom.backend.interfaces.product.persistence;
 
 import groom.backend.domain.product.model.Product;
+import groom.backend.domain.product.model.StockChange;
 import groom.backend.domain.product.model.enums.ProductCategory;
 import groom.backend.domain.product.model.vo.Description;
 import groom.backend.domain.product.model.vo.Name;
@@ -8,9 +9,13 @@ import groom.backend.domain.product.model.vo.Price;
 import groom.backend.domain.product.model.vo.Stock;
 import groom.backend.domain.product.repository.ProductRepository;
 import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -18,12 +23,33 @@ import java.util.stream.Collectors;
 @Repository
 public class JpaProductRepository implements ProductRepository {
 
+    // 재고 증감 (한 문장), 동시 주문 간 데드락 방지를 위해 id 순으로 잠근 뒤 증감 후 재고가 0 이상인 제품만 반영
+    private static final String CHANGE_STOCKS_SQL = """
+            WITH req AS (
+                SELECT t.id, t.delta FROM unnest(?::uuid[], ?::int[]) AS t(id, delta)
+            ), locked AS (
+                SELECT p.id FROM product p JOIN req r ON r.id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            )
+            UPDATE product p
+            SET stock = p.stock + r.delta,
+                status = CASE WHEN p.stock + r.delta = 0 THEN 'OUT_OF_STOCK' ELSE 'AVAILABLE' END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM req r
+            WHERE p.id = r.id AND p.id IN (SELECT id FROM locked) AND p.stock + r.delta >= 0
+            RETURNING p.id, p.stock, p.threshold_value, p.is_active
+            """;
+
     private final SpringDataProductRepository springRepo;
     private final SpringDataCartItemRepository cartItemRepo;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaProductRepository(SpringDataProductRepository springRepo, SpringDataCartItemRepository cartItemRepo) {
+    public JpaProductRepository(SpringDataProductRepository springRepo, SpringDataCartItemRepository cartItemRepo,
+                                JdbcTemplate jdbcTemplate) {
         this.springRepo = springRepo;
         this.cartItemRepo = cartItemRepo;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -50,6 +76,42 @@ public class JpaProductRepository implements ProductRepository {
         return findByIds(productIds);
     }
 
+    @Override
+    public List<StockChange> decreaseStocks(Map<UUID, Integer> quantities) {
+        return changeStocks(quantities, -1);
+    }
+
+    @Override
+    public List<StockChange> increaseStocks(Map<UUID, Integer> quantities) {
+        return changeStocks(quantities, 1);
+    }
+
+    private List<StockChange> changeStocks(Map<UUID, Integer> quantities, int sign) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(quantities.size());
+        List<Integer> deltas = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("증감할 수량은 양수여야 합니다.");
+            }
+            ids.add(productId);
+            deltas.add(sign * quantity);
+        });
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CHANGE_STOCKS_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("integer", deltas.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new StockChange(
+                rs.getObject("id", UUID.class),
+                rs.getInt("stock"),
+                rs.getObject("threshold_value", Integer.class),
+                rs.getObject("is_active", Boolean.class)));
+    }
+
     // 외부에서 사용할 수 있도록 public 메서드
     public Product toDomain(ProductJpaEntity e) {
         return toDomainPrivate(e);
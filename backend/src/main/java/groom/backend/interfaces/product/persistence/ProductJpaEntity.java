@@ -56,6 +56,14 @@ public class ProductJpaEntity {
 
     @Column(name = "image_url")
     private String imageUrl;
+
+    // 인기 상품 Redis 재고 선점 대상 (운영에서 지정, 도메인 모델 저장 시 덮어쓰지 않도록 읽기 전용)
+    @Column(name = "redis_inventory", insertable = false, updatable = false)
+    private Boolean redisInventory;
+
+    public boolean usesRedisInventory() {
+        return Boolean.TRUE.equals(redisInventory);
+    }
 }
 
 
@@ -1,13 +1,24 @@
 package groom.backend.interfaces.product.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataProductRepository extends JpaRepository<ProductJpaEntity, UUID> {
     List<ProductJpaEntity> findByIdIn(List<UUID> ids);
-}
 
+    // 영속성 컨텍스트의 엔티티가 아닌 DB의 현재 재고 (Redis 가용 재고 계산용)
+    @Query("SELECT p.stock FROM ProductJpaEntity p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") UUID id);
 
+    @Query("SELECT p.id FROM ProductJpaEntity p WHERE p.redisInventory = true AND p.id IN :ids")
+    List<UUID> findRedisInventoryIds(@Param("ids") Collection<UUID> ids);
 
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.redisInventory = true ORDER BY p.id")
+    List<ProductJpaEntity> findRedisInventoryProducts();
+}
@@ -0,0 +1,23 @@
+-- ============================================
+-- V10: coupon_issue (coupon_id, user_id) 유니크 제약 추가
+-- 비동기 배치 저장 시 같은 발급 예약이 재처리되어도
+-- INSERT ... ON CONFLICT DO NOTHING 으로 한 번만 저장되도록 보장
+-- ============================================
+
+-- 1) 기존 중복 발급 정리 (동시 발급 경합으로 이미 생긴 중복이 있으면 제약 추가가 실패함)
+--    (coupon_id, user_id) 별로 사용 가능한(is_active) 행을 우선, 그다음 먼저 발급된 행 하나만 남김
+DELETE FROM coupon_issue ci
+USING (
+    SELECT id,
+           ROW_NUMBER() OVER (
+               PARTITION BY coupon_id, user_id
+               ORDER BY is_active DESC NULLS LAST, id
+           ) AS rn
+    FROM coupon_issue
+) dup
+WHERE ci.id = dup.id
+  AND dup.rn > 1;
+
+-- 2) 유니크 제약 추가
+ALTER TABLE coupon_issue
+    ADD CONSTRAINT uq_coupon_issue_coupon_user UNIQUE (coupon_id, user_id);
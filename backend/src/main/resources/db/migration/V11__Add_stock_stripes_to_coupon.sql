@@ -0,0 +1,8 @@
+-- ============================================
+-- V11: coupon 재고 스트라이프 수 컬럼 추가
+-- redis 발급 모드에서 인기 쿠폰의 잔여 수량을 N개의 Redis 카운터로 나누어 관리
+-- 1이면 기존과 같이 단일 카운터 사용
+-- ============================================
+
+ALTER TABLE coupon
+    ADD COLUMN stock_stripes INTEGER NOT NULL DEFAULT 1;
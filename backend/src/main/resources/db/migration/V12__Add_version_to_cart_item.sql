@@ -0,0 +1,8 @@
+-- ============================================
+-- V12: cart_item 버전 컬럼 추가
+-- 수량 증감은 조건부 UPDATE 한 문장으로 처리하고 버전을 올림
+-- JPA로 읽고 쓰는 경로(@Version)는 그 사이 변경된 항목을 덮어쓰지 않고 충돌로 감지
+-- ============================================
+
+ALTER TABLE cart_item
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- ============================================
+-- V13: 인기 상품 Redis 재고 선점
+-- redis_inventory 가 true 인 상품은 주문 생성 시 Redis에서 재고를 선점하고,
+-- 결제 확정 수량은 배치로 모아 product.stock 에 반영
+-- inventory_drain_batch: 반영한 배치 ID (재시도 시 같은 배치를 두 번 차감하지 않도록)
+-- ============================================
+
+ALTER TABLE product
+    ADD COLUMN redis_inventory BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE TABLE inventory_drain_batch (
+    batch_id   VARCHAR(36) PRIMARY KEY,
+    drained_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
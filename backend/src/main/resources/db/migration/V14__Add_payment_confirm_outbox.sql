@@ -0,0 +1,17 @@
+-- ============================================
+-- V14: 결제 승인 outbox
+-- 결제를 IN_PROGRESS 로 표시하는 트랜잭션에서 함께 기록하고, 승인 결과를 반영하는 트랜잭션에서 삭제
+-- 그 사이에 장애가 나면 남은 행을 복구 스케줄러가 같은 Idempotency-Key 로 다시 승인 요청하여 마무리
+-- ============================================
+
+CREATE TABLE payment_confirm_outbox (
+    order_id        UUID         PRIMARY KEY,
+    payment_id      UUID         NOT NULL,
+    payment_key     VARCHAR(255) NOT NULL,
+    amount          INTEGER      NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_payment_confirm_outbox_next_attempt ON payment_confirm_outbox (next_attempt_at);
@@ -0,0 +1,28 @@
+-- ============================================
+-- V15: 결제 완료 후속 처리 outbox
+-- payment_event_outbox   : 결제 승인을 반영하는 트랜잭션에서 함께 기록, 릴레이가 Kafka로 발행 후 published_at 기록
+-- payment_event_consumed : 소비자별 처리한 이벤트 ID (재전달된 이벤트를 한 번만 처리)
+-- ============================================
+
+CREATE TABLE payment_event_outbox (
+    id           BIGSERIAL    PRIMARY KEY,
+    event_id     UUID         NOT NULL UNIQUE,
+    event_type   VARCHAR(50)  NOT NULL,
+    aggregate_id UUID         NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+-- 미발행 행만 색인 (릴레이 조회용)
+CREATE INDEX idx_payment_event_outbox_unpublished ON payment_event_outbox (id) WHERE published_at IS NULL;
+CREATE INDEX idx_payment_event_outbox_published_at ON payment_event_outbox (published_at);
+
+CREATE TABLE payment_event_consumed (
+    event_id    UUID        NOT NULL,
+    consumer    VARCHAR(50) NOT NULL,
+    consumed_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id, consumer)
+);
+
+CREATE INDEX idx_payment_event_consumed_at ON payment_event_consumed (consumed_at);
@@ -0,0 +1,12 @@
+-- ============================================
+-- V16: 재고 선점 배치 반영 부족분
+-- DB 재고가 확정 수량보다 적으면 남은 재고만 차감하고 (0으로) 모자란 수량을 배치 ID와 함께 기록
+-- 반영 후 Redis 확인(ack) 전에 장애가 나 같은 배치가 다시 처리될 때 부족분을 다시 읽어 Redis로 넘기기 위함
+-- ============================================
+
+CREATE TABLE inventory_drain_shortage (
+    batch_id   VARCHAR(36) NOT NULL REFERENCES inventory_drain_batch (batch_id) ON DELETE CASCADE,
+    product_id UUID        NOT NULL,
+    quantity   INTEGER     NOT NULL,
+    PRIMARY KEY (batch_id, product_id)
+);
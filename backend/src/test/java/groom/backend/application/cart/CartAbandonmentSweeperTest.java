@@ -0,0 +1,152 @@
+package groom.backend.application.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.infrastructure.cart.RedisCartProductIndex;
+import groom.backend.infrastructure.cart.RedisCartRepository;
+import groom.backend.infrastructure.config.RedisConfig;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.support.TestContainers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방치된 장바구니 정리 확인 (Redis, PostgreSQL 컨테이너)
+ * Redis는 TTL 없는 장바구니 키에만 TTL을 설정하고 (주기 사이에 SCAN 커서를 이어감),
+ * DB는 TTL 이전에 변경된 장바구니 중 Redis에서도 사용하지 않는 장바구니만 삭제한 뒤 역색인에서 제거합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CartAbandonmentSweeperTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private RedisCartRepository redisCartRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        stringRedisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+        redisCartRepository = new RedisCartRepository(new RedisConfig().cartRedisTemplate(connectionFactory),
+                new ObjectMapper());
+        ReflectionTestUtils.setField(redisCartRepository, "cartTtlDays", 7L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void sweep_setsTtlOnlyOnPersistentCartKeysAcrossRuns() {
+        stringRedisTemplate.opsForHash().put("cart:1001", "f", "1");
+        stringRedisTemplate.opsForHash().put("cart:1002", "f", "1");
+        stringRedisTemplate.opsForHash().put("cart:1003", "f", "1");
+        stringRedisTemplate.expire("cart:1003", 100, TimeUnit.SECONDS);
+        // 장바구니 키가 아닌 cart:* 키는 건드리지 않음
+        stringRedisTemplate.opsForSet().add(RedisCartProductIndex.KEY_PREFIX + UUID.randomUUID(), "1001");
+
+        // 한 주기에 키 하나씩만 처리하고 다음 주기에 커서를 이어감
+        CartAbandonmentSweeper sweeper = sweeper(1, 1);
+        sweeper.sweep();
+        assertThat(ttlRestored()).isLessThanOrEqualTo(1);
+
+        for (int i = 0; i < 5; i++) {
+            sweeper.sweep();
+        }
+
+        assertThat(ttlRestored()).isEqualTo(2);
+        assertThat(stringRedisTemplate.getExpire("cart:1001")).isGreaterThan(TimeUnit.DAYS.toSeconds(6));
+        assertThat(stringRedisTemplate.getExpire("cart:1002")).isGreaterThan(TimeUnit.DAYS.toSeconds(6));
+        assertThat(stringRedisTemplate.getExpire("cart:1003")).isLessThanOrEqualTo(100);
+        stringRedisTemplate.keys(RedisCartProductIndex.KEY_PREFIX + "*")
+                .forEach(key -> assertThat(stringRedisTemplate.getExpire(key)).isEqualTo(-1L));
+        sweeper.shutdown();
+    }
+
+    @Test
+    void sweep_deletesOnlyStaleCartsUnusedInRedis() {
+        UUID productId = insertProduct();
+        Long staleUser = insertUser();
+        Long staleButActiveUser = insertUser();
+        Long recentUser = insertUser();
+        insertCart(staleUser, productId, "NOW() - INTERVAL '30 days'");
+        insertCart(staleButActiveUser, productId, "NOW() - INTERVAL '30 days'");
+        insertCart(recentUser, productId, "NOW()");
+        String indexKey = RedisCartProductIndex.KEY_PREFIX + productId;
+        stringRedisTemplate.opsForSet().add(indexKey, String.valueOf(staleUser), String.valueOf(recentUser));
+        // DB에서는 오래되었지만 Redis 장바구니는 사용 중
+        redisCartRepository.addQuantity(staleButActiveUser, productId, 1, 100, true);
+
+        CartAbandonmentSweeper sweeper = sweeper(500, 20);
+        sweeper.sweep();
+
+        assertThat(cartExists(staleUser)).isFalse();
+        assertThat(cartExists(staleButActiveUser)).isTrue();
+        assertThat(cartExists(recentUser)).isTrue();
+        assertThat(stringRedisTemplate.opsForSet().members(indexKey))
+                .contains(String.valueOf(recentUser), String.valueOf(staleButActiveUser))
+                .doesNotContain(String.valueOf(staleUser));
+        assertThat(meterRegistry.counter("cart.sweeper.expired").count()).isGreaterThanOrEqualTo(1.0);
+        sweeper.shutdown();
+    }
+
+    private CartAbandonmentSweeper sweeper(int batchSize, int maxBatchesPerRun) {
+        CartAbandonmentSweeper sweeper = new CartAbandonmentSweeper(new JdbcCartSyncRepository(jdbcTemplate),
+                redisCartRepository, meterRegistry);
+        ReflectionTestUtils.setField(sweeper, "cartTtlDays", 7L);
+        ReflectionTestUtils.setField(sweeper, "batchSize", batchSize);
+        ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", maxBatchesPerRun);
+        ReflectionTestUtils.setField(sweeper, "batchPauseMillis", 0L);
+        sweeper.registerMetrics();
+        return sweeper;
+    }
+
+    private double ttlRestored() {
+        return meterRegistry.counter("cart.sweeper.ttl-restored").count();
+    }
+
+    private Long insertUser() {
+        return jdbcTemplate.queryForObject("INSERT INTO users (email, password, name, role, grade, created_at, updated_at) "
+                + "VALUES (?, 'password', 'sweeper', 'ROLE_USER', 'BRONZE', NOW(), NOW()) RETURNING id",
+                Long.class, UUID.randomUUID().toString().substring(0, 8) + "@sweep.com");
+    }
+
+    private UUID insertProduct() {
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category) "
+                + "VALUES (?, 'sweeper', 1000, 100, 'GENERAL')", productId);
+        return productId;
+    }
+
+    private void insertCart(Long userId, UUID productId, String updatedAt) {
+        Long cartId = jdbcTemplate.queryForObject("INSERT INTO cart (user_id, updated_at) VALUES (?, " + updatedAt
+                + ") RETURNING id", Long.class, userId);
+        jdbcTemplate.update("INSERT INTO cart_item (cart_id, product_id, quantity, updated_at) VALUES (?, ?, 1, "
+                + updatedAt + ")", cartId, productId);
+    }
+
+    private boolean cartExists(Long userId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart WHERE user_id = ?", Integer.class, userId);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,130 @@
+package groom.backend.application.cart;
+
+import groom.backend.infrastructure.cart.RedisCartProductIndex;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 제품 → 장바구니 사용자 역색인 재구성 확인 (Redis 컨테이너, DB 조회는 mock)
+ * 재구성 중에는 완료 표시가 없어 조회가 DB로 가고, 잠금을 가진 재구성만 색인을 지우고 완료 표시를 합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CartProductIndexServiceTest {
+
+    private static final UUID PRODUCT_A = UUID.randomUUID();
+    private static final UUID PRODUCT_B = UUID.randomUUID();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisCartProductIndex productIndex;
+    private JdbcCartSyncRepository cartSyncRepository;
+    private CartProductIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        productIndex = new RedisCartProductIndex(redisTemplate);
+        cartSyncRepository = mock(JdbcCartSyncRepository.class);
+        service = new CartProductIndexService(cartSyncRepository, productIndex);
+        ReflectionTestUtils.setField(service, "rebuildLockTtlMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rebuild_isNotReadyWhileRunningAndReadyAfterwards() {
+        Optional<?>[] duringRebuild = new Optional<?>[1];
+        givenProductUsers(consumer -> {
+            consumer.accept(PRODUCT_A, List.of(1L, 2L));
+            duringRebuild[0] = productIndex.findUserIds(PRODUCT_A);
+            consumer.accept(PRODUCT_B, List.of(3L));
+        });
+
+        assertThat(service.rebuild()).isTrue();
+
+        // 재구성 중에는 완료 표시가 없어 DB 조회로 넘어감
+        assertThat(duringRebuild[0]).isEmpty();
+        assertThat(productIndex.findUserIds(PRODUCT_A)).hasValueSatisfying(
+                userIds -> assertThat(userIds).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(productIndex.findUserIds(PRODUCT_B)).hasValue(List.of(3L));
+        assertThat(redisTemplate.hasKey(RedisCartProductIndex.REBUILD_LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void rebuild_isSkippedWhileAnotherInstanceHoldsTheLock() {
+        productIndex.replace(PRODUCT_A, List.of(1L));
+        redisTemplate.opsForValue().set(RedisCartProductIndex.READY_KEY, "1");
+        redisTemplate.opsForValue().set(RedisCartProductIndex.REBUILD_LOCK_KEY, "other-instance");
+
+        assertThat(service.rebuild()).isFalse();
+
+        // 다른 재구성이 채우는 색인과 완료 표시는 건드리지 않음
+        verifyNoInteractions(cartSyncRepository);
+        assertThat(productIndex.findUserIds(PRODUCT_A)).hasValue(List.of(1L));
+        assertThat(redisTemplate.opsForValue().get(RedisCartProductIndex.REBUILD_LOCK_KEY)).isEqualTo("other-instance");
+    }
+
+    @Test
+    void rebuild_thatLostItsLock_doesNotMarkReadyOrReleaseTheNewLock() {
+        givenProductUsers(consumer -> {
+            consumer.accept(PRODUCT_A, List.of(1L));
+            // 잠금이 만료되어 다른 인스턴스가 재구성을 시작함
+            redisTemplate.opsForValue().set(RedisCartProductIndex.REBUILD_LOCK_KEY, "other-instance");
+        });
+
+        assertThat(service.rebuild()).isFalse();
+
+        assertThat(redisTemplate.hasKey(RedisCartProductIndex.READY_KEY)).isFalse();
+        assertThat(productIndex.findUserIds(PRODUCT_A)).isEmpty();
+        assertThat(redisTemplate.opsForValue().get(RedisCartProductIndex.REBUILD_LOCK_KEY)).isEqualTo("other-instance");
+    }
+
+    @Test
+    void lockIsReleasedWhenRebuildFails() {
+        givenProductUsers(consumer -> {
+            throw new IllegalStateException("DB 조회 실패");
+        });
+
+        assertThatThrownBy(() -> service.rebuild()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(redisTemplate.hasKey(RedisCartProductIndex.READY_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(RedisCartProductIndex.REBUILD_LOCK_KEY)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenProductUsers(Consumer<BiConsumer<UUID, List<Long>>> rows) {
+        doAnswer(invocation -> {
+            rows.accept(invocation.getArgument(0, BiConsumer.class));
+            return null;
+        }).when(cartSyncRepository).forEachProductUsers(any());
+    }
+}
@@ -0,0 +1,141 @@
+package groom.backend.application.cart;
+
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository.QuantityUpdate;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 수량 증감 조건부 UPDATE 확인 (PostgreSQL 컨테이너)
+ * 조회 후 쓰기 없이 한 문장으로 반영하므로 동시 요청도 재고를 넘거나 1 미만이 되지 않고, 반영될 때마다 version이 오릅니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CartQuantityConditionalUpdateTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcCartSyncRepository repository;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+        repository = new JdbcCartSyncRepository(jdbcTemplate);
+        userId = jdbcTemplate.queryForObject("INSERT INTO users (email, password, name, role, grade, created_at, updated_at) "
+                + "VALUES (?, 'password', 'quantity', 'ROLE_USER', 'BRONZE', NOW(), NOW()) RETURNING id",
+                Long.class, UUID.randomUUID().toString().substring(0, 8) + "@qty.com");
+    }
+
+    @Test
+    void increment_returnsNewQuantityAndBumpsVersion() {
+        UUID productId = insertProduct(10, true);
+        insertCartItem(productId, 2);
+        long versionBefore = version(productId);
+
+        Optional<QuantityUpdate> updated = repository.incrementQuantity(userId, productId, 1, 1);
+
+        assertThat(updated).contains(new QuantityUpdate(3, 10));
+        assertThat(version(productId)).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    void increment_isRejectedAboveStockAndDecrementBelowMinimum() {
+        UUID productId = insertProduct(3, true);
+        insertCartItem(productId, 3);
+        long versionBefore = version(productId);
+
+        assertThat(repository.incrementQuantity(userId, productId, 1, 1)).isEmpty();
+        assertThat(repository.incrementQuantity(userId, productId, -1, 1)).contains(new QuantityUpdate(2, 3));
+        assertThat(repository.incrementQuantity(userId, productId, -1, 1)).contains(new QuantityUpdate(1, 3));
+        assertThat(repository.incrementQuantity(userId, productId, -1, 1)).isEmpty();
+
+        assertThat(quantity(productId)).isEqualTo(1);
+        assertThat(version(productId)).isEqualTo(versionBefore + 2);
+    }
+
+    @Test
+    void inactiveProduct_canOnlyBeDecreased() {
+        UUID productId = insertProduct(10, false);
+        insertCartItem(productId, 2);
+
+        assertThat(repository.incrementQuantity(userId, productId, 1, 1)).isEmpty();
+        assertThat(repository.incrementQuantity(userId, productId, -1, 1)).contains(new QuantityUpdate(1, 10));
+    }
+
+    @Test
+    void missingLine_isNotUpdated() {
+        UUID productId = insertProduct(10, true);
+
+        assertThat(repository.incrementQuantity(userId, productId, 1, 1)).isEmpty();
+    }
+
+    @Test
+    void concurrentIncrements_neverExceedStock() throws Exception {
+        UUID productId = insertProduct(5, true);
+        insertCartItem(productId, 1);
+        long versionBefore = version(productId);
+
+        int requests = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<QuantityUpdate>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return repository.incrementQuantity(userId, productId, 1, 1);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Optional<QuantityUpdate>> result : results) {
+                if (result.get().isPresent()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(4);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(quantity(productId)).isEqualTo(5);
+        assertThat(version(productId)).isEqualTo(versionBefore + 4);
+    }
+
+    private UUID insertProduct(int stock, boolean active) {
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, is_active, category) "
+                + "VALUES (?, 'quantity', 1000, ?, ?, 'GENERAL')", productId, stock, active);
+        return productId;
+    }
+
+    private void insertCartItem(UUID productId, int quantity) {
+        Long cartId = repository.upsertCarts(List.of(userId)).get(userId);
+        jdbcTemplate.update("INSERT INTO cart_item (cart_id, product_id, quantity) VALUES (?, ?, ?)",
+                cartId, productId, quantity);
+    }
+
+    private int quantity(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT ci.quantity FROM cart_item ci JOIN cart c ON c.id = ci.cart_id "
+                + "WHERE c.user_id = ? AND ci.product_id = ?", Integer.class, userId, productId);
+    }
+
+    private long version(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT ci.version FROM cart_item ci JOIN cart c ON c.id = ci.cart_id "
+                + "WHERE c.user_id = ? AND ci.product_id = ?", Long.class, userId, productId);
+    }
+}
@@ -0,0 +1,140 @@
+package groom.backend.application.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.infrastructure.cart.RedisCartChangeLog;
+import groom.backend.infrastructure.cart.RedisCartRepository;
+import groom.backend.infrastructure.config.RedisConfig;
+import groom.backend.interfaces.cart.persistence.JdbcCartSyncRepository;
+import groom.backend.support.TestContainers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * write-behind 반영 도중 장바구니가 다시 바뀌면 변경 기록을 지우지 않고 다음 주기에 새 상태를 반영하는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CartWriteBehindConflictTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private JdbcTemplate jdbcTemplate;
+    private RedisCartRepository redisCartRepository;
+    private RedisCartChangeLog cartChangeLog;
+    private Long userId;
+    private UUID firstProductId;
+    private UUID secondProductId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        StringRedisTemplate stringRedisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+
+        redisCartRepository = new RedisCartRepository(new RedisConfig().cartRedisTemplate(connectionFactory),
+                new ObjectMapper());
+        ReflectionTestUtils.setField(redisCartRepository, "cartTtlDays", 7L);
+        cartChangeLog = new RedisCartChangeLog(stringRedisTemplate);
+
+        userId = jdbcTemplate.queryForObject("INSERT INTO users (email, password, name, role, grade, created_at, updated_at) "
+                + "VALUES (?, 'password', 'write-behind', 'ROLE_USER', 'BRONZE', NOW(), NOW()) RETURNING id",
+                Long.class, UUID.randomUUID() + "@test.com");
+        firstProductId = insertProduct();
+        secondProductId = insertProduct();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void changeDuringFlush_staysDirtyAndIsFlushedNextRun() {
+        assertThat(redisCartRepository.addQuantity(userId, firstProductId, 2, 100, true)).isEqualTo(2L);
+
+        // 반영 트랜잭션 도중 사용자가 다른 제품을 담음
+        AtomicBoolean changed = new AtomicBoolean();
+        CartSyncService cartSyncService = new CartSyncService(new JdbcCartSyncRepository(jdbcTemplate)) {
+            @Override
+            public Map<Long, Long> sync(Map<Long, Map<UUID, Integer>> carts) {
+                if (changed.compareAndSet(false, true)) {
+                    sleepUntilNextMillisecond();
+                    redisCartRepository.addQuantity(userId, secondProductId, 1, 100, true);
+                }
+                return super.sync(carts);
+            }
+        };
+        CartWriteBehindScheduler scheduler = scheduler(cartSyncService);
+
+        scheduler.flush();
+        assertThat(dbItems()).isEqualTo(Map.of(firstProductId, 2));
+        assertThat(cartChangeLog.dirtyScore(userId)).isNotNull();
+
+        scheduler.flush();
+        assertThat(dbItems()).isEqualTo(Map.of(firstProductId, 2, secondProductId, 1));
+        assertThat(cartChangeLog.dirtyScore(userId)).isNull();
+    }
+
+    @Test
+    void unchangedCart_isAckedAfterFlush() {
+        redisCartRepository.addQuantity(userId, firstProductId, 1, 100, true);
+
+        scheduler(new CartSyncService(new JdbcCartSyncRepository(jdbcTemplate))).flush();
+
+        assertThat(dbItems()).isEqualTo(Map.of(firstProductId, 1));
+        assertThat(cartChangeLog.size()).isZero();
+    }
+
+    private CartWriteBehindScheduler scheduler(CartSyncService cartSyncService) {
+        CartWriteBehindScheduler scheduler = new CartWriteBehindScheduler(cartChangeLog, redisCartRepository,
+                cartSyncService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scheduler, "batchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerRun", 1);
+        ReflectionTestUtils.setField(scheduler, "coalesceMillis", 0L);
+        scheduler.registerMetrics();
+        return scheduler;
+    }
+
+    private UUID insertProduct() {
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category) "
+                + "VALUES (?, 'write-behind', 1000, 100, 'GENERAL')", productId);
+        return productId;
+    }
+
+    private Map<UUID, Integer> dbItems() {
+        Map<UUID, Integer> items = new HashMap<>();
+        jdbcTemplate.query("SELECT ci.product_id, ci.quantity FROM cart_item ci JOIN cart c ON c.id = ci.cart_id "
+                        + "WHERE c.user_id = ?",
+                rs -> {
+                    items.put(rs.getObject("product_id", UUID.class), rs.getInt("quantity"));
+                },
+                userId);
+        return items;
+    }
+
+    // 변경 기록 score는 millis 단위이므로 같은 millis 안의 변경은 구분되지 않음
+    private static void sleepUntilNextMillisecond() {
+        long now = System.currentTimeMillis();
+        while (System.currentTimeMillis() == now) {
+            Thread.onSpinWait();
+        }
+    }
+}
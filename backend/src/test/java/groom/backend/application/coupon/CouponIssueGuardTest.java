@@ -0,0 +1,158 @@
+package groom.backend.application.coupon;
+
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.auth.entity.User;
+import groom.backend.domain.auth.enums.Grade;
+import groom.backend.domain.auth.enums.Role;
+import groom.backend.domain.coupon.repository.CouponIssueRepository;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.infrastructure.redis.CouponIssueRedisRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쿠폰 중복 발급 사전 차단 확인 (Redis 컨테이너의 발급 사용자 집합 사용)
+ * 다른 인스턴스가 기록한 발급도 Redis 집합으로 차단하고, 차단된 요청은 발급 서비스(DB 락)까지 가지 않습니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CouponIssueGuardTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+    private CouponIssueRepository couponIssueRepository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        StringRedisTemplate redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        couponIssueRedisRepository = new CouponIssueRedisRepository(redisTemplate);
+        couponIssueRepository = mock(CouponIssueRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void issueRecordedByAnotherInstance_isRejected() {
+        guard(couponIssueRedisRepository).markIssued(COUPON_ID, 10L);
+
+        CouponIssueGuard otherInstance = guard(couponIssueRedisRepository);
+
+        assertThat(otherInstance.isAlreadyIssued(COUPON_ID, 10L)).isTrue();
+        assertThat(otherInstance.isAlreadyIssued(COUPON_ID, 11L)).isFalse();
+    }
+
+    @Test
+    void warmUp_loadsIssuedUsersFromDb() {
+        List<Long> userIds = LongStream.rangeClosed(1, 2_500).boxed().toList();
+        when(couponIssueRepository.findUserIdsByCouponId(COUPON_ID)).thenReturn(userIds);
+        CouponIssueGuard guard = guard(couponIssueRedisRepository);
+
+        guard.warmUp(COUPON_ID);
+
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 1L)).isTrue();
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 2_500L)).isTrue();
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 2_501L)).isFalse();
+    }
+
+    @Test
+    void redisFailure_fallsThroughToExistingCheck() {
+        CouponIssueRedisRepository failingRepository = mock(CouponIssueRedisRepository.class);
+        when(failingRepository.isIssued(anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+        CouponIssueGuard guard = guard(failingRepository);
+
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 10L)).isFalse();
+
+        // 로컬 집합에 기록된 사용자는 Redis 없이 차단
+        guard.markIssuedLocally(COUPON_ID, 10L);
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void localSet_isBoundedPerCoupon() {
+        CouponIssueRedisRepository emptyRepository = mock(CouponIssueRedisRepository.class);
+        CouponIssueGuard guard = guard(emptyRepository);
+        ReflectionTestUtils.setField(guard, "localMaxUsersPerCoupon", 1);
+
+        guard.markIssuedLocally(COUPON_ID, 10L);
+        guard.markIssuedLocally(COUPON_ID, 11L);
+
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 10L)).isTrue();
+        assertThat(guard.isAlreadyIssued(COUPON_ID, 11L)).isFalse();
+    }
+
+    @Test
+    void facade_rejectsRepeatBeforeIssueService() {
+        CouponIssueGuard guard = guard(couponIssueRedisRepository);
+        guard.markIssued(COUPON_ID, 10L);
+        CouponIssueService couponIssueService = mock(CouponIssueService.class);
+        CouponRedisIssueService couponRedisIssueService = mock(CouponRedisIssueService.class);
+        CouponIssueFacade facade = new CouponIssueFacade(couponIssueService, couponRedisIssueService, guard);
+        ReflectionTestUtils.setField(facade, "issueMode", "db");
+
+        assertThatThrownBy(() -> facade.issueCoupon(COUPON_ID, user(10L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COUPON_ALREADY_ISSUED);
+        verifyNoInteractions(couponIssueService, couponRedisIssueService);
+    }
+
+    @Test
+    void facade_recordsDuplicateFoundByDbCheck() {
+        CouponIssueGuard guard = guard(couponIssueRedisRepository);
+        CouponIssueService couponIssueService = mock(CouponIssueService.class);
+        when(couponIssueService.issueCoupon(any(), any()))
+                .thenThrow(new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED));
+        CouponIssueFacade facade = new CouponIssueFacade(couponIssueService, mock(CouponRedisIssueService.class), guard);
+        ReflectionTestUtils.setField(facade, "issueMode", "db");
+
+        assertThatThrownBy(() -> facade.issueCoupon(COUPON_ID, user(10L))).isInstanceOf(BusinessException.class);
+
+        // 다음 재시도는 DB까지 가지 않고 차단
+        assertThatThrownBy(() -> facade.issueCoupon(COUPON_ID, user(10L))).isInstanceOf(BusinessException.class);
+        verify(couponIssueService).issueCoupon(any(), any());
+        assertThat(couponIssueRedisRepository.isIssued(COUPON_ID, 10L)).isTrue();
+    }
+
+    private CouponIssueGuard guard(CouponIssueRedisRepository redisRepository) {
+        CouponIssueGuard guard = new CouponIssueGuard(mock(CouponRepository.class), couponIssueRepository, redisRepository);
+        ReflectionTestUtils.setField(guard, "localMaxUsersPerCoupon", 100_000);
+        ReflectionTestUtils.setField(guard, "localMaxCoupons", 1_000L);
+        ReflectionTestUtils.setField(guard, "localExpireAfterAccessMinutes", 30L);
+        guard.initLocalCache();
+        return guard;
+    }
+
+    private static User user(Long id) {
+        return new User(id, "guard@test.com", "password", "guard", Role.ROLE_USER, Grade.BRONZE, null, null);
+    }
+}
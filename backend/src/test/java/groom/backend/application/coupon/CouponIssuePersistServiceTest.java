@@ -0,0 +1,124 @@
+package groom.backend.application.coupon;
+
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.interfaces.coupon.persistence.JdbcCouponIssueBatchRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 발급 예약 배치 저장 확인 (PostgreSQL 컨테이너)
+ * 다건 INSERT ... ON CONFLICT DO NOTHING 으로 재처리되어도 한 번만 저장되고, 수량도 실제 삽입 건수만큼만 차감됩니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CouponIssuePersistServiceTest {
+
+    private static final long INITIAL_QUANTITY = 5_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private CouponIssuePersistService persistService;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+        Long couponId = jdbcTemplate.queryForObject("INSERT INTO coupon (name, quantity, amount, is_active, type, "
+                + "expire_date, created_at, updated_at) VALUES ('persist', ?, 1000, TRUE, 'DISCOUNT', ?, NOW(), NOW()) "
+                + "RETURNING id", Long.class, INITIAL_QUANTITY, LocalDate.now().plusDays(30));
+        coupon = Coupon.builder()
+                .id(couponId)
+                .quantity(INITIAL_QUANTITY)
+                .type(CouponType.DISCOUNT)
+                .expireDate(LocalDate.now().plusDays(30))
+                .build();
+
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(coupon));
+        persistService = new CouponIssuePersistService(couponRepository, new JdbcCouponIssueBatchRepository(jdbcTemplate));
+    }
+
+    @Test
+    void persist_dedupesWithinBatchAndDecreasesQuantityOnce() {
+        List<Long> users = insertUsers(2);
+
+        List<CouponIssue> saved = persistService.persist(List.of(
+                reservation(users.get(0)), reservation(users.get(1)), reservation(users.get(1))));
+
+        assertThat(saved).extracting(CouponIssue::getUserId).containsExactly(users.get(0), users.get(1));
+        assertThat(issuedCount()).isEqualTo(2);
+        assertThat(quantity()).isEqualTo(INITIAL_QUANTITY - 2);
+    }
+
+    @Test
+    void replayedBatch_insertsOnlyNewRows() {
+        List<Long> users = insertUsers(3);
+        persistService.persist(List.of(reservation(users.get(0)), reservation(users.get(1))));
+
+        // 처리 기한이 지나 같은 예약이 다시 저장되는 경우
+        List<CouponIssue> saved = persistService.persist(List.of(
+                reservation(users.get(0)), reservation(users.get(1)), reservation(users.get(2))));
+
+        assertThat(saved).extracting(CouponIssue::getUserId).containsExactly(users.get(2));
+        assertThat(issuedCount()).isEqualTo(3);
+        assertThat(quantity()).isEqualTo(INITIAL_QUANTITY - 3);
+    }
+
+    @Test
+    void largeBatch_isSplitAcrossStatements() {
+        List<Long> users = insertUsers(1_001);
+        List<CouponIssueReservation> reservations = new ArrayList<>();
+        users.forEach(userId -> reservations.add(reservation(userId)));
+
+        List<CouponIssue> saved = persistService.persist(reservations);
+
+        assertThat(saved).hasSize(1_001);
+        assertThat(issuedCount()).isEqualTo(1_001);
+        assertThat(quantity()).isEqualTo(INITIAL_QUANTITY - 1_001);
+    }
+
+    @Test
+    void deletedCoupon_isSkipped() {
+        List<Long> users = insertUsers(1);
+
+        List<CouponIssue> saved = persistService.persist(List.of(
+                new CouponIssueReservation(coupon.getId() + 1_000_000, users.get(0), System.currentTimeMillis())));
+
+        assertThat(saved).isEmpty();
+        assertThat(quantity()).isEqualTo(INITIAL_QUANTITY);
+    }
+
+    private CouponIssueReservation reservation(Long userId) {
+        return CouponIssueReservation.of(coupon.getId(), userId);
+    }
+
+    private List<Long> insertUsers(int count) {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        return jdbcTemplate.queryForList("INSERT INTO users (email, password, name, role, grade, created_at, updated_at) "
+                + "SELECT ? || '-' || n || '@test.com', 'password', 'persist', 'ROLE_USER', 'BRONZE', NOW(), NOW() "
+                + "FROM generate_series(1, ?) AS n ORDER BY n RETURNING id", Long.class, prefix, count);
+    }
+
+    private int issuedCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupon_issue WHERE coupon_id = ?",
+                Integer.class, coupon.getId());
+    }
+
+    private long quantity() {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM coupon WHERE id = ?", Long.class, coupon.getId());
+    }
+}
@@ -0,0 +1,174 @@
+package groom.backend.application.payment;
+
+import groom.backend.common.exception.BusinessException;
+import groom.backend.common.exception.ErrorCode;
+import groom.backend.domain.payment.model.Payment;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
+import groom.backend.infrastructure.redis.PaymentConfirmResultRedisRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 승인 재요청 멱등 처리 확인 (단일 실행, 재생, 다른 인스턴스 결과 대기)
+ * 승인 결과 저장소는 Redis 컨테이너를 사용하고, 승인 서비스는 mock으로 대체합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentConfirmFacadeTest {
+
+    private static final String PAYMENT_KEY = "payment-key";
+    private static final int AMOUNT = 10_000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private PaymentConfirmService paymentConfirmService;
+    private PaymentApplicationService paymentApplicationService;
+    private PaymentConfirmResultRedisRepository confirmResultRedisRepository;
+    private PaymentConfirmFacade facade;
+    private UUID orderId;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        StringRedisTemplate redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        confirmResultRedisRepository = new PaymentConfirmResultRedisRepository(redisTemplate);
+        ReflectionTestUtils.setField(confirmResultRedisRepository, "replayTtlSeconds", 600L);
+
+        paymentConfirmService = mock(PaymentConfirmService.class);
+        paymentApplicationService = mock(PaymentApplicationService.class);
+        facade = new PaymentConfirmFacade(paymentConfirmService, paymentApplicationService, confirmResultRedisRepository);
+        ReflectionTestUtils.setField(facade, "waitMillis", 5_000L);
+        ReflectionTestUtils.setField(facade, "pollIntervalMillis", 20L);
+
+        orderId = UUID.randomUUID();
+        payment = mock(Payment.class);
+        when(payment.getId()).thenReturn(UUID.randomUUID());
+        when(payment.getStatus()).thenReturn(PaymentStatus.DONE);
+        when(paymentApplicationService.getPayment(payment.getId())).thenReturn(payment);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void concurrentDuplicates_confirmOnce() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return payment;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Payment>> results = new ArrayList<>();
+            results.add(executor.submit(() -> facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Payment> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(payment);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(paymentConfirmService, times(1)).confirmPayment(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void retryAfterConfirm_isReplayedWithoutConfirming() {
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).thenReturn(payment);
+        facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT);
+
+        assertThat(facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).isSameAs(payment);
+
+        verify(paymentConfirmService, times(1)).confirmPayment(anyString(), any(), anyInt());
+        verify(paymentApplicationService, times(1)).getPayment(payment.getId());
+    }
+
+    @Test
+    void retryWithDifferentAmount_isNotReplayed() {
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).thenReturn(payment);
+        facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT);
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT + 1))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_PARAMETER));
+
+        assertThatThrownBy(() -> facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT + 1))
+                .isInstanceOf(BusinessException.class);
+        verify(paymentApplicationService, never()).getPayment(any());
+    }
+
+    @Test
+    void inProgressElsewhere_waitsForRecordedResult() {
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).thenAnswer(invocation -> {
+            // 다른 인스턴스가 잠시 후 승인 결과를 기록
+            new Thread(() -> {
+                sleep(100);
+                confirmResultRedisRepository.save(orderId, PAYMENT_KEY, AMOUNT, payment.getId());
+            }).start();
+            throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
+        });
+
+        assertThat(facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).isSameAs(payment);
+    }
+
+    @Test
+    void failure_isSharedAndNotReplayed() {
+        when(paymentConfirmService.confirmPayment(PAYMENT_KEY, orderId, AMOUNT))
+                .thenThrow(new BusinessException(ErrorCode.SERVER_ERROR))
+                .thenReturn(payment);
+
+        assertThatThrownBy(() -> facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT))
+                .isInstanceOf(BusinessException.class);
+        assertThat(confirmResultRedisRepository.find(orderId)).isEmpty();
+
+        // 실패한 승인은 기록되지 않으므로 재요청은 다시 승인
+        assertThat(facade.confirmPayment(PAYMENT_KEY, orderId, AMOUNT)).isSameAs(payment);
+        verify(paymentConfirmService, times(2)).confirmPayment(anyString(), any(), anyInt());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package groom.backend.application.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.application.product.InventoryReservationService;
+import groom.backend.application.raffle.RaffleValidationService;
+import groom.backend.domain.order.model.Order;
+import groom.backend.domain.order.model.OrderItem;
+import groom.backend.domain.order.model.enums.OrderStatus;
+import groom.backend.domain.order.repository.OrderRepository;
+import groom.backend.domain.payment.model.Payment;
+import groom.backend.domain.payment.model.enums.PaymentMethod;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
+import groom.backend.domain.payment.repository.PaymentRepository;
+import groom.backend.domain.raffle.repository.RaffleRepository;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent;
+import groom.backend.infrastructure.payment.TossPaymentClient;
+import groom.backend.infrastructure.payment.dto.TossPaymentResponse;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentConfirmOutboxRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository;
+import groom.backend.interfaces.product.persistence.JpaProductRepository;
+import groom.backend.interfaces.product.persistence.ProductJpaEntity;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 승인 시 주문 상품을 한 번에 조회하고 재고를 한 문장으로 차감·복구하는지 확인
+ * (상품 수와 관계없이 조회 1회, 재고 변경 1회, 상품별 findById 없음)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentConfirmProductLoadingTest {
+
+    private static final String PAYMENT_KEY = "payment-key";
+    private static final int ITEM_COUNT = 20;
+
+    private JdbcTemplate jdbcTemplate;
+    private SpringDataProductRepository springDataProductRepository;
+    private JpaProductRepository productRepository;
+    private PaymentRepository paymentRepository;
+    private PaymentApplicationService paymentApplicationService;
+    private InventoryReservationService inventoryReservationService;
+    private JdbcPaymentEventOutboxRepository paymentEventOutboxRepository;
+    private final List<UUID> productIds = new ArrayList<>();
+    private Payment payment;
+    private UUID orderId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+
+        springDataProductRepository = mock(SpringDataProductRepository.class);
+        when(springDataProductRepository.findByIdIn(anyList())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> ProductJpaEntity.builder().id(id).name("loading").price(1000).stock(dbStock(id))
+                            .category("GENERAL").isActive(true).build())
+                    .toList();
+        });
+        productRepository = spy(new JpaProductRepository(springDataProductRepository, null, jdbcTemplate));
+
+        Order order = Order.builder().userId(1L).status(OrderStatus.PENDING).build();
+        orderId = UUID.randomUUID();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        productIds.clear();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            UUID productId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category) VALUES (?, 'x', 1000, ?, 'GENERAL')",
+                    productId, 10);
+            productIds.add(productId);
+            order.addOrderItem(OrderItem.builder().productId(productId).productName("x").price(1000).quantity(2).build());
+        }
+        payment = Payment.builder().order(order).userId(1L).amount(ITEM_COUNT * 2000)
+                .orderName("loading").customerName("x").method(PaymentMethod.CARD).build();
+
+        paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.findByOrderIdForUpdate(orderId)).thenAnswer(invocation -> Optional.of(payment));
+        when(paymentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        inventoryReservationService = mock(InventoryReservationService.class);
+        when(inventoryReservationService.prepareConfirm(eq(orderId), anyMap())).thenReturn(Map.of());
+        when(inventoryReservationService.cancelConfirm(eq(orderId), anyMap()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        paymentEventOutboxRepository = mock(JdbcPaymentEventOutboxRepository.class);
+        paymentApplicationService = new PaymentApplicationService(paymentRepository, mock(OrderRepository.class),
+                productRepository, mock(TossPaymentClient.class), mock(RaffleRepository.class),
+                mock(RaffleValidationService.class), inventoryReservationService,
+                mock(JdbcPaymentConfirmOutboxRepository.class), paymentEventOutboxRepository,
+                new ObjectMapper());
+        ReflectionTestUtils.setField(paymentApplicationService, "confirmLeaseSeconds", 60L);
+    }
+
+    @Test
+    void confirm_loadsProductsOnceAndChangesStockInOneStatement() {
+        PaymentApplicationService.ConfirmStart start =
+                paymentApplicationService.beginConfirm(PAYMENT_KEY, orderId, ITEM_COUNT * 2000);
+        paymentApplicationService.completeConfirm(orderId, approvedResponse(), start.stockReductions());
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(start.stockReductions()).hasSize(ITEM_COUNT);
+        verify(productRepository, times(1)).decreaseStocks(anyMap());
+        verify(springDataProductRepository, times(1)).findByIdIn(anyList());
+        verify(productRepository, never()).findById(any());
+        productIds.forEach(productId -> assertThat(dbStock(productId)).isEqualTo(8));
+    }
+
+    @Test
+    void failedConfirm_restoresStockInOneStatement() {
+        paymentApplicationService.beginConfirm(PAYMENT_KEY, orderId, ITEM_COUNT * 2000);
+        paymentApplicationService.failConfirm(orderId, "REJECT_CARD_COMPANY", "카드사 거절");
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        verify(productRepository, times(1)).increaseStocks(anyMap());
+        verify(productRepository, never()).findById(any());
+        productIds.forEach(productId -> assertThat(dbStock(productId)).isEqualTo(10));
+    }
+
+    @Test
+    void insufficientStock_failsWithShortProductInOneStatement() {
+        jdbcTemplate.update("UPDATE product SET stock = 1 WHERE id = ?", productIds.get(ITEM_COUNT - 1));
+
+        assertThatThrownBy(() -> paymentApplicationService.beginConfirm(PAYMENT_KEY, orderId, ITEM_COUNT * 2000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(productIds.get(ITEM_COUNT - 1).toString());
+        verify(productRepository, times(1)).decreaseStocks(anyMap());
+    }
+
+    @Test
+    void recoveredConfirm_buildsStockLevelsFromCurrentStock() throws Exception {
+        paymentApplicationService.beginConfirm(PAYMENT_KEY, orderId, ITEM_COUNT * 2000);
+        UUID redisProductId = productIds.get(0);
+        when(inventoryReservationService.findAvailable(any())).thenReturn(Map.of(redisProductId, 3));
+
+        // 복구 스케줄러는 1단계의 차감 결과 없이 승인을 반영
+        paymentApplicationService.completeConfirm(orderId, approvedResponse(), List.of());
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(paymentEventOutboxRepository).append(any(), eq(PaymentConfirmedEvent.TYPE), eq(orderId), payload.capture());
+        PaymentConfirmedEvent event = new ObjectMapper().readValue(payload.getValue(), PaymentConfirmedEvent.class);
+        assertThat(event.getStockLevels()).hasSize(ITEM_COUNT);
+        event.getStockLevels().forEach(level -> assertThat(level.stockAfter())
+                .isEqualTo(level.productId().equals(redisProductId) ? 3 : 8));
+    }
+
+    @Test
+    void recoveredConfirm_fallsBackToDbStockWhenRedisFails() throws Exception {
+        paymentApplicationService.beginConfirm(PAYMENT_KEY, orderId, ITEM_COUNT * 2000);
+        when(inventoryReservationService.findAvailable(any())).thenThrow(new IllegalStateException("redis down"));
+
+        paymentApplicationService.completeConfirm(orderId, approvedResponse(), List.of());
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(paymentEventOutboxRepository).append(any(), eq(PaymentConfirmedEvent.TYPE), eq(orderId), payload.capture());
+        PaymentConfirmedEvent event = new ObjectMapper().readValue(payload.getValue(), PaymentConfirmedEvent.class);
+        assertThat(event.getStockLevels()).extracting(PaymentConfirmedEvent.StockLevel::stockAfter).containsOnly(8);
+    }
+
+    private TossPaymentResponse approvedResponse() {
+        TossPaymentResponse response = new TossPaymentResponse();
+        ReflectionTestUtils.setField(response, "paymentKey", PAYMENT_KEY);
+        ReflectionTestUtils.setField(response, "totalAmount", ITEM_COUNT * 2000);
+        return response;
+    }
+
+    private int dbStock(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,94 @@
+package groom.backend.application.payment;
+
+import groom.backend.application.raffle.RaffleTicketApplicationService;
+import groom.backend.domain.raffle.repository.RaffleRepository;
+import groom.backend.infrastructure.kafka.payment.PaymentConfirmedEvent;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventConsumedRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 결제 완료 이벤트 소비자별 1회 처리 확인 (PostgreSQL 컨테이너의 payment_event_consumed 사용)
+ * 재전달된 이벤트는 건너뛰고, 처리에 실패한 이벤트는 소비 기록을 지워 재전달 시 다시 처리합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentConfirmedEventHandlerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PaymentNotificationService paymentNotificationService;
+    private PaymentConfirmedEventHandler handler;
+    private PaymentConfirmedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+        paymentNotificationService = mock(PaymentNotificationService.class);
+        handler = new PaymentConfirmedEventHandler(new JdbcPaymentEventConsumedRepository(jdbcTemplate),
+                paymentNotificationService, mock(RaffleRepository.class), mock(RaffleTicketApplicationService.class));
+
+        UUID productId = UUID.randomUUID();
+        event = new PaymentConfirmedEvent(UUID.randomUUID(), UUID.randomUUID(), 1L,
+                List.of(new PaymentConfirmedEvent.Item(productId, 2)),
+                List.of(new PaymentConfirmedEvent.StockLevel(productId, 3)),
+                List.of(), System.currentTimeMillis());
+    }
+
+    @Test
+    void redeliveredEvent_isHandledOnce() {
+        handler.clearCartItems(event);
+        handler.clearCartItems(event);
+
+        verify(paymentNotificationService, times(1)).clearCartItems(anyLong(), any(), anyList());
+        assertThat(consumedCount(PaymentConfirmedEventHandler.CONSUMER_CART_CLEAR)).isEqualTo(1);
+    }
+
+    @Test
+    void failedEvent_isUnmarkedAndRetriedOnRedelivery() {
+        doThrow(new IllegalStateException("redis unavailable"))
+                .doNothing()
+                .when(paymentNotificationService).clearCartItems(anyLong(), any(), anyList());
+
+        assertThatThrownBy(() -> handler.clearCartItems(event)).isInstanceOf(IllegalStateException.class);
+        assertThat(consumedCount(PaymentConfirmedEventHandler.CONSUMER_CART_CLEAR)).isZero();
+
+        handler.clearCartItems(event);
+        handler.clearCartItems(event);
+
+        verify(paymentNotificationService, times(2)).clearCartItems(anyLong(), any(), anyList());
+        assertThat(consumedCount(PaymentConfirmedEventHandler.CONSUMER_CART_CLEAR)).isEqualTo(1);
+    }
+
+    @Test
+    void consumers_areDeduplicatedIndependently() {
+        handler.sendStockNotifications(event);
+        handler.clearCartItems(event);
+        handler.sendStockNotifications(event);
+        handler.clearCartItems(event);
+
+        verify(paymentNotificationService, times(1)).sendStockReducedNotifications(anyList(), anyLong());
+        verify(paymentNotificationService, times(1)).clearCartItems(anyLong(), any(), anyList());
+        assertThat(consumedCount(PaymentConfirmedEventHandler.CONSUMER_STOCK_NOTIFICATION)).isEqualTo(1);
+    }
+
+    private int consumedCount(String consumer) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payment_event_consumed WHERE event_id = ? AND consumer = ?",
+                Integer.class, event.getEventId(), consumer);
+    }
+}
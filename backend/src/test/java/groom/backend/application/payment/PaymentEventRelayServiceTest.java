@@ -0,0 +1,203 @@
+package groom.backend.application.payment;
+
+import groom.backend.application.payment.PaymentEventRelayService.RelayResult;
+import groom.backend.infrastructure.config.KafkaConfig;
+import groom.backend.infrastructure.kafka.payment.PaymentEventProducer;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventConsumedRepository;
+import groom.backend.interfaces.payment.persistence.JdbcPaymentEventOutboxRepository;
+import groom.backend.support.TestContainers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 이벤트 outbox 릴레이 확인 (PostgreSQL, Kafka 컨테이너)
+ * 일부 발행이 실패하면 앞에서부터 연속으로 확인된 행만 발행 완료로 기록하고, 나머지는 다음 주기에 다시 발행합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentEventRelayServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcPaymentEventOutboxRepository outboxRepository;
+    private ProducerFactory<String, String> producerFactory;
+    private FailingKafkaTemplate kafkaTemplate;
+    private PaymentEventRelayService relayService;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = TestContainers.dataSource();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM payment_event_outbox");
+        outboxRepository = new JdbcPaymentEventOutboxRepository(jdbcTemplate);
+
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", TestContainers.kafkaBootstrapServers());
+        producerFactory = kafkaConfig.paymentEventProducerFactory();
+        kafkaTemplate = new FailingKafkaTemplate(producerFactory);
+        PaymentEventProducer producer = new PaymentEventProducer(kafkaTemplate);
+        ReflectionTestUtils.setField(producer, "sendTimeoutMs", 10_000L);
+
+        // 운영과 같이 claim ~ markPublished 를 한 트랜잭션으로 실행
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        relayService = new PaymentEventRelayService(outboxRepository, producer) {
+            @Override
+            public RelayResult relayBatch(int batchSize) {
+                return transactionTemplate.execute(status -> super.relayBatch(batchSize));
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((DefaultKafkaProducerFactory<String, String>) producerFactory).destroy();
+    }
+
+    @Test
+    void relayBatch_publishesAndMarksAll() {
+        List<UUID> eventIds = appendEvents(3);
+
+        RelayResult result = relayService.relayBatch(10);
+
+        assertThat(result).isEqualTo(new RelayResult(3, 3));
+        assertThat(unpublishedEventIds()).isEmpty();
+        assertThat(consumePayloads(eventIds)).containsExactlyInAnyOrderElementsOf(
+                eventIds.stream().map(PaymentEventRelayServiceTest::payload).toList());
+    }
+
+    @Test
+    void partialFailure_marksOnlyConfirmedPrefix() {
+        List<UUID> eventIds = appendEvents(3);
+        kafkaTemplate.failingPayload = payload(eventIds.get(1));
+
+        RelayResult failed = relayService.relayBatch(10);
+
+        // 세 번째 행은 브로커에 전송되었더라도 발행 완료로 기록하지 않음
+        assertThat(failed).isEqualTo(new RelayResult(3, 1));
+        assertThat(unpublishedEventIds()).containsExactly(eventIds.get(1), eventIds.get(2));
+
+        kafkaTemplate.failingPayload = null;
+        RelayResult retried = relayService.relayBatch(10);
+
+        assertThat(retried).isEqualTo(new RelayResult(2, 2));
+        assertThat(unpublishedEventIds()).isEmpty();
+        assertThat(consumePayloads(eventIds)).containsAll(
+                eventIds.stream().map(PaymentEventRelayServiceTest::payload).toList());
+    }
+
+    @Test
+    void relay_stopsRunAtPartialBatch() {
+        List<UUID> eventIds = appendEvents(4);
+        kafkaTemplate.failingPayload = payload(eventIds.get(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PaymentEventOutboxRelay relay = new PaymentEventOutboxRelay(relayService, outboxRepository,
+                new JdbcPaymentEventConsumedRepository(jdbcTemplate), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        relay.registerMetrics();
+
+        relay.relay();
+
+        // 실패한 행 뒤의 배치는 이번 주기에 발행하지 않음
+        assertThat(unpublishedEventIds()).containsExactly(eventIds.get(1), eventIds.get(2), eventIds.get(3));
+        assertThat(meterRegistry.counter("payment.outbox.published").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("payment.outbox.publish.failures").count()).isEqualTo(1.0);
+
+        kafkaTemplate.failingPayload = null;
+        relay.relay();
+
+        assertThat(unpublishedEventIds()).isEmpty();
+        assertThat(meterRegistry.counter("payment.outbox.published").count()).isEqualTo(4.0);
+    }
+
+    private List<UUID> appendEvents(int count) {
+        List<UUID> eventIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID eventId = UUID.randomUUID();
+            outboxRepository.append(eventId, "PAYMENT_CONFIRMED", UUID.randomUUID(), payload(eventId));
+            eventIds.add(eventId);
+        }
+        return eventIds;
+    }
+
+    private List<UUID> unpublishedEventIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT event_id FROM payment_event_outbox WHERE published_at IS NULL ORDER BY id", UUID.class);
+    }
+
+    /**
+     * 토픽을 처음부터 읽어 이번 테스트에서 발행한 메시지를 모두 받을 때까지 수집합니다.
+     */
+    private List<String> consumePayloads(List<UUID> eventIds) {
+        List<String> expected = eventIds.stream().map(PaymentEventRelayServiceTest::payload).toList();
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, TestContainers.kafkaBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "relay-test-" + UUID.randomUUID());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        List<String> payloads = new ArrayList<>();
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
+            consumer.subscribe(List.of(PaymentEventProducer.TOPIC));
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (System.currentTimeMillis() < deadline && !payloads.containsAll(expected)) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+                    if (expected.contains(record.value())) {
+                        payloads.add(record.value());
+                    }
+                }
+            }
+        }
+        return payloads;
+    }
+
+    private static String payload(UUID eventId) {
+        return "{\"eventId\":\"" + eventId + "\"}";
+    }
+
+    /**
+     * 지정한 메시지의 전송만 실패시키는 KafkaTemplate (나머지는 실제 브로커로 전송)
+     */
+    private static class FailingKafkaTemplate extends KafkaTemplate<String, String> {
+
+        private volatile String failingPayload;
+
+        FailingKafkaTemplate(ProducerFactory<String, String> producerFactory) {
+            super(producerFactory);
+        }
+
+        @Override
+        public CompletableFuture<SendResult<String, String>> send(String topic, String key, String data) {
+            if (data.equals(failingPayload)) {
+                return CompletableFuture.failedFuture(new KafkaException("broker unavailable"));
+            }
+            return super.send(topic, key, data);
+        }
+    }
+}
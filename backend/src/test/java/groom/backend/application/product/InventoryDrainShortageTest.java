@@ -0,0 +1,149 @@
+package groom.backend.application.product;
+
+import groom.backend.domain.order.repository.OrderRepository;
+import groom.backend.domain.payment.repository.PaymentRepository;
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository;
+import groom.backend.interfaces.product.persistence.JdbcInventoryDrainRepository;
+import groom.backend.interfaces.product.persistence.JpaProductRepository;
+import groom.backend.interfaces.product.persistence.ProductJpaEntity;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import groom.backend.support.TestContainers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB 재고가 확정 수량보다 적을 때 배치 반영 → ack → 재계산 후에도 가용 재고가 다시 늘어나지 않는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class InventoryDrainShortageTest {
+
+    private static final long FAR_FUTURE = Long.MAX_VALUE / 2;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private InventoryReservationRedisRepository inventoryRedisRepository;
+    private InventoryDrainPersistService persistService;
+    private InventoryReservationScheduler scheduler;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+
+        productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category, redis_inventory) "
+                + "VALUES (?, 'drain-shortage', 1000, 10, 'GENERAL', TRUE)", productId);
+
+        inventoryRedisRepository = new InventoryReservationRedisRepository(redisTemplate);
+        persistService = new InventoryDrainPersistService(
+                new JpaProductRepository(null, null, jdbcTemplate), new JdbcInventoryDrainRepository(jdbcTemplate));
+
+        SpringDataProductRepository productRepository = mock(SpringDataProductRepository.class);
+        when(productRepository.findRedisInventoryProducts()).thenAnswer(invocation ->
+                List.of(ProductJpaEntity.builder().id(productId).stock(dbStock()).build()));
+        scheduler = new InventoryReservationScheduler(inventoryRedisRepository, persistService,
+                mock(OrderRepository.class), mock(PaymentRepository.class), new JdbcInventoryDrainRepository(jdbcTemplate),
+                productRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scheduler, "expireBatchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "maxDrainBatchesPerRun", 10);
+        scheduler.registerMetrics();
+
+        inventoryRedisRepository.reconcile(productId, 10, inventoryRedisRepository.drainSeq(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void shortage_isNotRestoredByReconcile() {
+        confirmOrder(5);
+        assertThat(available()).isEqualTo(5);
+
+        // 결제 확정 후 반영 전에 관리자가 재고를 2로 줄임 (확정 5 중 3이 모자람)
+        setDbStock(2);
+        scheduler.process();
+
+        assertThat(dbStock()).isZero();
+        assertThat(redisTemplate.hasKey("inventory:draining")).isFalse();
+        assertThat(redisTemplate.opsForHash().get("inventory:deficit", productId.toString())).isEqualTo("3");
+
+        scheduler.reconcile();
+        assertThat(available()).isZero();
+
+        // 재고를 보충하면 부족분만큼 뺀 수량만 판매 가능, 다음 배치에서 부족분까지 차감
+        setDbStock(5);
+        scheduler.reconcile();
+        assertThat(available()).isEqualTo(2);
+
+        confirmOrder(1);
+        scheduler.process();
+        assertThat(dbStock()).isEqualTo(1);
+        assertThat(redisTemplate.hasKey("inventory:deficit")).isFalse();
+
+        scheduler.reconcile();
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    void reappliedBatch_returnsRecordedShortage() {
+        confirmOrder(5);
+        setDbStock(2);
+
+        InventoryReservationRedisRepository.DrainBatch batch = inventoryRedisRepository.drain();
+        assertThat(persistService.apply(batch)).isEqualTo(Map.of(productId, 3));
+
+        // ack 전에 장애가 나 같은 배치를 다시 처리해도 부족분을 잃지 않음
+        assertThat(inventoryRedisRepository.drain().batchId()).isEqualTo(batch.batchId());
+        Map<UUID, Integer> shortages = persistService.apply(batch);
+        assertThat(shortages).isEqualTo(Map.of(productId, 3));
+        assertThat(dbStock()).isZero();
+
+        inventoryRedisRepository.ack(batch.batchId(), shortages);
+        inventoryRedisRepository.reconcile(productId, dbStock(), inventoryRedisRepository.drainSeq(), false);
+        assertThat(available()).isZero();
+    }
+
+    private void confirmOrder(int quantity) {
+        UUID orderId = UUID.randomUUID();
+        long[] result = inventoryRedisRepository.reserve(orderId, Map.of(productId, quantity), FAR_FUTURE);
+        assertThat(result[0]).isEqualTo(InventoryReservationRedisRepository.RESULT_RESERVED);
+        assertThat(inventoryRedisRepository.confirm(orderId)).isEqualTo(1L);
+    }
+
+    private int available() {
+        return inventoryRedisRepository.findAvailable(List.of(productId)).get(productId);
+    }
+
+    private int dbStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+    }
+
+    private void setDbStock(int stock) {
+        jdbcTemplate.update("UPDATE product SET stock = ? WHERE id = ?", stock, productId);
+    }
+}
@@ -0,0 +1,306 @@
+package groom.backend.application.product;
+
+import groom.backend.domain.order.model.Order;
+import groom.backend.domain.order.model.enums.OrderStatus;
+import groom.backend.domain.order.repository.OrderRepository;
+import groom.backend.domain.payment.model.enums.PaymentStatus;
+import groom.backend.domain.payment.repository.PaymentRepository;
+import groom.backend.infrastructure.redis.InventoryReservationRedisRepository;
+import groom.backend.interfaces.product.persistence.JdbcInventoryDrainRepository;
+import groom.backend.interfaces.product.persistence.JpaProductRepository;
+import groom.backend.interfaces.product.persistence.ProductJpaEntity;
+import groom.backend.interfaces.product.persistence.SpringDataProductRepository;
+import groom.backend.support.TestContainers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 선점 → 결제 확정 준비 → 커밋 후 확정 실패 → 결제 실패 처리 → 만료 처리 사이에서 재고가 두 번 복구되지 않는지 확인
+ * (DB 재고 + 가용 재고 + 선점 + 확정 수량이 항상 처음 재고와 맞아야 함)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class InventoryReservationInterplayTest {
+
+    private static final int STOCK = 10;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private JpaProductRepository jpaProductRepository;
+    private InventoryReservationRedisRepository inventoryRedisRepository;
+    private InventoryReservationService reservationService;
+    private InventoryReservationScheduler scheduler;
+    private OrderRepository orderRepository;
+    private PaymentRepository paymentRepository;
+    private final Map<UUID, OrderStatus> orderStatuses = new HashMap<>();
+    private final List<UUID> payingOrderIds = new ArrayList<>();
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        jdbcTemplate = new JdbcTemplate(TestContainers.dataSource());
+
+        productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category, redis_inventory) "
+                + "VALUES (?, 'interplay', 1000, ?, 'GENERAL', TRUE)", productId, STOCK);
+
+        inventoryRedisRepository = new InventoryReservationRedisRepository(redisTemplate);
+        jpaProductRepository = new JpaProductRepository(null, null, jdbcTemplate);
+
+        SpringDataProductRepository productRepository = mock(SpringDataProductRepository.class);
+        when(productRepository.findRedisInventoryIds(anyCollection())).thenReturn(List.of(productId));
+        when(productRepository.findStockById(productId)).thenAnswer(invocation -> Optional.of(dbStock()));
+        when(productRepository.findRedisInventoryProducts()).thenAnswer(invocation ->
+                List.of(ProductJpaEntity.builder().id(productId).stock(dbStock()).build()));
+
+        reservationService = new InventoryReservationService(inventoryRedisRepository, productRepository);
+        ReflectionTestUtils.setField(reservationService, "reservationTtlSeconds", 600L);
+        ReflectionTestUtils.setField(reservationService, "confirmHoldSeconds", 300L);
+
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Order> orders = new ArrayList<>();
+            for (UUID orderId : invocation.<Iterable<UUID>>getArgument(0)) {
+                if (orderStatuses.containsKey(orderId)) {
+                    Order order = Order.builder().userId(1L).status(orderStatuses.get(orderId)).build();
+                    ReflectionTestUtils.setField(order, "id", orderId);
+                    orders.add(order);
+                }
+            }
+            return orders;
+        });
+        paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.findOrderIdsByStatus(anyCollection(), eq(PaymentStatus.IN_PROGRESS)))
+                .thenAnswer(invocation -> List.copyOf(payingOrderIds));
+
+        JdbcInventoryDrainRepository drainRepository = new JdbcInventoryDrainRepository(jdbcTemplate);
+        scheduler = new InventoryReservationScheduler(inventoryRedisRepository,
+                new InventoryDrainPersistService(jpaProductRepository, drainRepository),
+                orderRepository, paymentRepository, drainRepository, productRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scheduler, "expireBatchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "maxDrainBatchesPerRun", 10);
+        ReflectionTestUtils.setField(scheduler, "confirmHoldSeconds", 300L);
+        scheduler.registerMetrics();
+
+        reservationService.initialize(productId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void failedPostCommitConfirm_failConfirmReleasesReservationWithoutDbRestore() {
+        UUID orderId = placeOrder(3);
+        prepareConfirmWithoutCommit(orderId, 3);
+        assertThat(available()).isEqualTo(7);
+
+        Map<UUID, Integer> restore = failConfirm(orderId, 3);
+
+        assertThat(restore).containsEntry(productId, 0);
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(dbStock()).isEqualTo(STOCK);
+        assertThat(inventoryRedisRepository.reservationCount()).isZero();
+
+        // 만료 처리·배치 반영·재계산 이후에도 재고가 더 늘어나지 않음
+        orderStatuses.put(orderId, OrderStatus.PENDING);
+        scheduler.process();
+        scheduler.reconcile();
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(dbStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void failConfirmRetriedAfterRollback_changesRedisOnlyOnce() {
+        UUID orderId = placeOrder(3);
+        prepareConfirmWithoutCommit(orderId, 3);
+
+        // 첫 처리의 DB 트랜잭션이 롤백되어 다시 처리
+        Map<UUID, Integer> first = reservationService.cancelConfirm(orderId, Map.of(productId, 3));
+        Map<UUID, Integer> retried = failConfirm(orderId, 3);
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(dbStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void confirmedNotDrained_failConfirmReturnsConfirmedToAvailable() {
+        UUID orderId = placeOrder(4);
+        reservationService.prepareConfirm(orderId, Map.of(productId, 4));
+        assertThat(redisTemplate.opsForHash().get("inventory:confirmed", productId.toString())).isEqualTo("4");
+
+        Map<UUID, Integer> restore = failConfirm(orderId, 4);
+
+        assertThat(restore).containsEntry(productId, 0);
+        assertThat(redisTemplate.opsForHash().hasKey("inventory:confirmed", productId.toString())).isFalse();
+        assertThat(available()).isEqualTo(STOCK);
+
+        scheduler.process();
+        scheduler.reconcile();
+        assertThat(dbStock()).isEqualTo(STOCK);
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void drained_cancelRestoresDbStockOnly() {
+        UUID orderId = placeOrder(4);
+        reservationService.prepareConfirm(orderId, Map.of(productId, 4));
+        orderStatuses.put(orderId, OrderStatus.CONFIRMED);
+        scheduler.process();
+        assertThat(dbStock()).isEqualTo(6);
+
+        Map<UUID, Integer> restore = failConfirm(orderId, 4);
+
+        assertThat(restore).containsEntry(productId, 4);
+        assertThat(dbStock()).isEqualTo(STOCK);
+        assertThat(available()).isEqualTo(6);
+
+        scheduler.reconcile();
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void expiredWhilePaymentInProgress_isHeldInsteadOfReleased() {
+        ReflectionTestUtils.setField(reservationService, "confirmHoldSeconds", 0L);
+        UUID orderId = placeOrder(3);
+        prepareConfirmWithoutCommit(orderId, 3);
+        orderStatuses.put(orderId, OrderStatus.PENDING);
+        payingOrderIds.add(orderId);
+
+        scheduler.process();
+
+        assertThat(inventoryRedisRepository.reservationCount()).isEqualTo(1L);
+        assertThat(available()).isEqualTo(7);
+
+        Map<UUID, Integer> restore = failConfirm(orderId, 3);
+        payingOrderIds.clear();
+
+        assertThat(restore).containsEntry(productId, 0);
+        scheduler.process();
+        scheduler.reconcile();
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(dbStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void expiredUnpaidOrder_isReleasedOnce() {
+        ReflectionTestUtils.setField(reservationService, "confirmHoldSeconds", 0L);
+        UUID orderId = placeOrder(3);
+        prepareConfirmWithoutCommit(orderId, 3);
+        orderStatuses.put(orderId, OrderStatus.PENDING);
+
+        scheduler.process();
+
+        assertThat(inventoryRedisRepository.reservationCount()).isZero();
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(dbStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void paymentRetriedAfterFailure_doesNotReuseStaleCancelResult() {
+        UUID orderId = placeOrder(4);
+        reservationService.prepareConfirm(orderId, Map.of(productId, 4));
+        orderStatuses.put(orderId, OrderStatus.CONFIRMED);
+        scheduler.process();
+        assertThat(failConfirm(orderId, 4)).containsEntry(productId, 4);
+
+        // 실패한 결제를 다시 승인: 선점이 없으므로 다시 선점 후 확정, 이번 실패는 반영 전이라 DB 복구 없음
+        orderStatuses.put(orderId, OrderStatus.PENDING);
+        reservationService.prepareConfirm(orderId, Map.of(productId, 4));
+        Map<UUID, Integer> restore = failConfirm(orderId, 4);
+
+        assertThat(restore).containsEntry(productId, 0);
+        scheduler.process();
+        scheduler.reconcile();
+        assertThat(dbStock()).isEqualTo(STOCK);
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void purgeDrainRecords_keepsRecentAndInFlightBatches() {
+        jdbcTemplate.update("INSERT INTO inventory_drain_batch (batch_id, drained_at) "
+                + "VALUES ('old-batch', NOW() - INTERVAL '30 days'), ('recent-batch', NOW())");
+        ReflectionTestUtils.setField(scheduler, "drainRecordRetentionDays", 7L);
+
+        scheduler.purgeDrainRecords();
+
+        List<String> remaining = jdbcTemplate.queryForList(
+                "SELECT batch_id FROM inventory_drain_batch WHERE batch_id IN ('old-batch', 'recent-batch')", String.class);
+        assertThat(remaining).containsExactly("recent-batch");
+    }
+
+    private UUID placeOrder(int quantity) {
+        UUID orderId = UUID.randomUUID();
+        reservationService.reserve(orderId, Map.of(productId, quantity));
+        return orderId;
+    }
+
+    /**
+     * 결제 트랜잭션 안에서 확정을 예약했지만 커밋 후 확정이 실행되지 않은 상황 (Redis 장애, 프로세스 종료)
+     */
+    private void prepareConfirmWithoutCommit(UUID orderId, int quantity) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reservationService.prepareConfirm(orderId, Map.of(productId, quantity));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * PaymentApplicationService.failConfirm 의 재고 복구와 같은 순서 (Redis 되돌림 후 반환된 수량만 DB 복구)
+     */
+    private Map<UUID, Integer> failConfirm(UUID orderId, int quantity) {
+        Map<UUID, Integer> restore = reservationService.cancelConfirm(orderId, Map.of(productId, quantity));
+        Map<UUID, Integer> increase = new HashMap<>();
+        restore.forEach((id, amount) -> {
+            if (amount > 0) {
+                increase.put(id, amount);
+            }
+        });
+        jpaProductRepository.increaseStocks(increase);
+        return restore;
+    }
+
+    private int available() {
+        return inventoryRedisRepository.findAvailable(List.of(productId)).get(productId);
+    }
+
+    private int dbStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,51 @@
+package groom.backend.domain.coupon.engine;
+
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.domain.coupon.model.vo.DiscountContext;
+import groom.backend.domain.coupon.policy.DiscountAmountMultiPolicy;
+import groom.backend.domain.coupon.policy.DiscountPercentMultiPolicy;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DiscountEngineTest {
+
+    private final DiscountPercentMultiPolicy percentPolicy = new DiscountPercentMultiPolicy();
+    private final DiscountAmountMultiPolicy amountPolicy = new DiscountAmountMultiPolicy();
+
+    @Test
+    void calculateMultiDiscount_matchesPolicyPath() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 1000; round++) {
+            int cost = random.nextInt(500_000);
+            int couponCount = 1 + random.nextInt(5);
+
+            List<DiscountContext> percent = new ArrayList<>();
+            List<DiscountContext> amount = new ArrayList<>();
+            CompiledDiscount[] discounts = new CompiledDiscount[couponCount];
+
+            for (int i = 0; i < couponCount; i++) {
+                boolean isPercent = random.nextBoolean();
+                int value = isPercent ? 1 + random.nextInt(90) : random.nextInt(20_000);
+                CouponIssueResponse coupon = CouponIssueResponse.builder()
+                        .couponType(isPercent ? CouponType.PERCENT : CouponType.DISCOUNT)
+                        .discountValue(value)
+                        .build();
+
+                DiscountContext context = DiscountContext.builder().cost(cost).amount(value).build();
+                (isPercent ? percent : amount).add(context);
+                discounts[i] = CompiledDiscount.from(coupon);
+            }
+
+            int expected = Math.min(cost,
+                    percentPolicy.calculateMultiDiscount(percent) + amountPolicy.calculateMultiDiscount(amount));
+            assertEquals(expected, DiscountEngine.calculateMultiDiscount(discounts, cost));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package groom.backend.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.application.coupon.CouponIssueService;
+import groom.backend.domain.coupon.engine.DiscountEngine;
+import groom.backend.domain.coupon.model.entity.Coupon;
+import groom.backend.domain.coupon.model.entity.CouponIssue;
+import groom.backend.domain.coupon.model.enums.CouponType;
+import groom.backend.domain.coupon.repository.CouponIssueRepository;
+import groom.backend.domain.coupon.repository.CouponRepository;
+import groom.backend.infrastructure.config.RedisConfig;
+import groom.backend.interfaces.coupon.dto.response.CouponIssueResponse;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파이프라인 캐시 쓰기 확인 (Redis 컨테이너)
+ * 모든 항목이 기본 TTL ~ 기본 TTL × (1 + 지터 비율) 사이의 만료 시간을 갖고 저장되는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PipelinedCacheWriterTest {
+
+    private static final Duration BASE_TTL = Duration.ofMinutes(60);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisTemplate<String, CouponIssueResponse> couponCacheTemplate;
+    private PipelinedCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        stringRedisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        couponCacheTemplate = new RedisConfig().couponCacheTemplate(connectionFactory, new ObjectMapper());
+        writer = new PipelinedCacheWriter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void putAll_writesEveryEntryWithJitteredTtl() {
+        Map<String, CouponIssueResponse> entries = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            entries.put(CouponIssueService.CACHE_PREFIX + id, response(id));
+        }
+
+        writer.putAll(couponCacheTemplate, entries, BASE_TTL, 0.1);
+
+        Set<Long> ttls = new HashSet<>();
+        for (String key : entries.keySet()) {
+            Long ttl = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            assertThat(ttl).isBetween(BASE_TTL.toMillis() - 5_000, BASE_TTL.toMillis() * 11 / 10);
+            ttls.add(ttl / 1_000);
+        }
+        // 같은 시점에 쓴 항목의 만료 시각이 한 점에 몰리지 않음
+        assertThat(ttls.size()).isGreaterThan(1);
+        assertThat(couponCacheTemplate.opsForValue().get(CouponIssueService.CACHE_PREFIX + 7).getCouponIssueId())
+                .isEqualTo(7L);
+    }
+
+    @Test
+    void searchMyCoupon_warmsItemCacheWithTtl() {
+        CouponIssueRepository couponIssueRepository = mock(CouponIssueRepository.class);
+        Coupon coupon = Coupon.builder().id(3L).type(CouponType.DISCOUNT).amount(1000)
+                .expireDate(LocalDate.now().plusDays(1)).build();
+        List<CouponIssue> issues = List.of(issue(11L, coupon), issue(12L, coupon));
+        when(couponIssueRepository.findByUserIdAndIsActiveTrueAndDeletedAtAfter(eq(5L), any())).thenReturn(issues);
+        CacheManager cacheManager = new ConcurrentMapCacheManager(CouponIssueService.COUPON_ITEM_CACHE_NAME);
+        CouponIssueService service = new CouponIssueService(mock(CouponRepository.class), couponIssueRepository,
+                new DiscountEngine(100), cacheManager, couponCacheTemplate, writer);
+        ReflectionTestUtils.setField(service, "couponItemTtlMinutes", BASE_TTL.toMinutes());
+        ReflectionTestUtils.setField(service, "couponItemTtlJitterRatio", 0.1);
+
+        service.searchMyCoupon(5L);
+
+        for (long id : List.of(11L, 12L)) {
+            String key = CouponIssueService.CACHE_PREFIX + id;
+            assertThat(stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS))
+                    .isBetween(BASE_TTL.toMillis() - 5_000, BASE_TTL.toMillis() * 11 / 10);
+            assertThat(couponCacheTemplate.opsForValue().get(key).getCouponIssueId()).isEqualTo(id);
+        }
+    }
+
+    private static CouponIssueResponse response(long couponIssueId) {
+        return CouponIssueResponse.builder()
+                .couponIssueId(couponIssueId)
+                .couponId(1L)
+                .userId(1L)
+                .couponType(CouponType.DISCOUNT)
+                .discountValue(1000)
+                .isActive(true)
+                .build();
+    }
+
+    private static CouponIssue issue(Long id, Coupon coupon) {
+        return CouponIssue.builder()
+                .id(id)
+                .coupon(coupon)
+                .userId(5L)
+                .createdAt(LocalDateTime.now())
+                .deletedAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
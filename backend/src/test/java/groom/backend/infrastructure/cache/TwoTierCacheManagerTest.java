@@ -0,0 +1,137 @@
+package groom.backend.infrastructure.cache;
+
+import groom.backend.infrastructure.config.RedisConfig;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단 캐시(Caffeine L1 + Redis L2) 확인 (Redis 컨테이너)
+ * 두 인스턴스의 CacheManager를 띄워, 한 쪽의 변경이 pub/sub 으로 다른 쪽 L1에서 제거되는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE_NAME = RedisConfig.COUPON_ITEM_CACHE_NAME;
+
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+    private StringRedisTemplate redisTemplate;
+    private Cache first;
+    private Cache second;
+
+    @BeforeEach
+    void setUp() {
+        first = startInstance().getCache(CACHE_NAME);
+        second = startInstance().getCache(CACHE_NAME);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void remoteHit_isServedFromLocalAfterwards() {
+        first.put(1L, "coupon-1");
+
+        assertThat(second.get(1L, String.class)).isEqualTo("coupon-1");
+
+        // L2 를 직접 지워도 (무효화 알림 없음) L1 에서 응답
+        redisTemplate.delete(CACHE_NAME + "::1");
+        assertThat(second.get(1L, String.class)).isEqualTo("coupon-1");
+        assertThat(((TwoTierCache) second).getLocal(1L)).isEqualTo("coupon-1");
+    }
+
+    @Test
+    void evict_removesOtherInstancesLocalEntry() {
+        first.put(1L, "coupon-1");
+        assertThat(second.get(1L, String.class)).isEqualTo("coupon-1");
+
+        first.evict(1L);
+
+        awaitTrue(() -> ((TwoTierCache) second).getLocal(1L) == null);
+        assertThat(second.get(1L)).isNull();
+    }
+
+    @Test
+    void put_replacesOtherInstancesStaleValue() {
+        first.put(1L, "old");
+        assertThat(second.get(1L, String.class)).isEqualTo("old");
+
+        first.put(1L, "new");
+
+        awaitTrue(() -> ((TwoTierCache) second).getLocal(1L) == null);
+        assertThat(second.get(1L, String.class)).isEqualTo("new");
+    }
+
+    @Test
+    void clear_dropsAllLocalEntriesEverywhere() {
+        first.put(1L, "coupon-1");
+        first.put(2L, "coupon-2");
+        second.get(1L);
+        second.get(2L);
+
+        first.clear();
+
+        awaitTrue(() -> ((TwoTierCache) second).getLocal(1L) == null
+                && ((TwoTierCache) second).getLocal(2L) == null);
+        assertThat(second.get(2L)).isNull();
+    }
+
+    private TwoTierCacheManager startInstance() {
+        LettuceConnectionFactory connectionFactory = TestContainers.redisConnectionFactory();
+        connectionFactories.add(connectionFactory);
+        StringRedisTemplate stringRedisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate = stringRedisTemplate;
+
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "couponLocalCacheMaxSize", 1_000L);
+        ReflectionTestUtils.setField(redisConfig, "couponLocalCacheTtlSeconds", 30L);
+        TwoTierCacheManager cacheManager = redisConfig.couponCacheManager(connectionFactory, stringRedisTemplate);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainers.add(container);
+        awaitTrue(container::isListening);
+        return cacheManager;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package groom.backend.infrastructure.cart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CartLineCodecTest {
+
+    @Test
+    void encodeAndDecode_roundTripsEachLine() {
+        CartLines lines = new CartLines(0);
+        for (int i = 0; i < 10; i++) {
+            UUID productId = UUID.randomUUID();
+            byte[] field = CartLineCodec.encodeField(productId);
+            assertTrue(CartLineCodec.isBinaryField(field));
+            CartLineCodec.decodeInto(field,
+                    CartLineCodec.encodeValue(i + 1, i * 1_000_000_000_000L, 1_700_000_000_000L + i, 1_800_000_000_000L + i),
+                    lines);
+            assertEquals(productId, lines.productId(i));
+        }
+
+        assertEquals(10, lines.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1, lines.quantity(i));
+            assertEquals(i * 1_000_000_000_000L, lines.cartItemId(i));
+            assertEquals(1_700_000_000_000L + i, lines.createdAt(i));
+            assertEquals(1_800_000_000_000L + i, lines.updatedAt(i));
+        }
+    }
+
+    @Test
+    void encodeValue_matchesScriptLayout() {
+        // struct.pack('>Bi4i8i8i8', 2, 3, 258, 1, 2)
+        byte[] expected = {2, 0, 0, 0, 3, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 2};
+        assertArrayEquals(expected, CartLineCodec.encodeValue(3, 258L, 1L, 2L));
+    }
+
+    @Test
+    void decodeInto_readsVersion1ValueWithoutTimestamps() {
+        // struct.pack('>Bi4i8', 1, 3, 258)
+        byte[] value = {1, 0, 0, 0, 3, 0, 0, 0, 0, 0, 0, 1, 2};
+        CartLines lines = new CartLines(1);
+        CartLineCodec.decodeInto(new byte[16], value, lines);
+
+        assertEquals(3, lines.quantity(0));
+        assertEquals(258L, lines.cartItemId(0));
+        assertEquals(0L, lines.createdAt(0));
+    }
+
+    @Test
+    void toItemMap_mapsZeroCartItemIdToNull() {
+        UUID productId = UUID.randomUUID();
+        CartLines lines = new CartLines(1);
+        CartLineCodec.decodeInto(CartLineCodec.encodeField(productId), CartLineCodec.encodeValue(2, 0L, 0L, 0L), lines);
+
+        RedisCartRepository.CartItemData item = lines.toItemMap().get(productId);
+        assertEquals(2, item.getQuantity());
+        assertNull(item.getCartItemId());
+    }
+
+    @Test
+    void decodeInto_rejectsUnknownVersion() {
+        byte[] value = CartLineCodec.encodeValue(1, 1L, 0L, 0L);
+        value[0] = 9;
+        assertThrows(IllegalArgumentException.class,
+                () -> CartLineCodec.decodeInto(new byte[16], value, new CartLines(1)));
+    }
+}
@@ -0,0 +1,156 @@
+package groom.backend.infrastructure.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.infrastructure.config.RedisConfig;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 Lua 스크립트 동작 확인 (Redis 컨테이너)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisCartRepositoryScriptTest {
+
+    private static final long USER_ID = 42L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisCartRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        stringRedisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        repository = new RedisCartRepository(new RedisConfig().cartRedisTemplate(connectionFactory), new ObjectMapper());
+        ReflectionTestUtils.setField(repository, "cartTtlDays", 7L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void loadedCart_isServedWithCartIdAndTimestamps() {
+        UUID productId = UUID.randomUUID();
+        CartLines db = new CartLines(1);
+        db.add(productId.getMostSignificantBits(), productId.getLeastSignificantBits(), 3, 11L, 1_000L, 2_000L);
+        db.cartId(7L);
+
+        repository.loadItemsIfAbsent(USER_ID, db);
+        CartLines lines = repository.getLines(USER_ID);
+
+        assertThat(lines.size()).isEqualTo(1);
+        assertThat(lines.cartId()).isEqualTo(7L);
+        assertThat(lines.productId(0)).isEqualTo(productId);
+        assertThat(lines.quantity(0)).isEqualTo(3);
+        assertThat(lines.cartItemId(0)).isEqualTo(11L);
+        assertThat(lines.createdAt(0)).isEqualTo(1_000L);
+        assertThat(lines.updatedAt(0)).isEqualTo(2_000L);
+        assertThat(productUsers(productId)).containsExactly(String.valueOf(USER_ID));
+        assertThat(stringRedisTemplate.getExpire("cart:" + USER_ID)).isPositive();
+    }
+
+    @Test
+    void mutation_requiresLoadUnlessChangesArePending() {
+        UUID productId = UUID.randomUUID();
+
+        assertThat(repository.addQuantity(USER_ID, productId, 1, 10, false)).isEqualTo(RedisCartRepository.RESULT_NOT_LOADED);
+        assertThat(repository.addQuantity(USER_ID, productId, 1, 10, true)).isEqualTo(1L);
+        // 반영할 변경이 남아 있으면 DB 적재 없이 이어서 변경
+        assertThat(repository.addQuantity(USER_ID, productId, 2, 10, false)).isEqualTo(3L);
+        assertThat(repository.addQuantity(USER_ID, productId, 8, 10, false)).isEqualTo(RedisCartRepository.RESULT_ABOVE_MAX);
+        assertThat(stringRedisTemplate.opsForZSet().score(RedisCartChangeLog.DIRTY_KEY, String.valueOf(USER_ID))).isNotNull();
+    }
+
+    @Test
+    void storeCartIds_isVisibleInView() {
+        UUID productId = UUID.randomUUID();
+        repository.addQuantity(USER_ID, productId, 1, 10, true);
+
+        repository.storeCartIds(Map.of(USER_ID, 99L, USER_ID + 1, 100L));
+
+        assertThat(repository.getLines(USER_ID).cartId()).isEqualTo(99L);
+        // 장바구니가 없는 사용자는 키를 만들지 않음
+        assertThat(stringRedisTemplate.hasKey("cart:" + (USER_ID + 1))).isFalse();
+    }
+
+    @Test
+    void clearCart_removesLinesAndIndex() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        repository.addQuantity(USER_ID, first, 1, 10, true);
+        repository.addQuantity(USER_ID, second, 2, 10, true);
+
+        repository.clearCart(USER_ID);
+
+        assertThat(repository.getLines(USER_ID).isEmpty()).isTrue();
+        assertThat(productUsers(first)).isEmpty();
+        assertThat(productUsers(second)).isEmpty();
+    }
+
+    @Test
+    void setQuantities_appliesAllLinesAndRemovesZero() {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        repository.addQuantity(USER_ID, kept, 1, 10, true);
+        repository.addQuantity(USER_ID, removed, 2, 10, true);
+
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(kept, 5);
+        quantities.put(removed, 0);
+        quantities.put(added, 1);
+        assertThat(repository.setQuantities(USER_ID, quantities, false)).isEqualTo(1L);
+
+        assertThat(repository.getLines(USER_ID).toQuantityMap()).isEqualTo(Map.of(kept, 5, added, 1));
+        assertThat(productUsers(removed)).isEmpty();
+        assertThat(productUsers(added)).containsExactly(String.valueOf(USER_ID));
+    }
+
+    @Test
+    void removeQuantities_changesNothingWhenAnyLineFails() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        repository.addQuantity(USER_ID, first, 3, 10, true);
+        repository.addQuantity(USER_ID, second, 1, 10, true);
+
+        LinkedHashMap<UUID, Integer> tooMany = new LinkedHashMap<>();
+        tooMany.put(first, 1);
+        tooMany.put(second, 2);
+        long[] failed = repository.removeQuantities(USER_ID, tooMany, false);
+        assertThat(failed[0]).isNegative();
+        assertThat(failed[1]).isEqualTo(2L);
+        assertThat(failed[2]).isEqualTo(1L);
+        assertThat(repository.getLines(USER_ID).toQuantityMap()).isEqualTo(Map.of(first, 3, second, 1));
+
+        LinkedHashMap<UUID, Integer> valid = new LinkedHashMap<>();
+        valid.put(first, 1);
+        valid.put(second, 1);
+        assertThat(repository.removeQuantities(USER_ID, valid, false)).containsExactly(1L, 2L, 0L);
+        assertThat(repository.getLines(USER_ID).toQuantityMap()).isEqualTo(Map.of(first, 2));
+        assertThat(productUsers(second)).isEmpty();
+    }
+
+    private Set<String> productUsers(UUID productId) {
+        return stringRedisTemplate.opsForSet().members(RedisCartProductIndex.KEY_PREFIX + productId);
+    }
+}
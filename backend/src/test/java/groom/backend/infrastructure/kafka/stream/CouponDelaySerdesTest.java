@@ -0,0 +1,76 @@
+package groom.backend.infrastructure.kafka.stream;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지연 StateStore 바이너리 Serde 확인
+ * 키 바이트의 사전순이 (실행 시간(초), 쿠폰 ID) 순서와 같아야 실행 시간 기준 범위 조회가 맞게 동작합니다.
+ */
+class CouponDelaySerdesTest {
+
+    private static final String TOPIC = "coupon-delay-store";
+
+    private final Serde<CouponDelayKey> keySerde = CouponDelaySerdes.key();
+    private final Serde<CouponDelayEvent> eventSerde = CouponDelaySerdes.event();
+
+    @Test
+    void key_roundTrips() {
+        CouponDelayKey key = new CouponDelayKey(1_767_225_600L, 42L);
+
+        byte[] bytes = keySerde.serializer().serialize(TOPIC, key);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(keySerde.deserializer().deserialize(TOPIC, bytes)).isEqualTo(key);
+    }
+
+    @Test
+    void keyBytes_sortByExecutionSecondThenCouponId() {
+        List<CouponDelayKey> ordered = List.of(
+                CouponDelayKey.lowerBound(100L),
+                new CouponDelayKey(100L, 1L),
+                new CouponDelayKey(100L, 255L),
+                new CouponDelayKey(100L, 256L),
+                CouponDelayKey.upperBound(100L),
+                new CouponDelayKey(101L, 0L),
+                new CouponDelayKey(356L, 7L),
+                new CouponDelayKey(1L << 40, 1L));
+
+        List<CouponDelayKey> shuffled = new ArrayList<>(ordered);
+        Collections.reverse(shuffled);
+        // RocksDB 와 같이 부호 없는 바이트 사전순으로 정렬
+        shuffled.sort((a, b) -> Arrays.compareUnsigned(
+                keySerde.serializer().serialize(TOPIC, a), keySerde.serializer().serialize(TOPIC, b)));
+
+        assertThat(shuffled).containsExactlyElementsOf(ordered);
+    }
+
+    @Test
+    void event_roundTripsIncludingNullFields() {
+        CouponDelayEvent full = new CouponDelayEvent(42L, 30_000L, 1_767_225_600_000L);
+        CouponDelayEvent partial = new CouponDelayEvent(42L, null, null);
+
+        assertThat(eventSerde.deserializer().deserialize(TOPIC, eventSerde.serializer().serialize(TOPIC, full)))
+                .isEqualTo(full);
+        assertThat(eventSerde.deserializer().deserialize(TOPIC, eventSerde.serializer().serialize(TOPIC, partial)))
+                .isEqualTo(partial);
+        assertThat(eventSerde.serializer().serialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    void malformedBytes_areRejected() {
+        assertThatThrownBy(() -> keySerde.deserializer().deserialize(TOPIC, new byte[8]))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> eventSerde.deserializer().deserialize(TOPIC, new byte[24]))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package groom.backend.infrastructure.kafka.stream;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.processor.MockProcessorContext;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 지연 토폴로지 확인 (TopologyTestDriver, 벽시계 시간을 직접 진행)
+ * 지연 이벤트는 실행 시각 전에는 내보내지지 않고, 실행 시각이 된 타이머 실행에서 한 번만 내보내집니다.
+ */
+@SuppressWarnings("deprecation")
+class CouponDelayTransformerTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path stateDir;
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, CouponDelayEvent> input;
+    private TestOutputTopic<String, CouponDelayEvent> output;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        new CouponDelayStreamProcessor().couponDelayStream(builder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "coupon-delay-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        driver = new TopologyTestDriver(builder.build(), props, START);
+
+        input = driver.createInputTopic("coupon-delay-events",
+                new StringSerializer(), new JsonSerializer<CouponDelayEvent>().noTypeInfo());
+        output = driver.createOutputTopic("coupon-activate-events",
+                new StringDeserializer(), new JsonDeserializer<>(CouponDelayEvent.class, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    void delayedEvent_isEmittedAtDueTimeAndNotBefore() {
+        CouponDelayEvent event = new CouponDelayEvent(1L, 5_000L, START.toEpochMilli());
+        input.pipeInput("1", event);
+
+        driver.advanceWallClockTime(Duration.ofSeconds(4));
+        assertThat(output.isEmpty()).isTrue();
+
+        driver.advanceWallClockTime(Duration.ofSeconds(1));
+        assertThat(output.readKeyValuesToList()).containsExactly(KeyValue.pair("1", event));
+
+        driver.advanceWallClockTime(Duration.ofSeconds(5));
+        assertThat(output.isEmpty()).isTrue();
+    }
+
+    @Test
+    void eventsDueInTheSameSecond_areAllEmitted() {
+        input.pipeInput("1", new CouponDelayEvent(1L, 3_000L, START.toEpochMilli()));
+        input.pipeInput("2", new CouponDelayEvent(2L, 3_000L, START.toEpochMilli()));
+        input.pipeInput("3", new CouponDelayEvent(3L, 60_000L, START.toEpochMilli()));
+
+        driver.advanceWallClockTime(Duration.ofSeconds(3));
+
+        assertThat(output.readKeysToList()).containsExactlyInAnyOrder("1", "2");
+        KeyValueStore<CouponDelayKey, CouponDelayEvent> store = driver.getKeyValueStore("coupon-delay-store");
+        assertThat(store.approximateNumEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidEvent_isDropped() {
+        input.pipeInput("1", new CouponDelayEvent(1L, 0L, START.toEpochMilli()));
+
+        driver.advanceWallClockTime(Duration.ofSeconds(10));
+
+        assertThat(output.isEmpty()).isTrue();
+    }
+
+    @Test
+    void legacyStoreEntries_areMigratedOnInit() {
+        MockProcessorContext context = new MockProcessorContext();
+        KeyValueStore<CouponDelayKey, CouponDelayEvent> store = Stores.keyValueStoreBuilder(
+                        Stores.inMemoryKeyValueStore("coupon-delay-store"), CouponDelaySerdes.key(), CouponDelaySerdes.event())
+                .withLoggingDisabled().build();
+        KeyValueStore<Long, CouponDelayEventListWrapper> legacyStore = Stores.keyValueStoreBuilder(
+                        Stores.inMemoryKeyValueStore("delay-events-store"), Serdes.Long(),
+                        new JsonSerde<>(CouponDelayEventListWrapper.class))
+                .withLoggingDisabled().build();
+        store.init(context, store);
+        legacyStore.init(context, legacyStore);
+        long dueSecond = START.getEpochSecond() + 30;
+        legacyStore.put(dueSecond, new CouponDelayEventListWrapper(List.of(
+                new CouponDelayEvent(1L, 30_000L, START.toEpochMilli()),
+                new CouponDelayEvent(2L, 30_000L, START.toEpochMilli()))));
+
+        new CouponDelayTransformer("coupon-delay-store", "delay-events-store").init(context);
+
+        assertThat(legacyStore.approximateNumEntries()).isZero();
+        assertThat(store.get(new CouponDelayKey(dueSecond, 1L)).getCouponId()).isEqualTo(1L);
+        assertThat(store.get(new CouponDelayKey(dueSecond, 2L)).getCouponId()).isEqualTo(2L);
+
+        // 옮긴 이벤트도 실행 시각에 내보내짐
+        context.scheduledPunctuators().get(0).getPunctuator().punctuate(dueSecond * 1000);
+        assertThat(context.forwarded()).hasSize(2);
+    }
+}
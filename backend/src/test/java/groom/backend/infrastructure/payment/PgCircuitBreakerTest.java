@@ -0,0 +1,50 @@
+package groom.backend.infrastructure.payment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PgCircuitBreakerTest {
+
+    @Test
+    void onFailure_opensAfterConsecutiveFailures() {
+        PgCircuitBreaker breaker = new PgCircuitBreaker("test", 3, 60_000);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(PgCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(PgCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_allowsSingleTrialCall() throws InterruptedException {
+        PgCircuitBreaker breaker = new PgCircuitBreaker("test", 1, 10);
+        breaker.onFailure();
+        Thread.sleep(20);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(PgCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        // 호출하지 않고 반납하면 다른 요청이 시험 호출
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(PgCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(20);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(PgCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
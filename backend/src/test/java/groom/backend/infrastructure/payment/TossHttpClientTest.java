@@ -0,0 +1,162 @@
+package groom.backend.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.infrastructure.payment.dto.TossPaymentConfirmRequest;
+import groom.backend.infrastructure.payment.dto.TossPaymentResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TossPaymentStubServer 를 상대로 TossHttpClient 의 제한 시간, bulkhead, 서킷 브레이커, 응답 시간 메트릭 확인
+ */
+class TossHttpClientTest {
+
+    private TossPaymentStubServer stubServer;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private TossHttpClient tossHttpClient;
+    private String confirmUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new TossPaymentStubServer(new ObjectMapper());
+        ReflectionTestUtils.setField(stubServer, "port", 0);
+        stub(0L, 0.0, 0.0);
+        stubServer.start();
+        confirmUrl = "http://localhost:" + stubServer.getPort() + "/v1/payments/confirm";
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        tossHttpClient = new TossHttpClient(httpClient, new RestTemplateBuilder(), meterRegistry);
+        ReflectionTestUtils.setField(tossHttpClient, "confirmTimeoutMs", 300L);
+        ReflectionTestUtils.setField(tossHttpClient, "cancelTimeoutMs", 300L);
+        ReflectionTestUtils.setField(tossHttpClient, "confirmMaxConcurrent", 1);
+        ReflectionTestUtils.setField(tossHttpClient, "cancelMaxConcurrent", 1);
+        ReflectionTestUtils.setField(tossHttpClient, "bulkheadWaitMs", 10L);
+        ReflectionTestUtils.setField(tossHttpClient, "circuitFailureThreshold", 3);
+        ReflectionTestUtils.setField(tossHttpClient, "circuitOpenMs", 60_000L);
+        tossHttpClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+        httpClient.close();
+    }
+
+    @Test
+    void post_recordsLatencyOnTimersRegisteredOnce() {
+        Timer success = latency("confirm", "success");
+        assertThat(success).isNotNull();
+        assertThat(meterRegistry.find("toss.api.latency").timers()).hasSize(6);
+
+        TossPaymentResponse response = confirm("pay-1");
+        confirm("pay-2");
+
+        assertThat(response.getPaymentKey()).isEqualTo("pay-1");
+        assertThat(response.getStatus()).isEqualTo("DONE");
+        assertThat(latency("confirm", "success")).isSameAs(success);
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("toss.api.latency").timers()).hasSize(6);
+    }
+
+    @Test
+    void declined_isRecordedAsDeclinedAndKeepsCircuitClosed() {
+        stub(0L, 0.0, 1.0);
+
+        for (int i = 0; i < 5; i++) {
+            String paymentKey = "declined-" + i;
+            assertThatThrownBy(() -> confirm(paymentKey)).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(latency("confirm", "declined").count()).isEqualTo(5);
+        assertThat(meterRegistry.get("toss.circuit.state").gauge().value())
+                .isEqualTo(PgCircuitBreaker.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void serverErrors_openCircuitAndRejectWithoutCalling() {
+        stub(0L, 1.0, 0.0);
+        for (int i = 0; i < 3; i++) {
+            String paymentKey = "error-" + i;
+            assertThatThrownBy(() -> confirm(paymentKey)).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        stub(0L, 0.0, 0.0);
+        assertThatThrownBy(() -> confirm("after-open"))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isFalse();
+                    assertThat(e.getCode()).isEqualTo("PG_CIRCUIT_OPEN");
+                });
+        assertThat(latency("confirm", "error").count()).isEqualTo(3);
+        assertThat(latency("confirm", "success").count()).isZero();
+        assertThat(meterRegistry.get("toss.api.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void slowResponse_timesOutAsError() {
+        stub(1_000L, 0.0, 0.0);
+
+        assertThatThrownBy(() -> confirm("slow")).isInstanceOf(ResourceAccessException.class);
+        assertThat(latency("confirm", "error").count()).isEqualTo(1);
+        assertThat(latency("confirm", "error").totalTime(TimeUnit.MILLISECONDS)).isLessThan(1_000);
+    }
+
+    @Test
+    void bulkheadFull_rejectsWithoutCallingAndReleasesPermit() throws Exception {
+        stub(200L, 0.0, 0.0);
+        CompletableFuture<TossPaymentResponse> inFlight = CompletableFuture.supplyAsync(() -> confirm("first"));
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> confirm("second"))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isFalse();
+                    assertThat(e.getCode()).isEqualTo("PG_BULKHEAD_FULL");
+                });
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getPaymentKey()).isEqualTo("first");
+
+        stub(0L, 0.0, 0.0);
+        assertThat(confirm("third").getPaymentKey()).isEqualTo("third");
+        assertThat(meterRegistry.get("toss.bulkhead.available").tag("endpoint", "confirm").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    private TossPaymentResponse confirm(String paymentKey) {
+        return tossHttpClient.post(TossHttpClient.Endpoint.CONFIRM, confirmUrl,
+                new HttpEntity<>(new TossPaymentConfirmRequest(paymentKey, "order-" + paymentKey, 1000)),
+                TossPaymentResponse.class);
+    }
+
+    private Timer latency(String endpoint, String outcome) {
+        return meterRegistry.find("toss.api.latency").tag("endpoint", endpoint).tag("outcome", outcome).timer();
+    }
+
+    private void stub(long latencyMs, double failureRate, double declineRate) {
+        ReflectionTestUtils.setField(stubServer, "latencyMs", latencyMs);
+        ReflectionTestUtils.setField(stubServer, "latencyJitterMs", 0L);
+        ReflectionTestUtils.setField(stubServer, "failureRate", failureRate);
+        ReflectionTestUtils.setField(stubServer, "declineRate", declineRate);
+    }
+}
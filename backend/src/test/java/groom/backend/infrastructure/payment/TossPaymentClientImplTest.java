@@ -0,0 +1,158 @@
+package groom.backend.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import groom.backend.infrastructure.payment.dto.TossPaymentConfirmRequest;
+import groom.backend.infrastructure.payment.dto.TossPaymentResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TossPaymentStubServer 응답 상태별로 TossPaymentClientImpl 이 던지는 TossPaymentException 확인
+ * (4xx: 거절 declined=true, 5xx·타임아웃·호출 차단: 결과를 알 수 없음 declined=false)
+ */
+class TossPaymentClientImplTest {
+
+    private TossPaymentStubServer stubServer;
+    private HttpClient httpClient;
+    private TossPaymentClientImpl tossPaymentClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new TossPaymentStubServer(new ObjectMapper());
+        ReflectionTestUtils.setField(stubServer, "port", 0);
+        stub(0L, 0.0, 0.0);
+        stubServer.start();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        TossHttpClient tossHttpClient = new TossHttpClient(httpClient, new RestTemplateBuilder(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tossHttpClient, "confirmTimeoutMs", 300L);
+        ReflectionTestUtils.setField(tossHttpClient, "cancelTimeoutMs", 300L);
+        ReflectionTestUtils.setField(tossHttpClient, "confirmMaxConcurrent", 10);
+        ReflectionTestUtils.setField(tossHttpClient, "cancelMaxConcurrent", 10);
+        ReflectionTestUtils.setField(tossHttpClient, "bulkheadWaitMs", 10L);
+        ReflectionTestUtils.setField(tossHttpClient, "circuitFailureThreshold", 2);
+        ReflectionTestUtils.setField(tossHttpClient, "circuitOpenMs", 60_000L);
+        tossHttpClient.init();
+
+        tossPaymentClient = new TossPaymentClientImpl(tossHttpClient);
+        ReflectionTestUtils.setField(tossPaymentClient, "secretKey", "test_sk_stub");
+        ReflectionTestUtils.setField(tossPaymentClient, "apiUrl", "http://localhost:" + stubServer.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+        httpClient.close();
+    }
+
+    @Test
+    void ok_returnsParsedResponse() {
+        TossPaymentResponse confirmed = tossPaymentClient.confirmPayment(request("pay-ok"));
+        TossPaymentResponse cancelled = tossPaymentClient.cancelPayment("pay-ok", "단순 변심");
+
+        assertThat(confirmed.getPaymentKey()).isEqualTo("pay-ok");
+        assertThat(confirmed.getStatus()).isEqualTo("DONE");
+        assertThat(confirmed.getTotalAmount()).isEqualTo(1000);
+        assertThat(cancelled.getPaymentKey()).isEqualTo("pay-ok");
+        assertThat(cancelled.getStatus()).isEqualTo("CANCELED");
+    }
+
+    @Test
+    void clientError_isDeclinedWithStatusCode() {
+        stub(0L, 0.0, 1.0);
+
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-declined")))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isTrue();
+                    assertThat(e.getCode()).isEqualTo("400");
+                    assertThat(e.getMessage()).contains("REJECT_CARD_PAYMENT");
+                });
+    }
+
+    @Test
+    void unknownPath_isDeclinedWithStatusCode() {
+        ReflectionTestUtils.setField(tossPaymentClient, "apiUrl", "http://localhost:" + stubServer.getPort() + "/v1/payments/unknown");
+
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-404")))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isTrue();
+                    assertThat(e.getCode()).isEqualTo("404");
+                });
+    }
+
+    @Test
+    void serverError_isUnknownOutcome() {
+        stub(0L, 1.0, 0.0);
+
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-500")))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isFalse();
+                    assertThat(e.getCode()).isEqualTo("PG_UNAVAILABLE");
+                });
+    }
+
+    @Test
+    void timeout_isUnknownOutcome() {
+        stub(1_000L, 0.0, 0.0);
+
+        assertThatThrownBy(() -> tossPaymentClient.cancelPayment("pay-slow", "단순 변심"))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isFalse();
+                    assertThat(e.getCode()).isEqualTo("PG_UNAVAILABLE");
+                });
+    }
+
+    @Test
+    void openCircuit_keepsRejectionCode() {
+        stub(0L, 1.0, 0.0);
+        for (int i = 0; i < 2; i++) {
+            String paymentKey = "pay-error-" + i;
+            assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request(paymentKey)))
+                    .isInstanceOf(TossPaymentException.class);
+        }
+
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-blocked")))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                    assertThat(e.isDeclined()).isFalse();
+                    assertThat(e.getCode()).isEqualTo("PG_CIRCUIT_OPEN");
+                });
+    }
+
+    @Test
+    void retriedConfirm_isAnsweredWithFirstResponse() {
+        stub(0L, 0.0, 1.0);
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-retry")))
+                .isInstanceOf(TossPaymentException.class);
+
+        // 같은 결제 키의 재요청은 Idempotency-Key 로 첫 거절 응답을 받음
+        stub(0L, 0.0, 0.0);
+        assertThatThrownBy(() -> tossPaymentClient.confirmPayment(request("pay-retry")))
+                .isInstanceOfSatisfying(TossPaymentException.class, e -> assertThat(e.isDeclined()).isTrue());
+        assertThat(tossPaymentClient.confirmPayment(request("pay-other")).getStatus()).isEqualTo("DONE");
+    }
+
+    private TossPaymentConfirmRequest request(String paymentKey) {
+        return new TossPaymentConfirmRequest(paymentKey, "order-" + paymentKey, 1000);
+    }
+
+    private void stub(long latencyMs, double failureRate, double declineRate) {
+        ReflectionTestUtils.setField(stubServer, "latencyMs", latencyMs);
+        ReflectionTestUtils.setField(stubServer, "latencyJitterMs", 0L);
+        ReflectionTestUtils.setField(stubServer, "failureRate", failureRate);
+        ReflectionTestUtils.setField(stubServer, "declineRate", declineRate);
+    }
+}
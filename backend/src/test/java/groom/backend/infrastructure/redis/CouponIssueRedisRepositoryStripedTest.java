@@ -0,0 +1,130 @@
+package groom.backend.infrastructure.redis;
+
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트라이프 쿠폰 발급 스크립트 확인 (Redis 컨테이너)
+ * 선점·차감·대기열 적재가 한 스크립트로 일어나 발급 사용자, 차감 수량, 대기열 건수가 항상 같습니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CouponIssueRedisRepositoryStripedTest {
+
+    private static final Long COUPON_ID = 7L;
+    private static final int STRIPES = 3;
+    private static final long MAX_PENDING = 10_000L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private CouponIssueRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = TestContainers.redisConnectionFactory();
+        redisTemplate = TestContainers.stringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        repository = new CouponIssueRedisRepository(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void notInitialized_isRejected() {
+        assertThat(repository.tryIssueStriped(COUPON_ID, 1L, "r", STRIPES, MAX_PENDING))
+                .isEqualTo(CouponIssueRedisRepository.RESULT_NOT_INITIALIZED);
+        assertThat(repository.isIssued(COUPON_ID, 1L)).isFalse();
+    }
+
+    @Test
+    void issue_borrowsFromOtherStripesUntilAllEmpty() {
+        repository.initializeStriped(COUPON_ID, STRIPES, 4, List.of());
+
+        for (long userId = 1; userId <= 4; userId++) {
+            assertThat(repository.tryIssueStriped(COUPON_ID, userId, reservation(userId), STRIPES, MAX_PENDING))
+                    .isGreaterThanOrEqualTo(0L);
+        }
+
+        assertThat(repository.tryIssueStriped(COUPON_ID, 5L, reservation(5L), STRIPES, MAX_PENDING))
+                .isEqualTo(CouponIssueRedisRepository.RESULT_OUT_OF_STOCK);
+        // 소진으로 거절된 사용자는 발급 사용자 집합에 남지 않음
+        assertThat(repository.isIssued(COUPON_ID, 5L)).isFalse();
+        assertThat(repository.pendingSize()).isEqualTo(4);
+        assertThat(stripeTotal()).isZero();
+    }
+
+    @Test
+    void duplicateAndQueueFull_changeNothing() {
+        repository.initializeStriped(COUPON_ID, STRIPES, 10, List.of(1L));
+
+        assertThat(repository.tryIssueStriped(COUPON_ID, 1L, reservation(1L), STRIPES, MAX_PENDING))
+                .isEqualTo(CouponIssueRedisRepository.RESULT_ALREADY_ISSUED);
+        assertThat(repository.tryIssueStriped(COUPON_ID, 2L, reservation(2L), STRIPES, 1))
+                .isGreaterThanOrEqualTo(0L);
+        assertThat(repository.tryIssueStriped(COUPON_ID, 3L, reservation(3L), STRIPES, 1))
+                .isEqualTo(CouponIssueRedisRepository.RESULT_QUEUE_FULL);
+
+        assertThat(repository.isIssued(COUPON_ID, 3L)).isFalse();
+        assertThat(repository.pendingSize()).isEqualTo(1);
+        assertThat(stripeTotal()).isEqualTo(9);
+    }
+
+    @Test
+    void concurrentIssues_neverOversell() throws Exception {
+        repository.initializeStriped(COUPON_ID, STRIPES, 20, List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (long userId = 1; userId <= 100; userId++) {
+                long id = userId;
+                results.add(executor.submit(() ->
+                        repository.tryIssueStriped(COUPON_ID, id, reservation(id), STRIPES, MAX_PENDING)));
+            }
+            int issued = 0;
+            for (Future<Long> result : results) {
+                if (result.get() >= 0) {
+                    issued++;
+                }
+            }
+            assertThat(issued).isEqualTo(20);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(redisTemplate.opsForSet().size("coupon:issued:" + COUPON_ID)).isEqualTo(20L);
+        assertThat(repository.pendingSize()).isEqualTo(20);
+        assertThat(stripeTotal()).isZero();
+    }
+
+    private long stripeTotal() {
+        long total = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            total += Long.parseLong(redisTemplate.opsForValue().get("coupon:stock:" + COUPON_ID + ":" + i));
+        }
+        return total;
+    }
+
+    private static String reservation(Long userId) {
+        return COUPON_ID + ":" + userId + ":" + System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,84 @@
+package groom.backend.infrastructure.timer;
+
+import groom.backend.domain.coupon.service.CouponService;
+import groom.backend.infrastructure.kafka.stream.CouponDelayEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouponExpiryWheelSchedulerTest {
+
+    private static final long TICK_MS = 10L;
+
+    @TempDir
+    Path dir;
+
+    private CouponExpiryWheelScheduler scheduler;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void schedule_replacesPreviousTimerForSameCoupon() throws IOException {
+        CouponService couponService = mock(CouponService.class);
+        when(couponService.disableCoupon(1L)).thenReturn(true);
+        Path logPath = dir.resolve("timers.log");
+        scheduler = start(couponService, logPath);
+
+        long now = System.currentTimeMillis();
+        scheduler.schedule(new CouponDelayEvent(1L, 50L, now));
+        scheduler.schedule(new CouponDelayEvent(1L, 400L, now));
+
+        // 이전 만료 시각이 지나도 만료되지 않음
+        verify(couponService, after(200L).never()).disableCoupon(1L);
+        verify(couponService, timeout(1_000L).times(1)).disableCoupon(1L);
+
+        scheduler.stop();
+        scheduler = null;
+        try (TimerLog timerLog = new TimerLog(logPath)) {
+            assertEquals(Map.of(), timerLog.recover());
+        }
+    }
+
+    @Test
+    void recover_keepsRescheduledTimerAfterPreviousTimerFired() throws IOException {
+        Path logPath = dir.resolve("timers.log");
+        long now = System.currentTimeMillis();
+        try (TimerLog timerLog = new TimerLog(logPath)) {
+            timerLog.recover();
+            timerLog.appendAdd(1L, now - 1_000L);
+            timerLog.appendAdd(1L, now + 60_000L);
+            timerLog.appendFire(1L, now - 1_000L);
+        }
+
+        CouponService couponService = mock(CouponService.class);
+        scheduler = start(couponService, logPath);
+
+        verify(couponService, after(200L).never()).disableCoupon(1L);
+    }
+
+    private CouponExpiryWheelScheduler start(CouponService couponService, Path logPath) throws IOException {
+        CouponExpiryWheelScheduler wheelScheduler = new CouponExpiryWheelScheduler(couponService);
+        ReflectionTestUtils.setField(wheelScheduler, "tickMillis", TICK_MS);
+        ReflectionTestUtils.setField(wheelScheduler, "logPath", logPath.toString());
+        ReflectionTestUtils.setField(wheelScheduler, "retryDelayMillis", 5_000L);
+        wheelScheduler.start();
+        return wheelScheduler;
+    }
+}
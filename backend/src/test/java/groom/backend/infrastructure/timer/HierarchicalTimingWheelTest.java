@@ -0,0 +1,55 @@
+package groom.backend.infrastructure.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void advanceTo_firesEachTimerAtItsDeadlineTick() {
+        long tick = 1000L;
+        long start = 1_700_000_000_000L;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(tick, start, 16);
+        Random random = new Random(7);
+
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 5_000; id++) {
+            // 0초 ~ 약 3일 (레벨 0~2 포함)
+            long deadline = start + (long) (random.nextDouble() * 3 * 24 * 3600 * tick);
+            deadlines.put(id, deadline);
+            wheel.add(id, deadline);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long end = start + 3 * 24 * 3600 * tick + 2 * tick;
+        for (long now = start; now <= end; now += tick) {
+            long current = now;
+            wheel.advanceTo(now, id -> firedAt.put(id, current));
+        }
+
+        assertEquals(deadlines.size(), firedAt.size());
+        assertEquals(0, wheel.size());
+        deadlines.forEach((id, deadline) -> {
+            long fired = firedAt.get(id);
+            assertTrue(fired >= deadline, "early fire: id=" + id);
+            assertTrue(fired < Math.max(deadline, start + tick) + tick, "late fire: id=" + id);
+        });
+    }
+
+    @Test
+    void add_pastDeadline_firesOnNextTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000L, 10_000L, 16);
+        wheel.add(1L, 0L);
+
+        Map<Long, Long> fired = new HashMap<>();
+        wheel.advanceTo(11_000L, id -> fired.put(id, 11_000L));
+
+        assertEquals(Map.of(1L, 11_000L), fired);
+    }
+}
@@ -0,0 +1,92 @@
+package groom.backend.infrastructure.timer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimerLogTest {
+
+    private static final long RECORD_SIZE = 17;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recover_rescheduledTimerSurvivesFireOfPreviousDeadline() throws IOException {
+        Path path = dir.resolve("timers.log");
+        try (TimerLog log = new TimerLog(path)) {
+            log.recover();
+            log.appendAdd(1L, 1_000L);
+            // 만료 시각 변경 후 이전 타이머의 만료가 기록됨
+            log.appendAdd(1L, 5_000L);
+            log.appendFire(1L, 1_000L);
+            log.appendAdd(2L, 2_000L);
+            log.appendFire(2L, 2_000L);
+        }
+
+        try (TimerLog log = new TimerLog(path)) {
+            assertEquals(Map.of(1L, 5_000L), log.recover());
+        }
+    }
+
+    @Test
+    void recover_compactsAndKeepsAppending() throws IOException {
+        Path path = dir.resolve("timers.log");
+        try (TimerLog log = new TimerLog(path)) {
+            log.recover();
+            log.appendAdd(1L, 1_000L);
+            log.appendAdd(1L, 5_000L);
+        }
+        try (TimerLog log = new TimerLog(path)) {
+            assertEquals(Map.of(1L, 5_000L), log.recover());
+            log.appendFire(1L, 5_000L);
+        }
+
+        try (TimerLog log = new TimerLog(path)) {
+            assertEquals(Map.of(), log.recover());
+        }
+    }
+
+    @Test
+    void append_compactsOnceMostRecordsAreFired() throws IOException {
+        Path path = dir.resolve("timers.log");
+        try (TimerLog log = new TimerLog(path, 10)) {
+            log.recover();
+            for (long id = 1; id <= 6; id++) {
+                log.appendAdd(id, id * 1_000L);
+            }
+            for (long id = 1; id <= 4; id++) {
+                log.appendFire(id, id * 1_000L);
+            }
+            // 기록 10건 중 살아 있는 타이머 2건 → 재기동 없이 압축됨
+            assertEquals(2 * RECORD_SIZE, Files.size(path));
+
+            log.appendAdd(7L, 7_000L);
+            assertEquals(3 * RECORD_SIZE, Files.size(path));
+        }
+
+        try (TimerLog log = new TimerLog(path, 10)) {
+            assertEquals(Map.of(5L, 5_000L, 6L, 6_000L, 7L, 7_000L), log.recover());
+        }
+    }
+
+    @Test
+    void append_doesNotCompactWhileMostTimersAreLive() throws IOException {
+        Path path = dir.resolve("timers.log");
+        try (TimerLog log = new TimerLog(path, 10)) {
+            log.recover();
+            for (long id = 1; id <= 10; id++) {
+                log.appendAdd(id, id * 1_000L);
+            }
+            log.appendFire(1L, 1_000L);
+
+            assertEquals(11 * RECORD_SIZE, Files.size(path));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package groom.backend.interfaces.product.persistence;
+
+import groom.backend.domain.product.model.StockChange;
+import groom.backend.interfaces.cart.persistence.SpringDataCartItemRepository;
+import groom.backend.support.TestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재고 일괄 증감 (한 문장 CTE) 확인 (PostgreSQL 컨테이너)
+ * 재고가 부족한 제품은 결과에서 빠지므로 호출 측이 예외로 트랜잭션 전체를 되돌리고,
+ * id 순으로 잠그므로 순서가 다른 주문이 같은 제품들을 동시에 차감해도 데드락이 나지 않습니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JpaProductRepositoryStockTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JpaProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = TestContainers.dataSource();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new JpaProductRepository(mock(SpringDataProductRepository.class),
+                mock(SpringDataCartItemRepository.class), jdbcTemplate);
+    }
+
+    @Test
+    void decreaseStocks_updatesEveryProductInOneStatement() {
+        UUID first = insertProduct(10);
+        UUID second = insertProduct(3);
+
+        List<StockChange> changes = repository.decreaseStocks(Map.of(first, 4, second, 3));
+
+        assertThat(changes).extracting(StockChange::productId, StockChange::stock)
+                .containsExactlyInAnyOrder(
+                        tuple(first, 6),
+                        tuple(second, 0));
+        assertThat(stock(first)).isEqualTo(6);
+        assertThat(stock(second)).isZero();
+        assertThat(status(first)).isEqualTo("AVAILABLE");
+        assertThat(status(second)).isEqualTo("OUT_OF_STOCK");
+
+        repository.increaseStocks(Map.of(second, 2));
+        assertThat(stock(second)).isEqualTo(2);
+        assertThat(status(second)).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    void insufficientStock_isLeftOutAndCallerRollsBackTheWholeBatch() {
+        UUID enough = insertProduct(10);
+        UUID scarce = insertProduct(1);
+        Map<UUID, Integer> quantities = Map.of(enough, 5, scarce, 2);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<StockChange> changes = repository.decreaseStocks(quantities);
+            assertThat(changes).extracting(StockChange::productId).containsExactly(enough);
+            // 결제 확정과 같이 일부만 반영되면 예외로 전체를 되돌림
+            if (changes.size() < quantities.size()) {
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(stock(enough)).isEqualTo(10);
+        assertThat(stock(scarce)).isEqualTo(1);
+    }
+
+    @Test
+    void overlappingBatchesInOppositeOrder_doNotDeadlock() throws Exception {
+        UUID first = insertProduct(1_000);
+        UUID second = insertProduct(1_000);
+        UUID third = insertProduct(1_000);
+
+        int threads = 8;
+        int batchesPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                // 절반은 정순, 절반은 역순으로 요청 (잠금 순서는 문장 안에서 id 순으로 고정)
+                List<UUID> order = t % 2 == 0 ? List.of(first, second, third) : List.of(third, second, first);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < batchesPerThread; i++) {
+                        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+                        order.forEach(productId -> quantities.put(productId, 1));
+                        transactionTemplate.executeWithoutResult(status -> {
+                            assertThat(repository.decreaseStocks(quantities)).hasSize(3);
+                            // 잠금을 잡은 채로 잠시 머물러 겹치는 트랜잭션을 만듦
+                            sleep(2);
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = 1_000 - threads * batchesPerThread;
+        assertThat(stock(first)).isEqualTo(expected);
+        assertThat(stock(second)).isEqualTo(expected);
+        assertThat(stock(third)).isEqualTo(expected);
+    }
+
+    private UUID insertProduct(int stock) {
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category) "
+                + "VALUES (?, 'stock', 1000, ?, 'GENERAL')", productId, stock);
+        return productId;
+    }
+
+    private int stock(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+    }
+
+    private String status(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM product WHERE id = ?", String.class, productId);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package groom.backend.support;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.kafka.ConfluentKafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+
+/**
+ * 동작 테스트용 Redis, PostgreSQL, Kafka 컨테이너 (테스트 JVM 안에서 한 번만 시작해 공유)
+ *
+ * 테스트 클래스에 @Testcontainers(disabledWithoutDocker = true)를 붙여 Docker가 없는 환경에서는 건너뜁니다.
+ * PostgreSQL은 Flyway 마이그레이션(src/main/resources/db/migration)을 적용한 상태로 제공합니다.
+ */
+public final class TestContainers {
+
+    private static GenericContainer<?> redis;
+    private static PostgreSQLContainer<?> postgres;
+    private static DataSource dataSource;
+    private static ConfluentKafkaContainer kafka;
+
+    private TestContainers() {
+    }
+
+    public static synchronized LettuceConnectionFactory redisConnectionFactory() {
+        if (redis == null) {
+            redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+            redis.start();
+        }
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    public static StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory factory) {
+        StringRedisTemplate template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    public static synchronized DataSource dataSource() {
+        if (dataSource == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+            postgres.start();
+            dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+            Flyway.configure().dataSource(dataSource).load().migrate();
+        }
+        return dataSource;
+    }
+
+    public static synchronized String kafkaBootstrapServers() {
+        if (kafka == null) {
+            kafka = new ConfluentKafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.1"));
+            kafka.start();
+        }
+        return kafka.getBootstrapServers();
+    }
+}